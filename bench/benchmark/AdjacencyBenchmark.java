@@ -0,0 +1,120 @@
+package benchmark;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import mansion.MansionBuilder;
+import mansion.RoomGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing neighbor iteration over the compressed sparse row
+ * Room Graph with the boxed map of sets it replaced. The "copying" variant
+ * reproduces the copy of the neighbor set that getNeighborForRoom used to make
+ * on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdjacencyBenchmark {
+
+  @Param({ "res/mansion.txt", "grid-100000" })
+  private String world;
+
+  private RoomGraph graph;
+  private Map<Integer, Set<Integer>> map;
+
+  /**
+   * Reads the world and creates the map of sets with the same neighbors.
+   *
+   * @throws IOException when the world file cannot be read.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    MansionBuilder builder = new MansionBuilder();
+    if (world.startsWith("grid-")) {
+      int rooms = Integer.parseInt(world.substring("grid-".length()));
+      builder.readConfigFile(new StringReader(WorldGenerator.gridWorld(rooms)));
+    } else {
+      try (FileReader reader = new FileReader(world)) {
+        builder.readConfigFile(reader);
+      }
+    }
+    this.graph = builder.getRoomGraph();
+    this.map = new HashMap<>();
+    for (int room = 0; room < graph.getNumberOfRooms(); room++) {
+      Set<Integer> neighbors = new HashSet<>();
+      graph.forEachNeighbor(room, neighbors::add);
+      this.map.put(room, neighbors);
+    }
+  }
+
+  /**
+   * Sums every neighbor of every room using the Room Graph.
+   *
+   * @return sum of neighbors.
+   */
+  @Benchmark
+  public long graphIteration() {
+    long sum = 0;
+    for (int room = 0; room < graph.getNumberOfRooms(); room++) {
+      for (int i = 0; i < graph.degree(room); i++) {
+        sum += graph.neighbor(room, i);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums every neighbor of every room using the map of sets.
+   *
+   * @return sum of neighbors.
+   */
+  @Benchmark
+  public long mapIteration() {
+    long sum = 0;
+    for (int room = 0; room < map.size(); room++) {
+      for (Integer neighbor : map.get(room)) {
+        sum += neighbor;
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Sums every neighbor of every room using the map of sets, copying the set
+   * first the way getNeighborForRoom used to.
+   *
+   * @return sum of neighbors.
+   */
+  @Benchmark
+  public long mapCopyingIteration() {
+    long sum = 0;
+    for (int room = 0; room < map.size(); room++) {
+      Set<Integer> neighbors = new HashSet<>(map.get(room));
+      neighbors.remove(0);
+      for (Integer neighbor : neighbors) {
+        sum += neighbor;
+      }
+    }
+    return sum;
+  }
+}
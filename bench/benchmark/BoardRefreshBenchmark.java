@@ -0,0 +1,107 @@
+package benchmark;
+
+import java.awt.Color;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import listener.MouseClickListener;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import view.GamePlayPanel;
+
+/**
+ * JMH benchmark of the frame time of the game board. Every operation moves one
+ * player to the next room and the pet along with it, then updates the board.
+ * The rebuild benchmark clears the board first, which is what every refresh
+ * did before the board kept its components. Both run on the board of one
+ * panel per room and on the painted board.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class BoardRefreshBenchmark {
+  private static final int PLAYERS = 10;
+
+  @Param({ "21", "400" })
+  private int numberOfRooms;
+
+  @Param({ "false", "true" })
+  private boolean painted;
+
+  private GamePlayPanel panel;
+  private MouseClickListener listener;
+  private Map<String, int[]> rooms;
+  private List<String> roomNames;
+  private Map<String, String> players;
+  private Map<String, Color> colors;
+  private int turn;
+
+  /**
+   * Generates a grid world and places the players in the first rooms.
+   */
+  @Setup
+  public void setUp() {
+    Mansion mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms)))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    this.rooms = mansion.getRoomLocation();
+    this.roomNames = mansion.getRoomNames();
+    this.players = new HashMap<>();
+    this.colors = new HashMap<>();
+    for (int i = 0; i < PLAYERS; i++) {
+      this.players.put("Player " + i, this.roomNames.get(i));
+      this.colors.put("Player " + i, Color.getHSBColor(i / (float) PLAYERS, 1, 1));
+    }
+    this.panel = new GamePlayPanel();
+    this.panel.setPaintedBoard(painted);
+    this.listener = new MouseClickListener();
+  }
+
+  private String nextTurn() {
+    turn++;
+    String room = roomNames.get(turn % roomNames.size());
+    players.put("Player " + turn % PLAYERS, room);
+    return room;
+  }
+
+  /**
+   * Updates the board keeping its components.
+   *
+   * @return the board.
+   */
+  @Benchmark
+  public GamePlayPanel retained() {
+    String room = nextTurn();
+    panel.displayBoard(rooms, players, colors, room, roomNames.get(0), "", listener);
+    return panel;
+  }
+
+  /**
+   * Builds the board again from scratch.
+   *
+   * @return the board.
+   */
+  @Benchmark
+  public GamePlayPanel rebuild() {
+    String room = nextTurn();
+    panel.clearBoard();
+    panel.displayBoard(rooms, players, colors, room, roomNames.get(0), "", listener);
+    return panel;
+  }
+}
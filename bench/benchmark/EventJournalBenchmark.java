@@ -0,0 +1,98 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import journal.EventJournal;
+import journal.FsyncPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the throughput of journaling the events of a game, writing
+ * every event to the file channel as it happens against the event journal
+ * committing batches on its writer thread, with the fsync policies.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class EventJournalBenchmark {
+
+  @Param({ "NEVER", "EVERY_BATCH" })
+  private FsyncPolicy policy;
+
+  private Path file;
+  private EventJournal journal;
+  private FileChannel channel;
+  private ByteBuffer record;
+  private int turn;
+
+  /**
+   * Opens the journal and the channel on temporary files.
+   *
+   * @throws IOException when the files cannot be opened.
+   */
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    this.file = Files.createTempFile("game", ".journal");
+    Files.delete(this.file);
+    this.journal = new EventJournal(this.file, policy);
+    this.channel = FileChannel.open(Files.createTempFile("game", ".events"),
+        StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+    this.record = ByteBuffer.allocateDirect(13);
+  }
+
+  /**
+   * Closes the journal and the channel and deletes the files.
+   *
+   * @throws IOException when the files cannot be closed.
+   */
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    this.journal.close();
+    this.channel.close();
+    Files.delete(this.file);
+  }
+
+  /**
+   * Writes a move to the channel, forcing it to the disk for every event as
+   * the fsync policy asks.
+   *
+   * @throws IOException when the event cannot be written.
+   */
+  @Benchmark
+  public void unbatched() throws IOException {
+    this.record.clear();
+    this.record.put((byte) 2).putInt(0).putInt(turn & 3).putInt(turn++).flip();
+    this.channel.write(this.record);
+    if (policy == FsyncPolicy.EVERY_BATCH) {
+      this.channel.force(false);
+    }
+  }
+
+  /**
+   * Records a move in the journal.
+   */
+  @Benchmark
+  public void journal() {
+    this.journal.moved(0, turn & 3, turn++);
+  }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import controller.GameLog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.swing.JLabel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import view.SidePanel;
+
+/**
+ * JMH benchmark of the game log update of one turn. Building the HTML of the
+ * last 200 lines of an unbounded list and showing it in a label, as every
+ * refresh did before, against the ring buffer log appending the new line to
+ * the document of the side panel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class GameLogBenchmark {
+  private static final String LINE = "Computer 1 tried to move to Dining Hall. "
+      + "Player Moved Successfully.";
+
+  private List<String> list;
+  private JLabel label;
+  private GameLog log;
+  private long shownLines;
+  private SidePanel sidePanel;
+  private int turn;
+
+  /**
+   * Fills both logs with a game of 1,000 turns.
+   */
+  @Setup
+  public void setUp() {
+    this.list = new ArrayList<>();
+    this.label = new JLabel();
+    this.log = new GameLog(200);
+    this.sidePanel = new SidePanel();
+    for (int i = 0; i < 1000; i++) {
+      htmlLog();
+      ringLog();
+    }
+  }
+
+  /**
+   * Adds a line to the list and shows the HTML of its last 200 lines.
+   *
+   * @return the label.
+   */
+  @Benchmark
+  public JLabel htmlLog() {
+    list.add(LINE + " Turn " + turn++);
+    StringBuilder buildMessage = new StringBuilder();
+    buildMessage.append("<html>");
+    int start = this.list.size() - 200 < 0 ? 0 : this.list.size() - 200;
+    for (int i = start; i < this.list.size(); i++) {
+      buildMessage.append(this.list.get(i) + "<br>");
+    }
+    buildMessage.append("</html>");
+    label.setText(buildMessage.toString());
+    label.getPreferredSize();
+    return label;
+  }
+
+  /**
+   * Adds a line to the ring buffer and appends it to the side panel.
+   *
+   * @return the side panel.
+   */
+  @Benchmark
+  public SidePanel ringLog() {
+    log.add(LINE + " Turn " + turn++);
+    sidePanel.displayLog(String.join("\n", log.getLinesSince(shownLines)));
+    shownLines = log.getTotalLines();
+    return sidePanel;
+  }
+}
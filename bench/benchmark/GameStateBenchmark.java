@@ -0,0 +1,105 @@
+package benchmark;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mansion.GameSnapshot;
+import mansion.GameState;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of making a search node from a played game: an action on the
+ * immutable game state, which shares what did not change, against a snapshot
+ * of the Mansion, which copies the state of every item and room. Run it with
+ * {@code -prof gc} to see the bytes of every node as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+  @Param({ "400", "10000" })
+  private int numberOfRooms;
+
+  private Mansion mansion;
+  private GameState state;
+  private int room;
+
+  /**
+   * Builds a grid world and plays 200 turns of computer players on it.
+   *
+   * @throws IllegalAccessException when the game cannot be played.
+   */
+  @Setup
+  public void setUp() throws IllegalAccessException {
+    this.mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms)))
+        .setNumberOfTurns(1_000_000).setMaximumNumberOfPlayers(4).build();
+    List<String> rooms = this.mansion.getRoomNames();
+    for (int i = 0; i < 4; i++) {
+      this.mansion.addPlayer("Computer " + i, rooms.get(i * 7), false);
+    }
+    ComputerPlayerInput computer = new ComputerPlayerInput(3);
+    for (int turn = 0; turn < 200 && !this.mansion.isGameOver(); ) {
+      ComputerMove next = computer.chooseMove(this.mansion);
+      try {
+        next.applyTo(this.mansion);
+        turn++;
+      } catch (IllegalStateException exception) {
+        // No capacity left to carry items, choose another move.
+      }
+    }
+    this.state = this.mansion.getGameState();
+    this.room = this.state.getRoomsToMove()[0];
+  }
+
+  /**
+   * Moves the current player on the game state, one node of a search.
+   *
+   * @return the new state.
+   * @throws IllegalAccessException when the game is over.
+   */
+  @Benchmark
+  public GameState stateMove() throws IllegalAccessException {
+    return this.state.move(this.room);
+  }
+
+  /**
+   * Looks around on the game state, one node of a search.
+   *
+   * @return the new state.
+   * @throws IllegalAccessException when the game is over.
+   */
+  @Benchmark
+  public GameState stateLook() throws IllegalAccessException {
+    return this.state.look();
+  }
+
+  /**
+   * Takes a snapshot of the Mansion, the node a search keeps without the game
+   * state.
+   *
+   * @return the snapshot.
+   */
+  @Benchmark
+  public GameSnapshot mansionSnapshot() {
+    return this.mansion.snapshot();
+  }
+}
@@ -0,0 +1,165 @@
+package benchmark;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import controller.ComputerStrategy;
+import controller.MctsComputerPlayer;
+import java.io.StringReader;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the Monte Carlo tree search computer player: the random
+ * games played per second when searching a move with one and two workers on
+ * a pool of their own, and the games a search player wins against two
+ * random computer players on a generated world of 16 rooms with a target of 10
+ * health points.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 4)
+@Fork(1)
+public class MctsBenchmark {
+  private static final int BUDGET_MILLIS = 10;
+
+  @Param({ "1", "2" })
+  private int workers;
+
+  private ExecutorService pool;
+  private MansionBuilder builder;
+  private Mansion mansion;
+  private MctsComputerPlayer searchPlayer;
+  private long seed;
+
+  /**
+   * Counts the random games played, reported by JMH per second.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Rollouts {
+    public long rollouts;
+
+    /**
+     * Resets the counter before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.rollouts = 0;
+    }
+  }
+
+  /**
+   * Counts the games won by the search player, by the random players and the
+   * games the target escaped.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Results {
+    public long searchWins;
+    public long randomWins;
+    public long escapes;
+
+    /**
+     * Resets the counters before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.searchWins = 0;
+      this.randomWins = 0;
+      this.escapes = 0;
+    }
+  }
+
+  /**
+   * Reads the world and starts a game of three computer players.
+   */
+  @Setup
+  public void setUp() {
+    String world = WorldGenerator.gridWorld(16).replace("50 Doctor Lucky", "10 Doctor Lucky");
+    this.builder = new MansionBuilder().readConfigFile(new StringReader(world))
+        .setNumberOfTurns(120).setMaximumNumberOfPlayers(3);
+    this.mansion = newGame();
+    this.pool = Executors.newFixedThreadPool(workers);
+    this.searchPlayer = new MctsComputerPlayer(this.pool, workers, BUDGET_MILLIS, 5);
+    this.seed = 0;
+  }
+
+  /**
+   * Shuts down the pool of the search player.
+   */
+  @TearDown
+  public void tearDown() {
+    this.pool.shutdownNow();
+  }
+
+  private Mansion newGame() {
+    Mansion game = this.builder.build();
+    game.addPlayer("Search", "Room 0", false);
+    game.addPlayer("Random 1", "Room 5", false);
+    game.addPlayer("Random 2", "Room 10", false);
+    return game;
+  }
+
+  /**
+   * Searches the first move of the game for the time of the player.
+   *
+   * @param counter counter of random games played.
+   * @return the move.
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public ComputerMove searchMove(Rollouts counter) throws IllegalAccessException {
+    ComputerMove move = this.searchPlayer.chooseMove(this.mansion);
+    counter.rollouts += this.searchPlayer.getRollouts();
+    return move;
+  }
+
+  /**
+   * Plays a game of the search player against two random computer players.
+   *
+   * @param results counters of the games won.
+   * @return the winner, NULL when the target escaped.
+   * @throws IllegalAccessException when the game cannot be played.
+   */
+  @Benchmark
+  public String gameAgainstRandom(Results results) throws IllegalAccessException {
+    Mansion game = newGame();
+    ComputerPlayerInput random = new ComputerPlayerInput(this.seed++);
+    while (!game.isGameOver()) {
+      ComputerStrategy strategy = "Search".equals(game.getCurrentPlayerName())
+          ? this.searchPlayer : random;
+      strategy.chooseMove(game).applyTo(game);
+    }
+    String winner = game.getWinner();
+    if (Objects.isNull(winner)) {
+      results.escapes++;
+    } else if ("Search".equals(winner)) {
+      results.searchWins++;
+    } else {
+      results.randomWins++;
+    }
+    return winner;
+  }
+}
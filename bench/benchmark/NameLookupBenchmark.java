@@ -0,0 +1,116 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing the hash index used by MansionImpl for room and
+ * player names with the linear scan it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameLookupBenchmark {
+
+  @Param({ "21", "5000" })
+  private int numberOfRooms;
+
+  @Param({ "300" })
+  private int numberOfPlayers;
+
+  private List<String> roomNames;
+  private Map<String, Integer> roomIndex;
+  private Mansion mansion;
+  private String lastRoom;
+  private String firstPlayer;
+  private String lastPlayer;
+
+  /**
+   * Builds a generated world with players spread over the rooms.
+   */
+  @Setup
+  public void setUp() {
+    this.mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms)))
+        .setNumberOfTurns(1000).setMaximumNumberOfPlayers(numberOfPlayers).build();
+    this.roomNames = new ArrayList<>(this.mansion.getRoomNames());
+    this.roomIndex = new HashMap<>();
+    for (int i = 0; i < this.roomNames.size(); i++) {
+      this.roomIndex.put(this.roomNames.get(i), i);
+    }
+    for (int i = 0; i < numberOfPlayers; i++) {
+      this.mansion.addPlayer("Player " + i, this.roomNames.get(i % numberOfRooms), false);
+    }
+    this.lastRoom = this.roomNames.get(this.roomNames.size() - 1);
+    this.firstPlayer = "Player 0";
+    this.lastPlayer = "Player " + (numberOfPlayers - 1);
+  }
+
+  /**
+   * Room lookup the way MansionImpl used to do it.
+   *
+   * @return index of the last room.
+   */
+  @Benchmark
+  public int scanningRoomLookup() {
+    try {
+      return IntStream.range(0, roomNames.size())
+          .filter(room -> roomNames.get(room).equals(lastRoom)).findFirst().getAsInt();
+    } catch (NoSuchElementException exception) {
+      return -1;
+    }
+  }
+
+  /**
+   * Room lookup through a name to index map.
+   *
+   * @return index of the last room.
+   */
+  @Benchmark
+  public int indexedRoomLookup() {
+    return roomIndex.getOrDefault(lastRoom, -1);
+  }
+
+  /**
+   * End to end visibility check which resolves both player names and the room
+   * names of their neighbors.
+   *
+   * @return if the first player can see the last player.
+   */
+  @Benchmark
+  public boolean canSee() {
+    return mansion.canSee(firstPlayer, lastPlayer);
+  }
+
+  /**
+   * End to end room details which resolves the room and all its neighbors.
+   *
+   * @return details of the last room.
+   */
+  @Benchmark
+  public String detailsOfRoom() {
+    return mansion.getDetailsOfRoom(lastRoom);
+  }
+}
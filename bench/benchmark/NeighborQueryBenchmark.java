@@ -0,0 +1,112 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing the neighbor queries of the Mansion. The list query
+ * creates a list of names on every call, the array and consumer queries only
+ * pass room numbers around. The visibility benchmark asks if the current player
+ * is seen with every room of the generated grid occupied by players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NeighborQueryBenchmark {
+
+  @Param({ "16", "256" })
+  private int players;
+
+  private Mansion mansion;
+  private List<String> roomNames;
+  private int[] neighbors;
+  private long sum;
+
+  /**
+   * Creates a grid world with as many rooms as players and places a player in
+   * every room.
+   */
+  @Setup
+  public void setUp() {
+    this.mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(players)))
+        .setNumberOfTurns(1000).setMaximumNumberOfPlayers(players).build();
+    this.roomNames = this.mansion.getRoomNames();
+    for (int i = 0; i < players; i++) {
+      this.mansion.addPlayer("Player " + i, this.roomNames.get(i), false);
+    }
+    this.neighbors = new int[this.roomNames.size()];
+  }
+
+  /**
+   * Counts the neighbors of every room using the list of names.
+   *
+   * @return number of neighbors.
+   */
+  @Benchmark
+  public long listQuery() {
+    long count = 0;
+    for (String room : roomNames) {
+      count += mansion.getNeighborForRoom(room).size();
+    }
+    return count;
+  }
+
+  /**
+   * Sums the neighbors of every room written into an array.
+   *
+   * @return sum of neighbors.
+   */
+  @Benchmark
+  public long arrayQuery() {
+    long total = 0;
+    for (int room = 0; room < roomNames.size(); room++) {
+      int count = mansion.getNeighborsForRoom(room, neighbors);
+      for (int i = 0; i < count; i++) {
+        total += neighbors[i];
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Sums the neighbors of every room passed to a consumer.
+   *
+   * @return sum of neighbors.
+   */
+  @Benchmark
+  public long consumerQuery() {
+    sum = 0;
+    for (int room = 0; room < roomNames.size(); room++) {
+      mansion.forEachNeighbor(room, neighbor -> sum += neighbor);
+    }
+    return sum;
+  }
+
+  /**
+   * Checks if the current player is seen by any other player.
+   *
+   * @return true if the current player is seen.
+   */
+  @Benchmark
+  public boolean currentPlayerSeen() {
+    return mansion.isCurrentPlayerSeen();
+  }
+}
@@ -0,0 +1,99 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import mansion.RoomAdjacency;
+import mansion.RoomGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import room.Room;
+import room.RoomImpl;
+
+/**
+ * JMH benchmark comparing the sequential sweep over the room rectangles with
+ * the parallel sweep over stripes of rows on the common fork join pool, alone
+ * and as part of reading a whole world specification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelBuildBenchmark {
+
+  @Param({ "250000" })
+  private int numberOfRooms;
+
+  private String world;
+  private List<Room> rooms;
+
+  /**
+   * Generates a grid world and collects its rooms.
+   */
+  @Setup
+  public void setUp() {
+    this.world = WorldGenerator.gridWorld(numberOfRooms);
+    Mansion mansion = new MansionBuilder().readConfigFile(new StringReader(world))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    Map<String, int[]> locations = mansion.getRoomLocation();
+    this.rooms = mansion.getRoomNames().stream().map(name -> {
+      int[] location = locations.get(name);
+      return (Room) new RoomImpl(name, location[0], location[1], location[2], location[3]);
+    }).toList();
+  }
+
+  /**
+   * Builds the graph with the sequential sweep.
+   *
+   * @return the Room Graph.
+   */
+  @Benchmark
+  public RoomGraph sweep() {
+    return RoomAdjacency.sweep(rooms);
+  }
+
+  /**
+   * Builds the graph with the parallel sweep.
+   *
+   * @return the Room Graph.
+   */
+  @Benchmark
+  public RoomGraph parallelSweep() {
+    return RoomAdjacency.sweep(rooms, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Reads the world with the sequential build.
+   *
+   * @return the builder.
+   */
+  @Benchmark
+  public MansionBuilder build() {
+    return new MansionBuilder().readConfigFile(new StringReader(world));
+  }
+
+  /**
+   * Reads the world with the parallel build.
+   *
+   * @return the builder.
+   */
+  @Benchmark
+  public MansionBuilder parallelBuild() {
+    return new MansionBuilder().setParallelBuild(true).readConfigFile(new StringReader(world));
+  }
+}
@@ -0,0 +1,177 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import mansion.MansionBuilder;
+import mansion.WorldTokenizer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing the World Tokenizer with the Scanner that
+ * readConfigFile used before. Both read every token of a generated world the
+ * way readConfigFile does, the "megabytes" counter gives the parse throughput
+ * in MB/s. The mapped tokenizer reads the same world from a file mapped into
+ * memory. The builder benchmark reads the same world into a Mansion Builder,
+ * including creating the rooms and the map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+
+  @Param({ "100000" })
+  private int numberOfRooms;
+
+  private String world;
+  private Path file;
+
+  /**
+   * Counts the megabytes parsed, reported by JMH per second.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Throughput {
+    public double megabytes;
+
+    /**
+     * Resets the counter before every iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+      this.megabytes = 0;
+    }
+  }
+
+  /**
+   * Generates the world specification and writes it to a file.
+   *
+   * @throws IOException when the file cannot be written.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    this.world = WorldGenerator.gridWorld(numberOfRooms);
+    this.file = Files.createTempFile("world", ".txt");
+    Files.writeString(this.file, this.world);
+  }
+
+  /**
+   * Deletes the world specification file.
+   *
+   * @throws IOException when the file cannot be deleted.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(this.file);
+  }
+
+  /**
+   * Reads every token of the world with a Scanner.
+   *
+   * @param throughput counter of megabytes parsed.
+   * @return sum of the numbers and lengths of the names.
+   */
+  @Benchmark
+  public long scanner(Throughput throughput) {
+    Scanner in = new Scanner(new StringReader(world));
+    long sum = Integer.parseInt(in.next()) + Integer.parseInt(in.next());
+    sum += in.nextLine().trim().length();
+    sum += Integer.parseInt(in.next()) + in.nextLine().trim().length();
+    sum += in.nextLine().trim().length();
+    int rooms = Integer.parseInt(in.next());
+    for (int i = 0; i < rooms; i++) {
+      sum += Integer.parseInt(in.next()) + Integer.parseInt(in.next())
+          + Integer.parseInt(in.next()) + Integer.parseInt(in.next());
+      sum += in.nextLine().trim().length();
+    }
+    int items = Integer.parseInt(in.next());
+    for (int i = 0; i < items; i++) {
+      sum += Integer.parseInt(in.next()) + Integer.parseInt(in.next());
+      sum += in.nextLine().trim().length();
+    }
+    in.close();
+    throughput.megabytes += world.length() / 1e6;
+    return sum;
+  }
+
+  /**
+   * Reads every token of the world with the World Tokenizer.
+   *
+   * @param throughput counter of megabytes parsed.
+   * @return sum of the numbers and lengths of the names.
+   */
+  @Benchmark
+  public long tokenizer(Throughput throughput) {
+    long sum = readTokens(new WorldTokenizer(new StringReader(world)));
+    throughput.megabytes += world.length() / 1e6;
+    return sum;
+  }
+
+  /**
+   * Reads every token of the world with the World Tokenizer over the file
+   * mapped into memory.
+   *
+   * @param throughput counter of megabytes parsed.
+   * @return sum of the numbers and lengths of the names.
+   * @throws IOException when the file cannot be opened.
+   */
+  @Benchmark
+  public long mappedTokenizer(Throughput throughput) throws IOException {
+    long sum = readTokens(new WorldTokenizer(FileChannel.open(file, StandardOpenOption.READ)));
+    throughput.megabytes += world.length() / 1e6;
+    return sum;
+  }
+
+  private static long readTokens(WorldTokenizer in) {
+    long sum = in.nextInt() + in.nextInt();
+    sum += in.nextLine().trim().length();
+    sum += in.nextInt() + in.nextLine().trim().length();
+    sum += in.nextLine().trim().length();
+    int rooms = in.nextInt();
+    for (int i = 0; i < rooms; i++) {
+      sum += in.nextInt() + in.nextInt() + in.nextInt() + in.nextInt();
+      sum += in.nextLine().trim().length();
+    }
+    int items = in.nextInt();
+    for (int i = 0; i < items; i++) {
+      sum += in.nextInt() + in.nextInt();
+      sum += in.nextLine().trim().length();
+    }
+    in.close();
+    return sum;
+  }
+
+  /**
+   * Reads the world into a Mansion Builder.
+   *
+   * @param throughput counter of megabytes parsed.
+   * @return the builder.
+   */
+  @Benchmark
+  public MansionBuilder builder(Throughput throughput) {
+    MansionBuilder builder = new MansionBuilder().readConfigFile(new StringReader(world));
+    throughput.megabytes += world.length() / 1e6;
+    return builder;
+  }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import java.awt.Color;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.swing.ImageIcon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import view.Icon;
+import view.IconCache;
+import view.SidePanel;
+
+/**
+ * JMH benchmark of the player icons of one refresh. Reading and tinting the
+ * image for every player, which every refresh did before, against the icon
+ * cache, alone and when refreshing the list of players of the side panel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PlayerIconBenchmark {
+  private static final File PLAYER_ICON = new File("res/images/player-30p.png");
+
+  @Param({ "10", "50", "200" })
+  private int numberOfPlayers;
+
+  private Map<String, Color> colors;
+  private IconCache iconCache;
+  private SidePanel sidePanel;
+
+  /**
+   * Gives every player its own color.
+   */
+  @Setup
+  public void setUp() {
+    this.colors = new HashMap<>();
+    for (int i = 0; i < numberOfPlayers; i++) {
+      this.colors.put("Player " + i, Color.getHSBColor(i / (float) numberOfPlayers, 1, 1));
+    }
+    this.iconCache = new IconCache();
+    this.sidePanel = new SidePanel(this.iconCache);
+  }
+
+  /**
+   * Reads and tints the image for every player.
+   *
+   * @return the last icon.
+   */
+  @Benchmark
+  public ImageIcon decodeIcons() {
+    ImageIcon icon = null;
+    for (Color color : colors.values()) {
+      icon = new Icon(PLAYER_ICON).setIconColor(color);
+    }
+    return icon;
+  }
+
+  /**
+   * Gets the icon of every player from the cache.
+   *
+   * @return the last icon.
+   */
+  @Benchmark
+  public ImageIcon cachedIcons() {
+    ImageIcon icon = null;
+    for (Color color : colors.values()) {
+      icon = iconCache.getIcon(PLAYER_ICON, color);
+    }
+    return icon;
+  }
+
+  /**
+   * Refreshes the list of players of the side panel with the cached icons.
+   *
+   * @return the side panel.
+   */
+  @Benchmark
+  public SidePanel sidePanel() {
+    sidePanel.displayListOfPlayers("Player 0", colors);
+    return sidePanel;
+  }
+}
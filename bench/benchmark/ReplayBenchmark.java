@@ -0,0 +1,89 @@
+package benchmark;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import java.io.StringReader;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import replay.ActionRecorder;
+import replay.GameReplay;
+import replay.RecordedGame;
+
+/**
+ * JMH benchmark of seeking to random turns of a recorded game of 5,000 turns,
+ * with keyframes every 64 actions against replaying from the start of the game
+ * on every seek backward.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+  private static final int TURNS = 5_000;
+
+  @Param({ "64", "1000000" })
+  private int keyframeInterval;
+
+  private GameReplay replay;
+  private SplittableRandom random;
+
+  /**
+   * Plays and records a game of computer players on a generated world, and
+   * replays it once to the end so every keyframe is taken.
+   *
+   * @throws IllegalAccessException when the game cannot be played.
+   */
+  @Setup
+  public void setUp() throws IllegalAccessException {
+    // A target this strong is not killed before the turns run out.
+    String world = WorldGenerator.gridWorld(400).replaceFirst("50 Doctor", "1000000 Doctor");
+    MansionBuilder builder = new MansionBuilder().readConfigFile(new StringReader(world))
+        .setNumberOfTurns(TURNS).setMaximumNumberOfPlayers(4);
+    ActionRecorder recorder = new ActionRecorder(builder.build().getRoomNames());
+    builder.setGameEvents(recorder);
+    Mansion mansion = builder.build();
+    List<String> rooms = mansion.getRoomNames();
+    for (int i = 0; i < 4; i++) {
+      mansion.addPlayer("Computer " + i, rooms.get(i * 97), false);
+    }
+    ComputerPlayerInput computer = new ComputerPlayerInput(3);
+    while (!mansion.isGameOver()) {
+      ComputerMove move = computer.chooseMove(mansion);
+      try {
+        move.applyTo(mansion);
+      } catch (IllegalStateException exception) {
+        // No capacity left to carry items, choose another move.
+      }
+    }
+    RecordedGame game = recorder.getGames().get(0);
+    this.replay = new GameReplay(builder, game, keyframeInterval);
+    this.replay.seekTurn(this.replay.getNumberOfTurns());
+    this.random = new SplittableRandom(7);
+  }
+
+  /**
+   * Seeks to a random turn of the game.
+   *
+   * @return the Mansion at that turn.
+   */
+  @Benchmark
+  public Mansion seekRandomTurn() {
+    return this.replay.seekTurn(this.random.nextInt(this.replay.getNumberOfTurns() + 1));
+  }
+}
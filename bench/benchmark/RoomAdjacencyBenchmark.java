@@ -0,0 +1,85 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import mansion.RoomAdjacency;
+import mansion.RoomGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import room.Room;
+import room.RoomImpl;
+
+/**
+ * JMH benchmark comparing building the Room Graph by sweeping over the room
+ * rectangles with filling and walking the grid of cells. The grid takes time
+ * with the size of the rooms, the sweep only with their number.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomAdjacencyBenchmark {
+
+  @Param({ "10000" })
+  private int numberOfRooms;
+
+  @Param({ "2", "20" })
+  private int roomSize;
+
+  private int rows;
+  private int columns;
+  private List<Room> rooms;
+
+  /**
+   * Generates a grid world and collects its rooms.
+   */
+  @Setup
+  public void setUp() {
+    Mansion mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms, roomSize)))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    int side = (int) Math.ceil(Math.sqrt(numberOfRooms));
+    this.rows = side * roomSize;
+    this.columns = side * roomSize;
+    Map<String, int[]> locations = mansion.getRoomLocation();
+    this.rooms = mansion.getRoomNames().stream().map(name -> {
+      int[] location = locations.get(name);
+      return (Room) new RoomImpl(name, location[0], location[1], location[2], location[3]);
+    }).toList();
+  }
+
+  /**
+   * Builds the graph by sweeping over the room rectangles.
+   *
+   * @return the Room Graph.
+   */
+  @Benchmark
+  public RoomGraph sweep() {
+    return RoomAdjacency.sweep(rooms);
+  }
+
+  /**
+   * Builds the graph by filling and walking the grid of cells.
+   *
+   * @return the Room Graph.
+   */
+  @Benchmark
+  public RoomGraph grid() {
+    return RoomAdjacency.rasterize(rows, columns, rooms);
+  }
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing finding the room covering a cell with the spatial
+ * index of the Mansion against checking the location of every room, which is
+ * what walking one component per room amounts to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomAtBenchmark {
+  private static final int CELLS = 1024;
+
+  @Param({ "100", "10000" })
+  private int numberOfRooms;
+
+  private Mansion mansion;
+  private int[][] locations;
+  private int[] rows;
+  private int[] columns;
+  private int next;
+
+  /**
+   * Generates a grid world and the cells to look up.
+   */
+  @Setup
+  public void setUp() {
+    this.mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms)))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    List<String> names = this.mansion.getRoomNames();
+    Map<String, int[]> rooms = this.mansion.getRoomLocation();
+    this.locations = new int[names.size()][];
+    for (int i = 0; i < names.size(); i++) {
+      this.locations[i] = rooms.get(names.get(i));
+    }
+    int side = (int) Math.ceil(Math.sqrt(numberOfRooms)) * 2;
+    SplittableRandom random = new SplittableRandom(1);
+    this.rows = random.ints(CELLS, 0, side).toArray();
+    this.columns = random.ints(CELLS, 0, side).toArray();
+  }
+
+  /**
+   * Finds the room of a cell with the spatial index.
+   *
+   * @return room number.
+   */
+  @Benchmark
+  public int roomAt() {
+    int cell = next++ & (CELLS - 1);
+    return mansion.roomAt(rows[cell], columns[cell]);
+  }
+
+  /**
+   * Finds the room of a cell by checking every room.
+   *
+   * @return room number.
+   */
+  @Benchmark
+  public int linearScan() {
+    int cell = next++ & (CELLS - 1);
+    int row = rows[cell];
+    int column = columns[cell];
+    for (int room = 0; room < locations.length; room++) {
+      int[] location = locations[room];
+      if (row >= location[0] && row <= location[2] && column >= location[1]
+          && column <= location[3]) {
+        return room;
+      }
+    }
+    return -1;
+  }
+}
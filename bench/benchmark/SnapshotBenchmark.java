@@ -0,0 +1,120 @@
+package benchmark;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mansion.GameSnapshot;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of restarting a game by building the Mansion again against
+ * restoring the snapshot of its start, and of the snapshot and restore a
+ * search takes around every move it tries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+  @Param({ "400", "10000" })
+  private int numberOfRooms;
+
+  private MansionBuilder builder;
+  private Mansion mansion;
+  private GameSnapshot start;
+  private GameSnapshot played;
+  private String move;
+
+  /**
+   * Builds a grid world and plays 200 turns of computer players on it.
+   *
+   * @throws IllegalAccessException when the game cannot be played.
+   */
+  @Setup
+  public void setUp() throws IllegalAccessException {
+    this.builder = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(numberOfRooms)))
+        .setNumberOfTurns(1_000_000).setMaximumNumberOfPlayers(4);
+    this.mansion = this.builder.build();
+    this.start = this.mansion.snapshot();
+    List<String> rooms = this.mansion.getRoomNames();
+    for (int i = 0; i < 4; i++) {
+      this.mansion.addPlayer("Computer " + i, rooms.get(i * 7), false);
+    }
+    ComputerPlayerInput computer = new ComputerPlayerInput(3);
+    for (int turn = 0; turn < 200 && !this.mansion.isGameOver(); ) {
+      ComputerMove next = computer.chooseMove(this.mansion);
+      try {
+        next.applyTo(this.mansion);
+        turn++;
+      } catch (IllegalStateException exception) {
+        // No capacity left to carry items, choose another move.
+      }
+    }
+    this.played = this.mansion.snapshot();
+    this.move = this.mansion.getNeighboursToMove().get(0);
+  }
+
+  /**
+   * Restarts the game the way the controllers did, building the Mansion again.
+   *
+   * @return the new Mansion.
+   */
+  @Benchmark
+  public Mansion restartByBuild() {
+    return this.builder.build();
+  }
+
+  /**
+   * Restarts the played game by restoring the snapshot of its start, and goes
+   * back to the played game for the next invocation.
+   *
+   * @return the Mansion.
+   */
+  @Benchmark
+  public Mansion restartByRestore() {
+    this.mansion.restore(this.start);
+    this.mansion.restore(this.played);
+    return this.mansion;
+  }
+
+  /**
+   * Takes the snapshot of the played game a search takes before trying moves.
+   *
+   * @return the snapshot.
+   */
+  @Benchmark
+  public GameSnapshot snapshot() {
+    return this.mansion.snapshot();
+  }
+
+  /**
+   * Tries a move and takes it back, one step of a search.
+   *
+   * @return the Mansion.
+   * @throws IllegalAccessException when the game is over.
+   */
+  @Benchmark
+  public Mansion tryMove() throws IllegalAccessException {
+    this.mansion.actionMove(this.move);
+    this.mansion.restore(this.played);
+    return this.mansion;
+  }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing saving the graphical representation of a Mansion as
+ * one image written by ImageIO with writing it in bands drawn and compressed in
+ * parallel. The PNG bytes are thrown away, so only drawing and compressing is
+ * measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TiledImageBenchmark {
+
+  @Param({ "400", "10000" })
+  private int rooms;
+
+  private Mansion mansion;
+  private OutputStream sink;
+
+  /**
+   * Builds a generated world.
+   */
+  @Setup
+  public void setUp() {
+    this.mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(WorldGenerator.gridWorld(rooms, 4)))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    this.sink = OutputStream.nullOutputStream();
+  }
+
+  /**
+   * Draws the whole image and writes it with ImageIO.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Benchmark
+  public void imageIo() throws IOException {
+    ImageIO.write(mansion.createGraphicalRepresentation(), "png", sink);
+  }
+
+  /**
+   * Writes the image in bands drawn and compressed in parallel.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Benchmark
+  public void tiled() throws IOException {
+    mansion.writeGraphicalRepresentation(sink);
+  }
+}
@@ -0,0 +1,52 @@
+package benchmark;
+
+/**
+ * Generates world specifications of arbitrary size for the benchmarks. Rooms
+ * are square, 2 x 2 cells unless given otherwise, and laid out as a square grid
+ * so that every room has up to four neighbors.
+ */
+public final class WorldGenerator {
+
+  private WorldGenerator() {
+  }
+
+  /**
+   * Creates a world specification with the given number of rooms and one item
+   * per room.
+   *
+   * @param numberOfRooms number of rooms in the generated world.
+   * @return world specification in the same format as the files in res.
+   */
+  public static String gridWorld(int numberOfRooms) {
+    return gridWorld(numberOfRooms, 2);
+  }
+
+  /**
+   * Creates a world specification with the given number of rooms of the given
+   * size and one item per room.
+   *
+   * @param numberOfRooms number of rooms in the generated world.
+   * @param roomSize      number of rows and columns of every room, at least 2.
+   * @return world specification in the same format as the files in res.
+   */
+  public static String gridWorld(int numberOfRooms, int roomSize) {
+    int side = (int) Math.ceil(Math.sqrt(numberOfRooms));
+    StringBuilder world = new StringBuilder();
+    world.append(side * roomSize).append(' ').append(side * roomSize)
+        .append(" Generated Mansion\n");
+    world.append("50 Doctor Lucky\n");
+    world.append("Fortune the Cat\n");
+    world.append(numberOfRooms).append('\n');
+    for (int i = 0; i < numberOfRooms; i++) {
+      int row = (i / side) * roomSize;
+      int column = (i % side) * roomSize;
+      world.append(row).append(' ').append(column).append(' ').append(row + roomSize - 1)
+          .append(' ').append(column + roomSize - 1).append(" Room ").append(i).append('\n');
+    }
+    world.append(numberOfRooms).append('\n');
+    for (int i = 0; i < numberOfRooms; i++) {
+      world.append(i).append(' ').append(i % 5 + 1).append(" Item ").append(i).append('\n');
+    }
+    return world.toString();
+  }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import mansion.MansionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark comparing loading a world from its text specification, which
+ * parses the text and builds the map, with loading the compiled world file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldLoadBenchmark {
+
+  @Param({ "res/mansion.txt", "grid-100000" })
+  private String world;
+
+  private Path textFile;
+  private Path compiledFile;
+
+  /**
+   * Writes the text specification and the compiled world to files.
+   *
+   * @throws IOException when the files cannot be written.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    if (world.startsWith("grid-")) {
+      int rooms = Integer.parseInt(world.substring("grid-".length()));
+      this.textFile = Files.createTempFile("world", ".txt");
+      Files.writeString(this.textFile, WorldGenerator.gridWorld(rooms));
+    } else {
+      this.textFile = Path.of(world);
+    }
+    this.compiledFile = Files.createTempFile("world", MansionBuilder.COMPILED_WORLD_EXTENSION);
+    new MansionBuilder().readConfigFile(this.textFile).writeCompiledWorld(this.compiledFile);
+  }
+
+  /**
+   * Deletes the files written for the benchmark.
+   *
+   * @throws IOException when the files cannot be deleted.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    if (world.startsWith("grid-")) {
+      Files.delete(this.textFile);
+    }
+    Files.delete(this.compiledFile);
+  }
+
+  /**
+   * Loads the world from its text specification.
+   *
+   * @return the builder.
+   * @throws IOException when the file cannot be read.
+   */
+  @Benchmark
+  public MansionBuilder text() throws IOException {
+    return new MansionBuilder().readConfigFile(textFile);
+  }
+
+  /**
+   * Loads the world from the compiled world file.
+   *
+   * @return the builder.
+   * @throws IOException when the file cannot be read.
+   */
+  @Benchmark
+  public MansionBuilder compiled() throws IOException {
+    return new MansionBuilder().readCompiledWorld(compiledFile);
+  }
+}
@@ -0,0 +1,50 @@
+package command;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import mansion.Mansion;
+import utils.CommonUtils;
+
+/**
+ * Command Pattern Implementation to save graphical representation of the
+ * Mansion drawn in bands of rows, for Mansions too large to be drawn in one
+ * image.
+ */
+public class TiledGraphicalRepresentationCommand implements MansionCommand {
+  private final Path file;
+
+  /**
+   * Command to save the image as myimage.png, like the graphical
+   * representation command.
+   */
+  public TiledGraphicalRepresentationCommand() {
+    this("myimage.png");
+  }
+
+  /**
+   * Command to save the image in a file.
+   * 
+   * @param fileName name of the image file.
+   * @throws NullPointerException     when file name is NULL.
+   * @throws IllegalArgumentException when file name is empty.
+   */
+  public TiledGraphicalRepresentationCommand(String fileName)
+      throws NullPointerException, IllegalArgumentException {
+    CommonUtils.stringIsEmpty(fileName, "File name cannot be NULL or Empty.");
+    this.file = Paths.get(fileName);
+  }
+
+  @Override
+  public String execute(Mansion model) {
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(this.file))) {
+      model.writeGraphicalRepresentation(output);
+    } catch (IOException e) {
+      return "Error while writing image.";
+    }
+    return "Image Saved Successfully.";
+  }
+}
@@ -12,10 +12,12 @@ import command.PickCommand;
 import command.PlayerDetailsCommand;
 import command.RoomDetailsCommand;
 import command.TargetDetailsCommand;
+import command.TiledGraphicalRepresentationCommand;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import mansion.GameSnapshot;
 import mansion.Mansion;
 import mansion.MansionBuilder;
 import utils.Action;
@@ -31,7 +33,9 @@ import utils.Action;
 public abstract class AbstractMansionController implements MansionController {
   protected Mansion mansion;
   protected MansionBuilder mansionBuilder;
+  protected final ComputerPlayerInput computerPlayer;
   private final Map<Action, Function<String[], MansionCommand>> operations;
+  private GameSnapshot startOfGame;
 
   /**
    * Creates object for AbstractMansionController with Model.
@@ -42,13 +46,33 @@ public abstract class AbstractMansionController implements MansionController {
    */
   protected AbstractMansionController(Mansion model, MansionBuilder build)
       throws NullPointerException {
+    this(model, build, new ComputerPlayerInput());
+  }
+
+  /**
+   * Creates object for AbstractMansionController with Model and the computer
+   * player making the choices for every computer player in the game.
+   * 
+   * @param model    Mansion Model.
+   * @param build    the builder for Mansion to play the game.
+   * @param computer the computer player input, seeded to replay a game.
+   * @throws NullPointerException when Model, builder or computer player input
+   *                              object is NULL.
+   */
+  protected AbstractMansionController(Mansion model, MansionBuilder build,
+      ComputerPlayerInput computer) throws NullPointerException {
     Objects.requireNonNull(model);
     Objects.requireNonNull(build);
+    Objects.requireNonNull(computer);
     this.mansion = model;
     this.mansionBuilder = build;
+    this.computerPlayer = computer;
     this.operations = new HashMap<>();
     this.operations.put(Action.DISPLAY_ROOM, s -> new RoomDetailsCommand(s[0]));
     this.operations.put(Action.CREATE_IMAGE, s -> new GraphicalRepresentationCommand());
+    this.operations.put(Action.CREATE_TILED_IMAGE, s -> s.length == 0
+        ? new TiledGraphicalRepresentationCommand()
+        : new TiledGraphicalRepresentationCommand(s[0]));
     this.operations.put(Action.ADD_PLAYER,
         s -> new AddPlayerCommand(s[0], s[1], Integer.parseInt(s[2]), Boolean.parseBoolean(s[3])));
     this.operations.put(Action.MOVE, s -> new MoveCommand(s[0]));
@@ -59,6 +83,38 @@ public abstract class AbstractMansionController implements MansionController {
     this.operations.put(Action.DISPLAY_PLAYER, s -> new PlayerDetailsCommand(s[0]));
     this.operations.put(Action.CAN_SEE, s -> new CanSeeCommand(s[0], s[1]));
     this.operations.put(Action.DISPLAY_TARGET, s -> new TargetDetailsCommand());
+    this.startOfGame = null;
+  }
+
+  /**
+   * Builds the Mansion for a new game and keeps a snapshot of its start, so
+   * the game can be restarted without building the world again.
+   * 
+   * @param builder the builder for Mansion to play the game.
+   * @throws IllegalArgumentException when the Mansion cannot be built.
+   * @throws NullPointerException     when builder is NULL.
+   */
+  protected void newMansion(MansionBuilder builder)
+      throws IllegalArgumentException, NullPointerException {
+    Objects.requireNonNull(builder);
+    this.mansion = builder.build();
+    this.mansionBuilder = builder;
+    this.startOfGame = this.mansion.snapshot();
+  }
+
+  /**
+   * Puts the Mansion back to the start of the game with the same settings. The
+   * first restart builds the Mansion again, later restarts restore the
+   * snapshot of its start.
+   * 
+   * @throws IllegalArgumentException when the Mansion cannot be built.
+   */
+  protected void restartMansion() throws IllegalArgumentException {
+    if (Objects.isNull(this.startOfGame)) {
+      newMansion(this.mansionBuilder);
+    } else {
+      this.mansion.restore(this.startOfGame);
+    }
   }
 
   @Override
@@ -0,0 +1,109 @@
+package controller;
+
+import java.util.Objects;
+import mansion.Mansion;
+import utils.Action;
+
+/**
+ * Move chosen by a computer player, the action with the room or item it is
+ * taken on. A move is chosen without changing the game, so it can be chosen on
+ * another thread and made later.
+ */
+public final class ComputerMove {
+  private final Action action;
+  private final String input;
+
+  /**
+   * Creates a move of a computer player.
+   *
+   * @param action the game play action.
+   * @param input  the room or item of the action, NULL for look around.
+   * @throws NullPointerException     when action is NULL.
+   * @throws IllegalArgumentException when action is not a game play action.
+   */
+  public ComputerMove(Action action, String input)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(action);
+    if (!action.isGamePlayAction()) {
+      throw new IllegalArgumentException("Action is not a game play action.");
+    }
+    this.action = action;
+    this.input = input;
+  }
+
+  /**
+   * Gets the action of the move.
+   *
+   * @return the action.
+   */
+  public Action getAction() {
+    return this.action;
+  }
+
+  /**
+   * Gets the room or item the action is taken on.
+   *
+   * @return the room or item, NULL for look around.
+   */
+  public String getInput() {
+    return this.input;
+  }
+
+  /**
+   * Makes the move for the current player of a Mansion.
+   *
+   * @param mansion the game to make the move in.
+   * @throws NullPointerException     when mansion is NULL, or the input is NULL
+   *                                  for an action other than look around.
+   * @throws IllegalArgumentException when the room or item of the move is not
+   *                                  valid in the game.
+   * @throws IllegalStateException    when the player cannot carry the item
+   *                                  picked.
+   * @throws IllegalAccessException   when there are no players in the game or
+   *                                  game is over.
+   */
+  public void applyTo(Mansion mansion) throws NullPointerException, IllegalArgumentException,
+      IllegalStateException, IllegalAccessException {
+    Objects.requireNonNull(mansion);
+    switch (this.action) {
+      case MOVE:
+        mansion.actionMove(this.input);
+        break;
+      case PICK:
+        mansion.actionPick(this.input);
+        break;
+      case LOOK:
+        mansion.actionLook();
+        break;
+      case MOVEPET:
+        mansion.actionMovePet(this.input);
+        break;
+      default:
+        mansion.actionAttemptKill(this.input);
+        break;
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ComputerMove)) {
+      return false;
+    }
+    ComputerMove other = (ComputerMove) obj;
+    return this.action == other.action && Objects.equals(this.input, other.input);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.action, this.input);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.isNull(this.input) ? this.action.name()
+        : this.action.name() + " " + this.input;
+  }
+}
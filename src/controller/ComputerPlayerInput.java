@@ -5,19 +5,58 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import mansion.Mansion;
 import utils.Action;
 
 /**
- * Class to implement Computer Player Moves.
+ * Class to implement Computer Player Moves. Every instance holds its own
+ * random number generator, so a computer player created with a seed makes the
+ * same choices every time the same game is played.
  * 
  * @author komalshah
  *
  */
-public class ComputerPlayerInput {
+public class ComputerPlayerInput implements ComputerStrategy {
 
-  private static int getRandomInteger(int lowerBound, int upperBound) {
-    return ThreadLocalRandom.current().nextInt(lowerBound, upperBound);
+  private static final Action[] RANDOM_ACTIONS = Arrays.stream(Action.values())
+      .filter(x -> x.isGamePlayAction() && !x.equals(Action.KILL)).toArray(Action[]::new);
+
+  private final SplittableRandom random;
+
+  /**
+   * Creates a computer player with a randomly chosen seed.
+   */
+  public ComputerPlayerInput() {
+    this.random = new SplittableRandom();
+  }
+
+  /**
+   * Creates a computer player whose choices are determined by the seed.
+   * 
+   * @param seed seed for the random number generator.
+   */
+  public ComputerPlayerInput(long seed) {
+    this.random = new SplittableRandom(seed);
+  }
+
+  private ComputerPlayerInput(SplittableRandom randomGenerator) {
+    this.random = randomGenerator;
+  }
+
+  /**
+   * Creates a new computer player whose random number generator is split from
+   * this one. The new player can be used on another thread, and its choices are
+   * still determined by the seed of this player.
+   * 
+   * @return new computer player.
+   */
+  public ComputerPlayerInput split() {
+    return new ComputerPlayerInput(this.random.split());
+  }
+
+  private int getRandomInteger(int lowerBound, int upperBound) {
+    return this.random.nextInt(lowerBound, upperBound);
   }
 
   /**
@@ -28,13 +67,13 @@ public class ComputerPlayerInput {
    * @throws IllegalArgumentException when list is empty.
    * @throws NullPointerException     when list is NULL.
    */
-  public static String getRandomString(List<String> stringList)
+  public String getRandomString(List<String> stringList)
       throws IllegalArgumentException, NullPointerException {
     Objects.requireNonNull(stringList);
     if (stringList.size() == 0) {
       throw new IllegalArgumentException("No options to choose from.");
     }
-    int randomIndex = ComputerPlayerInput.getRandomInteger(0, stringList.size());
+    int randomIndex = this.getRandomInteger(0, stringList.size());
     return stringList.get(randomIndex);
   }
 
@@ -46,7 +85,7 @@ public class ComputerPlayerInput {
    * @throws NullPointerException when map is NULL.
    * @throws IllegalArgumentException when list is empty.
    */
-  public static String pickItemToKill(Map<String, Integer> items) throws NullPointerException {
+  public String pickItemToKill(Map<String, Integer> items) throws NullPointerException {
     Objects.requireNonNull(items);
     if (items.isEmpty()) {
       throw new IllegalArgumentException("No options to choose from.");
@@ -63,13 +102,53 @@ public class ComputerPlayerInput {
    * @param targetPresent if target is present in the same room as player.
    * @return random action.
    */
-  public static Action chooseAction(boolean isSeen, boolean targetPresent) {
+  public Action chooseAction(boolean isSeen, boolean targetPresent) {
     if (!isSeen && targetPresent) {
       return Action.KILL;
     } else {
-      Action[] actions = Arrays.stream(Action.values())
-          .filter(x -> x.isGamePlayAction() && !x.equals(Action.KILL)).toArray(Action[]::new);
-      return actions[ComputerPlayerInput.getRandomInteger(0, actions.length)];
+      return RANDOM_ACTIONS[this.getRandomInteger(0, RANDOM_ACTIONS.length)];
+    }
+  }
+
+  /**
+   * Chooses the move of the current player of a game, which is a computer
+   * player. The game is only queried, so the move can be chosen on another
+   * thread while nothing changes the game, and made later. Actions without
+   * anything to act on, like moving with no neighbors, are chosen again.
+   *
+   * @param mansion the game.
+   * @return the move of the current player.
+   * @throws NullPointerException   when game is NULL.
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Override
+  public ComputerMove chooseMove(Mansion mansion)
+      throws NullPointerException, IllegalAccessException {
+    Objects.requireNonNull(mansion);
+    while (true) {
+      Action action = chooseAction(mansion.isCurrentPlayerSeen(), mansion.isTargetPresent());
+      switch (action) {
+        case MOVE:
+          List<String> neighbors = mansion.getNeighboursToMove();
+          if (!neighbors.isEmpty()) {
+            return new ComputerMove(action, getRandomString(neighbors));
+          }
+          break;
+        case PICK:
+          Map<String, Integer> items = mansion.getItemsToPick();
+          if (!items.isEmpty()) {
+            return new ComputerMove(action, pickItemToKill(items));
+          }
+          break;
+        case LOOK:
+          return new ComputerMove(action, null);
+        case MOVEPET:
+          return new ComputerMove(action, getRandomString(mansion.getRoomNames()));
+        case KILL:
+          return new ComputerMove(action, pickItemToKill(mansion.getItemsToKill()));
+        default:
+          break;
+      }
     }
   }
 }
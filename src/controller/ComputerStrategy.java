@@ -0,0 +1,23 @@
+package controller;
+
+import mansion.Mansion;
+
+/**
+ * Strategy choosing the moves of the computer players of a game. A strategy
+ * only queries the game, so the GUI can ask for a move on a background thread
+ * and make it later on the event thread.
+ */
+public interface ComputerStrategy {
+
+  /**
+   * Chooses the move of the current player of a game, which is a computer
+   * player.
+   *
+   * @param mansion the game.
+   * @return the move of the current player.
+   * @throws NullPointerException   when game is NULL.
+   * @throws IllegalAccessException when there are no players in the game or
+   *                                the game is over.
+   */
+  ComputerMove chooseMove(Mansion mansion) throws NullPointerException, IllegalAccessException;
+}
@@ -0,0 +1,159 @@
+package controller;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Log of a game keeping its last lines in a ring buffer of fixed capacity, so
+ * adding a line takes constant time and the memory stays the same however long
+ * the game is played. Optionally the lines dropped from the buffer are written
+ * to a log file, and the lines still in the buffer when the log is closed, so
+ * the file keeps the whole game.
+ */
+public final class GameLog implements Closeable {
+  private final String[] lines;
+  private long totalLines;
+  private BufferedWriter spill;
+
+  /**
+   * Creates a log keeping its last lines in memory only.
+   *
+   * @param capacity number of lines kept.
+   * @throws IllegalArgumentException when capacity is negative or zero.
+   */
+  public GameLog(int capacity) throws IllegalArgumentException {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity of log cannot be Negative or Zero.");
+    }
+    this.lines = new String[capacity];
+    this.totalLines = 0;
+    this.spill = null;
+  }
+
+  /**
+   * Creates a log keeping its last lines in memory and appending the others to
+   * a log file.
+   *
+   * @param capacity number of lines kept.
+   * @param logFile  the log file, created when it does not exist.
+   * @throws IllegalArgumentException when capacity is negative or zero.
+   * @throws NullPointerException     when log file is NULL.
+   * @throws IOException              when log file cannot be opened.
+   */
+  public GameLog(int capacity, Path logFile)
+      throws IllegalArgumentException, NullPointerException, IOException {
+    this(capacity);
+    Objects.requireNonNull(logFile);
+    this.spill = Files.newBufferedWriter(logFile, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  /**
+   * Adds a line to the log, dropping the oldest line when the log is full.
+   *
+   * @param line the line.
+   * @throws NullPointerException  when line is NULL.
+   * @throws IllegalStateException when the dropped line cannot be written to
+   *                               the log file, no more lines are written then.
+   */
+  public void add(String line) throws NullPointerException, IllegalStateException {
+    Objects.requireNonNull(line);
+    int index = (int) (this.totalLines % this.lines.length);
+    String dropped = this.lines[index];
+    this.lines[index] = line;
+    this.totalLines++;
+    if (Objects.nonNull(dropped)) {
+      writeLine(dropped);
+    }
+  }
+
+  private void writeLine(String line) throws IllegalStateException {
+    if (Objects.isNull(this.spill)) {
+      return;
+    }
+    try {
+      this.spill.write(line);
+      this.spill.newLine();
+    } catch (IOException e) {
+      closeSpill();
+      throw new IllegalStateException("Log file cannot be written.", e);
+    }
+  }
+
+  private void closeSpill() {
+    try {
+      this.spill.close();
+    } catch (IOException e) {
+      // Nothing more can be written, the log goes on in memory.
+    }
+    this.spill = null;
+  }
+
+  /**
+   * Gets the number of lines added since the log was created.
+   *
+   * @return number of lines.
+   */
+  public long getTotalLines() {
+    return this.totalLines;
+  }
+
+  /**
+   * Gets the lines in the log, oldest first.
+   *
+   * @return the lines kept in memory.
+   */
+  public List<String> getLines() {
+    return getLinesSince(0);
+  }
+
+  /**
+   * Gets the lines added after a number of lines, oldest first. Lines which
+   * were dropped from the log already are left out.
+   *
+   * @param lineNumber number of lines added before the wanted ones, as given
+   *                   by getTotalLines.
+   * @return the lines kept in memory which were added after the line number.
+   * @throws IllegalArgumentException when line number is negative.
+   */
+  public List<String> getLinesSince(long lineNumber) throws IllegalArgumentException {
+    if (lineNumber < 0) {
+      throw new IllegalArgumentException("Line number cannot be negative.");
+    }
+    long first = Math.max(lineNumber, this.totalLines - this.lines.length);
+    List<String> since = new ArrayList<>();
+    for (long i = first; i < this.totalLines; i++) {
+      since.add(this.lines[(int) (i % this.lines.length)]);
+    }
+    return since;
+  }
+
+  /**
+   * Writes the lines still in memory to the log file and closes it. The log
+   * can still be read after it is closed.
+   *
+   * @throws IOException when log file cannot be written.
+   */
+  @Override
+  public void close() throws IOException {
+    if (Objects.isNull(this.spill)) {
+      return;
+    }
+    BufferedWriter writer = this.spill;
+    this.spill = null;
+    try (writer) {
+      for (String line : getLines()) {
+        writer.write(line);
+        writer.newLine();
+      }
+    }
+  }
+}
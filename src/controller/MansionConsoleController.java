@@ -1,7 +1,8 @@
 package controller;
 
-import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -35,7 +36,24 @@ public class MansionConsoleController extends AbstractMansionController {
    */
   public MansionConsoleController(Readable in, Mansion model, MansionBuilder build,
       MansionView viewObj) throws NullPointerException {
-    super(model, build);
+    this(in, model, build, viewObj, new ComputerPlayerInput());
+  }
+
+  /**
+   * Creates an object for Mansion Console Controller with fields Readable,
+   * Model, View and the input for computer players.
+   * 
+   * @param in       the source to read from.
+   * @param model    the model for Mansion to play the game.
+   * @param build    the builder for Mansion to play the game.
+   * @param viewObj  the view for console.
+   * @param computer the input for computer players.
+   * @throws NullPointerException when in, model, builder, viewObj or computer
+   *                              is NULL.
+   */
+  public MansionConsoleController(Readable in, Mansion model, MansionBuilder build,
+      MansionView viewObj, ComputerPlayerInput computer) throws NullPointerException {
+    super(model, build, computer);
     Objects.requireNonNull(in);
     Objects.requireNonNull(viewObj);
     this.scan = new Scanner(in);
@@ -108,7 +126,7 @@ public class MansionConsoleController extends AbstractMansionController {
         this.view.displayInfo("\nEnter name of the room to move:");
         roomName = this.scan.nextLine().trim();
       } else {
-        roomName = ComputerPlayerInput.getRandomString(roomNames);
+        roomName = this.computerPlayer.getRandomString(roomNames);
         this.view.displayInfo(String.format("\nComputer chose to Move to Room: %s", roomName));
       }
       this.view.displayInfo(this.execute(Action.MOVE, roomName));
@@ -138,7 +156,7 @@ public class MansionConsoleController extends AbstractMansionController {
         this.view.displayInfo("\nEnter item from the room to pick:");
         input = this.scan.nextLine().trim();
       } else {
-        input = ComputerPlayerInput.pickItemToKill(items);
+        input = this.computerPlayer.pickItemToKill(items);
         this.view.displayInfo(String.format("\nComputer chose to Pick Item: %s", input));
       }
       try {
@@ -174,7 +192,7 @@ public class MansionConsoleController extends AbstractMansionController {
         this.view.displayInfo("\nEnter name of the room to move the pet:");
         input = this.scan.nextLine().trim();
       } else {
-        input = ComputerPlayerInput.getRandomString(roomNames);
+        input = this.computerPlayer.getRandomString(roomNames);
         this.view.displayInfo(String.format("\nComputer chose to Move the Pet to Room: %s", input));
       }
       this.view.displayInfo(this.execute(Action.MOVEPET, input));
@@ -196,7 +214,7 @@ public class MansionConsoleController extends AbstractMansionController {
         this.view.displayInfo("\nEnter item name to be used to kill the Target:");
         input = this.scan.nextLine().trim();
       } else {
-        input = ComputerPlayerInput.pickItemToKill(itemNames);
+        input = this.computerPlayer.pickItemToKill(itemNames);
         this.view
             .displayInfo(String.format("\nComputer chose to Kill Target with item: %s", input));
       }
@@ -291,7 +309,7 @@ public class MansionConsoleController extends AbstractMansionController {
           this.view.displayInfo("Incorrect input.");
         }
       } else {
-        choice = ComputerPlayerInput.chooseAction(this.mansion.isCurrentPlayerSeen(),
+        choice = this.computerPlayer.chooseAction(this.mansion.isCurrentPlayerSeen(),
             targetPresent);
       }
 
@@ -393,7 +411,7 @@ public class MansionConsoleController extends AbstractMansionController {
     this.view.displayInfo("\nAre you sure you want to restart? (y/yes):");
     String input = scan.nextLine().trim();
     if (Constants.YES.equalsIgnoreCase(input) || Constants.CONST_Y.equalsIgnoreCase(input)) {
-      this.mansion = this.mansionBuilder.build();
+      this.restartMansion();
       this.view.restartGame(this.mansion.getRoomNames());
     } else {
       this.view.displayInfo("Restart Game Cancelled.");
@@ -414,15 +432,16 @@ public class MansionConsoleController extends AbstractMansionController {
         int maxPlayers = Integer.parseInt(scan.nextLine().trim());
 
         MansionBuilder mb = new MansionBuilder();
-        mb.readConfigFile(new FileReader(filePath)).setNumberOfTurns(turns)
+        mb.readConfigFile(Path.of(filePath)).setNumberOfTurns(turns)
             .setMaximumNumberOfPlayers(maxPlayers);
-        this.mansion = mb.build();
-        this.mansionBuilder = mb;
+        this.newMansion(mb);
         this.view.displayInfo("New Game Created.");
       } catch (NumberFormatException e) {
         this.view.displayError("Turns and Max number Players should be Number");
-      } catch (FileNotFoundException e) {
+      } catch (NoSuchFileException e) {
         this.view.displayError("Incorrect File path");
+      } catch (IOException e) {
+        this.view.displayError("New Game not created. File cannot be read.");
       } catch (IllegalArgumentException | NullPointerException e) {
         this.view.displayError("New Game not created. Invalid input file.");
       }
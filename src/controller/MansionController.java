@@ -30,6 +30,11 @@ public interface MansionController {
    * <td>NA</td>
    * </tr>
    * <tr>
+   * <td>CREATE_TILED_IMAGE</td>
+   * <td>Saves graphical representation of Mansion drawn in bands of rows.</td>
+   * <td>Name of the image file, myimage.png when not given.</td>
+   * </tr>
+   * <tr>
    * <td>ADD_HUMAN_PLAYER</td>
    * <td>Adds Human Player to the Game.</td>
    * <td>Name of the Player, Name of the Room to add player in, Item picking
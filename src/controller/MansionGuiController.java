@@ -2,15 +2,20 @@ package controller;
 
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.function.Consumer;
 import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
 import javax.swing.Timer;
 import listener.ButtonListener;
 import listener.KeyboardListener;
@@ -19,19 +24,43 @@ import mansion.Mansion;
 import mansion.MansionBuilder;
 import utils.Action;
 import utils.Constants;
+import view.FrameTimes;
 import view.MansionView;
 
 /**
  * Input and Output for GUI Controller of the Mansion.
+ *
+ * <p>Computer players choose their move on a background thread, so the event
+ * dispatch thread stays free while they think. The move is then made and the
+ * board refreshed on the event dispatch thread. Human actions wait for their
+ * turn and the menu cancels the computer turn first, so the game is not
+ * changed while a move is chosen.
+ *
+ * <p>Computer turns are paced by a delay. With no delay the next computer turn
+ * starts as soon as the last move is made, and when turns come faster than the
+ * frame budget their refreshes are coalesced into one, while the game still
+ * plays every turn.
  * 
  * @author komalshah
  *
  */
 public class MansionGuiController extends AbstractMansionController {
+  private static final int FRAME_BUDGET_MILLIS = 16;
+  private static final int LOG_CAPACITY = 200;
   private final MansionView view;
   private final MouseClickListener mouseListener;
-  private List<String> logger;
+  private GameLog logger;
+  private long shownLines;
+  private Path logFile;
   private Timer timer;
+  private final ExecutorService computerTurns;
+  private FutureTask<ComputerMove> computerTurn;
+  private ComputerStrategy computerStrategy;
+  private long computerTurnStall;
+  private final FrameTimes eventThreadStalls;
+  private final Timer refreshTimer;
+  private int turnDelay;
+  private long lastRefresh;
 
   /**
    * Creates an object for Mansion GUI Controller with fields Mansion object,
@@ -44,14 +73,46 @@ public class MansionGuiController extends AbstractMansionController {
    */
   public MansionGuiController(Mansion model, MansionBuilder build, MansionView viewObject)
       throws NullPointerException {
-    super(model, build);
+    this(model, build, viewObject, new ComputerPlayerInput());
+  }
+
+  /**
+   * Creates an object for Mansion GUI Controller with fields Mansion object,
+   * MansionBuilder object, View object and the input for computer players.
+   * 
+   * @param model      the model for Mansion to play the game.
+   * @param build      the builder for Mansion to play the game.
+   * @param viewObject the GUI view to play the game.
+   * @param computer   the input for computer players.
+   * @throws NullPointerException when model, build, view or computer is NULL.
+   */
+  public MansionGuiController(Mansion model, MansionBuilder build, MansionView viewObject,
+      ComputerPlayerInput computer) throws NullPointerException {
+    super(model, build, computer);
     Objects.requireNonNull(viewObject);
     this.view = viewObject;
     this.mouseListener = new MouseClickListener();
-    this.logger = new ArrayList<>();
+    this.logger = new GameLog(LOG_CAPACITY);
+    this.shownLines = 0;
+    this.logFile = null;
     this.timer = new Timer(Constants.TIMER_DELAY, e -> {
       this.computerAction();
     });
+    this.computerTurns = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "Computer Player");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.computerTurn = null;
+    this.computerStrategy = computer;
+    this.computerTurnStall = 0;
+    this.eventThreadStalls = new FrameTimes();
+    this.refreshTimer = new Timer(FRAME_BUDGET_MILLIS, e -> {
+      this.refreshBoard();
+    });
+    this.refreshTimer.setRepeats(false);
+    this.turnDelay = Constants.TIMER_DELAY;
+    this.lastRefresh = 0;
     configureButtonListener();
     configureKeyboardListener();
     configureMouseClickListener();
@@ -84,6 +145,18 @@ public class MansionGuiController extends AbstractMansionController {
       this.newGame();
     });
 
+    buttonClickedMap.put(Constants.NORMAL_SPEED, () -> {
+      this.setTurnDelay(Constants.TIMER_DELAY);
+    });
+
+    buttonClickedMap.put(Constants.FAST_SPEED, () -> {
+      this.setTurnDelay(Constants.FAST_TIMER_DELAY);
+    });
+
+    buttonClickedMap.put(Constants.TURBO_SPEED, () -> {
+      this.setTurnDelay(0);
+    });
+
     buttonClickedMap.put(Constants.ADD_PLAYER, () -> {
       this.addPlayerScreen();
     });
@@ -167,6 +240,14 @@ public class MansionGuiController extends AbstractMansionController {
       }
     });
     mouseListener.setMouseClickActionMap(mouseClickedMap);
+    mouseListener.setRoomFinder((row, column) -> {
+      try {
+        int room = this.mansion.roomAt(row, column);
+        return room < 0 ? null : this.mansion.getRoomNames().get(room);
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    });
   }
 
   private void help() {
@@ -180,94 +261,249 @@ public class MansionGuiController extends AbstractMansionController {
   private void createNewGame() {
     int choice = this.view.confirmScreen("Are you sure you want to start a new game?");
     if (choice == JOptionPane.YES_OPTION) {
-      timer.stop();
+      this.stopComputerTurns();
+      this.awaitComputerTurns();
       this.view.setupScreen();
     }
   }
   
+  /**
+   * Sets the delay before every computer turn. With no delay the computer
+   * players play as fast as the board can be refreshed.
+   *
+   * @param milliseconds the delay in milliseconds, 0 for no delay.
+   * @throws IllegalArgumentException when delay is negative.
+   */
+  public void setTurnDelay(int milliseconds) throws IllegalArgumentException {
+    if (milliseconds < 0) {
+      throw new IllegalArgumentException("Delay cannot be negative.");
+    }
+    this.turnDelay = milliseconds;
+    // Without a delay the timer only starts the computer turns after a human
+    // turn, the following turns are started by the last move.
+    int timerDelay = milliseconds == 0 ? FRAME_BUDGET_MILLIS : milliseconds;
+    this.timer.setDelay(timerDelay);
+    this.timer.setInitialDelay(timerDelay);
+    if (this.timer.isRunning()) {
+      this.timer.restart();
+    }
+  }
+
+  /**
+   * Gets the delay before every computer turn.
+   *
+   * @return the delay in milliseconds, 0 for no delay.
+   */
+  public int getTurnDelay() {
+    return this.turnDelay;
+  }
+
+  /**
+   * Sets the strategy choosing the moves of the computer players, in place of
+   * the random choices of the computer player input. The moves are chosen on
+   * the computer player thread, one at a time.
+   *
+   * @param strategy the strategy of the computer players.
+   * @throws NullPointerException when strategy is NULL.
+   */
+  public void setComputerStrategy(ComputerStrategy strategy) throws NullPointerException {
+    Objects.requireNonNull(strategy);
+    this.computerStrategy = strategy;
+  }
+
+  /**
+   * Writes the log of every game to a log file. The last lines of the log are
+   * kept in memory for the board, the others are appended to the file.
+   *
+   * @param file the log file.
+   * @throws NullPointerException when file is NULL.
+   * @throws IOException          when file cannot be opened.
+   */
+  public void setLogFile(Path file) throws NullPointerException, IOException {
+    Objects.requireNonNull(file);
+    GameLog log = new GameLog(LOG_CAPACITY, file);
+    this.closeLog();
+    this.logFile = file;
+    this.logger = log;
+    this.shownLines = 0;
+  }
+
+  private void startLog() {
+    this.closeLog();
+    this.logger = new GameLog(LOG_CAPACITY);
+    this.shownLines = 0;
+    if (Objects.nonNull(this.logFile)) {
+      try {
+        this.logger = new GameLog(LOG_CAPACITY, this.logFile);
+      } catch (IOException e) {
+        this.view.displayError("Log file cannot be opened.");
+      }
+    }
+  }
+
+  private void closeLog() {
+    try {
+      this.logger.close();
+    } catch (IOException e) {
+      this.view.displayError("Log file cannot be written.");
+    }
+  }
+
+  private void log(String line) {
+    try {
+      this.logger.add(line);
+    } catch (IllegalStateException e) {
+      this.view.displayError(e.getMessage());
+    }
+  }
+
   private void displayBoard(String message) {
-    logger.add(message);
+    displayBoard(message, false);
+  }
+
+  private void displayBoard(String message, boolean coalesce) {
+    this.log(message);
+    if (!coalesce || this.mansion.isGameOver()
+        || System.nanoTime() - this.lastRefresh >= FRAME_BUDGET_MILLIS * 1_000_000L) {
+      this.refreshBoard();
+    } else if (!this.refreshTimer.isRunning()) {
+      // The last refresh was within the frame budget, the pending refresh shows
+      // all turns made until it runs.
+      this.refreshTimer.start();
+    }
+  }
+
+  private void refreshBoard() {
+    this.refreshTimer.stop();
+    this.lastRefresh = System.nanoTime();
     try {
       if (this.mansion.isGameOver()) {
-        timer.stop();
+        this.stopComputerTurns();
         if (mansion.getNumberOfTurns() < 1) {
-          logger.add("Game Over. Target Escaped. Nobody wins!");
+          this.log("Game Over. Target Escaped. Nobody wins!");
           this.view.gameEndScreen("Game Over. Target Escaped. Nobody wins!");
         } else {
-          logger.add(this.mansion.getWinner() + " killed the Target and Won the Game!");
+          this.log(this.mansion.getWinner() + " killed the Target and Won the Game!");
           this.view
               .gameEndScreen(this.mansion.getWinner() + " killed the Target and Won the Game!");
         }
       } else {
-        StringBuilder buildMessage = new StringBuilder();
-        buildMessage.append("<html>");
-        int start = this.logger.size() - 200 < 0 ? 0 : this.logger.size() - 200;
-        for (int i = start; i < this.logger.size(); i++) {
-          buildMessage.append(this.logger.get(i) + "<br>");
-        }
-        buildMessage.append("</html>");
-
+        // Only the lines added since the last refresh are sent to the view.
+        String newLines = String.join("\n", this.logger.getLinesSince(this.shownLines));
+        this.shownLines = this.logger.getTotalLines();
         this.view.refreshBoard(this.mansion.getRoomLocation(), this.mansion.getPlayerLocations(),
             this.mansion.getTargetPetLocation(), this.mansion.getTargetLocation(),
             this.mansion.getCurrentPlayerName(), this.execute(Action.DISPLAY_TARGET),
-            this.mansion.getNumberOfTurns(), buildMessage.toString(), mouseListener);
+            this.mansion.getNumberOfTurns(), newLines, mouseListener);
       }
     } catch (IllegalAccessException e) {
-      timer.stop();
+      this.stopComputerTurns();
       this.view.displayError(e.getMessage());
     }
   }
 
+  /**
+   * Gets the time the event dispatch thread spent on every computer turn, to
+   * start the turn and to make the move and refresh the board.
+   *
+   * @return the stall times of the event dispatch thread.
+   */
+  public FrameTimes getEventThreadStalls() {
+    return this.eventThreadStalls;
+  }
+
+  private void stopComputerTurns() {
+    timer.stop();
+    this.refreshTimer.stop();
+    if (Objects.nonNull(this.computerTurn)) {
+      this.computerTurn.cancel(true);
+      this.computerTurn = null;
+    }
+    this.computerTurnStall = 0;
+  }
+
+  // A cancelled move can still be reading the Mansion, which must not change
+  // under it: a restart restores it, a new game or a new player changes it.
+  private void awaitComputerTurns() {
+    try {
+      this.computerTurns.submit(() -> { }).get();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException exception) {
+      // The empty task does not fail.
+    }
+  }
+
   private void computerAction() {
+    long start = System.nanoTime();
     try {
-      if (!this.mansion.isHuman()) {
-        Action action = ComputerPlayerInput.chooseAction(this.mansion.isCurrentPlayerSeen(),
-            this.mansion.isTargetPresent());
-        switch (action) {
-          case MOVE:
-            try {
-              takeAction(action,
-                  ComputerPlayerInput.getRandomString(this.mansion.getNeighboursToMove()));
-            } catch (IllegalArgumentException | NullPointerException
-                | IllegalStateException exception) {
-              computerAction();
-            }
-            break;
-          case PICK:
-            try {
-              takeAction(action, ComputerPlayerInput.pickItemToKill(this.mansion.getItemsToPick()));
-            } catch (IllegalArgumentException | NullPointerException
-                | IllegalStateException exception) {
-              computerAction();
-            }
-            break;
-          case LOOK:
-            try {
-              String message = this.mansion.getCurrentPlayerName()
-                  + " tried to look around. Looked around Successfully.";
-              this.execute(Action.LOOK);
-              this.displayBoard(message);
-            } catch (IllegalAccessException e) {
-              this.view.displayError(e.getMessage());
-            }
-            break;
-          case MOVEPET:
-            takeAction(action, ComputerPlayerInput.getRandomString(this.mansion.getRoomNames()));
-            break;
-          case KILL:
-            takeAction(action, ComputerPlayerInput.pickItemToKill(this.mansion.getItemsToKill()));
-            break;
-          default:
-            break;
-        }
+      // One turn at a time, the timer can fire again while a move is chosen.
+      if (Objects.isNull(this.computerTurn) && !this.mansion.isHuman()) {
+        Mansion game = this.mansion;
+        ComputerStrategy strategy = this.computerStrategy;
+        this.computerTurn = new FutureTask<>(() -> strategy.chooseMove(game)) {
+          @Override
+          protected void done() {
+            SwingUtilities.invokeLater(() -> finishComputerTurn(this));
+          }
+        };
+        this.computerTurns.execute(this.computerTurn);
+        this.computerTurnStall += System.nanoTime() - start;
       }
     } catch (IllegalAccessException e) {
       this.view.displayError(e.getMessage());
     }
   }
 
+  private void finishComputerTurn(FutureTask<ComputerMove> turn) {
+    if (turn != this.computerTurn) {
+      // Cancelled, or the game changed while the move was chosen.
+      return;
+    }
+    long start = System.nanoTime();
+    this.computerTurn = null;
+    try {
+      makeComputerMove(turn.get());
+    } catch (ExecutionException e) {
+      this.view.displayError(e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (Objects.isNull(this.computerTurn)) {
+      this.eventThreadStalls.record(this.computerTurnStall + System.nanoTime() - start);
+      this.computerTurnStall = 0;
+    } else {
+      this.computerTurnStall += System.nanoTime() - start;
+    }
+    if (this.turnDelay == 0 && this.timer.isRunning()) {
+      // No delay, the next computer player starts right away.
+      computerAction();
+    }
+  }
+
+  private void makeComputerMove(ComputerMove move) {
+    try {
+      String player = this.mansion.getCurrentPlayerName();
+      if (move.getAction() == Action.LOOK) {
+        this.execute(Action.LOOK);
+        this.displayBoard(player + " tried to look around. Looked around Successfully.", true);
+      } else {
+        String message = player + " tried to " + move.getAction().toString() + " "
+            + move.getInput() + ".";
+        String result = this.execute(move.getAction(), move.getInput());
+        this.displayBoard(message + " " + result, true);
+      }
+    } catch (IllegalArgumentException | NullPointerException | IllegalStateException exception) {
+      // The move cannot be made, choose another one without waiting for the timer.
+      computerAction();
+    } catch (IllegalAccessException e) {
+      this.view.displayError(e.getMessage());
+    }
+  }
+
   private void addPlayerScreen() {
-    timer.stop();
+    this.stopComputerTurns();
+    this.awaitComputerTurns();
     if (!this.mansion.isGameOver()) {
       this.view.addPlayerScreen(this.mansion.getRoomNames());
     } else {
@@ -351,9 +587,10 @@ public class MansionGuiController extends AbstractMansionController {
     int choice = this.view
         .confirmScreen("Are you sure you want to restart the game with the same settings?");
     if (choice == JOptionPane.YES_OPTION) {
-      timer.stop();
-      this.mansion = this.mansionBuilder.build();
-      this.logger = new ArrayList<>();
+      this.stopComputerTurns();
+      this.awaitComputerTurns();
+      this.restartMansion();
+      this.startLog();
       this.view.restartGame(this.mansion.getRoomNames());
     }
   }
@@ -364,18 +601,19 @@ public class MansionGuiController extends AbstractMansionController {
     if (Objects.nonNull(inputs)) {
       try {
         MansionBuilder mb = new MansionBuilder();
-        mb.readConfigFile(new FileReader(inputs[0])).setNumberOfTurns(Integer.parseInt(inputs[1]))
+        mb.readConfigFile(Path.of(inputs[0])).setNumberOfTurns(Integer.parseInt(inputs[1]))
             .setMaximumNumberOfPlayers(Integer.parseInt(inputs[2]));
-        this.mansion = mb.build();
-        this.mansionBuilder = mb;
-        this.logger = new ArrayList<>();
+        this.newMansion(mb);
+        this.startLog();
         this.view.displayInfo("New Game Created.");
         this.view.addPlayerScreen(this.mansion.getRoomNames());
-      } catch (FileNotFoundException e) {
+      } catch (NoSuchFileException e) {
         this.view.displayError("File is not present.");
-      } catch (NumberFormatException e) {
+      } catch (IOException e) {
+        this.view.displayError("File cannot be read.");
+      } catch (NumberFormatException | NoSuchElementException e) {
         this.view.displayError("Invalid File.");
-      } catch (IllegalArgumentException | NullPointerException exception) {
+      } catch (IllegalArgumentException | NullPointerException | IllegalStateException exception) {
         this.view.displayError(exception.getMessage());
       }
     }
@@ -385,6 +623,7 @@ public class MansionGuiController extends AbstractMansionController {
   public void quitGame() {
     int choice = this.view.confirmScreen("Are you sure you want to quit?");
     if (choice == JOptionPane.YES_OPTION) {
+      this.closeLog();
       this.view.quit();
     }
   }
@@ -0,0 +1,487 @@
+package controller;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import mansion.GameState;
+import mansion.Mansion;
+import utils.Action;
+import utils.Constants;
+
+/**
+ * Computer player choosing its moves by Monte Carlo tree search over the
+ * immutable game states of the Mansion. Every move is searched for a fixed
+ * time: workers on a thread pool walk down one shared tree by UCT, add a
+ * state, play random games from it and count the wins of every player on the
+ * way back. The random games follow the choices of the computer player input:
+ * kill whenever unseen with the target, else a random move, pick, look or pet
+ * move. The move tried most often is made and the tree below it is kept for
+ * the next move, when the players in between made moves it already searched.
+ *
+ * <p>Only moves worth searching are tried in the tree: the pet is only moved
+ * into the room of the player, to hide it, and the target is only attacked
+ * when the player is not seen.
+ */
+public class MctsComputerPlayer implements ComputerStrategy {
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int ROLLOUT_TURNS = 100;
+  // A move of the tree is one int: its kind in the low KIND_BITS bits and the
+  // room or item index plus one above them, so the poke of -1 encodes as 0.
+  // KIND_BITS is a width, not a count: three bits hold up to eight kinds.
+  private static final int MOVE = 0;
+  private static final int PICK = 1;
+  private static final int LOOK = 2;
+  private static final int MOVEPET = 3;
+  private static final int KILL = 4;
+  private static final int KIND_BITS = 3;
+
+  private final ExecutorService pool;
+  private final int workers;
+  private final long budgetNanos;
+  private final SplittableRandom random;
+  private final Object treeLock;
+  private Node root;
+  private volatile long rollouts;
+  private volatile double rolloutsPerSecond;
+  private volatile int reusedRollouts;
+
+  /**
+   * Creates a computer player searching with a number of workers on a thread
+   * pool. Every worker runs for the whole time of a move, so the pool should
+   * be the player's own, with a thread for every worker; the common fork join
+   * pool would be held by the search. The pool is not shut down by the
+   * player.
+   *
+   * @param threadPool   pool to run the workers on.
+   * @param workerCount  number of workers searching every move at once.
+   * @param budgetMillis time to search every move, in milliseconds.
+   * @param seed         seed for the random games.
+   * @throws NullPointerException     when pool is NULL.
+   * @throws IllegalArgumentException when number of workers or time is
+   *                                  negative or zero.
+   */
+  public MctsComputerPlayer(ExecutorService threadPool, int workerCount, long budgetMillis,
+      long seed) throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(threadPool);
+    if (workerCount <= 0) {
+      throw new IllegalArgumentException("Number of workers cannot be negative or zero.");
+    }
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Time to search cannot be negative or zero.");
+    }
+    this.pool = threadPool;
+    this.workers = workerCount;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.random = new SplittableRandom(seed);
+    this.treeLock = new Object();
+    this.root = null;
+    this.rollouts = 0;
+    this.rolloutsPerSecond = 0;
+    this.reusedRollouts = 0;
+  }
+
+  // A state of the search tree, reached by a move of a player.
+  private static final class Node {
+    private Node parent;
+    private final int move;
+    private final int player;
+    private final GameState state;
+    private final int[] untried;
+    private int untriedCount;
+    private final List<Node> children;
+    private int visits;
+    private double wins;
+
+    private Node(Node parentNode, int code, int mover, GameState gameState)
+        throws IllegalAccessException {
+      this.parent = parentNode;
+      this.move = code;
+      this.player = mover;
+      this.state = gameState;
+      this.untried = moves(gameState);
+      this.untriedCount = this.untried.length;
+      this.children = new ArrayList<>();
+      this.visits = 0;
+      this.wins = 0;
+    }
+  }
+
+  /**
+   * Chooses the move of the current player by searching the game for the time
+   * of the player. The search stops early, with the best move found so far,
+   * when the thread choosing the move is interrupted.
+   *
+   * @param mansion the game.
+   * @return the move of the current player.
+   * @throws NullPointerException   when game is NULL.
+   * @throws IllegalAccessException when there are no players in the game or
+   *                                the game is over.
+   * @throws IllegalStateException  when a worker fails.
+   */
+  @Override
+  public synchronized ComputerMove chooseMove(Mansion mansion)
+      throws NullPointerException, IllegalAccessException, IllegalStateException {
+    Objects.requireNonNull(mansion);
+    GameState state = mansion.getGameState();
+    if (state.getNumberOfPlayers() == 0) {
+      throw new IllegalAccessException("No Players in Game.");
+    }
+    if (state.isGameOver()) {
+      throw new IllegalAccessException("Game is Over!");
+    }
+    long start = System.nanoTime();
+    Node searched = findReusable(state);
+    if (Objects.isNull(searched)) {
+      this.root = new Node(null, 0, -1, state);
+    } else {
+      searched.parent = null;
+      this.root = searched;
+    }
+    this.reusedRollouts = this.root.visits;
+    long done = 0;
+    if (this.root.untriedCount + this.root.children.size() > 1) {
+      done = search(start + this.budgetNanos);
+    }
+    this.rollouts = done;
+    long elapsed = System.nanoTime() - start;
+    this.rolloutsPerSecond = elapsed == 0 ? 0 : done * 1e9 / elapsed;
+
+    Node best = null;
+    for (Node child : this.root.children) {
+      if (Objects.isNull(best) || child.visits > best.visits) {
+        best = child;
+      }
+    }
+    if (Objects.isNull(best)) {
+      best = new Node(this.root, this.root.untried[0], state.getCurrentPlayer(),
+          play(state, this.root.untried[0]));
+    }
+    this.root = best;
+    return toComputerMove(state, best.move);
+  }
+
+  /**
+   * Gets the number of random games played to choose the last move.
+   *
+   * @return number of random games.
+   */
+  public long getRollouts() {
+    return this.rollouts;
+  }
+
+  /**
+   * Gets the random games played per second by all workers to choose the last
+   * move.
+   *
+   * @return random games per second.
+   */
+  public double getRolloutsPerSecond() {
+    return this.rolloutsPerSecond;
+  }
+
+  /**
+   * Gets the number of random games the search of the last move started
+   * with, played by the searches of earlier moves below the same state.
+   *
+   * @return number of random games kept from earlier moves.
+   */
+  public int getReusedRollouts() {
+    return this.reusedRollouts;
+  }
+
+  // The searched state matching the game, at most one round of moves below
+  // the move made last, or NULL to search from scratch.
+  private Node findReusable(GameState state) {
+    if (Objects.isNull(this.root)) {
+      return null;
+    }
+    Deque<Node> level = new ArrayDeque<>();
+    level.add(this.root);
+    for (int depth = 0; depth <= state.getNumberOfPlayers() && !level.isEmpty(); depth++) {
+      Deque<Node> next = new ArrayDeque<>();
+      for (Node node : level) {
+        if (node.state.getNumberOfTurns() == state.getNumberOfTurns()) {
+          if (node.state.equals(state)) {
+            return node;
+          }
+        } else if (node.state.getNumberOfTurns() > state.getNumberOfTurns()) {
+          next.addAll(node.children);
+        }
+      }
+      level = next;
+    }
+    return null;
+  }
+
+  private long search(long deadline) throws IllegalAccessException {
+    // Every worker searches below the root it was started with.
+    Node start = this.root;
+    AtomicBoolean stopped = new AtomicBoolean(false);
+    AtomicLong played = new AtomicLong();
+    CountDownLatch finished = new CountDownLatch(this.workers);
+    AtomicBoolean[] claims = new AtomicBoolean[this.workers];
+    List<Future<Void>> running = new ArrayList<>();
+    Throwable failure = null;
+    try {
+      for (int i = 0; i < this.workers; i++) {
+        SplittableRandom workerRandom = this.random.split();
+        AtomicBoolean claim = new AtomicBoolean(false);
+        claims[i] = claim;
+        Callable<Void> worker = () -> {
+          // A worker stopped before it started does not touch the tree.
+          if (!claim.compareAndSet(false, true)) {
+            return null;
+          }
+          long count = 0;
+          try {
+            do {
+              Node leaf;
+              synchronized (this.treeLock) {
+                leaf = select(start, workerRandom);
+              }
+              String winner = rollout(leaf.state, workerRandom);
+              synchronized (this.treeLock) {
+                backup(leaf, winner);
+              }
+              count++;
+            } while (System.nanoTime() < deadline && !stopped.get());
+          } finally {
+            played.addAndGet(count);
+            finished.countDown();
+          }
+          return null;
+        };
+        running.add(this.pool.submit(worker));
+      }
+      for (Future<Void> worker : running) {
+        worker.get();
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException exception) {
+      failure = exception.getCause();
+    } finally {
+      // Cancel the workers not started and wait for the others, so the tree is
+      // left alone once the search returns.
+      stopped.set(true);
+      for (int i = 0; i < this.workers; i++) {
+        if (Objects.isNull(claims[i]) || claims[i].compareAndSet(false, true)) {
+          if (i < running.size()) {
+            running.get(i).cancel(false);
+          }
+          finished.countDown();
+        }
+      }
+      awaitWorkers(finished);
+    }
+    if (failure instanceof IllegalAccessException) {
+      throw (IllegalAccessException) failure;
+    }
+    if (Objects.nonNull(failure)) {
+      throw new IllegalStateException(failure);
+    }
+    return played.get();
+  }
+
+  // Waits for the workers even when interrupted, keeping the interrupt.
+  private static void awaitWorkers(CountDownLatch finished) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        finished.await();
+        break;
+      } catch (InterruptedException exception) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Walks down by UCT to a state not searched yet and adds it. Every state on
+  // the way counts the visit now, so the other workers spread out.
+  private Node select(Node start, SplittableRandom workerRandom)
+      throws IllegalAccessException {
+    Node node = start;
+    node.visits++;
+    while (!node.state.isGameOver()) {
+      if (node.untriedCount > 0) {
+        int index = workerRandom.nextInt(node.untriedCount);
+        int code = node.untried[index];
+        node.untried[index] = node.untried[--node.untriedCount];
+        Node child = new Node(node, code, node.state.getCurrentPlayer(), play(node.state, code));
+        node.children.add(child);
+        child.visits++;
+        return child;
+      }
+      double logVisits = Math.log(node.visits);
+      Node best = null;
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (Node child : node.children) {
+        double value = child.wins / child.visits
+            + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (value > bestValue) {
+          bestValue = value;
+          best = child;
+        }
+      }
+      node = best;
+      node.visits++;
+    }
+    return node;
+  }
+
+  // Counts a won game for the moves of the winner on the way back. When the
+  // target escapes, or is still alive after the random game, nobody won.
+  private void backup(Node leaf, String winner) {
+    if (Objects.isNull(winner)) {
+      return;
+    }
+    for (Node node = leaf; Objects.nonNull(node.parent); node = node.parent) {
+      if (winner.equals(node.state.getPlayerName(node.player))) {
+        node.wins += 1;
+      }
+    }
+  }
+
+  private static String rollout(GameState start, SplittableRandom workerRandom)
+      throws IllegalAccessException {
+    GameState state = start;
+    for (int turn = 0; turn < ROLLOUT_TURNS && !state.isGameOver(); turn++) {
+      state = randomMove(state, workerRandom);
+    }
+    return state.getWinner();
+  }
+
+  private static GameState randomMove(GameState state, SplittableRandom workerRandom)
+      throws IllegalAccessException {
+    int player = state.getCurrentPlayer();
+    if (state.isTargetPresent() && !state.isCurrentPlayerSeen()) {
+      return state.attemptKill(strongest(state, state.getItemsOfPlayer(player)));
+    }
+    while (true) {
+      switch (workerRandom.nextInt(4)) {
+        case MOVE:
+          int[] rooms = state.getRoomsToMove();
+          if (rooms.length > 0) {
+            return state.move(rooms[workerRandom.nextInt(rooms.length)]);
+          }
+          break;
+        case PICK:
+          int[] items = state.getItemsInRoom(state.getPlayerLocation(player));
+          if (items.length > 0 && canPick(state, player)) {
+            return state.pick(strongest(state, items));
+          }
+          break;
+        case LOOK:
+          return state.look();
+        default:
+          return state.movePet(workerRandom.nextInt(state.getNumberOfRooms()));
+      }
+    }
+  }
+
+  private static int strongest(GameState state, int[] items) {
+    int best = GameState.POKE;
+    for (int item : items) {
+      if (best == GameState.POKE || state.getItemDamage(item) > state.getItemDamage(best)) {
+        best = item;
+      }
+    }
+    return best;
+  }
+
+  private static boolean canPick(GameState state, int player) {
+    int capacity = state.getPlayerCapacity(player);
+    return capacity < 0 || state.getItemsOfPlayer(player).length < capacity;
+  }
+
+  // The moves of the current player searched in the tree, as the kind of the
+  // move in the low bits and the room or item above them.
+  private static int[] moves(GameState state) throws IllegalAccessException {
+    if (state.isGameOver()) {
+      return new int[0];
+    }
+    int player = state.getCurrentPlayer();
+    int location = state.getPlayerLocation(player);
+    int[] rooms = state.getRoomsToMove();
+    int[] roomItems = canPick(state, player) ? state.getItemsInRoom(location) : new int[0];
+    int[] carried = state.isTargetPresent() && !state.isCurrentPlayerSeen()
+        ? state.getItemsOfPlayer(player) : null;
+    boolean hidePlayer = state.getTargetPetLocation() != location;
+    int[] codes = new int[rooms.length + roomItems.length + 1 + (hidePlayer ? 1 : 0)
+        + (Objects.isNull(carried) ? 0 : carried.length + 1)];
+    int count = 0;
+    for (int room : rooms) {
+      codes[count++] = encode(MOVE, room);
+    }
+    for (int item : roomItems) {
+      codes[count++] = encode(PICK, item);
+    }
+    codes[count++] = encode(LOOK, 0);
+    if (hidePlayer) {
+      codes[count++] = encode(MOVEPET, location);
+    }
+    if (Objects.nonNull(carried)) {
+      for (int item : carried) {
+        codes[count++] = encode(KILL, item);
+      }
+      codes[count++] = encode(KILL, GameState.POKE);
+    }
+    return codes;
+  }
+
+  private static int encode(int kind, int value) {
+    return (value + 1) << KIND_BITS | kind;
+  }
+
+  private static int kind(int code) {
+    return code & ((1 << KIND_BITS) - 1);
+  }
+
+  private static int value(int code) {
+    return (code >> KIND_BITS) - 1;
+  }
+
+  private static GameState play(GameState state, int code) throws IllegalAccessException {
+    switch (kind(code)) {
+      case MOVE:
+        return state.move(value(code));
+      case PICK:
+        return state.pick(value(code));
+      case LOOK:
+        return state.look();
+      case MOVEPET:
+        return state.movePet(value(code));
+      default:
+        return state.attemptKill(value(code));
+    }
+  }
+
+  private static ComputerMove toComputerMove(GameState state, int code) {
+    switch (kind(code)) {
+      case MOVE:
+        return new ComputerMove(Action.MOVE, state.getRoomName(value(code)));
+      case PICK:
+        return new ComputerMove(Action.PICK, state.getItemName(value(code)));
+      case LOOK:
+        return new ComputerMove(Action.LOOK, null);
+      case MOVEPET:
+        return new ComputerMove(Action.MOVEPET, state.getRoomName(value(code)));
+      default:
+        return new ComputerMove(Action.KILL, value(code) == GameState.POKE ? Constants.POKING
+            : state.getItemName(value(code)));
+    }
+  }
+}
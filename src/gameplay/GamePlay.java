@@ -1,12 +1,21 @@
 package gameplay;
 
+import controller.ComputerPlayerInput;
 import controller.MansionConsoleController;
 import controller.MansionGuiController;
-import java.io.BufferedReader;
-import java.io.FileReader;
+import controller.MctsComputerPlayer;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import journal.EventJournal;
+import journal.FsyncPolicy;
 import mansion.Mansion;
 import mansion.MansionBuilder;
 import utils.Constants;
@@ -20,38 +29,89 @@ import view.MansionGuiView;
  *
  */
 public class GamePlay {
+  private static final String SEED = "--seed";
+  private static final String LOG = "--log";
+  private static final String JOURNAL = "--journal";
+  private static final String MCTS_MILLIS = "--mcts-ms";
+  private static final Set<String> OPTIONS = Set.of(SEED, LOG, JOURNAL, MCTS_MILLIS);
 
   /**
    * Driver Method to play game.
    * 
-   * @param args file name containing the world specification and the total number
-   *             of turns for the game.
+   * @param args file name containing the world specification, the total number
+   *             of turns for the game, the maximum number of players and the
+   *             game mode, followed by any of the options --seed= for the seed
+   *             of the computer players, --log= for the log file of the GUI,
+   *             --journal= for the event journal of the games and --mcts-ms=
+   *             for the milliseconds the computer players of the GUI search
+   *             every move.
    */
   public static void main(String[] args) {
     try {
-      if (args.length != 4) {
+      if (args.length < 4) {
         throw new IllegalArgumentException(
             "Incorrect number of arguments passed. Validate arguments against README.");
       }
-      FileReader fileReader = new FileReader(args[0]);
       int numberOfTurns = Integer.parseInt(args[1]);
       int maxPlayers = Integer.parseInt(args[2]);
       String gameMode = args[3];
+      Map<String, String> options = readOptions(args, 4);
+      if (Constants.TEXT.equalsIgnoreCase(gameMode)
+          && (options.containsKey(LOG) || options.containsKey(MCTS_MILLIS))) {
+        throw new IllegalArgumentException(
+            "Options " + LOG + " and " + MCTS_MILLIS + " are only for the GUI.");
+      }
+      ComputerPlayerInput computerPlayer = options.containsKey(SEED)
+          ? new ComputerPlayerInput(Long.parseLong(options.get(SEED)))
+          : new ComputerPlayerInput();
 
-      BufferedReader br = new BufferedReader(fileReader);
-
-      MansionBuilder builder = new MansionBuilder().readConfigFile(br)
-          .setMaximumNumberOfPlayers(maxPlayers).setNumberOfTurns(numberOfTurns);
+      Path world = Path.of(args[0]);
+      MansionBuilder builder = new MansionBuilder();
+      if (world.toString().endsWith(MansionBuilder.COMPILED_WORLD_EXTENSION)) {
+        builder.readCompiledWorld(world);
+      } else {
+        builder.readConfigFile(world);
+      }
+      builder.setMaximumNumberOfPlayers(maxPlayers).setNumberOfTurns(numberOfTurns);
+      if (options.containsKey(JOURNAL)) {
+        EventJournal journal = new EventJournal(Path.of(options.get(JOURNAL)),
+            FsyncPolicy.PERIODIC);
+        builder.setGameEvents(journal);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+          try {
+            journal.close();
+          } catch (IOException exception) {
+            System.out.println(exception.getMessage());
+          }
+        }));
+      }
       Mansion mansion = builder.build();
 
-      if (Constants.GUI.equalsIgnoreCase(gameMode)) {
-        new MansionGuiController(mansion, builder, new MansionGuiView("Kill Doctor Lucky"))
-            .playGame();
+      if (Constants.GUI.equalsIgnoreCase(gameMode)
+          || Constants.PAINTED_GUI.equalsIgnoreCase(gameMode)) {
+        boolean paintedBoard = Constants.PAINTED_GUI.equalsIgnoreCase(gameMode);
+        MansionGuiController controller = new MansionGuiController(mansion, builder,
+            new MansionGuiView("Kill Doctor Lucky", paintedBoard), computerPlayer);
+        if (options.containsKey(LOG)) {
+          controller.setLogFile(Path.of(options.get(LOG)));
+        }
+        if (options.containsKey(MCTS_MILLIS)) {
+          long seed = options.containsKey(SEED) ? Long.parseLong(options.get(SEED))
+              : new SplittableRandom().nextLong();
+          // The search holds its workers for the whole time of a move, so it
+          // gets a pool of its own.
+          int workers = Runtime.getRuntime().availableProcessors();
+          ExecutorService searchPool = Executors.newFixedThreadPool(workers);
+          Runtime.getRuntime().addShutdownHook(new Thread(searchPool::shutdownNow));
+          controller.setComputerStrategy(new MctsComputerPlayer(searchPool, workers,
+              Long.parseLong(options.get(MCTS_MILLIS)), seed));
+        }
+        controller.playGame();
       } else if (Constants.TEXT.equalsIgnoreCase(gameMode)) {
         Readable input = new InputStreamReader(System.in);
         Appendable output = System.out;
-        new MansionConsoleController(input, mansion, builder, new MansionConsoleView(output))
-            .playGame();
+        new MansionConsoleController(input, mansion, builder, new MansionConsoleView(output),
+            computerPlayer).playGame();
       } else {
         throw new IllegalArgumentException("Invalid Game Mode.");
       }
@@ -61,4 +121,27 @@ public class GamePlay {
       System.out.println(exception.getMessage());
     }
   }
+
+  // The options after the positional arguments by their names, such as
+  // --seed=42.
+  private static Map<String, String> readOptions(String[] args, int first)
+      throws IllegalArgumentException {
+    Map<String, String> options = new HashMap<>();
+    for (int i = first; i < args.length; i++) {
+      int equals = args[i].indexOf('=');
+      String name = equals < 0 ? args[i] : args[i].substring(0, equals);
+      if (!OPTIONS.contains(name)) {
+        throw new IllegalArgumentException(
+            "Unknown option " + args[i] + ". Validate arguments against README.");
+      }
+      if (equals < 0 || equals == args[i].length() - 1) {
+        throw new IllegalArgumentException("Option " + name + " has no value.");
+      }
+      if (options.containsKey(name)) {
+        throw new IllegalArgumentException("Option " + name + " is given more than once.");
+      }
+      options.put(name, args[i].substring(equals + 1));
+    }
+    return options;
+  }
 }
@@ -0,0 +1,61 @@
+package gameplay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import journal.EventJournal;
+import journal.FsyncPolicy;
+import mansion.MansionBuilder;
+import simulation.BatchSimulation;
+
+/**
+ * Driver class to run headless batches of computer player games.
+ */
+public class SimulationPlay {
+
+  /**
+   * Driver Method to run a batch of simulated games.
+   * 
+   * @param args file name containing the world specification, the total number
+   *             of turns for every game, the number of computer players, the
+   *             number of games, the seed of the batch, the number of
+   *             threads and optionally the event journal of the games.
+   */
+  public static void main(String[] args) {
+    try {
+      if (args.length < 6 || args.length > 7) {
+        throw new IllegalArgumentException(
+            "Incorrect number of arguments passed. Validate arguments against README.");
+      }
+      int numberOfTurns = Integer.parseInt(args[1]);
+      int numberOfPlayers = Integer.parseInt(args[2]);
+      int numberOfGames = Integer.parseInt(args[3]);
+      long seed = Long.parseLong(args[4]);
+      int threads = Integer.parseInt(args[5]);
+
+      Path world = Path.of(args[0]);
+      MansionBuilder builder = new MansionBuilder();
+      if (world.toString().endsWith(MansionBuilder.COMPILED_WORLD_EXTENSION)) {
+        builder.readCompiledWorld(world);
+      } else {
+        builder.readConfigFile(world);
+      }
+      builder.setMaximumNumberOfPlayers(numberOfPlayers).setNumberOfTurns(numberOfTurns);
+
+      if (args.length == 7) {
+        try (EventJournal journal = new EventJournal(Path.of(args[6]), FsyncPolicy.NEVER)) {
+          builder.setGameEvents(journal);
+          System.out.println(new BatchSimulation(builder, numberOfPlayers)
+              .run(numberOfGames, seed, threads));
+        }
+      } else {
+        System.out.println(new BatchSimulation(builder, numberOfPlayers)
+            .run(numberOfGames, seed, threads));
+      }
+
+    } catch (IllegalArgumentException | IOException | NullPointerException | IllegalStateException
+        | NoSuchElementException exception) {
+      System.out.println(exception.getMessage());
+    }
+  }
+}
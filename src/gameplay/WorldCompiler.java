@@ -0,0 +1,35 @@
+package gameplay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import mansion.MansionBuilder;
+
+/**
+ * Driver class to compile a world specification into a compiled world file,
+ * which loads without parsing text or building the map of the Mansion.
+ */
+public class WorldCompiler {
+
+  /**
+   * Driver Method to compile a world specification.
+   * 
+   * @param args file name containing the world specification and file name of
+   *             the compiled world file to write.
+   */
+  public static void main(String[] args) {
+    try {
+      if (args.length != 2) {
+        throw new IllegalArgumentException(
+            "Incorrect number of arguments passed. Validate arguments against README.");
+      }
+      new MansionBuilder().setParallelBuild(true).readConfigFile(Path.of(args[0]))
+          .writeCompiledWorld(Path.of(args[1]));
+      System.out.println("Compiled " + args[0] + " to " + args[1]);
+
+    } catch (IllegalArgumentException | IOException | NullPointerException | IllegalStateException
+        | NoSuchElementException exception) {
+      System.out.println(exception.getMessage());
+    }
+  }
+}
@@ -0,0 +1,462 @@
+package journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only journal writing every event of a game as a compact binary record
+ * to a file.
+ *
+ * <p>The records are put into a batch in memory, which costs no I/O. A batch is
+ * committed when it is full or when it is older than the maximum delay: a
+ * writer thread writes it with one write on the file channel and forces it to
+ * the disk as the fsync policy says, while the game goes on filling the next
+ * batch. The game waits only when all batches are waiting to be written.
+ *
+ * <p>Every batch is written as a frame of its length and CRC-32 followed by its
+ * records, so a batch cut short by a crash is found and left out by the
+ * reader. See JournalReader for the format of the records.
+ *
+ * <p>The journal never throws into the game recording the events. When the
+ * file cannot be written, the first failure is kept and the events from then
+ * on are left out; close throws the failure and getFailure gives it.
+ */
+public final class EventJournal implements GameEvents, Closeable {
+  static final int MAGIC = 0x4b444c32;
+  static final int FRAME_HEADER = 8;
+  static final int MAXIMUM_BATCH_SIZE = 1 << 24;
+  static final byte PLAYER_ADDED = 1;
+  static final byte MOVED = 2;
+  static final byte PICKED = 3;
+  static final byte LOOKED = 4;
+  static final byte PET_MOVED = 5;
+  static final byte KILL_ATTEMPTED = 6;
+  static final byte TARGET_MOVED = 7;
+  static final byte PET_WANDERED = 8;
+  static final byte GAME_STARTED = 9;
+
+  private static final int DEFAULT_BATCH_SIZE = 1 << 16;
+  private static final int MAXIMUM_NAME_LENGTH = 0xffff;
+  private static final int DEFAULT_MAXIMUM_DELAY = 10;
+  private static final int MINIMUM_BATCH_SIZE = 1 << 10;
+  private static final int BATCHES = 4;
+  private static final long FORCE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+  private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+  private final FileChannel channel;
+  private final FsyncPolicy policy;
+  private final int maximumDelay;
+  private final ReentrantLock lock;
+  private final BlockingQueue<ByteBuffer> free;
+  private final BlockingQueue<ByteBuffer> committed;
+  private final Thread writer;
+  private ByteBuffer batch;
+  private long events;
+  private boolean closed;
+  private final AtomicReference<IOException> failure;
+
+  /**
+   * Opens a journal committing batches of 64 KB at least every 10
+   * milliseconds. Events are appended to the events already in the file.
+   *
+   * @param file   the journal file, created when it does not exist.
+   * @param policy when the events are forced to the disk.
+   * @throws NullPointerException when file or policy is NULL.
+   * @throws IOException          when the file cannot be opened or is not a
+   *                              journal.
+   */
+  public EventJournal(Path file, FsyncPolicy policy) throws NullPointerException, IOException {
+    this(file, policy, DEFAULT_BATCH_SIZE, DEFAULT_MAXIMUM_DELAY);
+  }
+
+  /**
+   * Opens a journal. Events are appended to the events already in the file,
+   * after leaving out a batch cut short at its end.
+   *
+   * @param file         the journal file, created when it does not exist.
+   * @param policy       when the events are forced to the disk.
+   * @param batchSize    size of a batch in bytes.
+   * @param maximumDelay milliseconds an event waits at most before its batch is
+   *                     committed.
+   * @throws NullPointerException     when file or policy is NULL.
+   * @throws IllegalArgumentException when batch size is smaller than 1 KB or
+   *                                  larger than 16 MB, or maximum delay is
+   *                                  negative or zero.
+   * @throws IOException              when the file cannot be opened or is not
+   *                                  a journal.
+   */
+  public EventJournal(Path file, FsyncPolicy policy, int batchSize, int maximumDelay)
+      throws NullPointerException, IllegalArgumentException, IOException {
+    Objects.requireNonNull(file);
+    Objects.requireNonNull(policy);
+    if (batchSize < MINIMUM_BATCH_SIZE || batchSize > MAXIMUM_BATCH_SIZE) {
+      throw new IllegalArgumentException("Batch size must be between 1 KB and 16 MB.");
+    }
+    if (maximumDelay <= 0) {
+      throw new IllegalArgumentException("Maximum delay cannot be Negative or Zero.");
+    }
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    try {
+      if (this.channel.size() == 0) {
+        this.channel.write(ByteBuffer.allocate(4).putInt(0, MAGIC));
+      } else {
+        this.channel.truncate(JournalReader.read(this.channel, GameEvents.NONE)[1]);
+      }
+      this.channel.position(this.channel.size());
+    } catch (IOException | RuntimeException e) {
+      this.channel.close();
+      throw e;
+    }
+    this.policy = policy;
+    this.maximumDelay = maximumDelay;
+    this.lock = new ReentrantLock();
+    this.free = new LinkedBlockingQueue<>();
+    this.committed = new LinkedBlockingQueue<>();
+    for (int i = 1; i < BATCHES; i++) {
+      this.free.add(ByteBuffer.allocateDirect(batchSize));
+    }
+    this.batch = ByteBuffer.allocateDirect(batchSize);
+    this.events = 0;
+    this.closed = false;
+    this.failure = new AtomicReference<>();
+    this.writer = new Thread(this::writeBatches, "Event Journal");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  @Override
+  public void gameStarted(int game, int turns, int maxPlayers) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(GAME_STARTED, game, 8);
+      if (Objects.nonNull(record)) {
+        record.putInt(turns).putInt(maxPlayers);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void playerAdded(int game, String name, int room, int capacity, boolean isHuman) {
+    byte[] bytes = encode(name);
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(PLAYER_ADDED, game, 11 + bytes.length);
+      if (Objects.nonNull(record)) {
+        record.putInt(room).putInt(capacity).put((byte) (isHuman ? 1 : 0))
+            .putShort((short) bytes.length).put(bytes);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void moved(int game, int player, int room) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(MOVED, game, 8);
+      if (Objects.nonNull(record)) {
+        record.putInt(player).putInt(room);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void picked(int game, int player, String item) {
+    byte[] bytes = encode(item);
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(PICKED, game, 6 + bytes.length);
+      if (Objects.nonNull(record)) {
+        record.putInt(player).putShort((short) bytes.length).put(bytes);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void looked(int game, int player) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(LOOKED, game, 4);
+      if (Objects.nonNull(record)) {
+        record.putInt(player);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void petMoved(int game, int player, int room) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(PET_MOVED, game, 8);
+      if (Objects.nonNull(record)) {
+        record.putInt(player).putInt(room);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void killAttempted(int game, int player, String item, boolean hit) {
+    byte[] bytes = encode(item);
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(KILL_ATTEMPTED, game, 7 + bytes.length);
+      if (Objects.nonNull(record)) {
+        record.putInt(player).put((byte) (hit ? 1 : 0)).putShort((short) bytes.length)
+            .put(bytes);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void targetMoved(int game, int room) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(TARGET_MOVED, game, 4);
+      if (Objects.nonNull(record)) {
+        record.putInt(room);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  @Override
+  public void petWandered(int game, int room) {
+    this.lock.lock();
+    try {
+      ByteBuffer record = reserve(PET_WANDERED, game, 4);
+      if (Objects.nonNull(record)) {
+        record.putInt(room);
+      }
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  // A name too long for its two length bytes is cut short to fit; the record
+  // is still written so the events after it read back the same.
+  private static byte[] encode(String name) {
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    return bytes.length > MAXIMUM_NAME_LENGTH ? Arrays.copyOf(bytes, MAXIMUM_NAME_LENGTH)
+        : bytes;
+  }
+
+  /**
+   * Makes room in the batch for a record and writes its type and game,
+   * committing the batch first when the record does not fit. The game is never
+   * stopped by the journal: when the journal is closed, has failed or the
+   * record is larger than a batch, the failure is kept for close and
+   * getFailure, and this and every later event are left out.
+   *
+   * @return the batch to write the fields of the record into, NULL when the
+   *         event is left out.
+   */
+  private ByteBuffer reserve(byte type, int game, int size) {
+    if (this.closed) {
+      fail(new IOException("Journal is closed."));
+      return null;
+    }
+    if (Objects.nonNull(this.failure.get())) {
+      return null;
+    }
+    if (this.batch.remaining() < size + 5) {
+      if (this.batch.capacity() < size + 5) {
+        fail(new IOException("Event is too large for a batch."));
+        return null;
+      }
+      this.committed.add(this.batch);
+      this.batch = takeFree();
+    }
+    this.events++;
+    return this.batch.put(type).putInt(game);
+  }
+
+  private void fail(IOException exception) {
+    this.failure.compareAndSet(null, exception);
+  }
+
+  private ByteBuffer takeFree() {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        try {
+          return this.free.take();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Takes the batch being filled when it has events and the game is not
+   * recording one right now.
+   */
+  private ByteBuffer takePartialBatch() {
+    if (!this.lock.tryLock()) {
+      return null;
+    }
+    try {
+      if (this.closed || this.batch.position() == 0) {
+        return null;
+      }
+      ByteBuffer next = this.free.poll();
+      if (Objects.isNull(next)) {
+        return null;
+      }
+      ByteBuffer partial = this.batch;
+      this.batch = next;
+      return partial;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  private void writeBatches() {
+    ByteBuffer header = ByteBuffer.allocateDirect(FRAME_HEADER);
+    long lastForce = System.nanoTime();
+    boolean unforced = false;
+    // After a failed write nothing more is written, so the journal has no gap.
+    boolean writeFailed = false;
+    while (true) {
+      ByteBuffer next;
+      try {
+        next = this.committed.poll(this.maximumDelay, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        continue;
+      }
+      if (Objects.isNull(next)) {
+        next = takePartialBatch();
+      }
+      if (next == END) {
+        return;
+      }
+      try {
+        if (Objects.nonNull(next) && !writeFailed) {
+          writeFrame(header, next);
+          unforced = true;
+        }
+        long now = System.nanoTime();
+        if (unforced && (this.policy == FsyncPolicy.EVERY_BATCH
+            || this.policy == FsyncPolicy.PERIODIC && now - lastForce >= FORCE_INTERVAL)) {
+          this.channel.force(false);
+          lastForce = now;
+          unforced = false;
+        }
+      } catch (IOException e) {
+        writeFailed = true;
+        fail(e);
+      }
+      if (Objects.nonNull(next)) {
+        next.clear();
+        this.free.add(next);
+      }
+    }
+  }
+
+  private void writeFrame(ByteBuffer header, ByteBuffer records) throws IOException {
+    records.flip();
+    header.clear();
+    header.putInt(records.remaining()).putInt(JournalReader.checksum(records)).flip();
+    ByteBuffer[] frame = { header, records };
+    while (records.hasRemaining()) {
+      this.channel.write(frame);
+    }
+  }
+
+  /**
+   * Gets the number of events recorded since the journal was opened.
+   *
+   * @return number of events.
+   */
+  public long getEventCount() {
+    this.lock.lock();
+    try {
+      return this.events;
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * Commits the events recorded so far, forces the journal to the disk and
+   * closes it. Closing a closed journal does nothing.
+   *
+   * @throws IOException when the journal could not be written.
+   */
+  @Override
+  public void close() throws IOException {
+    this.lock.lock();
+    try {
+      if (this.closed) {
+        return;
+      }
+      this.closed = true;
+      if (this.batch.position() > 0) {
+        this.committed.add(this.batch);
+      }
+      this.committed.add(END);
+    } finally {
+      this.lock.unlock();
+    }
+    boolean interrupted = false;
+    while (this.writer.isAlive()) {
+      try {
+        this.writer.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    try (FileChannel file = this.channel) {
+      IOException failed = this.failure.get();
+      if (Objects.nonNull(failed)) {
+        throw failed;
+      }
+      file.force(true);
+    }
+  }
+
+  /**
+   * Gets the first failure of the journal: the file could not be written, an
+   * event was too large for a batch or came after the journal was closed. The
+   * events from the failure on are not in the journal.
+   *
+   * @return the failure, NULL when the journal has every event.
+   */
+  public IOException getFailure() {
+    return this.failure.get();
+  }
+}
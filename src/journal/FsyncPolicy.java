@@ -0,0 +1,25 @@
+package journal;
+
+/**
+ * When the event journal forces the events it wrote to the disk. Forcing more
+ * often loses fewer events when the machine crashes, and costs a disk flush
+ * every time.
+ */
+public enum FsyncPolicy {
+  /**
+   * Never forces while the game runs, the operating system writes the events
+   * when it wants to. The journal is forced when it is closed.
+   */
+  NEVER,
+
+  /**
+   * Forces at most once a second, losing at most about a second of events.
+   */
+  PERIODIC,
+
+  /**
+   * Forces after every batch of events, so a batch is on the disk before the
+   * next one is written.
+   */
+  EVERY_BATCH;
+}
@@ -0,0 +1,111 @@
+package journal;
+
+/**
+ * Receiver of every change of the state of a game. The Mansion tells it about
+ * every action of a player once the action is done, followed by the moves of
+ * the target and the pet that the action caused. Players and rooms are given
+ * by their numbers, which are their positions in the lists of players and
+ * rooms of the Mansion.
+ *
+ * <p>Every event carries the number of its game, given when the game started,
+ * so the events of games played at the same time, such as the games of a batch
+ * simulation, can be told apart. No two games of a program have the same
+ * number.
+ */
+public interface GameEvents {
+  /**
+   * Receiver doing nothing, used when the game is not journaled.
+   */
+  GameEvents NONE = new GameEvents() {
+  };
+
+  /**
+   * A new game was built, the events with its number are its events.
+   *
+   * @param game       number of the game.
+   * @param turns      number of turns of the game.
+   * @param maxPlayers maximum number of players of the game.
+   */
+  default void gameStarted(int game, int turns, int maxPlayers) {
+  }
+
+  /**
+   * A player was added to the game, at the end of the list of players.
+   *
+   * @param game     number of the game.
+   * @param name     name of the player.
+   * @param room     room the player starts in.
+   * @param capacity number of items the player can carry, -1 for no limit.
+   * @param isHuman  true if the player is a human player.
+   */
+  default void playerAdded(int game, String name, int room, int capacity, boolean isHuman) {
+  }
+
+  /**
+   * A player moved to a room.
+   *
+   * @param game   number of the game.
+   * @param player the player.
+   * @param room   the room moved to.
+   */
+  default void moved(int game, int player, int room) {
+  }
+
+  /**
+   * A player picked up an item in its room.
+   *
+   * @param game   number of the game.
+   * @param player the player.
+   * @param item   name of the item.
+   */
+  default void picked(int game, int player, String item) {
+  }
+
+  /**
+   * A player looked around its room.
+   *
+   * @param game   number of the game.
+   * @param player the player.
+   */
+  default void looked(int game, int player) {
+  }
+
+  /**
+   * A player moved the pet to a room.
+   *
+   * @param game   number of the game.
+   * @param player the player.
+   * @param room   the room the pet was moved to.
+   */
+  default void petMoved(int game, int player, int room) {
+  }
+
+  /**
+   * A player attempted to kill the target.
+   *
+   * @param game   number of the game.
+   * @param player the player.
+   * @param item   name of the item used.
+   * @param hit    true if the target was hit, false if the player was seen.
+   */
+  default void killAttempted(int game, int player, String item, boolean hit) {
+  }
+
+  /**
+   * The target moved to its next room.
+   *
+   * @param game number of the game.
+   * @param room the room of the target.
+   */
+  default void targetMoved(int game, int room) {
+  }
+
+  /**
+   * The pet wandered to a room at the end of a turn.
+   *
+   * @param game number of the game.
+   * @param room the room of the pet.
+   */
+  default void petWandered(int game, int room) {
+  }
+}
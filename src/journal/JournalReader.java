@@ -0,0 +1,176 @@
+package journal;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the events of a journal written by EventJournal and gives them to a
+ * receiver in the order they happened.
+ *
+ * <p>The journal starts with the magic number "KDL2", followed by frames of a
+ * batch each: the length and CRC-32 of the records, then the records. Every
+ * record is its type byte and the number of its game followed by its fields,
+ * big-endian, names as their UTF-8 length in two bytes and their bytes:
+ * <ul>
+ * <li>game started: turns, maximum players.</li>
+ * <li>player added: room, capacity, human byte, name.</li>
+ * <li>moved: player, room.</li>
+ * <li>picked: player, item name.</li>
+ * <li>looked: player.</li>
+ * <li>pet moved: player, room.</li>
+ * <li>kill attempted: player, hit byte, item name.</li>
+ * <li>target moved: room.</li>
+ * <li>pet wandered: room.</li>
+ * </ul>
+ * A frame cut short or with a wrong CRC-32 ends the journal, as it is a batch
+ * which was being written when the game stopped.
+ */
+public final class JournalReader {
+
+  private JournalReader() {
+  }
+
+  /**
+   * Reads the events of a journal.
+   *
+   * @param file   the journal file.
+   * @param events the receiver of the events.
+   * @return number of events read.
+   * @throws NullPointerException when file or events is NULL.
+   * @throws IOException          when the file cannot be read or is not a
+   *                              journal.
+   */
+  public static long read(Path file, GameEvents events) throws NullPointerException, IOException {
+    Objects.requireNonNull(file);
+    Objects.requireNonNull(events);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel, events)[0];
+    }
+  }
+
+  /**
+   * Reads the events of a journal from its start.
+   *
+   * @return number of events read and length of the journal up to the last
+   *         whole frame.
+   */
+  static long[] read(FileChannel channel, GameEvents events) throws IOException {
+    ByteBuffer header = ByteBuffer.allocate(EventJournal.FRAME_HEADER);
+    header.limit(4);
+    if (!readFully(channel, header, 0) || header.getInt(0) != EventJournal.MAGIC) {
+      throw new IOException("File is not an event journal.");
+    }
+    long position = 4;
+    long count = 0;
+    ByteBuffer records = ByteBuffer.allocate(0);
+    while (true) {
+      header.clear();
+      if (!readFully(channel, header, position)) {
+        break;
+      }
+      int length = header.getInt(0);
+      if (length <= 0 || length > EventJournal.MAXIMUM_BATCH_SIZE) {
+        break;
+      }
+      if (records.capacity() < length) {
+        records = ByteBuffer.allocate(length);
+      }
+      records.clear().limit(length);
+      if (!readFully(channel, records, position + EventJournal.FRAME_HEADER)) {
+        break;
+      }
+      records.flip();
+      if (checksum(records) != header.getInt(4)) {
+        break;
+      }
+      count += readRecords(records, events);
+      position += EventJournal.FRAME_HEADER + length;
+    }
+    return new long[] { count, position };
+  }
+
+  private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long readRecords(ByteBuffer records, GameEvents events) throws IOException {
+    long count = 0;
+    try {
+      while (records.hasRemaining()) {
+        byte type = records.get();
+        int game = records.getInt();
+        switch (type) {
+          case EventJournal.GAME_STARTED:
+            events.gameStarted(game, records.getInt(), records.getInt());
+            break;
+          case EventJournal.PLAYER_ADDED: {
+            int room = records.getInt();
+            int capacity = records.getInt();
+            boolean isHuman = records.get() != 0;
+            events.playerAdded(game, readName(records), room, capacity, isHuman);
+            break;
+          }
+          case EventJournal.MOVED:
+            events.moved(game, records.getInt(), records.getInt());
+            break;
+          case EventJournal.PICKED:
+            events.picked(game, records.getInt(), readName(records));
+            break;
+          case EventJournal.LOOKED:
+            events.looked(game, records.getInt());
+            break;
+          case EventJournal.PET_MOVED:
+            events.petMoved(game, records.getInt(), records.getInt());
+            break;
+          case EventJournal.KILL_ATTEMPTED: {
+            int player = records.getInt();
+            boolean hit = records.get() != 0;
+            events.killAttempted(game, player, readName(records), hit);
+            break;
+          }
+          case EventJournal.TARGET_MOVED:
+            events.targetMoved(game, records.getInt());
+            break;
+          case EventJournal.PET_WANDERED:
+            events.petWandered(game, records.getInt());
+            break;
+          default:
+            throw new IOException("Journal has an unknown event.");
+        }
+        count++;
+      }
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Journal has an event cut short.", e);
+    }
+    return count;
+  }
+
+  private static String readName(ByteBuffer records) {
+    byte[] bytes = new byte[Short.toUnsignedInt(records.getShort())];
+    records.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Computes the CRC-32 of the remaining bytes of a buffer, leaving its
+   * position as it is.
+   */
+  static int checksum(ByteBuffer buffer) {
+    CRC32 crc = new CRC32();
+    crc.update(buffer.duplicate());
+    return (int) crc.getValue();
+  }
+}
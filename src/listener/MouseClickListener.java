@@ -4,6 +4,8 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
 /**
@@ -14,12 +16,14 @@ import java.util.function.Consumer;
  */
 public class MouseClickListener extends MouseAdapter {
   private Map<Integer, Consumer<String>> map;
+  private BiFunction<Integer, Integer, String> roomFinder;
 
   /**
    * Creates object for MouseClickListener.
    */
   public MouseClickListener() {
     this.map = new HashMap<>();
+    this.roomFinder = null;
   }
 
   /**
@@ -32,8 +36,45 @@ public class MouseClickListener extends MouseAdapter {
     this.map = actionMap;
   }
 
+  /**
+   * Set the function finding the name of the room covering a cell, used by a
+   * board that paints all rooms in one component.
+   *
+   * @param finder gives the name of the room at a row and column, NULL when no
+   *               room covers the cell.
+   * @throws NullPointerException when finder is NULL.
+   */
+  public void setRoomFinder(BiFunction<Integer, Integer, String> finder)
+      throws NullPointerException {
+    this.roomFinder = Objects.requireNonNull(finder);
+  }
+
+  /**
+   * Finds the name of the room covering a cell.
+   *
+   * @param row    row of the cell.
+   * @param column column of the cell.
+   * @return name of the room, NULL when no room covers the cell or no room
+   *         finder is set.
+   */
+  public String findRoom(int row, int column) {
+    return Objects.isNull(this.roomFinder) ? null : this.roomFinder.apply(row, column);
+  }
+
+  /**
+   * Runs the action of a mouse button on a clicked component.
+   *
+   * @param button        the mouse button.
+   * @param componentName name of the clicked component.
+   */
+  public void click(int button, String componentName) {
+    if (map.containsKey(button)) {
+      map.get(button).accept(componentName);
+    }
+  }
+
   @Override
   public void mouseClicked(MouseEvent e) {
-    map.get(e.getButton()).accept(e.getComponent().getName());
+    click(e.getButton(), e.getComponent().getName());
   }
 }
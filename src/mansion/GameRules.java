@@ -0,0 +1,69 @@
+package mansion;
+
+/**
+ * Rules of a turn shared by the Mansion and GameState, so that the states a
+ * search plays ahead follow the game the Mansion plays. The rules of seeing
+ * are in VisibilityEngine and the wandering of the pet in PetSearch.
+ */
+final class GameRules {
+  /**
+   * Damage of poking the target in the eye.
+   */
+  static final int POKE_DAMAGE = 1;
+
+  /**
+   * Result of an attack missed as the attacker was seen.
+   */
+  static final int MISSED = -1;
+
+  /**
+   * Result of an attack that cannot be made with the item.
+   */
+  static final int CANNOT_ATTACK = -2;
+
+  private GameRules() {
+  }
+
+  /**
+   * Checks if a game is over, when the target is killed or no turns are left.
+   *
+   * @param targetHealth health point of the target.
+   * @param turns        number of turns left.
+   * @return true if the game is over.
+   */
+  static boolean isGameOver(int targetHealth, int turns) {
+    return targetHealth <= 0 || turns == 0;
+  }
+
+  /**
+   * Gets the player whose turn is after a player.
+   *
+   * @param player  number of the player.
+   * @param players number of players.
+   * @return number of the next player.
+   */
+  static int nextPlayer(int player, int players) {
+    return (player + 1) % players;
+  }
+
+  /**
+   * Gets the damage an attack on the target does. An attacker seen by another
+   * player misses and keeps the item, whether it has the item or not.
+   *
+   * @param seen       if the attacker is seen.
+   * @param itemDamage damage of the item when the attacker has it, negative
+   *                   when it does not.
+   * @param poke       if the attacker pokes the target in the eye.
+   * @return the damage, MISSED when the attacker is seen, or CANNOT_ATTACK
+   *         when the attacker neither has the item nor pokes.
+   */
+  static int attackDamage(boolean seen, int itemDamage, boolean poke) {
+    if (seen) {
+      return MISSED;
+    }
+    if (itemDamage >= 0) {
+      return itemDamage;
+    }
+    return poke ? POKE_DAMAGE : CANNOT_ATTACK;
+  }
+}
@@ -0,0 +1,75 @@
+package mansion;
+
+/**
+ * State of a game at one moment, taken by Mansion.snapshot and put back by
+ * Mansion.restore. The snapshot is a compact value copy in arrays of numbers:
+ * the players with their locations, the holder of every item (a room, a
+ * player or the evidence of a kill attempt), the target, the pet with the
+ * rooms of its depth first search and the turns. It does not change while the
+ * game goes on, so it can be restored any number of times, also into other
+ * Mansions built by the same builder.
+ */
+public final class GameSnapshot {
+  final RoomGraph mansionGraph;
+  final String[] playerNames;
+  final int[] playerLocations;
+  final int[] playerCapacities;
+  final boolean[] humanPlayers;
+  final int[] itemHolders;
+  final int[] itemTicks;
+  final int itemClock;
+  final boolean[] visited;
+  final int visitedCount;
+  final int[] stack;
+  final int targetHealth;
+  final int targetLocation;
+  final int petLocation;
+  final String winner;
+  final int currentPlayer;
+  final int numberOfTurns;
+
+  /**
+   * Creates a snapshot from arrays the Mansion copied for it, which are not
+   * changed afterwards.
+   */
+  GameSnapshot(RoomGraph graph, String[] names, int[] locations, int[] capacities,
+      boolean[] humans, int[] holders, int[] ticks, int clock, boolean[] visitedRooms,
+      int visitedRoomCount, int[] roomStack, int targetHp, int targetRoom, int pet,
+      String winnerName, int current, int turns) {
+    this.mansionGraph = graph;
+    this.playerNames = names;
+    this.playerLocations = locations;
+    this.playerCapacities = capacities;
+    this.humanPlayers = humans;
+    this.itemHolders = holders;
+    this.itemTicks = ticks;
+    this.itemClock = clock;
+    this.visited = visitedRooms;
+    this.visitedCount = visitedRoomCount;
+    this.stack = roomStack;
+    this.targetHealth = targetHp;
+    this.targetLocation = targetRoom;
+    this.petLocation = pet;
+    this.winner = winnerName;
+    this.currentPlayer = current;
+    this.numberOfTurns = turns;
+  }
+
+  /**
+   * Gets the number of turns left in the game when the snapshot was taken.
+   *
+   * @return number of turns left.
+   */
+  public int getNumberOfTurns() {
+    return this.numberOfTurns;
+  }
+
+  /**
+   * Gets the number of players in the game when the snapshot was taken.
+   *
+   * @return number of players.
+   */
+  public int getNumberOfPlayers() {
+    return this.playerNames.length;
+  }
+}
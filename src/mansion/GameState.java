@@ -0,0 +1,791 @@
+package mansion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import player.Player;
+import target.Target;
+import utils.Action;
+import utils.CommonUtils;
+import utils.Constants;
+
+/**
+ * Immutable state of a game, for searching the moves ahead without changing
+ * the game being played. Every action returns a new state and leaves this
+ * state as it is. The rules are not copied from the Mansion but shared with
+ * it: the turns and attacks in GameRules, what players see in
+ * VisibilityEngine, the wandering of the pet in PetSearch and the moves of the
+ * target and item capacities of the players in their interfaces.
+ *
+ * <p>A new state shares everything that did not change with the state it was
+ * made from: the room graph and the names of the world, the lists of items of
+ * the rooms and players, and most of the rooms the pet visited. The items of
+ * the rooms and the visited rooms are kept in persistent vectors, of which an
+ * action copies only the path to the room that changed, so a state takes a few
+ * hundred bytes of its own.
+ */
+public final class GameState {
+  /**
+   * Item number of poking the target in the eye in an attempt to kill it.
+   */
+  public static final int POKE = -1;
+
+  private final World world;
+  private final String[] playerNames;
+  private final int[] playerCapacities;
+  private final boolean[] humanPlayers;
+  private final int[] playerLocations;
+  // Items of every player, the last picked up first.
+  private final IntList[] inventories;
+  private final PersistentVector<IntList> roomItems;
+  private final int targetHealth;
+  private final int targetLocation;
+  private final int petLocation;
+  private final IntList stack;
+  private final PersistentVector<Boolean> visited;
+  private final int visitedCount;
+  private final int currentPlayer;
+  private final int numberOfTurns;
+  private final int winner;
+
+  /**
+   * The parts of a game that never change, shared by all of its states.
+   */
+  static final class World {
+    private final RoomGraph mansionGraph;
+    private final BitSet[] neighborRows;
+    private final String[] roomNames;
+    private final Map<String, Integer> roomIndex;
+    private final String[] itemNames;
+    private final int[] itemDamages;
+    private final Map<String, Integer> itemIndex;
+    private final int maxNumberOfPlayers;
+    private final PersistentVector<Boolean> noRoomsVisited;
+
+    /**
+     * Creates the world of a Mansion from its rooms and items, which are not
+     * changed afterwards.
+     */
+    World(RoomGraph graph, String[] rooms, Map<String, Integer> roomNumbers, String[] items,
+        int[] damages, Map<String, Integer> itemNumbers, int maxPlayers) {
+      this.mansionGraph = graph;
+      this.neighborRows = VisibilityEngine.neighborRows(graph);
+      this.roomNames = rooms;
+      this.roomIndex = roomNumbers;
+      this.itemNames = items;
+      this.itemDamages = damages;
+      this.itemIndex = itemNumbers;
+      this.maxNumberOfPlayers = maxPlayers;
+      this.noRoomsVisited = new PersistentVector<>(rooms.length);
+    }
+  }
+
+  /**
+   * Creates a state from the parts of a game.
+   */
+  GameState(World gameWorld, String[] names, int[] capacities, boolean[] humans,
+      int[] locations, IntList[] items, PersistentVector<IntList> rooms, int health,
+      int target, int pet, IntList roomStack, PersistentVector<Boolean> visitedRooms,
+      int visitedRoomCount, int current, int turns, int winnerNumber) {
+    this.world = gameWorld;
+    this.playerNames = names;
+    this.playerCapacities = capacities;
+    this.humanPlayers = humans;
+    this.playerLocations = locations;
+    this.inventories = items;
+    this.roomItems = rooms;
+    this.targetHealth = health;
+    this.targetLocation = target;
+    this.petLocation = pet;
+    this.stack = roomStack;
+    this.visited = visitedRooms;
+    this.visitedCount = visitedRoomCount;
+    this.currentPlayer = current;
+    this.numberOfTurns = turns;
+    this.winner = winnerNumber;
+  }
+
+  /**
+   * Gets the number of rooms in the world.
+   *
+   * @return number of rooms.
+   */
+  public int getNumberOfRooms() {
+    return this.world.roomNames.length;
+  }
+
+  /**
+   * Gets the name of a room.
+   *
+   * @param room room number.
+   * @return name of the room.
+   * @throws IllegalArgumentException when room does not exist.
+   */
+  public String getRoomName(int room) throws IllegalArgumentException {
+    validateRoom(room);
+    return this.world.roomNames[room];
+  }
+
+  /**
+   * Gets the number of a room.
+   *
+   * @param roomName name of the room.
+   * @return room number.
+   * @throws NullPointerException     when room name is NULL or empty.
+   * @throws IllegalArgumentException when room does not exist.
+   */
+  public int getRoomNumber(String roomName) throws NullPointerException, IllegalArgumentException {
+    CommonUtils.stringIsEmpty(roomName, "Room name cannot be NULL or empty.");
+    Integer room = this.world.roomIndex.get(roomName);
+    if (Objects.isNull(room)) {
+      throw new IllegalArgumentException("Room name does not exist in the Mansion.");
+    }
+    return room;
+  }
+
+  /**
+   * Gets the name of an item.
+   *
+   * @param item item number.
+   * @return name of the item.
+   * @throws IllegalArgumentException when item does not exist.
+   */
+  public String getItemName(int item) throws IllegalArgumentException {
+    validateItem(item);
+    return this.world.itemNames[item];
+  }
+
+  /**
+   * Gets the damage an item does to the target.
+   *
+   * @param item item number.
+   * @return damage of the item.
+   * @throws IllegalArgumentException when item does not exist.
+   */
+  public int getItemDamage(int item) throws IllegalArgumentException {
+    validateItem(item);
+    return this.world.itemDamages[item];
+  }
+
+  /**
+   * Gets the number of players in the game.
+   *
+   * @return number of players.
+   */
+  public int getNumberOfPlayers() {
+    return this.playerNames.length;
+  }
+
+  /**
+   * Gets the number of the player whose turn it is.
+   *
+   * @return player number, 0 when there are no players.
+   */
+  public int getCurrentPlayer() {
+    return this.currentPlayer;
+  }
+
+  /**
+   * Gets the name of a player.
+   *
+   * @param player player number.
+   * @return name of the player.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public String getPlayerName(int player) throws IllegalArgumentException {
+    validatePlayer(player);
+    return this.playerNames[player];
+  }
+
+  /**
+   * Gets the item picking capacity of a player.
+   *
+   * @param player player number.
+   * @return item picking capacity, -1 when it is unlimited.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public int getPlayerCapacity(int player) throws IllegalArgumentException {
+    validatePlayer(player);
+    return this.playerCapacities[player];
+  }
+
+  /**
+   * Checks if a player is human.
+   *
+   * @param player player number.
+   * @return true if the player is human.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public boolean isHuman(int player) throws IllegalArgumentException {
+    validatePlayer(player);
+    return this.humanPlayers[player];
+  }
+
+  /**
+   * Gets the room of a player.
+   *
+   * @param player player number.
+   * @return room number.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public int getPlayerLocation(int player) throws IllegalArgumentException {
+    validatePlayer(player);
+    return this.playerLocations[player];
+  }
+
+  /**
+   * Gets the items of a player, in the order they were picked up.
+   *
+   * @param player player number.
+   * @return item numbers.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public int[] getItemsOfPlayer(int player) throws IllegalArgumentException {
+    validatePlayer(player);
+    IntList items = this.inventories[player];
+    int[] numbers = new int[IntList.size(items)];
+    for (int i = numbers.length - 1; i >= 0; i--) {
+      numbers[i] = items.head;
+      items = items.tail;
+    }
+    return numbers;
+  }
+
+  /**
+   * Gets the items in a room, in the order they were added.
+   *
+   * @param room room number.
+   * @return item numbers.
+   * @throws IllegalArgumentException when room does not exist.
+   */
+  public int[] getItemsInRoom(int room) throws IllegalArgumentException {
+    validateRoom(room);
+    IntList items = this.roomItems.get(room);
+    int[] numbers = new int[IntList.size(items)];
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = items.head;
+      items = items.tail;
+    }
+    return numbers;
+  }
+
+  /**
+   * Gets the health point of the target.
+   *
+   * @return health point, zero or less when the target is killed.
+   */
+  public int getTargetHealth() {
+    return this.targetHealth;
+  }
+
+  /**
+   * Gets the room of the target.
+   *
+   * @return room number.
+   */
+  public int getTargetLocation() {
+    return this.targetLocation;
+  }
+
+  /**
+   * Gets the room of the target pet.
+   *
+   * @return room number.
+   */
+  public int getTargetPetLocation() {
+    return this.petLocation;
+  }
+
+  /**
+   * Gets the number of turns left in the game.
+   *
+   * @return number of turns.
+   */
+  public int getNumberOfTurns() {
+    return this.numberOfTurns;
+  }
+
+  /**
+   * Checks if the game is over, when the target is killed or no turns are left.
+   *
+   * @return true if the game is over.
+   */
+  public boolean isGameOver() {
+    return GameRules.isGameOver(this.targetHealth, this.numberOfTurns);
+  }
+
+  /**
+   * Gets the winner of the game.
+   *
+   * @return name of the player who won, NULL when no one won yet.
+   */
+  public String getWinner() {
+    return this.winner == -1 ? null : this.playerNames[this.winner];
+  }
+
+  /**
+   * Gets the rooms the current player can move to, the neighbors of its room
+   * without the room of the target pet.
+   *
+   * @return room numbers.
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  public int[] getRoomsToMove() throws IllegalAccessException {
+    validatePlayers();
+    int room = this.playerLocations[this.currentPlayer];
+    RoomGraph graph = this.world.mansionGraph;
+    int[] rooms = new int[graph.degree(room)];
+    int count = 0;
+    for (int i = 0; i < rooms.length; i++) {
+      int neighbor = graph.neighbor(room, i);
+      if (VisibilityEngine.isVisible(graph, this.world.neighborRows, this.petLocation, room,
+          neighbor)) {
+        rooms[count++] = neighbor;
+      }
+    }
+    return count == rooms.length ? rooms : Arrays.copyOf(rooms, count);
+  }
+
+  /**
+   * Checks if the target is in the room of the current player.
+   *
+   * @return true if the target is in the room.
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  public boolean isTargetPresent() throws IllegalAccessException {
+    validatePlayers();
+    return this.playerLocations[this.currentPlayer] == this.targetLocation;
+  }
+
+  /**
+   * Checks if the current player is seen by any other player, when another
+   * player is in the same room or in a neighboring room, and the target pet is
+   * not in the room of the current player.
+   *
+   * @return true if the current player is seen.
+   */
+  public boolean isCurrentPlayerSeen() {
+    if (this.playerNames.length == 0) {
+      return false;
+    }
+    return VisibilityEngine.isSeen(this.world.mansionGraph, this.world.neighborRows,
+        this.petLocation, this.playerLocations, this.playerLocations.length, this.currentPlayer);
+  }
+
+  /**
+   * Adds a player to the game.
+   *
+   * @param name     name of the player.
+   * @param room     starting room of the player.
+   * @param capacity item picking capacity, -1 when it is unlimited.
+   * @param isHuman  if the player is human.
+   * @return the state with the player added.
+   * @throws NullPointerException     when name is NULL or empty.
+   * @throws IllegalArgumentException when the game has the maximum number of
+   *                                  players, the player already exists, the
+   *                                  room does not exist or the capacity is
+   *                                  negative or zero.
+   */
+  public GameState addPlayer(String name, int room, int capacity, boolean isHuman)
+      throws NullPointerException, IllegalArgumentException {
+    CommonUtils.stringIsEmpty(name, "Player name cannot be NULL or empty.");
+    if (this.playerNames.length >= this.world.maxNumberOfPlayers) {
+      throw new IllegalArgumentException("Maximum number of players limit reached.");
+    }
+    for (String player : this.playerNames) {
+      if (player.equals(name)) {
+        throw new IllegalArgumentException("This player already exists.");
+      }
+    }
+    if (room < 0 || room >= this.world.roomNames.length) {
+      throw new IllegalArgumentException("Room name does not exist in the Mansion.");
+    }
+    if (!Player.isValidCapacity(capacity)) {
+      throw new IllegalArgumentException("Starting capacity cannot be negative or zero.");
+    }
+    int players = this.playerNames.length;
+    String[] names = Arrays.copyOf(this.playerNames, players + 1);
+    names[players] = name;
+    int[] capacities = Arrays.copyOf(this.playerCapacities, players + 1);
+    capacities[players] = capacity;
+    boolean[] humans = Arrays.copyOf(this.humanPlayers, players + 1);
+    humans[players] = isHuman;
+    int[] locations = Arrays.copyOf(this.playerLocations, players + 1);
+    locations[players] = room;
+    IntList[] items = Arrays.copyOf(this.inventories, players + 1);
+    return new GameState(this.world, names, capacities, humans, locations, items,
+        this.roomItems, this.targetHealth, this.targetLocation, this.petLocation, this.stack,
+        this.visited, this.visitedCount, this.currentPlayer, this.numberOfTurns, this.winner);
+  }
+
+  /**
+   * Moves the current player to a neighboring room.
+   *
+   * @param room room to move to.
+   * @return the state after the move.
+   * @throws IllegalArgumentException when the room cannot be seen from the room
+   *                                  of the player.
+   * @throws IllegalAccessException   when there are no players in the game or
+   *                                  the game is over.
+   */
+  public GameState move(int room) throws IllegalArgumentException, IllegalAccessException {
+    validateTurn();
+    int from = this.playerLocations[this.currentPlayer];
+    if (room < 0 || room >= this.world.roomNames.length || !VisibilityEngine.isVisible(
+        this.world.mansionGraph, this.world.neighborRows, this.petLocation, from, room)) {
+      throw new IllegalArgumentException("Cannot move to "
+          + (room < 0 || room >= this.world.roomNames.length ? room : this.world.roomNames[room]));
+    }
+    int[] locations = this.playerLocations.clone();
+    locations[this.currentPlayer] = room;
+    return endTurn(locations, this.inventories, this.roomItems, this.targetHealth,
+        this.petLocation, true);
+  }
+
+  /**
+   * Picks up an item in the room of the current player.
+   *
+   * @param item item to pick up.
+   * @return the state after picking up the item.
+   * @throws IllegalArgumentException when the item is not in the room.
+   * @throws IllegalStateException    when the player has no capacity left.
+   * @throws IllegalAccessException   when there are no players in the game or
+   *                                  the game is over.
+   */
+  public GameState pick(int item)
+      throws IllegalArgumentException, IllegalStateException, IllegalAccessException {
+    validateTurn();
+    int room = this.playerLocations[this.currentPlayer];
+    IntList items = this.roomItems.get(room);
+    if (!IntList.contains(items, item)) {
+      throw new IllegalArgumentException("Cannot pickup item "
+          + (item < 0 || item >= this.world.itemNames.length ? item : this.world.itemNames[item]));
+    }
+    IntList carried = this.inventories[this.currentPlayer];
+    int capacity = this.playerCapacities[this.currentPlayer];
+    if (!Player.canPick(capacity, IntList.size(carried))) {
+      throw new IllegalStateException("No capacity to add item for player "
+          + this.playerNames[this.currentPlayer] + ".");
+    }
+    IntList[] inventory = this.inventories.clone();
+    inventory[this.currentPlayer] = new IntList(item, carried);
+    return endTurn(this.playerLocations, inventory,
+        this.roomItems.set(room, IntList.remove(items, item)), this.targetHealth,
+        this.petLocation, true);
+  }
+
+  /**
+   * Looks around the room of the current player.
+   *
+   * @return the state after looking around.
+   * @throws IllegalAccessException when there are no players in the game or the
+   *                                the game is over.
+   */
+  public GameState look() throws IllegalAccessException {
+    validateTurn();
+    return endTurn(this.playerLocations, this.inventories, this.roomItems, this.targetHealth,
+        this.petLocation, true);
+  }
+
+  /**
+   * Moves the target pet to a room.
+   *
+   * @param room room to move the pet to.
+   * @return the state after moving the pet.
+   * @throws IllegalArgumentException when the room does not exist.
+   * @throws IllegalAccessException   when there are no players in the game or
+   *                                  the game is over.
+   */
+  public GameState movePet(int room) throws IllegalArgumentException, IllegalAccessException {
+    validateTurn();
+    validateRoom(room);
+    return endTurn(this.playerLocations, this.inventories, this.roomItems, this.targetHealth,
+        room, false);
+  }
+
+  /**
+   * Attempts to kill the target with an item of the current player. The
+   * attempt fails, and the item is kept, when the player is seen.
+   *
+   * @param item item to attack with, POKE to poke the target in the eye.
+   * @return the state after the attempt.
+   * @throws IllegalArgumentException when the player does not have the item.
+   * @throws IllegalAccessException   when there are no players in the game, the
+   *                                  game is over or the target is not in the
+   *                                  room of the player.
+   */
+  public GameState attemptKill(int item) throws IllegalArgumentException, IllegalAccessException {
+    return kill(item,
+        item < 0 || item >= this.world.itemNames.length ? null : this.world.itemNames[item]);
+  }
+
+  private GameState kill(int item, String itemName)
+      throws IllegalArgumentException, IllegalAccessException {
+    validateTurn();
+    if (!isTargetPresent()) {
+      throw new IllegalAccessException("Current Player and Target are not in the same room.");
+    }
+    IntList carried = this.inventories[this.currentPlayer];
+    boolean held = IntList.contains(carried, item);
+    int damage = GameRules.attackDamage(isCurrentPlayerSeen(),
+        held ? this.world.itemDamages[item] : -1, item == POKE);
+    if (damage == GameRules.CANNOT_ATTACK) {
+      throw new IllegalArgumentException("Cannot use item "
+          + (Objects.isNull(itemName) ? String.valueOf(item) : itemName) + " to kill the target.");
+    }
+    if (damage == GameRules.MISSED) {
+      return endTurn(this.playerLocations, this.inventories, this.roomItems, this.targetHealth,
+          this.petLocation, true);
+    }
+    IntList[] inventory = this.inventories;
+    if (held) {
+      inventory = this.inventories.clone();
+      inventory[this.currentPlayer] = IntList.remove(carried, item);
+    }
+    return endTurn(this.playerLocations, inventory, this.roomItems, this.targetHealth - damage,
+        this.petLocation, true);
+  }
+
+  /**
+   * Takes a game play action with the input the Mansion takes for it: the room
+   * name to move or move the pet to, the item name to pick up or attack with,
+   * and nothing to look around.
+   *
+   * @param action game play action.
+   * @param input  room or item name, NULL for looking around.
+   * @return the state after the action.
+   * @throws NullPointerException     when action, or the input of an action
+   *                                  other than look around, is NULL.
+   * @throws IllegalArgumentException when the action is not a game play action
+   *                                  or cannot be taken with the input.
+   * @throws IllegalStateException    when the player has no capacity left.
+   * @throws IllegalAccessException   when there are no players in the game or
+   *                                  the game is over.
+   */
+  public GameState apply(Action action, String input) throws NullPointerException,
+      IllegalArgumentException, IllegalStateException, IllegalAccessException {
+    Objects.requireNonNull(action);
+    switch (action) {
+      case MOVE:
+        Integer room = Objects.isNull(input) ? null : this.world.roomIndex.get(input);
+        if (Objects.isNull(room)) {
+          validateTurn();
+          throw new IllegalArgumentException("Cannot move to " + input);
+        }
+        return move(room);
+      case PICK:
+        CommonUtils.stringIsEmpty(input, "Item name cannot be NULL or empty.");
+        Integer picked = this.world.itemIndex.get(input);
+        if (Objects.isNull(picked)) {
+          validateTurn();
+          throw new IllegalArgumentException("Cannot pickup item " + input);
+        }
+        return pick(picked);
+      case LOOK:
+        return look();
+      case MOVEPET:
+        validateTurn();
+        return movePet(getRoomNumber(input));
+      case KILL:
+        CommonUtils.stringIsEmpty(input, "Item name cannot be NULL or empty.");
+        Integer item = this.world.itemIndex.get(input);
+        if (Objects.isNull(item) || !IntList.contains(this.inventories[this.currentPlayer], item)) {
+          item = Constants.POKING.equalsIgnoreCase(input) ? POKE : -2;
+        }
+        return kill(item, input);
+      default:
+        throw new IllegalArgumentException("Action is not a game play action.");
+    }
+  }
+
+  /**
+   * Gets the names of the items of a player, in the order they were picked up.
+   *
+   * @param player player number.
+   * @return item names, which cannot be changed.
+   * @throws IllegalArgumentException when player does not exist.
+   */
+  public List<String> getItemNamesOfPlayer(int player) throws IllegalArgumentException {
+    List<String> names = new ArrayList<>();
+    for (int item : getItemsOfPlayer(player)) {
+      names.add(this.world.itemNames[item]);
+    }
+    return Collections.unmodifiableList(names);
+  }
+
+  /**
+   * Checks if another state is the same moment of a game of the same world:
+   * the same players with the same items in the same rooms, the same items in
+   * every room, the target, the pet with the rooms of its search and the turns.
+   *
+   * @param obj the other object.
+   * @return true if the states are equal.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof GameState)) {
+      return false;
+    }
+    GameState other = (GameState) obj;
+    if (this.world.mansionGraph != other.world.mansionGraph
+        || this.numberOfTurns != other.numberOfTurns
+        || this.currentPlayer != other.currentPlayer || this.winner != other.winner
+        || this.targetHealth != other.targetHealth
+        || this.targetLocation != other.targetLocation
+        || this.petLocation != other.petLocation || this.visitedCount != other.visitedCount
+        || !Arrays.equals(this.playerLocations, other.playerLocations)
+        || !Arrays.equals(this.playerNames, other.playerNames)
+        || !Arrays.equals(this.playerCapacities, other.playerCapacities)
+        || !Arrays.equals(this.humanPlayers, other.humanPlayers)
+        || !IntList.sameNumbers(this.stack, other.stack)) {
+      return false;
+    }
+    for (int i = 0; i < this.inventories.length; i++) {
+      if (!IntList.sameNumbers(this.inventories[i], other.inventories[i])) {
+        return false;
+      }
+    }
+    return this.roomItems.elementsEqual(other.roomItems, IntList::sameNumbers)
+        && this.visited.elementsEqual(other.visited, Objects::equals);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.numberOfTurns, this.currentPlayer, this.targetHealth,
+        this.targetLocation, this.petLocation, Arrays.hashCode(this.playerLocations));
+  }
+
+  // The search of the pet over the persistent lists of a state, which makes
+  // new lists and leaves the ones of the state as they are.
+  private static final class PersistentPetSearch extends PetSearch {
+    private final PersistentVector<Boolean> noRoomsVisited;
+    private IntList roomStack;
+    private PersistentVector<Boolean> visitedRooms;
+    private int count;
+
+    private PersistentPetSearch(GameState state) {
+      this.noRoomsVisited = state.world.noRoomsVisited;
+      this.roomStack = state.stack;
+      this.visitedRooms = state.visited;
+      this.count = state.visitedCount;
+    }
+
+    @Override
+    int visitedCount() {
+      return this.count;
+    }
+
+    @Override
+    boolean isVisited(int room) {
+      return Objects.nonNull(this.visitedRooms.get(room));
+    }
+
+    @Override
+    void visit(int room) {
+      if (Objects.isNull(this.visitedRooms.get(room))) {
+        this.visitedRooms = this.visitedRooms.set(room, Boolean.TRUE);
+        this.count++;
+      }
+    }
+
+    @Override
+    void clearVisited() {
+      this.visitedRooms = this.noRoomsVisited;
+      this.count = 0;
+    }
+
+    @Override
+    boolean isStackEmpty() {
+      return Objects.isNull(this.roomStack);
+    }
+
+    @Override
+    int top() {
+      return this.roomStack.head;
+    }
+
+    @Override
+    void replaceTop(int room) {
+      this.roomStack = new IntList(room, this.roomStack.tail);
+    }
+
+    @Override
+    void push(int room) {
+      this.roomStack = new IntList(room, this.roomStack);
+    }
+
+    @Override
+    int pop() {
+      int room = this.roomStack.head;
+      this.roomStack = this.roomStack.tail;
+      return room;
+    }
+
+    @Override
+    boolean isOnStack(int room) {
+      return IntList.contains(this.roomStack, room);
+    }
+  }
+
+  // Ends the turn of the current player as the Mansion does: the winner is
+  // decided, the target moves on and the pet wanders unless it was moved.
+  private GameState endTurn(int[] locations, IntList[] items, PersistentVector<IntList> rooms,
+      int health, int pet, boolean wander) {
+    int winnerNumber = GameRules.isGameOver(health, this.numberOfTurns) ? this.currentPlayer
+        : this.winner;
+    int next = GameRules.nextPlayer(this.currentPlayer, this.playerNames.length);
+    int target = Target.nextLocation(this.targetLocation, this.world.roomNames.length);
+    IntList roomStack = this.stack;
+    PersistentVector<Boolean> visitedRooms = this.visited;
+    int count = this.visitedCount;
+    int petRoom = pet;
+    if (wander) {
+      PersistentPetSearch search = new PersistentPetSearch(this);
+      petRoom = search.next(this.world.mansionGraph, pet);
+      roomStack = search.roomStack;
+      visitedRooms = search.visitedRooms;
+      count = search.count;
+    }
+    return new GameState(this.world, this.playerNames, this.playerCapacities,
+        this.humanPlayers, locations, items, rooms, health, target, petRoom, roomStack,
+        visitedRooms, count, next, this.numberOfTurns - 1, winnerNumber);
+  }
+
+  private void validatePlayers() throws IllegalAccessException {
+    if (this.playerNames.length == 0) {
+      throw new IllegalAccessException("No Players in Game.");
+    }
+  }
+
+  private void validateTurn() throws IllegalAccessException {
+    validatePlayers();
+    if (isGameOver()) {
+      throw new IllegalAccessException("Game is Over!");
+    }
+  }
+
+  private void validateRoom(int room) throws IllegalArgumentException {
+    if (room < 0 || room >= this.world.roomNames.length) {
+      throw new IllegalArgumentException("Room number does not exist in the Mansion.");
+    }
+  }
+
+  private void validateItem(int item) throws IllegalArgumentException {
+    if (item < 0 || item >= this.world.itemNames.length) {
+      throw new IllegalArgumentException("Item number does not exist in the Mansion.");
+    }
+  }
+
+  private void validatePlayer(int player) throws IllegalArgumentException {
+    if (player < 0 || player >= this.playerNames.length) {
+      throw new IllegalArgumentException("Player number does not exist in the game.");
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package mansion;
+
+/**
+ * Immutable singly linked list of numbers, shared between the game states that
+ * have the same tail. NULL is the empty list. Adding to the front shares the
+ * whole list, removing a number copies only the numbers in front of it.
+ */
+final class IntList {
+  final int head;
+  final IntList tail;
+
+  /**
+   * Creates a list with a number in front of another list.
+   *
+   * @param value number at the front.
+   * @param rest  the rest of the list, NULL when empty.
+   */
+  IntList(int value, IntList rest) {
+    this.head = value;
+    this.tail = rest;
+  }
+
+  /**
+   * Checks if a list has a number.
+   *
+   * @param list  the list, NULL when empty.
+   * @param value number to find.
+   * @return true if the number is in the list.
+   */
+  static boolean contains(IntList list, int value) {
+    for (IntList node = list; node != null; node = node.tail) {
+      if (node.head == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes the first occurrence of a number from a list.
+   *
+   * @param list  the list, NULL when empty.
+   * @param value number to remove.
+   * @return list without the number, which shares the part after it.
+   * @throws IllegalArgumentException when the number is not in the list.
+   */
+  static IntList remove(IntList list, int value) throws IllegalArgumentException {
+    if (list == null) {
+      throw new IllegalArgumentException("Number is not in the list.");
+    }
+    if (list.head == value) {
+      return list.tail;
+    }
+    return new IntList(list.head, remove(list.tail, value));
+  }
+
+  /**
+   * Checks if two lists have the same numbers in the same order.
+   *
+   * @param list  the list, NULL when empty.
+   * @param other the other list, NULL when empty.
+   * @return true if the lists are equal.
+   */
+  static boolean sameNumbers(IntList list, IntList other) {
+    IntList a = list;
+    IntList b = other;
+    // Lists sharing a tail are equal from there on.
+    while (a != b) {
+      if (a == null || b == null || a.head != b.head) {
+        return false;
+      }
+      a = a.tail;
+      b = b.tail;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of numbers in a list.
+   *
+   * @param list the list, NULL when empty.
+   * @return size of the list.
+   */
+  static int size(IntList list) {
+    int size = 0;
+    for (IntList node = list; node != null; node = node.tail) {
+      size++;
+    }
+    return size;
+  }
+}
@@ -1,8 +1,12 @@
 package mansion;
 
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntConsumer;
+import journal.GameEvents;
 
 /**
  * A mansion model of our project consists of a number of non-overlapping spaces
@@ -21,6 +25,18 @@ public interface Mansion {
    */
   BufferedImage createGraphicalRepresentation();
 
+  /**
+   * Writes the graphical representation of the Mansion as a PNG image, without
+   * creating the whole image in memory. The image is drawn and compressed in
+   * bands of rows on several threads, so very large Mansions can be saved.
+   * 
+   * @param output the stream to write the image to, which is not closed.
+   * @throws NullPointerException when output is NULL.
+   * @throws IOException          when the image cannot be written.
+   */
+  void writeGraphicalRepresentation(OutputStream output)
+      throws NullPointerException, IOException;
+
   /**
    * Determines the neighbors of any room.
    * 
@@ -33,6 +49,47 @@ public interface Mansion {
   List<String> getNeighborForRoom(String roomName)
       throws NullPointerException, IllegalArgumentException;
 
+  /**
+   * Gets the room number of a room, which is its position in the list of room
+   * names.
+   * 
+   * @param roomName the name of the room.
+   * @return the room number.
+   * @throws NullPointerException     when room name is NULL.
+   * @throws IllegalArgumentException when room does not exist.
+   */
+  int getRoomNumber(String roomName) throws NullPointerException, IllegalArgumentException;
+
+  /**
+   * Determines the neighbors of any room without creating a list. The neighbors
+   * are written to the array in ascending order of room number, leaving out
+   * the room of the target pet. An array as long as the number of rooms is
+   * always large enough.
+   * 
+   * @param roomNumber the room number for which Neighbors need to be
+   *                   determined.
+   * @param neighbors  array to write the room numbers of the neighbors to.
+   * @return the number of neighbors written to the array.
+   * @throws NullPointerException     when array is NULL.
+   * @throws IllegalArgumentException when room does not exist or the array is
+   *                                  too small to hold the neighbors.
+   */
+  int getNeighborsForRoom(int roomNumber, int[] neighbors)
+      throws NullPointerException, IllegalArgumentException;
+
+  /**
+   * Calls the consumer for every neighbor of the room in ascending order of room
+   * number, leaving out the room of the target pet.
+   * 
+   * @param roomNumber the room number for which Neighbors need to be
+   *                   determined.
+   * @param consumer   consumer for the room numbers of the neighbors.
+   * @throws NullPointerException     when consumer is NULL.
+   * @throws IllegalArgumentException when room does not exist.
+   */
+  void forEachNeighbor(int roomNumber, IntConsumer consumer)
+      throws NullPointerException, IllegalArgumentException;
+
   /**
    * Provides details of room such as its Name, Items in the room and the Rooms
    * that can be seen from this room.
@@ -304,6 +361,61 @@ public interface Mansion {
    * @return Map of Room Name with their coordinates.
    */
   Map<String, int[]> getRoomLocation();
+
+  /**
+   * Finds the room covering a cell of the Mansion, in constant time for any
+   * number of rooms.
+   * 
+   * @param row    row of the cell.
+   * @param column column of the cell.
+   * @return the room number of the room, -1 when the cell is not in any room.
+   * @throws IllegalArgumentException when the cell is outside the Mansion.
+   */
+  int roomAt(int row, int column) throws IllegalArgumentException;
+
+  /**
+   * Sets the receiver told about every change of the state of the game, such
+   * as an event journal. Every action of a player is given before the moves of
+   * the target and the pet it caused.
+   * 
+   * @param events the receiver of the events, GameEvents.NONE for none.
+   * @throws NullPointerException when events is NULL.
+   */
+  void setGameEvents(GameEvents events) throws NullPointerException;
+
+  /**
+   * Takes a snapshot of the state of the game: the players with their items
+   * and locations, the items left in the rooms, the target, the pet and the
+   * turns. The snapshot is a compact copy in arrays, cheap enough to take
+   * before every move a search tries.
+   * 
+   * @return the snapshot.
+   */
+  GameSnapshot snapshot();
+
+  /**
+   * Puts the game back into the state of a snapshot, taken from this Mansion or
+   * another Mansion built by the same builder. The snapshot is not changed.
+   * Restoring copies the arrays of the snapshot back and fills again only the
+   * rooms and players whose items changed. Restoring a snapshot taken before
+   * any player was added starts a new game, which is told to the game events.
+   * Restoring a snapshot taken after a player was added branches the game away
+   * from the events told so far, so it detaches the game events: nothing is
+   * told to them until setGameEvents is called again.
+   * 
+   * @param snapshot the snapshot to restore.
+   * @throws NullPointerException     when snapshot is NULL.
+   * @throws IllegalArgumentException when snapshot is of another world.
+   */
+  void restore(GameSnapshot snapshot) throws NullPointerException, IllegalArgumentException;
+
+  /**
+   * Gets the state of the game as an immutable GameState, on which the moves
+   * ahead can be searched without changing the game.
+   * 
+   * @return the state of the game.
+   */
+  GameState getGameState();
   
   /**
    * Returns Map of Players with their location.
@@ -2,14 +2,29 @@ package mansion;
 
 import item.Item;
 import item.ItemImpl;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import journal.GameEvents;
 import room.Room;
 import room.RoomImpl;
 import target.Target;
@@ -24,29 +39,45 @@ import utils.CommonUtils;
  * @author komalshah
  */
 public class MansionBuilder {
+  /**
+   * File extension of compiled world files written by writeCompiledWorld.
+   */
+  public static final String COMPILED_WORLD_EXTENSION = ".kdlw";
+
+  private static final int COMPILED_WORLD_MAGIC = 0x4B444C57;
+  private static final int COMPILED_WORLD_VERSION = 1;
+
   private int numberOfRows;
   private int numberOfColumns;
   private String mansionName;
   private int numberOfRooms;
   private int numberOfItems;
   private final List<Room> listOfRooms;
-  private final List<String> lisOfItemsNames;
+  private final List<Item> listOfItems;
+  private final List<Integer> listOfItemRooms;
+  private final Set<String> lisOfItemsNames;
+  private final Set<String> listOfRoomNames;
   private Target target;
   private TargetPet targetPet;
-  private final Map<Integer, Set<Integer>> mansionMap;
-  private Integer[][] roomArray;
+  private RoomGraph mansionGraph;
   private int numberOfTurns;
   private int maxNumberOfPlayers;
+  private boolean parallelBuild;
+  private GameEvents gameEvents;
 
   /**
    * Creates object for Mansion Builder.
    */
   public MansionBuilder() {
     this.listOfRooms = new ArrayList<>();
-    this.mansionMap = new HashMap<>();
-    this.lisOfItemsNames = new ArrayList<>();
+    this.listOfItems = new ArrayList<>();
+    this.listOfItemRooms = new ArrayList<>();
+    this.lisOfItemsNames = new HashSet<>();
+    this.listOfRoomNames = new HashSet<>();
     this.numberOfTurns = 0;
     this.maxNumberOfPlayers = 0;
+    this.parallelBuild = false;
+    this.gameEvents = GameEvents.NONE;
   }
 
   private void setNumberOfRows(int rows) throws IllegalArgumentException {
@@ -83,9 +114,7 @@ public class MansionBuilder {
   }
 
   private boolean validateRoomName(String roomName) {
-    Room foundRoom = this.listOfRooms.stream().filter(room -> room.getName().equals(roomName))
-        .findAny().orElse(null);
-    return Objects.isNull(foundRoom);
+    return !this.listOfRoomNames.contains(roomName);
   }
 
   private boolean validateItemName(String itemName) {
@@ -98,31 +127,20 @@ public class MansionBuilder {
     if (!validateRoomName(name)) {
       throw new IllegalArgumentException(String.format("%s room already exists.", name));
     }
-    if (topX > this.numberOfRows || bottomX > this.numberOfRows || topY > this.numberOfColumns
-        || bottomY > this.numberOfColumns) {
+    if (topX >= this.numberOfRows || bottomX >= this.numberOfRows
+        || topY >= this.numberOfColumns || bottomY >= this.numberOfColumns) {
       throw new IllegalArgumentException(
           String.format("Size of the room %s is bigger than Mansion Bounds.", name));
     }
   }
 
-  private void createRooms(int topX, int topY, int bottomX, int bottomY, String name)
+  private int addRoom(int topX, int topY, int bottomX, int bottomY, String name)
       throws IllegalArgumentException, NullPointerException {
     validateRoom(topX, topY, bottomX, bottomY, name);
     Room room = new RoomImpl(name, topX, topY, bottomX, bottomY);
     this.listOfRooms.add(room);
-    if (Objects.isNull(roomArray)) {
-      this.roomArray = new Integer[this.numberOfRows][this.numberOfColumns];
-    }
-    int currentIndex = this.listOfRooms.size() - 1;
-    for (int i = topX; i <= bottomX; i++) {
-      for (int j = topY; j <= bottomY; j++) {
-        if (Objects.nonNull(roomArray[i][j])) {
-          throw new IllegalArgumentException("Rooms are overlapping.");
-        }
-        roomArray[i][j] = currentIndex;
-      }
-    }
-    mansionMap.put(currentIndex, new HashSet<>());
+    this.listOfRoomNames.add(name);
+    return this.listOfRooms.size() - 1;
   }
 
   private Item createItem(int damage, String name)
@@ -142,6 +160,8 @@ public class MansionBuilder {
     }
     this.lisOfItemsNames.add(item.getName());
     this.listOfRooms.get(roomNumber).addItemToRoom(item);
+    this.listOfItems.add(item);
+    this.listOfItemRooms.add(roomNumber);
   }
 
   private void setTarget(int hp, String name)
@@ -153,33 +173,20 @@ public class MansionBuilder {
     this.targetPet = new TargetPetImpl(name);
   }
 
-  private void createMap() {
-    for (int i = 0; i < this.numberOfRows; i++) {
-      for (int j = 0; j < this.numberOfColumns; j++) {
-        if (Objects.isNull(this.roomArray[i][j])) {
-          continue;
-        }
-        // Checking room on the right.
-        if (j + 1 < this.numberOfColumns && Objects.nonNull(this.roomArray[i][j + 1])
-            && this.roomArray[i][j] != this.roomArray[i][j + 1]) {
-          updateMansionMap(this.roomArray[i][j], this.roomArray[i][j + 1]);
-          updateMansionMap(this.roomArray[i][j + 1], this.roomArray[i][j]);
-        }
-        // Checking room to the bottom.
-        if (i + 1 < this.numberOfRows && Objects.nonNull(this.roomArray[i + 1][j])
-            && this.roomArray[i][j] != this.roomArray[i + 1][j]) {
-          updateMansionMap(this.roomArray[i][j], this.roomArray[i + 1][j]);
-          updateMansionMap(this.roomArray[i + 1][j], this.roomArray[i][j]);
-        }
-      }
-    }
+  private void createMap() throws IllegalArgumentException {
+    this.mansionGraph = this.parallelBuild
+        ? RoomAdjacency.sweep(this.listOfRooms, ForkJoinPool.commonPool())
+        : RoomAdjacency.sweep(this.listOfRooms);
   }
 
-  private void updateMansionMap(int currentRoom, int neighbor) {
-    Set<Integer> set = this.mansionMap.get(currentRoom);
-    set.add(neighbor);
+  private Map<String, Integer> createRoomIndex(List<Room> roomList) {
+    Map<String, Integer> index = new HashMap<>();
+    for (int i = 0; i < roomList.size(); i++) {
+      index.put(roomList.get(i).getName(), i);
+    }
+    return Map.copyOf(index);
   }
-  
+
   private void validateMansion() throws IllegalArgumentException, NullPointerException {
     if (this.numberOfTurns <= 0) {
       throw new IllegalArgumentException("Number of Turns cannot be negative or zero.");
@@ -200,7 +207,7 @@ public class MansionBuilder {
     }
     Objects.requireNonNull(this.target);
     Objects.requireNonNull(this.targetPet);
-    Objects.requireNonNull(this.mansionMap);
+    Objects.requireNonNull(this.mansionGraph);
   }
 
   /**
@@ -218,6 +225,24 @@ public class MansionBuilder {
     return this;
   }
   
+  /**
+   * Gets the number of turns of the games built.
+   * 
+   * @return number of turns.
+   */
+  public int getNumberOfTurns() {
+    return this.numberOfTurns;
+  }
+
+  /**
+   * Gets the maximum number of players of the games built.
+   * 
+   * @return maximum number of players.
+   */
+  public int getMaximumNumberOfPlayers() {
+    return this.maxNumberOfPlayers;
+  }
+
   /**
    * Sets maximum number of players for the game.
    * 
@@ -233,6 +258,34 @@ public class MansionBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the overlap check and the map of the Mansion are built in
+   * parallel on the common fork join pool by the following reads of a world
+   * specification. Gives the same Mansion as the sequential build, it only
+   * pays off for worlds of many thousands of rooms.
+   * 
+   * @param parallel true to build in parallel.
+   * @return MansionBuilder The Mansion Builder Object.
+   */
+  public MansionBuilder setParallelBuild(boolean parallel) {
+    this.parallelBuild = parallel;
+    return this;
+  }
+
+  /**
+   * Sets the receiver of the events of every Mansion built, such as an event
+   * journal. Every build tells it a new game started.
+   * 
+   * @param events the receiver of the events, GameEvents.NONE for none.
+   * @return MansionBuilder The Mansion Builder Object.
+   * @throws NullPointerException when events is NULL.
+   */
+  public MansionBuilder setGameEvents(GameEvents events) throws NullPointerException {
+    Objects.requireNonNull(events);
+    this.gameEvents = events;
+    return this;
+  }
+
   /**
    * Reading the world specification and creating mansion map.
    * 
@@ -241,64 +294,275 @@ public class MansionBuilder {
    * @throws IllegalArgumentException when invalid input is passed.
    * @throws NullPointerException     when objects are NULL.
    * @throws NumberFormatException    when error occurs in parsing string to
-   *                                  integer
+   *                                  integer, with the line and column of the
+   *                                  number.
+   * @throws NoSuchElementException   when the world specification ends early.
+   * @throws IllegalStateException    when the world specification cannot be
+   *                                  read.
    */
   public MansionBuilder readConfigFile(Readable readable)
-      throws IllegalArgumentException, NullPointerException, NumberFormatException {
-    Scanner in = new Scanner(readable);
+      throws IllegalArgumentException, NullPointerException, NumberFormatException,
+      NoSuchElementException, IllegalStateException {
+    readWorld(new WorldTokenizer(readable));
+    return this;
+  }
+
+  /**
+   * Reading the world specification from a file and creating mansion map. The
+   * file is mapped into memory and parsed as UTF-8 bytes, so large generated
+   * worlds are read without holding the text of the file on the heap.
+   * 
+   * @param path path of the file containing world configuration.
+   * @return MansionBuilder The Mansion Builder Object.
+   * @throws IOException              when the file cannot be opened.
+   * @throws IllegalArgumentException when invalid input is passed.
+   * @throws NullPointerException     when objects are NULL.
+   * @throws NumberFormatException    when error occurs in parsing string to
+   *                                  integer, with the line and column of the
+   *                                  number.
+   * @throws NoSuchElementException   when the world specification ends early.
+   * @throws IllegalStateException    when the file cannot be mapped into
+   *                                  memory.
+   */
+  public MansionBuilder readConfigFile(Path path)
+      throws IOException, IllegalArgumentException, NullPointerException, NumberFormatException,
+      NoSuchElementException, IllegalStateException {
+    Objects.requireNonNull(path);
+    try (WorldTokenizer in = new WorldTokenizer(FileChannel.open(path, StandardOpenOption.READ))) {
+      readWorld(in);
+    }
+    return this;
+  }
+
+  private void readWorld(WorldTokenizer in)
+      throws IllegalArgumentException, NullPointerException, NumberFormatException,
+      NoSuchElementException, IllegalStateException {
     // Reading Mansion size and Mansion Name
-    this.setNumberOfRows(Integer.parseInt(in.next()));
-    this.setNumberOfColumns(Integer.parseInt(in.next()));
+    this.setNumberOfRows(in.nextInt());
+    this.setNumberOfColumns(in.nextInt());
     this.setMansionName(in.nextLine().trim());
 
     // Reading Target details
-    this.setTarget(Integer.parseInt(in.next()), in.nextLine().trim());
+    this.setTarget(in.nextInt(), in.nextLine().trim());
 
     // Reading Target Pet details
     this.setTargetPet(in.nextLine().trim());
 
     // Reading number of rooms
-    this.setNumberOfRooms(Integer.parseInt(in.next()));
+    this.setNumberOfRooms(in.nextInt());
 
     // Reading list of rooms
     for (int i = 0; i < this.numberOfRooms; i++) {
-      createRooms(Integer.parseInt(in.next()), Integer.parseInt(in.next()),
-          Integer.parseInt(in.next()), Integer.parseInt(in.next()), in.nextLine().trim());
+      addRoom(in.nextInt(), in.nextInt(), in.nextInt(), in.nextInt(), in.nextLine().trim());
     }
+    // Checking overlapping rooms and creating the map
+    createMap();
 
     // Reading number of items
-    this.setNumberOfItems(Integer.parseInt(in.next()));
+    this.setNumberOfItems(in.nextInt());
 
     // Reading list of items
     for (int i = 0; i < this.numberOfItems; i++) {
-      addItemsToRoom(Integer.parseInt(in.next()),
-          createItem(Integer.parseInt(in.next()), in.nextLine().trim()));
+      addItemsToRoom(in.nextInt(), createItem(in.nextInt(), in.nextLine().trim()));
     }
     in.close();
+  }
+  
+  /**
+   * Writes the world specification read by this builder as a compiled world
+   * file. The file holds the rooms, items, target, target pet and the room
+   * graph, behind a version header and followed by a CRC32 checksum, so it can
+   * be loaded with readCompiledWorld without parsing text or building the map
+   * again.
+   * 
+   * @param path path of the compiled world file to write.
+   * @return MansionBuilder The Mansion Builder Object.
+   * @throws IOException           when the file cannot be written.
+   * @throws NullPointerException  when path is NULL.
+   * @throws IllegalStateException when no world specification is read yet.
+   */
+  public MansionBuilder writeCompiledWorld(Path path)
+      throws IOException, NullPointerException, IllegalStateException {
+    Objects.requireNonNull(path);
+    if (Objects.isNull(this.mansionGraph)) {
+      throw new IllegalStateException("No world specification is read yet.");
+    }
+    try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(path))) {
+      CRC32 checksum = new CRC32();
+      DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, checksum));
+      out.writeInt(COMPILED_WORLD_MAGIC);
+      out.writeInt(COMPILED_WORLD_VERSION);
+      out.writeInt(this.numberOfRows);
+      out.writeInt(this.numberOfColumns);
+      writeString(out, this.mansionName);
+      out.writeInt(this.target.getHealthPoint());
+      writeString(out, this.target.getName());
+      writeString(out, this.targetPet.getName());
+      out.writeInt(this.numberOfRooms);
+      for (Room room : this.listOfRooms) {
+        for (int coordinate : room.getLocation()) {
+          out.writeInt(coordinate);
+        }
+        writeString(out, room.getName());
+      }
+      out.writeInt(this.listOfItems.size());
+      for (int i = 0; i < this.listOfItems.size(); i++) {
+        out.writeInt(this.listOfItemRooms.get(i));
+        out.writeInt(this.listOfItems.get(i).getDamage());
+        writeString(out, this.listOfItems.get(i).getName());
+      }
+      int offset = 0;
+      for (int room = 0; room < this.numberOfRooms; room++) {
+        out.writeInt(offset);
+        offset += this.mansionGraph.degree(room);
+      }
+      out.writeInt(offset);
+      for (int room = 0; room < this.numberOfRooms; room++) {
+        for (int i = 0; i < this.mansionGraph.degree(room); i++) {
+          out.writeInt(this.mansionGraph.neighbor(room, i));
+        }
+      }
+      out.flush();
+      new DataOutputStream(file).writeInt((int) checksum.getValue());
+    }
+    return this;
+  }
 
-    createMap();
+  /**
+   * Reading a compiled world file written by writeCompiledWorld. The room
+   * graph is taken from the file, so the map of the Mansion is not built
+   * again.
+   * 
+   * @param path path of the compiled world file.
+   * @return MansionBuilder The Mansion Builder Object.
+   * @throws IOException              when the file cannot be read.
+   * @throws NullPointerException     when path is NULL.
+   * @throws IllegalArgumentException when the file is not a compiled world,
+   *                                  has an unsupported version, does not
+   *                                  match its checksum or has invalid
+   *                                  content.
+   */
+  public MansionBuilder readCompiledWorld(Path path)
+      throws IOException, NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(path);
+    byte[] bytes = Files.readAllBytes(path);
+    if (bytes.length < 3 * Integer.BYTES) {
+      throw new IllegalArgumentException("Not a compiled world file.");
+    }
+    ByteBuffer in = ByteBuffer.wrap(bytes, 0, bytes.length - Integer.BYTES);
+    CRC32 checksum = new CRC32();
+    checksum.update(bytes, 0, bytes.length - Integer.BYTES);
+    if (in.getInt() != COMPILED_WORLD_MAGIC) {
+      throw new IllegalArgumentException("Not a compiled world file.");
+    }
+    if ((int) checksum.getValue() != ByteBuffer.wrap(bytes).getInt(bytes.length - Integer.BYTES)) {
+      throw new IllegalArgumentException("Compiled world file does not match its checksum.");
+    }
+    int version = in.getInt();
+    if (version != COMPILED_WORLD_VERSION) {
+      throw new IllegalArgumentException(
+          String.format("Unsupported compiled world version %d.", version));
+    }
+    try {
+      this.setNumberOfRows(in.getInt());
+      this.setNumberOfColumns(in.getInt());
+      this.setMansionName(readString(in));
+      this.setTarget(in.getInt(), readString(in));
+      this.setTargetPet(readString(in));
+      this.setNumberOfRooms(in.getInt());
+      for (int i = 0; i < this.numberOfRooms; i++) {
+        addRoom(in.getInt(), in.getInt(), in.getInt(), in.getInt(), readString(in));
+      }
+      this.setNumberOfItems(in.getInt());
+      for (int i = 0; i < this.numberOfItems; i++) {
+        addItemsToRoom(in.getInt(), createItem(in.getInt(), readString(in)));
+      }
+      int[] offsets = new int[this.numberOfRooms + 1];
+      in.asIntBuffer().get(offsets);
+      in.position(in.position() + offsets.length * Integer.BYTES);
+      int edges = offsets[this.numberOfRooms];
+      if (edges < 0 || edges > in.remaining() / Integer.BYTES) {
+        throw new BufferUnderflowException();
+      }
+      int[] neighbors = new int[edges];
+      in.asIntBuffer().get(neighbors);
+      in.position(in.position() + neighbors.length * Integer.BYTES);
+      if (in.hasRemaining()) {
+        throw new IllegalArgumentException("Compiled world file has unexpected content.");
+      }
+      this.mansionGraph = RoomGraph.of(offsets, neighbors);
+    } catch (BufferUnderflowException exception) {
+      throw new IllegalArgumentException("Compiled world file ends early.", exception);
+    }
     return this;
   }
-  
+
+  private static void writeString(DataOutputStream out, String string) throws IOException {
+    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(ByteBuffer in)
+      throws BufferUnderflowException, IllegalArgumentException {
+    int length = in.getInt();
+    if (length < 0 || length > in.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    String string = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+    in.position(in.position() + length);
+    return string;
+  }
+
+  /**
+   * Gets the adjacency graph of the Rooms read from the world specification.
+   * 
+   * @return the Room Graph, NULL when no world specification is read yet.
+   */
+  public RoomGraph getRoomGraph() {
+    return this.mansionGraph;
+  }
+
   /**
-   * Builds the Mansion object for the game.
+   * Builds the Mansion object for the game. Every Mansion gets its own copy of
+   * the Rooms and their items, so that games built from the same builder do
+   * not affect each other.
    * 
    * @return the Mansion Object.
    * @throws IllegalArgumentException when invalid input is passed.
    * @throws NullPointerException     when objects are NULL.
    */
   public Mansion build() throws IllegalArgumentException, NullPointerException {
+    return build(this.gameEvents);
+  }
+
+  /**
+   * Builds the Mansion object for the game with its own receiver of the events
+   * in place of the one set on the builder, which is told nothing of the game.
+   * 
+   * @param events the receiver of the events, GameEvents.NONE for none.
+   * @return the Mansion Object.
+   * @throws IllegalArgumentException when invalid input is passed.
+   * @throws NullPointerException     when events or other objects are NULL.
+   */
+  public Mansion build(GameEvents events) throws IllegalArgumentException, NullPointerException {
+    Objects.requireNonNull(events);
     validateMansion();
     String name = new String(this.mansionName);
-    List<Room> roomList = new ArrayList<>(this.listOfRooms);
+    List<Room> roomList = new ArrayList<>(this.numberOfRooms);
+    for (Room room : this.listOfRooms) {
+      roomList.add(room.copy());
+    }
     Target t = new TargetImpl(this.target.getName(), this.target.getHealthPoint());
     TargetPet tp = new TargetPetImpl(this.targetPet.getName());
-    Map<Integer, Set<Integer>> map = new HashMap<>(this.mansionMap);
-    
-    
-    return new MansionImpl(this.numberOfRows, this.numberOfColumns, name,
-        this.numberOfRooms, roomList, t, tp, map,
+    Map<String, Integer> index = createRoomIndex(roomList);
+
+    MansionImpl mansion = new MansionImpl(this.numberOfRows, this.numberOfColumns, name,
+        this.numberOfRooms, roomList, t, tp, this.mansionGraph, index,
         this.numberOfTurns, this.maxNumberOfPlayers);
+    mansion.setGameEvents(events);
+    mansion.startGame();
+    return mansion;
   }
 
 }
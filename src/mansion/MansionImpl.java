@@ -3,17 +3,19 @@ package mansion;
 import item.Item;
 import java.awt.Graphics;
 import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.Set;
-import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import journal.GameEvents;
 import player.Player;
 import player.PlayerImpl;
 import room.Room;
@@ -29,6 +31,11 @@ import utils.Constants;
  * @author komalshah
  */
 public class MansionImpl implements Mansion {
+  // Holder of an item used in a kill attempt, players hold -2 - player number.
+  private static final int EVIDENCE = -1;
+  // Numbers of the games, unique in the program so journaled games played at
+  // the same time can be told apart.
+  private static final AtomicInteger GAME_NUMBERS = new AtomicInteger();
 
   private final int numberOfRows;
   private final int numberOfColumns;
@@ -36,16 +43,35 @@ public class MansionImpl implements Mansion {
   private final int numberOfRooms;
   private final List<Room> listOfRooms;
   private final Target target;
-  private final Map<Integer, Set<Integer>> mansionMap;
+  private final RoomGraph mansionGraph;
+  private final Map<String, Integer> roomIndex;
   private final List<Player> listOfPlayers;
+  private final Map<String, Integer> playerIndex;
+  private final VisibilityEngine visibility;
+  private SpatialIndex spatialIndex;
   private int currentPlayer;
   private TargetPet targetPet;
   private List<String> evidences;
   private String winner;
-  private final Set<Integer> visited;
-  private final Stack<Integer> stack;
+  private final boolean[] visited;
+  private int visitedCount;
+  private int[] stack;
+  private int stackSize;
+  private final PetSearch petSearch;
   private int numberOfTurns;
   private int maxNumberOfPlayers;
+  private GameEvents events;
+  private int gameNumber;
+  // Every item with its holder and the tick it got there, which orders the
+  // items of a holder as they were added.
+  private final Item[] items;
+  private final Map<String, Integer> itemIndex;
+  private final int[] itemHolders;
+  private final int[] itemTicks;
+  private int itemClock;
+  private final boolean[] changedHolders;
+  private final long[] itemOrder;
+  private GameState.World gameWorld;
 
   /**
    * Creates an object for Mansion with fields Mansion Name, size of mansion,
@@ -58,7 +84,9 @@ public class MansionImpl implements Mansion {
    * @param roomList     List of all the Rooms in the Mansion.
    * @param targetObject Target Character of the Mansion.
    * @param pet          Target Character's Pet in the Mansion.
-   * @param map          Map of the Mansion specifying neighbors of the Room.
+   * @param graph        Graph of the Mansion specifying neighbors of the Room.
+   * @param index        Map of Room Names to their position in the list of
+   *                     Rooms.
    * @param turns        number of turns.
    * @param maxPlayers   maximum number of players allowed.
    * @throws IllegalArgumentException
@@ -71,14 +99,17 @@ public class MansionImpl implements Mansion {
    *                                  negative or zero.</li>
    *                                  <li>when size of list of rooms is not equal
    *                                  to number of rooms.</li>
+   *                                  <li>when size of room index is not equal to
+   *                                  number of rooms.</li>
    *                                  </ul>
-   * @throws NullPointerException     when Name of Mansion, List of Rooms, Target
-   *                                  and Mansion map is NULL.
+   * @throws NullPointerException     when Name of Mansion, List of Rooms, Target,
+   *                                  Mansion graph and room index is NULL.
    */
   public MansionImpl(int rows, int columns, String name, int rooms, List<Room> roomList,
-      Target targetObject, TargetPet pet, Map<Integer, Set<Integer>> map, int turns, int maxPlayers)
+      Target targetObject, TargetPet pet, RoomGraph graph,
+      Map<String, Integer> index, int turns, int maxPlayers)
       throws IllegalArgumentException, NullPointerException {
-    validateMansion(rows, columns, name, rooms, roomList, targetObject, pet, map, turns,
+    validateMansion(rows, columns, name, rooms, roomList, targetObject, pet, graph, index, turns,
         maxPlayers);
     this.numberOfRows = rows;
     this.numberOfColumns = columns;
@@ -87,19 +118,50 @@ public class MansionImpl implements Mansion {
     this.listOfRooms = roomList;
     this.target = targetObject;
     this.targetPet = pet;
-    this.mansionMap = map;
+    this.mansionGraph = graph;
+    this.roomIndex = index;
     this.listOfPlayers = new ArrayList<>();
+    this.playerIndex = new HashMap<>();
+    this.visibility = new VisibilityEngine(graph, pet.getTargetPetLocation());
+    this.spatialIndex = null;
     this.currentPlayer = 0;
     this.evidences = new ArrayList<>();
     this.winner = null;
-    this.visited = new HashSet<>();
-    this.stack = new Stack<>();
+    this.visited = new boolean[rooms];
+    this.visitedCount = 0;
+    this.stack = new int[rooms + 1];
+    this.stackSize = 0;
+    this.petSearch = new ArrayPetSearch();
     this.numberOfTurns = turns;
     this.maxNumberOfPlayers = maxPlayers;
+    this.events = GameEvents.NONE;
+    this.gameNumber = GAME_NUMBERS.getAndIncrement();
+    List<Item> itemList = new ArrayList<>();
+    List<Integer> holderList = new ArrayList<>();
+    for (int i = 0; i < rooms; i++) {
+      for (Item item : roomList.get(i).getItems()) {
+        itemList.add(item);
+        holderList.add(i);
+      }
+    }
+    this.items = itemList.toArray(new Item[0]);
+    this.itemIndex = new HashMap<>();
+    this.itemHolders = new int[this.items.length];
+    this.itemTicks = new int[this.items.length];
+    for (int i = 0; i < this.items.length; i++) {
+      this.itemIndex.put(this.items[i].getName(), i);
+      this.itemHolders[i] = holderList.get(i);
+      this.itemTicks[i] = i;
+    }
+    this.itemClock = this.items.length;
+    this.changedHolders = new boolean[rooms + 1 + maxPlayers];
+    this.itemOrder = new long[this.items.length];
+    this.gameWorld = null;
   }
 
   private void validateMansion(int rows, int columns, String name, int rooms, List<Room> roomsList,
-      Target targetObject, TargetPet pet, Map<Integer, Set<Integer>> map, int turns, int maxPlayers)
+      Target targetObject, TargetPet pet, RoomGraph graph,
+      Map<String, Integer> index, int turns, int maxPlayers)
       throws IllegalArgumentException, NullPointerException {
     if (rows <= 0 || columns <= 0) {
       throw new IllegalArgumentException("Size of Mansion cannot be Negative or Zero.");
@@ -114,7 +176,14 @@ public class MansionImpl implements Mansion {
     }
     Objects.requireNonNull(targetObject);
     Objects.requireNonNull(pet);
-    Objects.requireNonNull(map);
+    Objects.requireNonNull(graph);
+    if (graph.getNumberOfRooms() != rooms) {
+      throw new IllegalArgumentException("Mansion graph do not match number of Rooms.");
+    }
+    Objects.requireNonNull(index);
+    if (index.size() != rooms) {
+      throw new IllegalArgumentException("Room index do not match number of Rooms.");
+    }
     if (turns <= 0) {
       throw new IllegalArgumentException("Number of Turns cannot be negative or zero.");
     }
@@ -126,23 +195,16 @@ public class MansionImpl implements Mansion {
   private int getRoomNumberFromRoomName(String roomName)
       throws NullPointerException, IllegalArgumentException {
     CommonUtils.stringIsEmpty(roomName, "Room name cannot be NULL or empty.");
-    try {
-      return IntStream.range(0, listOfRooms.size())
-          .filter(room -> listOfRooms.get(room).getName().equals(roomName)).findFirst().getAsInt();
-    } catch (NoSuchElementException exception) {
+    Integer roomNumber = this.roomIndex.get(roomName);
+    if (Objects.isNull(roomNumber)) {
       throw new IllegalArgumentException("Room name does not exist in the Mansion.");
     }
+    return roomNumber;
   }
 
   private int getPlayerNumberFromPlayerName(String playerName) throws NullPointerException {
     CommonUtils.stringIsEmpty(playerName, "Player name cannot be NULL or empty.");
-    try {
-      return IntStream.range(0, listOfPlayers.size())
-          .filter(player -> listOfPlayers.get(player).getName().equals(playerName)).findFirst()
-          .getAsInt();
-    } catch (NoSuchElementException exception) {
-      return -1;
-    }
+    return this.playerIndex.getOrDefault(playerName, -1);
   }
 
   private void updateTurn() {
@@ -155,9 +217,9 @@ public class MansionImpl implements Mansion {
       this.winner = this.listOfPlayers.get(currentPlayer).getName();
     }
 
-    this.currentPlayer += 1;
-    this.currentPlayer %= numberOfPlayers;
-    moveTarget();
+    this.currentPlayer = GameRules.nextPlayer(this.currentPlayer, numberOfPlayers);
+    this.visibility.invalidate();
+    this.target.updateTargetLocation(this.numberOfRooms);
     this.numberOfTurns -= 1;
   }
 
@@ -173,27 +235,95 @@ public class MansionImpl implements Mansion {
   }
 
   private void movePetDfs() {
-    if (this.visited.size() == this.listOfRooms.size()) {
-      this.visited.clear();
-    }
-    if (this.stack.isEmpty()) {
-      this.stack.push(this.targetPet.getTargetPetLocation());
-      this.visited.add(this.targetPet.getTargetPetLocation());
-    } else if (this.stack.peek() != this.targetPet.getTargetPetLocation()) {
-      this.stack.pop();
-      this.stack.push(this.targetPet.getTargetPetLocation());
-      this.visited.add(this.targetPet.getTargetPetLocation());
-    }
-    int current = this.stack.pop();
-    Set<Integer> choices = new HashSet<>(this.mansionMap.get(current));
-    choices.removeAll(visited);
-    for (Integer c : choices) {
-      if (!this.stack.contains(c)) {
-        this.stack.push(c);
+    moveTargetPet(this.petSearch.next(this.mansionGraph, this.targetPet.getTargetPetLocation()));
+  }
+
+  // Tells the game events about the moves of the target and the pet at the end
+  // of a turn, after the action of the turn was told.
+  private void turnEnded(boolean petWandered) {
+    this.events.targetMoved(this.gameNumber, this.target.getTargetLocation());
+    if (petWandered) {
+      this.events.petWandered(this.gameNumber, this.targetPet.getTargetPetLocation());
+    }
+  }
+
+  /**
+   * Tells the game events that this game started.
+   */
+  void startGame() {
+    this.events.gameStarted(this.gameNumber, this.numberOfTurns, this.maxNumberOfPlayers);
+  }
+
+  // The search of the pet over the stack and visited rooms of this Mansion.
+  private final class ArrayPetSearch extends PetSearch {
+    @Override
+    int visitedCount() {
+      return visitedCount;
+    }
+
+    @Override
+    boolean isVisited(int room) {
+      return visited[room];
+    }
+
+    @Override
+    void visit(int room) {
+      if (!visited[room]) {
+        visited[room] = true;
+        visitedCount++;
       }
     }
-    this.targetPet.updateTargetPetLocation(this.stack.peek());
-    this.visited.add(this.stack.peek());
+
+    @Override
+    void clearVisited() {
+      Arrays.fill(visited, false);
+      visitedCount = 0;
+    }
+
+    @Override
+    boolean isStackEmpty() {
+      return stackSize == 0;
+    }
+
+    @Override
+    int top() {
+      return stack[stackSize - 1];
+    }
+
+    @Override
+    void replaceTop(int room) {
+      stack[stackSize - 1] = room;
+    }
+
+    @Override
+    void push(int room) {
+      if (stackSize == stack.length) {
+        stack = Arrays.copyOf(stack, stackSize * 2);
+      }
+      stack[stackSize++] = room;
+    }
+
+    @Override
+    int pop() {
+      return stack[--stackSize];
+    }
+
+    @Override
+    boolean isOnStack(int room) {
+      for (int i = 0; i < stackSize; i++) {
+        if (stack[i] == room) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  // Every item changing hands goes through here to keep the snapshots right.
+  private void moveItem(Item item, int holder) {
+    int index = this.itemIndex.get(item.getName());
+    this.itemHolders[index] = holder;
+    this.itemTicks[index] = this.itemClock++;
   }
 
   @Override
@@ -216,13 +346,73 @@ public class MansionImpl implements Mansion {
     return bufferedImage;
   }
 
+  @Override
+  public void writeGraphicalRepresentation(OutputStream output)
+      throws NullPointerException, IOException {
+    Objects.requireNonNull(output);
+    new TiledImageWriter(this.numberOfRows, this.numberOfColumns, this.listOfRooms)
+        .write(output, ForkJoinPool.commonPool());
+  }
+
   @Override
   public List<String> getNeighborForRoom(String roomName)
       throws NullPointerException, IllegalArgumentException {
     int roomNumber = getRoomNumberFromRoomName(roomName);
-    Set<Integer> set = new HashSet<>(mansionMap.get(roomNumber));
-    set.remove(this.targetPet.getTargetPetLocation());
-    return set.stream().map(r -> listOfRooms.get(r).getName()).collect(Collectors.toList());
+    List<String> neighbors = new ArrayList<>(this.mansionGraph.degree(roomNumber));
+    forEachNeighbor(roomNumber,
+        neighbor -> neighbors.add(this.listOfRooms.get(neighbor).getName()));
+    return neighbors;
+  }
+
+  @Override
+  public int getRoomNumber(String roomName)
+      throws NullPointerException, IllegalArgumentException {
+    return getRoomNumberFromRoomName(roomName);
+  }
+
+  @Override
+  public int getNeighborsForRoom(int roomNumber, int[] neighbors)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(neighbors);
+    validateRoomNumber(roomNumber);
+    int petLocation = this.targetPet.getTargetPetLocation();
+    int count = 0;
+    for (int i = 0; i < this.mansionGraph.degree(roomNumber); i++) {
+      int neighbor = this.mansionGraph.neighbor(roomNumber, i);
+      if (neighbor != petLocation) {
+        if (count == neighbors.length) {
+          throw new IllegalArgumentException("Array is too small to hold the neighbors.");
+        }
+        neighbors[count++] = neighbor;
+      }
+    }
+    return count;
+  }
+
+  @Override
+  public void forEachNeighbor(int roomNumber, IntConsumer consumer)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(consumer);
+    validateRoomNumber(roomNumber);
+    int petLocation = this.targetPet.getTargetPetLocation();
+    for (int i = 0; i < this.mansionGraph.degree(roomNumber); i++) {
+      int neighbor = this.mansionGraph.neighbor(roomNumber, i);
+      if (neighbor != petLocation) {
+        consumer.accept(neighbor);
+      }
+    }
+  }
+
+  private void validateRoomNumber(int roomNumber) throws IllegalArgumentException {
+    if (roomNumber < 0 || roomNumber >= this.numberOfRooms) {
+      throw new IllegalArgumentException("Room number does not exist in the Mansion.");
+    }
+  }
+
+  // Every move of the target pet goes through here to keep visibility in sync.
+  private void moveTargetPet(int roomNumber) {
+    this.targetPet.updateTargetPetLocation(roomNumber);
+    this.visibility.movePet(roomNumber);
   }
 
   @Override
@@ -260,6 +450,7 @@ public class MansionImpl implements Mansion {
   @Override
   public void moveTarget() throws IllegalArgumentException {
     this.target.updateTargetLocation(this.numberOfRooms);
+    this.events.targetMoved(this.gameNumber, this.target.getTargetLocation());
   }
 
   @Override
@@ -279,6 +470,9 @@ public class MansionImpl implements Mansion {
     int playerlocation = getRoomNumberFromRoomName(location);
     Player player = new PlayerImpl(name, playerlocation, capacity, isHuman);
     this.listOfPlayers.add(player);
+    this.playerIndex.put(name, this.listOfPlayers.size() - 1);
+    this.visibility.invalidate();
+    this.events.playerAdded(this.gameNumber, name, playerlocation, capacity, isHuman);
   }
 
   @Override
@@ -297,11 +491,15 @@ public class MansionImpl implements Mansion {
       throw new IllegalAccessException("Game is Over!");
     }
     Player player = this.listOfPlayers.get(currentPlayer);
-    Room room = this.listOfRooms.get(player.getLocation());
-    if (getNeighborForRoom(room.getName()).contains(roomName)) {
-      player.movePlayer(getRoomNumberFromRoomName(roomName));
+    Integer roomNumber = Objects.isNull(roomName) ? null : this.roomIndex.get(roomName);
+    if (Objects.nonNull(roomNumber)
+        && this.visibility.isVisible(player.getLocation(), roomNumber)) {
+      player.movePlayer(roomNumber);
+      int mover = this.currentPlayer;
       updateTurn();
       movePetDfs();
+      this.events.moved(this.gameNumber, mover, roomNumber);
+      turnEnded(true);
     } else {
       throw new IllegalArgumentException("Cannot move to " + roomName);
     }
@@ -323,8 +521,12 @@ public class MansionImpl implements Mansion {
     if (Objects.nonNull(item)) {
       player.addItem(item);
       room.removeItem(item);
+      moveItem(item, -2 - this.currentPlayer);
+      int picker = this.currentPlayer;
       updateTurn();
       movePetDfs();
+      this.events.picked(this.gameNumber, picker, itemName);
+      turnEnded(true);
     } else {
       throw new IllegalArgumentException("Cannot pickup item " + itemName);
     }
@@ -342,8 +544,11 @@ public class MansionImpl implements Mansion {
     String roomName = this.listOfRooms.get(player.getLocation()).getName();
     String roomDetails = getDetailsOfRoom(roomName);
     String neighbourDetails = getNeighborDetails(roomName);
+    int looker = this.currentPlayer;
     updateTurn();
     movePetDfs();
+    this.events.looked(this.gameNumber, looker);
+    turnEnded(true);
     return roomDetails + neighbourDetails;
   }
 
@@ -357,8 +562,11 @@ public class MansionImpl implements Mansion {
       throw new IllegalAccessException("Game is Over!");
     }
     int roomNumber = getRoomNumberFromRoomName(roomName);
-    this.targetPet.updateTargetPetLocation(roomNumber);
+    moveTargetPet(roomNumber);
+    int mover = this.currentPlayer;
     updateTurn();
+    this.events.petMoved(this.gameNumber, mover, roomNumber);
+    turnEnded(false);
   }
 
   @Override
@@ -375,31 +583,27 @@ public class MansionImpl implements Mansion {
       throw new IllegalAccessException("Current Player and Target are not in the same room.");
     }
 
-    Player player = this.listOfPlayers.get(this.currentPlayer);
-
-    // Checking if the current player can be seen.
-    if (isCurrentPlayerSeen()) {
-      updateTurn();
-      movePetDfs();
-      return false;
-    }
-
+    int attacker = this.currentPlayer;
+    Player player = this.listOfPlayers.get(attacker);
     Item item = player.getItem(itemName);
-    if (Objects.nonNull(item)) {
-      this.target.updateHealthPoint(item.getDamage());
-      this.evidences.add(itemName);
-      player.removeItem(item);
-      updateTurn();
-      movePetDfs();
-      return true;
-    } else if (Constants.POKING.equalsIgnoreCase(itemName)) {
-      this.target.updateHealthPoint(1);
-      updateTurn();
-      movePetDfs();
-      return true;
-    } else {
+    int damage = GameRules.attackDamage(isCurrentPlayerSeen(),
+        Objects.isNull(item) ? -1 : item.getDamage(), Constants.POKING.equalsIgnoreCase(itemName));
+    if (damage == GameRules.CANNOT_ATTACK) {
       throw new IllegalArgumentException("Cannot use item " + itemName + " to kill the target.");
     }
+    if (damage != GameRules.MISSED) {
+      this.target.updateHealthPoint(damage);
+      if (Objects.nonNull(item)) {
+        this.evidences.add(itemName);
+        player.removeItem(item);
+        moveItem(item, EVIDENCE);
+      }
+    }
+    updateTurn();
+    movePetDfs();
+    this.events.killAttempted(this.gameNumber, attacker, itemName, damage != GameRules.MISSED);
+    turnEnded(true);
+    return damage != GameRules.MISSED;
   }
 
   @Override
@@ -457,7 +661,7 @@ public class MansionImpl implements Mansion {
 
   @Override
   public boolean isGameOver() {
-    return this.target.getHealthPoint() <= 0 || this.numberOfTurns == 0;
+    return GameRules.isGameOver(this.target.getHealthPoint(), this.numberOfTurns);
   }
 
   @Override
@@ -486,15 +690,16 @@ public class MansionImpl implements Mansion {
       return true;
     }
 
-    return getNeighborForRoom(this.listOfRooms.get(playerLocationA).getName())
-        .contains(this.listOfRooms.get(playerLocationB).getName());
+    return this.visibility.isVisible(playerLocationA, playerLocationB);
 
   }
 
   @Override
   public boolean isCurrentPlayerSeen() {
-    return this.listOfPlayers.stream().anyMatch(
-        x -> this.canSee(x.getName(), this.listOfPlayers.get(this.currentPlayer).getName()));
+    if (this.listOfPlayers.isEmpty()) {
+      return false;
+    }
+    return this.visibility.isSeen(this.listOfPlayers, this.currentPlayer);
   }
 
   @Override
@@ -513,7 +718,7 @@ public class MansionImpl implements Mansion {
       throw new IllegalAccessException("No Players in Game.");
     }
     Map<String, Integer> items = this.listOfPlayers.get(currentPlayer).getItemDetails();
-    items.put(Constants.POKING, 1);
+    items.put(Constants.POKING, GameRules.POKE_DAMAGE);
     return items;
   }
 
@@ -560,6 +765,211 @@ public class MansionImpl implements Mansion {
     return rooms;
   }
 
+  @Override
+  public int roomAt(int row, int column) throws IllegalArgumentException {
+    // Built on first use, the rooms never move.
+    if (Objects.isNull(this.spatialIndex)) {
+      this.spatialIndex = new SpatialIndex(this.numberOfRows, this.numberOfColumns,
+          this.listOfRooms);
+    }
+    return this.spatialIndex.roomAt(row, column);
+  }
+
+  @Override
+  public void setGameEvents(GameEvents gameEvents) throws NullPointerException {
+    Objects.requireNonNull(gameEvents);
+    this.events = gameEvents;
+  }
+
+  @Override
+  public GameSnapshot snapshot() {
+    int players = this.listOfPlayers.size();
+    String[] names = new String[players];
+    int[] locations = new int[players];
+    int[] capacities = new int[players];
+    boolean[] humans = new boolean[players];
+    for (int i = 0; i < players; i++) {
+      Player player = this.listOfPlayers.get(i);
+      names[i] = player.getName();
+      locations[i] = player.getLocation();
+      capacities[i] = player.getCapacity();
+      humans[i] = player.isHuman();
+    }
+    return new GameSnapshot(this.mansionGraph, names, locations, capacities, humans,
+        this.itemHolders.clone(), this.itemTicks.clone(), this.itemClock, this.visited.clone(),
+        this.visitedCount, Arrays.copyOf(this.stack, this.stackSize),
+        this.target.getHealthPoint(), this.target.getTargetLocation(),
+        this.targetPet.getTargetPetLocation(), this.winner, this.currentPlayer,
+        this.numberOfTurns);
+  }
+
+  @Override
+  public void restore(GameSnapshot snapshot)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(snapshot);
+    if (snapshot.mansionGraph != this.mansionGraph) {
+      throw new IllegalArgumentException("Snapshot is not of this Mansion.");
+    }
+    boolean samePlayers = this.listOfPlayers.size() == snapshot.playerNames.length;
+    for (int i = 0; samePlayers && i < snapshot.playerNames.length; i++) {
+      samePlayers = this.listOfPlayers.get(i).getName().equals(snapshot.playerNames[i]);
+    }
+
+    // Only the rooms and players whose items changed are filled again.
+    Arrays.fill(this.changedHolders, false);
+    if (!samePlayers) {
+      Arrays.fill(this.changedHolders, holderSlot(-2), this.changedHolders.length, true);
+    }
+    for (int i = 0; i < this.items.length; i++) {
+      if (this.itemHolders[i] != snapshot.itemHolders[i]
+          || this.itemTicks[i] != snapshot.itemTicks[i]) {
+        this.changedHolders[holderSlot(this.itemHolders[i])] = true;
+        this.changedHolders[holderSlot(snapshot.itemHolders[i])] = true;
+      }
+    }
+    for (int i = 0; i < this.items.length; i++) {
+      int holder = this.itemHolders[i];
+      if (this.changedHolders[holderSlot(holder)]) {
+        if (holder >= 0) {
+          this.listOfRooms.get(holder).removeItem(this.items[i]);
+        } else if (holder != EVIDENCE && samePlayers) {
+          this.listOfPlayers.get(-2 - holder).removeItem(this.items[i]);
+        }
+      }
+    }
+    if (this.changedHolders[holderSlot(EVIDENCE)]) {
+      this.evidences.clear();
+    }
+    if (samePlayers) {
+      for (int i = 0; i < snapshot.playerNames.length; i++) {
+        this.listOfPlayers.get(i).movePlayer(snapshot.playerLocations[i]);
+      }
+    } else {
+      this.listOfPlayers.clear();
+      this.playerIndex.clear();
+      for (int i = 0; i < snapshot.playerNames.length; i++) {
+        this.listOfPlayers.add(new PlayerImpl(snapshot.playerNames[i],
+            snapshot.playerLocations[i], snapshot.playerCapacities[i],
+            snapshot.humanPlayers[i]));
+        this.playerIndex.put(snapshot.playerNames[i], i);
+      }
+    }
+    System.arraycopy(snapshot.itemHolders, 0, this.itemHolders, 0, this.items.length);
+    System.arraycopy(snapshot.itemTicks, 0, this.itemTicks, 0, this.items.length);
+    this.itemClock = snapshot.itemClock;
+    int count = 0;
+    for (int i = 0; i < this.items.length; i++) {
+      if (this.changedHolders[holderSlot(this.itemHolders[i])]) {
+        this.itemOrder[count++] = (long) this.itemTicks[i] << 32 | i;
+      }
+    }
+    Arrays.sort(this.itemOrder, 0, count);
+    for (int i = 0; i < count; i++) {
+      int index = (int) this.itemOrder[i];
+      int holder = this.itemHolders[index];
+      if (holder >= 0) {
+        this.listOfRooms.get(holder).addItemToRoom(this.items[index]);
+      } else if (holder == EVIDENCE) {
+        this.evidences.add(this.items[index].getName());
+      } else {
+        this.listOfPlayers.get(-2 - holder).addItem(this.items[index]);
+      }
+    }
+
+    this.target.restore(snapshot.targetHealth, snapshot.targetLocation);
+    moveTargetPet(snapshot.petLocation);
+    this.visibility.invalidate();
+    System.arraycopy(snapshot.visited, 0, this.visited, 0, this.numberOfRooms);
+    this.visitedCount = snapshot.visitedCount;
+    if (snapshot.stack.length > this.stack.length) {
+      this.stack = new int[snapshot.stack.length];
+    }
+    System.arraycopy(snapshot.stack, 0, this.stack, 0, snapshot.stack.length);
+    this.stackSize = snapshot.stack.length;
+    this.winner = snapshot.winner;
+    this.currentPlayer = snapshot.currentPlayer;
+    this.numberOfTurns = snapshot.numberOfTurns;
+    if (snapshot.playerNames.length == 0) {
+      this.gameNumber = GAME_NUMBERS.getAndIncrement();
+      startGame();
+    } else {
+      // The game branches away from the events told so far.
+      this.events = GameEvents.NONE;
+    }
+  }
+
+  @Override
+  public GameState getGameState() {
+    // The world is made once and shared by every state of the game.
+    if (Objects.isNull(this.gameWorld)) {
+      String[] roomNames = new String[this.numberOfRooms];
+      for (int i = 0; i < this.numberOfRooms; i++) {
+        roomNames[i] = this.listOfRooms.get(i).getName();
+      }
+      String[] itemNames = new String[this.items.length];
+      int[] damages = new int[this.items.length];
+      for (int i = 0; i < this.items.length; i++) {
+        itemNames[i] = this.items[i].getName();
+        damages[i] = this.items[i].getDamage();
+      }
+      this.gameWorld = new GameState.World(this.mansionGraph, roomNames, this.roomIndex,
+          itemNames, damages, this.itemIndex, this.maxNumberOfPlayers);
+    }
+    int players = this.listOfPlayers.size();
+    String[] names = new String[players];
+    int[] locations = new int[players];
+    int[] capacities = new int[players];
+    boolean[] humans = new boolean[players];
+    int winnerNumber = -1;
+    for (int i = 0; i < players; i++) {
+      Player player = this.listOfPlayers.get(i);
+      names[i] = player.getName();
+      locations[i] = player.getLocation();
+      capacities[i] = player.getCapacity();
+      humans[i] = player.isHuman();
+      if (player.getName().equals(this.winner)) {
+        winnerNumber = i;
+      }
+    }
+
+    // Rooms list their items the first added first, players the last first.
+    long[] order = new long[this.items.length];
+    for (int i = 0; i < this.items.length; i++) {
+      order[i] = (long) this.itemTicks[i] << 32 | i;
+    }
+    Arrays.sort(order);
+    IntList[] roomLists = new IntList[this.numberOfRooms];
+    IntList[] inventories = new IntList[players];
+    for (int i = 0; i < order.length; i++) {
+      int item = (int) order[order.length - 1 - i];
+      if (this.itemHolders[item] >= 0) {
+        roomLists[this.itemHolders[item]] = new IntList(item, roomLists[this.itemHolders[item]]);
+      }
+      item = (int) order[i];
+      if (this.itemHolders[item] < EVIDENCE) {
+        int player = -2 - this.itemHolders[item];
+        inventories[player] = new IntList(item, inventories[player]);
+      }
+    }
+    IntList roomStack = null;
+    for (int i = 0; i < this.stackSize; i++) {
+      roomStack = new IntList(this.stack[i], roomStack);
+    }
+    Boolean[] visitedRooms = new Boolean[this.numberOfRooms];
+    for (int i = 0; i < this.numberOfRooms; i++) {
+      visitedRooms[i] = this.visited[i] ? Boolean.TRUE : null;
+    }
+    return new GameState(this.gameWorld, names, capacities, humans, locations, inventories,
+        new PersistentVector<>(roomLists), this.target.getHealthPoint(),
+        this.target.getTargetLocation(), this.targetPet.getTargetPetLocation(), roomStack,
+        new PersistentVector<>(visitedRooms), this.visitedCount, this.currentPlayer,
+        this.numberOfTurns, winnerNumber);
+  }
+
+  private int holderSlot(int holder) {
+    return holder >= 0 ? holder : this.numberOfRooms - 1 - holder;
+  }
+
   @Override
   public String getTargetLocation() {
     return this.listOfRooms.get(this.target.getTargetLocation()).getName();
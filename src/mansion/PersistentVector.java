@@ -0,0 +1,164 @@
+package mansion;
+
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * Immutable array of a fixed size, kept as a tree of nodes of 32 elements.
+ * Setting an element copies only the nodes on the path to it, a few hundred
+ * bytes, and shares every other node with the vector it was set on. NULL
+ * elements are allowed and a vector of only NULL elements has no nodes.
+ *
+ * @param <E> type of the elements.
+ */
+final class PersistentVector<E> {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  private final int size;
+  private final int shift;
+  private final Object[] root;
+
+  private PersistentVector(int length, int levels, Object[] node) {
+    this.size = length;
+    this.shift = levels;
+    this.root = node;
+  }
+
+  /**
+   * Creates a vector of NULL elements.
+   *
+   * @param length number of elements.
+   * @throws IllegalArgumentException when length is negative.
+   */
+  PersistentVector(int length) throws IllegalArgumentException {
+    this(checkedLength(length), shiftFor(length), null);
+  }
+
+  /**
+   * Creates a vector with a copy of the elements of an array.
+   *
+   * @param elements the elements.
+   * @throws NullPointerException when elements is NULL.
+   */
+  PersistentVector(E[] elements) throws NullPointerException {
+    this(elements.length, shiftFor(elements.length),
+        build(elements, shiftFor(elements.length), 0));
+  }
+
+  private static int checkedLength(int length) throws IllegalArgumentException {
+    if (length < 0) {
+      throw new IllegalArgumentException("Length cannot be negative.");
+    }
+    return length;
+  }
+
+  // Levels below the root, in bits of the index, to hold length elements.
+  private static int shiftFor(int length) {
+    int levels = 0;
+    while (length > WIDTH << levels) {
+      levels += BITS;
+    }
+    return levels;
+  }
+
+  private static Object[] build(Object[] elements, int level, int offset) {
+    if (offset >= elements.length) {
+      return null;
+    }
+    Object[] node = new Object[WIDTH];
+    if (level == 0) {
+      System.arraycopy(elements, offset, node, 0, Math.min(WIDTH, elements.length - offset));
+    } else {
+      for (int i = 0; i < WIDTH; i++) {
+        node[i] = build(elements, level - BITS, offset + (i << level));
+      }
+    }
+    return node;
+  }
+
+  /**
+   * Gets the number of elements.
+   *
+   * @return size of the vector.
+   */
+  int size() {
+    return this.size;
+  }
+
+  /**
+   * Gets an element.
+   *
+   * @param index index of the element.
+   * @return the element, which can be NULL.
+   * @throws IndexOutOfBoundsException when index is not in the vector.
+   */
+  @SuppressWarnings("unchecked")
+  E get(int index) throws IndexOutOfBoundsException {
+    Objects.checkIndex(index, this.size);
+    Object[] node = this.root;
+    for (int level = this.shift; level > 0 && node != null; level -= BITS) {
+      node = (Object[]) node[(index >>> level) & MASK];
+    }
+    return node == null ? null : (E) node[index & MASK];
+  }
+
+  /**
+   * Sets an element, leaving this vector as it is.
+   *
+   * @param index   index of the element.
+   * @param element the element, which can be NULL.
+   * @return vector with the element set, sharing the other nodes with this one.
+   * @throws IndexOutOfBoundsException when index is not in the vector.
+   */
+  PersistentVector<E> set(int index, E element) throws IndexOutOfBoundsException {
+    Objects.checkIndex(index, this.size);
+    return new PersistentVector<>(this.size, this.shift,
+        set(this.root, this.shift, index, element));
+  }
+
+  /**
+   * Checks if two vectors have equal elements, comparing them only in the
+   * nodes the vectors do not share.
+   *
+   * @param other     the other vector.
+   * @param predicate equality of two elements, which can be NULL.
+   * @return true if the vectors have the same size and equal elements.
+   * @throws NullPointerException when other or predicate is NULL.
+   */
+  boolean elementsEqual(PersistentVector<E> other, BiPredicate<E, E> predicate)
+      throws NullPointerException {
+    Objects.requireNonNull(predicate);
+    return this.size == other.size
+        && nodesEqual(this.root, other.root, this.shift, predicate);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> boolean nodesEqual(Object[] node, Object[] other, int level,
+      BiPredicate<E, E> predicate) {
+    if (node == other) {
+      return true;
+    }
+    for (int i = 0; i < WIDTH; i++) {
+      Object a = node == null ? null : node[i];
+      Object b = other == null ? null : other[i];
+      if (level == 0 ? !predicate.test((E) a, (E) b)
+          : !nodesEqual((Object[]) a, (Object[]) b, level - BITS, predicate)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Object[] set(Object[] node, int level, int index, Object element) {
+    Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+    if (level == 0) {
+      copy[index & MASK] = element;
+    } else {
+      int slot = (index >>> level) & MASK;
+      copy[slot] = set((Object[]) copy[slot], level - BITS, index, element);
+    }
+    return copy;
+  }
+}
@@ -0,0 +1,116 @@
+package mansion;
+
+/**
+ * The depth first search the target pet wanders the Mansion by, one room every
+ * turn. The search is written once here against its stack of rooms to visit
+ * and the rooms it visited: the Mansion keeps them in arrays it changes, and a
+ * GameState in persistent lists it shares with the states before it.
+ */
+abstract class PetSearch {
+
+  /**
+   * Moves the search on from the room of the pet, which the pet may have been
+   * moved to by a player, and visits the next room of the pet.
+   *
+   * @param graph adjacency graph of the rooms.
+   * @param pet   room of the target pet.
+   * @return the next room of the target pet.
+   */
+  final int next(RoomGraph graph, int pet) {
+    if (visitedCount() == graph.getNumberOfRooms()) {
+      clearVisited();
+    }
+    if (isStackEmpty()) {
+      push(pet);
+      visit(pet);
+    } else if (top() != pet) {
+      replaceTop(pet);
+      visit(pet);
+    }
+    int current = pop();
+    for (int i = 0; i < graph.degree(current); i++) {
+      int c = graph.neighbor(current, i);
+      if (!isVisited(c) && !isOnStack(c)) {
+        push(c);
+      }
+    }
+    if (isStackEmpty()) {
+      // Every room reachable from here is visited, start a new traversal.
+      clearVisited();
+      push(current);
+    }
+    int next = top();
+    visit(next);
+    return next;
+  }
+
+  /**
+   * Gets the number of rooms visited.
+   *
+   * @return number of rooms visited.
+   */
+  abstract int visitedCount();
+
+  /**
+   * Checks if a room is visited.
+   *
+   * @param room room number.
+   * @return true if the room is visited.
+   */
+  abstract boolean isVisited(int room);
+
+  /**
+   * Marks a room visited, counting it the first time.
+   *
+   * @param room room number.
+   */
+  abstract void visit(int room);
+
+  /**
+   * Marks every room not visited.
+   */
+  abstract void clearVisited();
+
+  /**
+   * Checks if the stack is empty.
+   *
+   * @return true if no room is on the stack.
+   */
+  abstract boolean isStackEmpty();
+
+  /**
+   * Gets the room on top of the stack.
+   *
+   * @return room number.
+   */
+  abstract int top();
+
+  /**
+   * Replaces the room on top of the stack.
+   *
+   * @param room room number.
+   */
+  abstract void replaceTop(int room);
+
+  /**
+   * Pushes a room on the stack.
+   *
+   * @param room room number.
+   */
+  abstract void push(int room);
+
+  /**
+   * Pops the room on top of the stack.
+   *
+   * @return room number.
+   */
+  abstract int pop();
+
+  /**
+   * Checks if a room is on the stack.
+   *
+   * @param room room number.
+   * @return true if the room is on the stack.
+   */
+  abstract boolean isOnStack(int room);
+}
@@ -0,0 +1,354 @@
+package mansion;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import room.Room;
+
+/**
+ * Finds overlapping and neighboring Rooms from their rectangles. Rooms are
+ * given by the row and column of their top left and bottom right cells, both
+ * inclusive, and two Rooms are neighbors when a cell of one is directly to the
+ * right of or below a cell of the other.
+ *
+ * <p>The sweep works on the rectangles only, so time and memory depend on the
+ * number of Rooms and not on the size of the Mansion. Overlaps are found by
+ * sweeping down the rows while keeping the column ranges of the Rooms crossing
+ * the current row in a sorted map. Neighbors are found by matching, for every
+ * row and column boundary, the Rooms ending just before it with the Rooms
+ * starting on it, both sorted along the boundary. Both take O(R log R) time
+ * for R Rooms.
+ *
+ * <p>The parallel sweep cuts the Mansion into stripes of rows holding about
+ * the same number of Rooms and sweeps every stripe as a fork join task. A Room
+ * belongs to every stripe it crosses and also to the stripe holding the row
+ * just below it, so a wall on the border of two stripes is found in the lower
+ * one. The graphs of the stripes are merged in order and duplicates dropped,
+ * so the result is the same as the sequential sweep.
+ *
+ * <p>The grid version fills a cell array with the Rooms and walks every cell.
+ * It is kept as the reference the sweeps are tested against.
+ */
+public final class RoomAdjacency {
+  static final int MINIMUM_ROOMS_PER_STRIPE = 1024;
+
+  private RoomAdjacency() {
+  }
+
+  /**
+   * Builds the Room Graph of the Rooms by sweeping over their rectangles.
+   *
+   * @param rooms rooms of the Mansion, numbered by their position in the list.
+   * @return the Room Graph.
+   * @throws NullPointerException     when rooms or a room is NULL.
+   * @throws IllegalArgumentException when rooms are overlapping.
+   */
+  public static RoomGraph sweep(List<Room> rooms)
+      throws NullPointerException, IllegalArgumentException {
+    Rectangles rectangles = new Rectangles(rooms);
+    RoomGraph.Builder graph = new RoomGraph.Builder(rectangles.size());
+    int[] all = new int[rectangles.size()];
+    Arrays.setAll(all, room -> room);
+    if (!rectangles.addNeighbors(all, graph)) {
+      throw new IllegalArgumentException("Rooms are overlapping.");
+    }
+    return graph.build();
+  }
+
+  /**
+   * Builds the Room Graph of the Rooms by sweeping over stripes of rows in
+   * parallel. Gives the same graph as the sequential sweep, small Mansions are
+   * swept as one stripe.
+   *
+   * @param rooms rooms of the Mansion, numbered by their position in the list.
+   * @param pool  fork join pool running the stripes.
+   * @return the Room Graph.
+   * @throws NullPointerException     when rooms, a room or the pool is NULL.
+   * @throws IllegalArgumentException when rooms are overlapping.
+   */
+  public static RoomGraph sweep(List<Room> rooms, ForkJoinPool pool)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(pool);
+    Rectangles rectangles = new Rectangles(rooms);
+    int numberOfStripes = Math.max(1, Math.min(pool.getParallelism() * 4,
+        rectangles.size() / MINIMUM_ROOMS_PER_STRIPE));
+    int[][] stripes = rectangles.stripes(numberOfStripes);
+    StripeTask task = new StripeTask(rectangles, stripes, 0, stripes.length);
+    RoomGraph.Builder graph = pool.invoke(task);
+    // Overlaps are reported here, exceptions thrown in tasks lose their message.
+    if (Objects.isNull(graph)) {
+      throw new IllegalArgumentException("Rooms are overlapping.");
+    }
+    return graph.build();
+  }
+
+  /**
+   * Builds the Room Graph of the Rooms by filling every cell of the Mansion
+   * with its Room and comparing each cell with the cells to its right and
+   * below. Takes time and memory proportional to the size of the Mansion.
+   *
+   * @param rows    number of rows of the Mansion.
+   * @param columns number of columns of the Mansion.
+   * @param rooms   rooms of the Mansion, numbered by their position in the list.
+   * @return the Room Graph.
+   * @throws NullPointerException     when rooms or a room is NULL.
+   * @throws IllegalArgumentException when rooms are overlapping or outside the
+   *                                  Mansion.
+   */
+  public static RoomGraph rasterize(int rows, int columns, List<Room> rooms)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(rooms);
+    Integer[][] roomArray = new Integer[rows][columns];
+    for (int index = 0; index < rooms.size(); index++) {
+      int[] location = rooms.get(index).getLocation();
+      if (location[2] >= rows || location[3] >= columns) {
+        throw new IllegalArgumentException(String.format(
+            "Size of the room %s is bigger than Mansion Bounds.", rooms.get(index).getName()));
+      }
+      for (int i = location[0]; i <= location[2]; i++) {
+        for (int j = location[1]; j <= location[3]; j++) {
+          if (Objects.nonNull(roomArray[i][j])) {
+            throw new IllegalArgumentException("Rooms are overlapping.");
+          }
+          roomArray[i][j] = index;
+        }
+      }
+    }
+    RoomGraph.Builder graph = new RoomGraph.Builder(rooms.size());
+    for (int i = 0; i < rows; i++) {
+      for (int j = 0; j < columns; j++) {
+        if (Objects.isNull(roomArray[i][j])) {
+          continue;
+        }
+        // Checking room on the right.
+        if (j + 1 < columns && Objects.nonNull(roomArray[i][j + 1])
+            && !roomArray[i][j].equals(roomArray[i][j + 1])) {
+          graph.addNeighbors(roomArray[i][j], roomArray[i][j + 1]);
+        }
+        // Checking room to the bottom.
+        if (i + 1 < rows && Objects.nonNull(roomArray[i + 1][j])
+            && !roomArray[i][j].equals(roomArray[i + 1][j])) {
+          graph.addNeighbors(roomArray[i][j], roomArray[i + 1][j]);
+        }
+      }
+    }
+    return graph.build();
+  }
+
+  /**
+   * Sweeps a range of stripes, splitting it in halves until a single stripe is
+   * left. Gives NULL when rooms in the range are overlapping.
+   */
+  private static final class StripeTask extends RecursiveTask<RoomGraph.Builder> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Rectangles rectangles;
+    private final int[][] stripes;
+    private final int from;
+    private final int to;
+
+    StripeTask(Rectangles rectangles, int[][] stripes, int from, int to) {
+      this.rectangles = rectangles;
+      this.stripes = stripes;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected RoomGraph.Builder compute() {
+      if (to - from == 1) {
+        RoomGraph.Builder graph = new RoomGraph.Builder(rectangles.size());
+        return rectangles.addNeighbors(stripes[from], graph) ? graph : null;
+      }
+      int middle = (from + to) >>> 1;
+      StripeTask upper = new StripeTask(rectangles, stripes, from, middle);
+      upper.fork();
+      RoomGraph.Builder lower = new StripeTask(rectangles, stripes, middle, to).compute();
+      RoomGraph.Builder graph = upper.join();
+      if (Objects.isNull(graph) || Objects.isNull(lower)) {
+        return null;
+      }
+      return graph.addAll(lower);
+    }
+  }
+
+  /**
+   * Corners of the Rooms kept in one array per coordinate.
+   */
+  private static final class Rectangles {
+    private final int[] top;
+    private final int[] left;
+    private final int[] bottom;
+    private final int[] right;
+
+    Rectangles(List<Room> rooms) throws NullPointerException {
+      Objects.requireNonNull(rooms);
+      int numberOfRooms = rooms.size();
+      this.top = new int[numberOfRooms];
+      this.left = new int[numberOfRooms];
+      this.bottom = new int[numberOfRooms];
+      this.right = new int[numberOfRooms];
+      for (int i = 0; i < numberOfRooms; i++) {
+        int[] location = rooms.get(i).getLocation();
+        this.top[i] = location[0];
+        this.left[i] = location[1];
+        this.bottom[i] = location[2];
+        this.right[i] = location[3];
+      }
+    }
+
+    int size() {
+      return this.top.length;
+    }
+
+    /**
+     * Cuts the rows into stripes starting at the top rows of evenly spaced
+     * Rooms in row order, and lists the Rooms of every stripe.
+     */
+    int[][] stripes(int numberOfStripes) {
+      int[] tops = this.top.clone();
+      Arrays.sort(tops);
+      int[] starts = new int[numberOfStripes];
+      for (int stripe = 1; stripe < numberOfStripes; stripe++) {
+        starts[stripe] = tops[(int) ((long) tops.length * stripe / numberOfStripes)];
+      }
+      // Equal starts leave empty stripes, which are harmless.
+      int[] sizes = new int[numberOfStripes];
+      for (int room = 0; room < size(); room++) {
+        for (int stripe = stripeOf(starts, this.top[room]);
+            stripe <= stripeOf(starts, this.bottom[room] + 1); stripe++) {
+          sizes[stripe]++;
+        }
+      }
+      int[][] stripes = new int[numberOfStripes][];
+      for (int stripe = 0; stripe < numberOfStripes; stripe++) {
+        stripes[stripe] = new int[sizes[stripe]];
+        sizes[stripe] = 0;
+      }
+      for (int room = 0; room < size(); room++) {
+        for (int stripe = stripeOf(starts, this.top[room]);
+            stripe <= stripeOf(starts, this.bottom[room] + 1); stripe++) {
+          stripes[stripe][sizes[stripe]++] = room;
+        }
+      }
+      return stripes;
+    }
+
+    private static int stripeOf(int[] starts, int row) {
+      int position = Arrays.binarySearch(starts, row);
+      if (position < 0) {
+        return -position - 2;
+      }
+      // Skip to the last of equal starts, the stripes before it are empty.
+      while (position + 1 < starts.length && starts[position + 1] == row) {
+        position++;
+      }
+      return position;
+    }
+
+    /**
+     * Adds the neighbors among the given Rooms to the graph.
+     *
+     * @return false when rooms are overlapping.
+     */
+    boolean addNeighbors(int[] rooms, RoomGraph.Builder graph) {
+      int[] byTop = sortedRooms(rooms, this.top, this.left);
+      int[] byBottom = sortedRooms(rooms, this.bottom, this.left);
+      if (isOverlapping(byTop, byBottom)) {
+        return false;
+      }
+      // Rooms below each other share a row boundary, rooms side by side a column boundary.
+      addTouchingRooms(byBottom, byTop, this.bottom, this.top, this.left, this.right, graph);
+      addTouchingRooms(sortedRooms(rooms, this.right, this.top),
+          sortedRooms(rooms, this.left, this.top), this.right, this.left, this.top,
+          this.bottom, graph);
+      return true;
+    }
+
+    private boolean isOverlapping(int[] byTop, int[] byBottom) {
+      // Rooms crossing the current row by their left column, their column ranges never overlap.
+      TreeMap<Integer, Integer> active = new TreeMap<>();
+      int ended = 0;
+      for (int room : byTop) {
+        while (ended < byBottom.length && this.bottom[byBottom[ended]] < this.top[room]) {
+          active.remove(this.left[byBottom[ended++]]);
+        }
+        // Only the active room starting last before the right end can reach this room.
+        Map.Entry<Integer, Integer> before = active.floorEntry(this.right[room]);
+        if (Objects.nonNull(before) && this.right[before.getValue()] >= this.left[room]) {
+          return true;
+        }
+        active.put(this.left[room], room);
+      }
+      return false;
+    }
+  }
+
+  private static void addTouchingRooms(int[] byEnd, int[] byStart, int[] end, int[] start,
+      int[] from, int[] to, RoomGraph.Builder graph) {
+    int i = 0;
+    int j = 0;
+    while (i < byEnd.length && j < byStart.length) {
+      int boundary = end[byEnd[i]] + 1;
+      if (boundary < start[byStart[j]]) {
+        i++;
+        continue;
+      }
+      if (boundary > start[byStart[j]]) {
+        j++;
+        continue;
+      }
+      // Both runs along this boundary are sorted and do not overlap, so merge them.
+      int endOfRun = i;
+      while (endOfRun < byEnd.length && end[byEnd[endOfRun]] + 1 == boundary) {
+        endOfRun++;
+      }
+      int startOfRun = j;
+      while (startOfRun < byStart.length && start[byStart[startOfRun]] == boundary) {
+        startOfRun++;
+      }
+      while (i < endOfRun && j < startOfRun) {
+        int room = byEnd[i];
+        int other = byStart[j];
+        if (Math.max(from[room], from[other]) <= Math.min(to[room], to[other])) {
+          graph.addNeighbors(room, other);
+        }
+        if (to[room] <= to[other]) {
+          i++;
+        } else {
+          j++;
+        }
+      }
+      i = endOfRun;
+      j = startOfRun;
+    }
+  }
+
+  private static int[] sortedRooms(int[] rooms, int[] primary, int[] secondary) {
+    // Coordinates are never negative, so packing them as keys of longs sorts them as numbers.
+    long[] keys = new long[rooms.length];
+    for (int k = 0; k < keys.length; k++) {
+      keys[k] = (long) secondary[rooms[k]] << 32 | k;
+    }
+    Arrays.sort(keys);
+    int[] bySecondary = new int[keys.length];
+    int[] rank = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      bySecondary[i] = rooms[(int) keys[i]];
+      rank[(int) keys[i]] = i;
+    }
+    for (int k = 0; k < keys.length; k++) {
+      keys[k] = (long) primary[rooms[k]] << 32 | rank[k];
+    }
+    Arrays.sort(keys);
+    int[] sorted = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      sorted[i] = bySecondary[(int) keys[i]];
+    }
+    return sorted;
+  }
+}
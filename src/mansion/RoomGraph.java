@@ -0,0 +1,261 @@
+package mansion;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * Adjacency graph of the Rooms in the Mansion stored in compressed sparse row
+ * form. The neighbors of room r are stored in neighbors[offsets[r]] to
+ * neighbors[offsets[r + 1] - 1] in ascending order. The graph is immutable and
+ * can be shared by every Mansion built from the same world specification.
+ */
+public final class RoomGraph {
+  private final int[] offsets;
+  private final int[] neighbors;
+  private volatile BitSet[] neighborRows;
+
+  private RoomGraph(int[] offsets, int[] neighbors) {
+    this.offsets = offsets;
+    this.neighbors = neighbors;
+    this.neighborRows = null;
+  }
+
+  /**
+   * Creates a graph from arrays in compressed sparse row form. The arrays are
+   * used as is and should not be modified afterwards.
+   *
+   * @param offsets   start of the neighbors of every room, followed by the total
+   *                  number of neighbors.
+   * @param neighbors neighbors of every room in ascending order.
+   * @return the Room Graph.
+   * @throws NullPointerException     when offsets or neighbors is NULL.
+   * @throws IllegalArgumentException when the arrays are not in compressed
+   *                                  sparse row form.
+   */
+  public static RoomGraph of(int[] offsets, int[] neighbors)
+      throws NullPointerException, IllegalArgumentException {
+    if (offsets.length == 0 || offsets[0] != 0
+        || offsets[offsets.length - 1] != neighbors.length) {
+      throw new IllegalArgumentException("Offsets do not match the list of neighbors.");
+    }
+    int rooms = offsets.length - 1;
+    for (int room = 0; room < rooms; room++) {
+      if (offsets[room] > offsets[room + 1]) {
+        throw new IllegalArgumentException("Offsets should be in ascending order.");
+      }
+      for (int i = offsets[room]; i < offsets[room + 1]; i++) {
+        if (neighbors[i] < 0 || neighbors[i] >= rooms || neighbors[i] == room
+            || (i > offsets[room] && neighbors[i - 1] >= neighbors[i])) {
+          throw new IllegalArgumentException("Invalid neighbor for room " + room + ".");
+        }
+      }
+    }
+    return new RoomGraph(offsets, neighbors);
+  }
+
+  /**
+   * Gets the number of rooms in the graph.
+   *
+   * @return number of rooms.
+   */
+  public int getNumberOfRooms() {
+    return this.offsets.length - 1;
+  }
+
+  /**
+   * Gets the number of neighbors of a room.
+   *
+   * @param room room number.
+   * @return number of neighbors.
+   */
+  public int degree(int room) {
+    return this.offsets[room + 1] - this.offsets[room];
+  }
+
+  /**
+   * Gets the i-th neighbor of a room.
+   *
+   * @param room  room number.
+   * @param index position of the neighbor, from 0 to degree - 1.
+   * @return room number of the neighbor.
+   * @throws IndexOutOfBoundsException when index is not a valid position.
+   */
+  public int neighbor(int room, int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= degree(room)) {
+      throw new IndexOutOfBoundsException("Room " + room + " has no neighbor " + index + ".");
+    }
+    return this.neighbors[this.offsets[room] + index];
+  }
+
+  /**
+   * Checks if two rooms are neighbors.
+   *
+   * @param room  room number.
+   * @param other other room number.
+   * @return true if the rooms share a wall, false otherwise.
+   */
+  public boolean isNeighbor(int room, int other) {
+    return Arrays.binarySearch(this.neighbors, this.offsets[room], this.offsets[room + 1],
+        other) >= 0;
+  }
+
+  /**
+   * Calls the consumer for every neighbor of the room in ascending order.
+   *
+   * @param room     room number.
+   * @param consumer consumer for the neighbors.
+   */
+  public void forEachNeighbor(int room, IntConsumer consumer) {
+    for (int i = this.offsets[room]; i < this.offsets[room + 1]; i++) {
+      consumer.accept(this.neighbors[i]);
+    }
+  }
+
+  /**
+   * Gets a row of bits for every room marking its neighbors, built the first
+   * time it is asked for and shared by every Mansion on this graph. The rows
+   * must not be modified.
+   *
+   * @return the rows of neighbors.
+   */
+  BitSet[] neighborRows() {
+    BitSet[] rows = this.neighborRows;
+    if (rows == null) {
+      // Mansions built at once can both build the rows, either one is kept.
+      int rooms = getNumberOfRooms();
+      rows = new BitSet[rooms];
+      for (int room = 0; room < rooms; room++) {
+        BitSet row = new BitSet(rooms);
+        forEachNeighbor(room, row::set);
+        rows[room] = row;
+      }
+      this.neighborRows = rows;
+    }
+    return rows;
+  }
+
+  /**
+   * Gets the total number of directed edges in the graph, which is twice the
+   * number of pairs of neighboring rooms.
+   *
+   * @return number of directed edges.
+   */
+  public int getNumberOfEdges() {
+    return this.neighbors.length;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(offsets) + Arrays.hashCode(neighbors);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RoomGraph)) {
+      return false;
+    }
+    RoomGraph other = (RoomGraph) obj;
+    return Arrays.equals(offsets, other.offsets) && Arrays.equals(neighbors, other.neighbors);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder graph = new StringBuilder("{");
+    for (int room = 0; room < getNumberOfRooms(); room++) {
+      graph.append(room == 0 ? "" : ", ").append(room).append("=")
+          .append(Arrays.toString(Arrays.copyOfRange(neighbors, offsets[room],
+              offsets[room + 1])));
+    }
+    return graph.append("}").toString();
+  }
+
+  /**
+   * Builder which collects pairs of neighboring rooms in any order and with
+   * duplicates, and packs them into a Room Graph.
+   */
+  public static final class Builder {
+    private final int numberOfRooms;
+    private long[] edges;
+    private int size;
+
+    /**
+     * Creates a builder for a graph with the given number of rooms.
+     *
+     * @param rooms number of rooms.
+     * @throws IllegalArgumentException when number of rooms is negative.
+     */
+    public Builder(int rooms) throws IllegalArgumentException {
+      if (rooms < 0) {
+        throw new IllegalArgumentException("Number of Rooms cannot be Negative.");
+      }
+      this.numberOfRooms = rooms;
+      this.edges = new long[16];
+      this.size = 0;
+    }
+
+    /**
+     * Records that two rooms are neighbors of each other.
+     *
+     * @param room  room number.
+     * @param other other room number.
+     * @return the Builder.
+     * @throws IllegalArgumentException when a room number is out of bounds or
+     *                                  both rooms are the same.
+     */
+    public Builder addNeighbors(int room, int other) throws IllegalArgumentException {
+      if (room < 0 || other < 0 || room >= numberOfRooms || other >= numberOfRooms
+          || room == other) {
+        throw new IllegalArgumentException("Invalid pair of neighbors " + room + ", " + other);
+      }
+      if (size + 2 > edges.length) {
+        edges = Arrays.copyOf(edges, edges.length * 2);
+      }
+      edges[size++] = ((long) room << 32) | other;
+      edges[size++] = ((long) other << 32) | room;
+      return this;
+    }
+
+    /**
+     * Records the pairs recorded by another builder for the same rooms.
+     *
+     * @param other builder to take the pairs from.
+     * @return the Builder.
+     */
+    Builder addAll(Builder other) {
+      if (size + other.size > edges.length) {
+        edges = Arrays.copyOf(edges, Math.max(edges.length * 2, size + other.size));
+      }
+      System.arraycopy(other.edges, 0, edges, size, other.size);
+      size += other.size;
+      return this;
+    }
+
+    /**
+     * Packs the recorded pairs into a Room Graph, dropping duplicates.
+     *
+     * @return the Room Graph.
+     */
+    public RoomGraph build() {
+      long[] sorted = Arrays.copyOf(edges, size);
+      Arrays.sort(sorted);
+      int[] offsets = new int[numberOfRooms + 1];
+      int[] neighbors = new int[size];
+      int count = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        if (i > 0 && sorted[i] == sorted[i - 1]) {
+          continue;
+        }
+        offsets[(int) (sorted[i] >>> 32) + 1]++;
+        neighbors[count++] = (int) sorted[i];
+      }
+      for (int room = 0; room < numberOfRooms; room++) {
+        offsets[room + 1] += offsets[room];
+      }
+      return new RoomGraph(offsets, Arrays.copyOf(neighbors, count));
+    }
+  }
+}
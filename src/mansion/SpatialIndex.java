@@ -0,0 +1,116 @@
+package mansion;
+
+import java.util.List;
+import java.util.Objects;
+import room.Room;
+
+/**
+ * Finds the Room covering a cell of the Mansion. The Mansion is cut into a
+ * uniform grid of buckets, with about as many buckets as Rooms and about as
+ * many bucket rows per bucket column as the Mansion has rows per column. Every
+ * bucket lists the Rooms crossing it, so a lookup only checks the few Rooms of
+ * one bucket, whatever the number of Rooms.
+ *
+ * <p>The lists of all buckets are stored one after another in a single array,
+ * the same way the Room Graph stores neighbors, so the index takes memory
+ * proportional to the number of Rooms and not to the size of the Mansion.
+ */
+final class SpatialIndex {
+  private final int numberOfRows;
+  private final int numberOfColumns;
+  private final int bucketHeight;
+  private final int bucketWidth;
+  private final int bucketColumns;
+  private final int[] offsets;
+  private final int[] rooms;
+  private final int[] top;
+  private final int[] left;
+  private final int[] bottom;
+  private final int[] right;
+
+  /**
+   * Creates the index over the Rooms of a Mansion.
+   *
+   * @param rows     number of rows of the Mansion.
+   * @param columns  number of columns of the Mansion.
+   * @param roomList rooms of the Mansion, numbered by their position in the
+   *                 list.
+   * @throws NullPointerException     when room list is NULL.
+   * @throws IllegalArgumentException when size of the Mansion is negative or
+   *                                  zero.
+   */
+  SpatialIndex(int rows, int columns, List<Room> roomList)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(roomList);
+    if (rows <= 0 || columns <= 0) {
+      throw new IllegalArgumentException("Size of Mansion cannot be Negative or Zero.");
+    }
+    this.numberOfRows = rows;
+    this.numberOfColumns = columns;
+    int numberOfRooms = roomList.size();
+    this.top = new int[numberOfRooms];
+    this.left = new int[numberOfRooms];
+    this.bottom = new int[numberOfRooms];
+    this.right = new int[numberOfRooms];
+    for (int i = 0; i < numberOfRooms; i++) {
+      int[] location = roomList.get(i).getLocation();
+      this.top[i] = location[0];
+      this.left[i] = location[1];
+      this.bottom[i] = Math.min(location[2], rows - 1);
+      this.right[i] = Math.min(location[3], columns - 1);
+    }
+    int buckets = Math.max(1, numberOfRooms);
+    int bucketRows = (int) Math.min(rows,
+        Math.max(1, Math.round(Math.sqrt((double) buckets * rows / columns))));
+    int wantedColumns = Math.min(columns, (buckets - 1) / bucketRows + 1);
+    this.bucketHeight = (rows - 1) / bucketRows + 1;
+    this.bucketWidth = (columns - 1) / wantedColumns + 1;
+    bucketRows = (rows - 1) / this.bucketHeight + 1;
+    this.bucketColumns = (columns - 1) / this.bucketWidth + 1;
+    // Count the rooms of every bucket first, then fill the lists in room order.
+    this.offsets = new int[bucketRows * this.bucketColumns + 1];
+    for (int room = 0; room < numberOfRooms; room++) {
+      for (int i = this.top[room] / bucketHeight; i <= this.bottom[room] / bucketHeight; i++) {
+        for (int j = this.left[room] / bucketWidth; j <= this.right[room] / bucketWidth; j++) {
+          this.offsets[i * this.bucketColumns + j + 1]++;
+        }
+      }
+    }
+    for (int bucket = 1; bucket < this.offsets.length; bucket++) {
+      this.offsets[bucket] += this.offsets[bucket - 1];
+    }
+    this.rooms = new int[this.offsets[this.offsets.length - 1]];
+    int[] filled = new int[this.offsets.length - 1];
+    for (int room = 0; room < numberOfRooms; room++) {
+      for (int i = this.top[room] / bucketHeight; i <= this.bottom[room] / bucketHeight; i++) {
+        for (int j = this.left[room] / bucketWidth; j <= this.right[room] / bucketWidth; j++) {
+          int bucket = i * this.bucketColumns + j;
+          this.rooms[this.offsets[bucket] + filled[bucket]++] = room;
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds the Room covering a cell.
+   *
+   * @param row    row of the cell.
+   * @param column column of the cell.
+   * @return room number, -1 when no room covers the cell.
+   * @throws IllegalArgumentException when the cell is outside the Mansion.
+   */
+  int roomAt(int row, int column) throws IllegalArgumentException {
+    if (row < 0 || column < 0 || row >= this.numberOfRows || column >= this.numberOfColumns) {
+      throw new IllegalArgumentException("Cell is outside the Mansion.");
+    }
+    int bucket = (row / this.bucketHeight) * this.bucketColumns + column / this.bucketWidth;
+    for (int i = this.offsets[bucket]; i < this.offsets[bucket + 1]; i++) {
+      int room = this.rooms[i];
+      if (row >= this.top[room] && row <= this.bottom[room] && column >= this.left[room]
+          && column <= this.right[room]) {
+        return room;
+      }
+    }
+    return -1;
+  }
+}
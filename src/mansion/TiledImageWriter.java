@@ -0,0 +1,170 @@
+package mansion;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import room.Room;
+import utils.PngWriter;
+
+/**
+ * Writes the graphical representation of a Mansion as a PNG image without
+ * holding the whole image in memory. The image is cut into bands of rows, the
+ * bands are drawn and compressed in parallel and written in order, with only a
+ * few bands per thread in memory at any time.
+ *
+ * <p>Every band draws the Rooms crossing it the same way the whole image is
+ * drawn, moved up to the top of the band, so the PNG image has the same pixels
+ * as the image of createGraphicalRepresentation.
+ */
+final class TiledImageWriter {
+  static final int SCALE = 30;
+  static final int PADDING = 20;
+  private static final int BAND_PIXELS = 1 << 20;
+  private static final int MAXIMUM_BAND_HEIGHT = 256;
+  private static final int BANDS_PER_THREAD = 2;
+
+  private final int width;
+  private final int height;
+  private final int bandHeight;
+  private final List<Room> rooms;
+  private final int[] offsets;
+  private final int[] bandRooms;
+
+  /**
+   * Creates the writer of the image of a Mansion.
+   *
+   * @param rows     number of rows of the Mansion.
+   * @param columns  number of columns of the Mansion.
+   * @param roomList rooms of the Mansion.
+   * @throws NullPointerException     when room list is NULL.
+   * @throws IllegalArgumentException when size of the Mansion is negative or
+   *                                  zero.
+   */
+  TiledImageWriter(int rows, int columns, List<Room> roomList)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(roomList);
+    if (rows <= 0 || columns <= 0) {
+      throw new IllegalArgumentException("Size of Mansion cannot be Negative or Zero.");
+    }
+    this.width = (columns + 2) * SCALE;
+    this.height = (rows + 2) * SCALE;
+    this.bandHeight = Math.max(1, Math.min(MAXIMUM_BAND_HEIGHT, BAND_PIXELS / this.width));
+    this.rooms = roomList;
+    int bands = (this.height - 1) / this.bandHeight + 1;
+    // The rooms of every band are listed one after another, like the buckets of
+    // the spatial index.
+    this.offsets = new int[bands + 1];
+    for (Room room : roomList) {
+      for (int band = firstBand(room); band <= lastBand(room); band++) {
+        this.offsets[band + 1]++;
+      }
+    }
+    for (int band = 1; band <= bands; band++) {
+      this.offsets[band] += this.offsets[band - 1];
+    }
+    this.bandRooms = new int[this.offsets[bands]];
+    int[] filled = new int[bands];
+    for (int i = 0; i < roomList.size(); i++) {
+      Room room = roomList.get(i);
+      for (int band = firstBand(room); band <= lastBand(room); band++) {
+        this.bandRooms[this.offsets[band] + filled[band]++] = i;
+      }
+    }
+  }
+
+  private int firstBand(Room room) {
+    // The name is drawn inside the room, below its top border.
+    int top = room.getLocation()[0] * SCALE + PADDING;
+    return Math.max(0, Math.min(top, this.height - 1) / this.bandHeight);
+  }
+
+  private int lastBand(Room room) {
+    // The bottom border, with a cell more so the name is always in the bands.
+    int bottom = (room.getLocation()[2] + 2) * SCALE + PADDING;
+    return Math.max(0, Math.min(bottom, this.height - 1) / this.bandHeight);
+  }
+
+  /**
+   * Gets the width of the image.
+   *
+   * @return width in pixels.
+   */
+  int getWidth() {
+    return this.width;
+  }
+
+  /**
+   * Gets the height of the image.
+   *
+   * @return height in pixels.
+   */
+  int getHeight() {
+    return this.height;
+  }
+
+  /**
+   * Writes the image, drawing and compressing the bands on a pool.
+   *
+   * @param output the stream to write the PNG image to.
+   * @param pool   the pool drawing the bands.
+   * @throws NullPointerException when output or pool is NULL.
+   * @throws IOException          when the image cannot be written.
+   */
+  void write(OutputStream output, ForkJoinPool pool) throws NullPointerException, IOException {
+    Objects.requireNonNull(output);
+    Objects.requireNonNull(pool);
+    int bands = this.offsets.length - 1;
+    int window = Math.max(2, pool.getParallelism() * BANDS_PER_THREAD);
+    Deque<CompletableFuture<PngWriter.Rows>> pending = new ArrayDeque<>();
+    PngWriter writer = new PngWriter(output, this.width, this.height);
+    int next = 0;
+    try {
+      while (next < bands || !pending.isEmpty()) {
+        while (next < bands && pending.size() < window) {
+          int band = next++;
+          pending.add(CompletableFuture.supplyAsync(() -> drawBand(band), pool));
+        }
+        writer.write(pending.remove().join());
+      }
+    } catch (CompletionException e) {
+      for (CompletableFuture<PngWriter.Rows> band : pending) {
+        band.cancel(false);
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    writer.close();
+  }
+
+  private PngWriter.Rows drawBand(int band) {
+    int top = band * this.bandHeight;
+    int rows = Math.min(this.bandHeight, this.height - top);
+    BufferedImage image = new BufferedImage(this.width, rows, BufferedImage.TYPE_INT_RGB);
+    Graphics graphics = image.createGraphics();
+    graphics.translate(0, -top);
+    for (int i = this.offsets[band]; i < this.offsets[band + 1]; i++) {
+      Room room = this.rooms.get(this.bandRooms[i]);
+      int[] location = room.getLocation();
+      int y = location[0] * SCALE + PADDING;
+      int x = location[1] * SCALE + PADDING;
+      int roomHeight = (location[2] - location[0] + 1) * SCALE;
+      int roomWidth = (location[3] - location[1] + 1) * SCALE;
+      graphics.drawString(room.getName(), x + SCALE, y + SCALE);
+      graphics.drawRect(x, y, roomWidth, roomHeight);
+    }
+    graphics.dispose();
+    int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    return PngWriter.compress(pixels, 0, this.width, this.width, rows);
+  }
+}
@@ -0,0 +1,172 @@
+package mansion;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import player.Player;
+
+/**
+ * Answers which rooms can be seen from which and whether a player can be seen
+ * by any other player. A room can be seen from its neighbors unless the target
+ * pet is in it. A player is seen when another player is in the same room, or
+ * when a neighboring room is occupied and the target pet is not in the room of
+ * the player.
+ *
+ * <p>The rules are static methods taking the rooms of the pet and the players,
+ * so that the immutable GameState follows the very same rules as the Mansion;
+ * an engine keeps those rooms for a Mansion, reading the rooms of the players
+ * again after a player is added or a turn is played.
+ *
+ * <p>Every room has a row of bits marking its neighbors. The rows only depend
+ * on the room graph, so they are built once per graph and shared by every
+ * Mansion and game state on it. They take memory proportional to the square of
+ * the number of rooms, so they are only used for Mansions of up to
+ * {@value #MAXIMUM_ROOMS_FOR_ROWS} rooms, larger ones are answered from the
+ * room graph.
+ */
+final class VisibilityEngine {
+  static final int MAXIMUM_ROOMS_FOR_ROWS = 4096;
+
+  private final RoomGraph mansionGraph;
+  private final BitSet[] neighborRows;
+  private int[] playerLocations;
+  private int numberOfPlayers;
+  private int petLocation;
+  private boolean dirty;
+
+  /**
+   * Creates the engine for the rooms of a Mansion.
+   *
+   * @param graph adjacency graph of the rooms.
+   * @param pet   room of the target pet.
+   * @throws NullPointerException     when graph is NULL.
+   * @throws IllegalArgumentException when room of the pet does not exist.
+   */
+  VisibilityEngine(RoomGraph graph, int pet)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(graph);
+    if (pet < 0 || pet >= graph.getNumberOfRooms()) {
+      throw new IllegalArgumentException("Room of the Target Pet does not exist.");
+    }
+    this.mansionGraph = graph;
+    this.petLocation = pet;
+    this.neighborRows = neighborRows(graph);
+    this.playerLocations = new int[0];
+    this.numberOfPlayers = 0;
+    this.dirty = true;
+  }
+
+  /**
+   * Marks the rooms of the players as out of date. Called whenever a player is
+   * added or a turn is played.
+   */
+  void invalidate() {
+    this.dirty = true;
+  }
+
+  /**
+   * Records that the target pet moved.
+   *
+   * @param room new room of the target pet.
+   */
+  void movePet(int room) {
+    this.petLocation = room;
+  }
+
+  /**
+   * Checks if a room can be seen from a neighboring room.
+   *
+   * @param room  room looked from.
+   * @param other room looked at.
+   * @return true if the rooms are neighbors and the target pet is not in the
+   *         room looked at.
+   */
+  boolean isVisible(int room, int other) {
+    return isVisible(this.mansionGraph, this.neighborRows, this.petLocation, room, other);
+  }
+
+  /**
+   * Checks if a player is seen by any other player.
+   *
+   * @param players players in the game.
+   * @param player  number of the player to check.
+   * @return true if another player is in the same room or in a neighboring
+   *         room, and the target pet is not in the room of the player.
+   */
+  boolean isSeen(List<Player> players, int player) {
+    if (this.dirty) {
+      if (this.playerLocations.length < players.size()) {
+        this.playerLocations = new int[players.size()];
+      }
+      for (int i = 0; i < players.size(); i++) {
+        this.playerLocations[i] = players.get(i).getLocation();
+      }
+      this.numberOfPlayers = players.size();
+      this.dirty = false;
+    }
+    return isSeen(this.mansionGraph, this.neighborRows, this.petLocation,
+        this.playerLocations, this.numberOfPlayers, player);
+  }
+
+  /**
+   * Gets the neighbor rows of a room graph, when it is small enough to keep
+   * them.
+   *
+   * @param graph adjacency graph of the rooms.
+   * @return the rows, which must not be changed, or NULL for a large graph.
+   */
+  static BitSet[] neighborRows(RoomGraph graph) {
+    return graph.getNumberOfRooms() <= MAXIMUM_ROOMS_FOR_ROWS ? graph.neighborRows() : null;
+  }
+
+  /**
+   * Checks if a room can be seen from a neighboring room.
+   *
+   * @param graph adjacency graph of the rooms.
+   * @param rows  neighbor rows of the graph, NULL to ask the graph.
+   * @param pet   room of the target pet.
+   * @param room  room looked from.
+   * @param other room looked at.
+   * @return true if the rooms are neighbors and the target pet is not in the
+   *         room looked at.
+   */
+  static boolean isVisible(RoomGraph graph, BitSet[] rows, int pet, int room, int other) {
+    return other != pet && isNeighbor(graph, rows, room, other);
+  }
+
+  /**
+   * Checks if a player is seen by any other player.
+   *
+   * @param graph     adjacency graph of the rooms.
+   * @param rows      neighbor rows of the graph, NULL to ask the graph.
+   * @param pet       room of the target pet.
+   * @param locations rooms of the players.
+   * @param players   number of players.
+   * @param player    number of the player to check.
+   * @return true if another player is in the same room or in a neighboring
+   *         room, and the target pet is not in the room of the player.
+   */
+  static boolean isSeen(RoomGraph graph, BitSet[] rows, int pet, int[] locations, int players,
+      int player) {
+    int location = locations[player];
+    for (int i = 0; i < players; i++) {
+      if (i != player && locations[i] == location) {
+        return true;
+      }
+    }
+    if (location == pet) {
+      return false;
+    }
+    // A player in the room of the pet still looks out, so every neighbor counts.
+    for (int i = 0; i < players; i++) {
+      if (isNeighbor(graph, rows, location, locations[i])) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isNeighbor(RoomGraph graph, BitSet[] rows, int room, int other) {
+    return Objects.nonNull(rows) ? rows[room].get(other) : graph.isNeighbor(room, other);
+  }
+}
@@ -0,0 +1,295 @@
+package mansion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Single pass tokenizer for world specifications. It reads numbers and lines
+ * the same way a Scanner does with next and nextLine, but it reads the input
+ * through one buffer and parses numbers without creating Strings. Errors give
+ * the line and column in the world specification where they happened.
+ *
+ * <p>A tokenizer over a file channel maps the file into memory a window at a
+ * time and works on the bytes directly. Numbers are parsed from the bytes and
+ * only the names are decoded as UTF-8, so the heap used does not grow with the
+ * size of the file. Columns are then counted in bytes.
+ */
+public final class WorldTokenizer implements Closeable {
+  private static final int BUFFER_SIZE = 8192;
+  private static final long MAP_WINDOW_SIZE = 64L << 20;
+
+  private final Closeable closeable;
+  private final Readable source;
+  private final char[] buffer;
+  private final CharBuffer charBuffer;
+  private final FileChannel channel;
+  private final StringBuilder text;
+  private byte[] encodedText;
+  private final byte[] byteBuffer;
+  private ByteBuffer window;
+  private long mappedUpTo;
+  private int position;
+  private int limit;
+  private boolean endOfInput;
+  private int line;
+  private int column;
+  private boolean afterCarriageReturn;
+
+  /**
+   * Creates a tokenizer reading from the given source.
+   *
+   * @param readable source of the world specification.
+   * @throws NullPointerException when source is NULL.
+   */
+  public WorldTokenizer(Readable readable) throws NullPointerException {
+    Objects.requireNonNull(readable);
+    this.closeable = readable instanceof Closeable ? (Closeable) readable : null;
+    this.source = readable;
+    this.buffer = new char[BUFFER_SIZE];
+    this.charBuffer = CharBuffer.wrap(this.buffer);
+    this.channel = null;
+    this.byteBuffer = null;
+    this.window = null;
+    this.mappedUpTo = 0;
+    this.text = new StringBuilder();
+    this.encodedText = null;
+    this.position = 0;
+    this.limit = 0;
+    this.endOfInput = false;
+    this.line = 1;
+    this.column = 1;
+    this.afterCarriageReturn = false;
+  }
+
+  /**
+   * Creates a tokenizer reading a UTF-8 world specification from a file
+   * channel, which is mapped into memory instead of being read.
+   *
+   * @param fileChannel channel of the world specification file.
+   * @throws NullPointerException when channel is NULL.
+   */
+  public WorldTokenizer(FileChannel fileChannel) throws NullPointerException {
+    Objects.requireNonNull(fileChannel);
+    this.closeable = fileChannel;
+    this.source = null;
+    this.buffer = null;
+    this.charBuffer = null;
+    this.channel = fileChannel;
+    this.byteBuffer = new byte[BUFFER_SIZE];
+    this.window = null;
+    this.mappedUpTo = 0;
+    this.text = null;
+    this.encodedText = new byte[64];
+    this.position = 0;
+    this.limit = 0;
+    this.endOfInput = false;
+    this.line = 1;
+    this.column = 1;
+    this.afterCarriageReturn = false;
+  }
+
+  /**
+   * Reads the next whitespace separated token as a number.
+   *
+   * @return the number.
+   * @throws NumberFormatException  when the token is not a number or does not
+   *                                fit in an integer.
+   * @throws NoSuchElementException when there are no more tokens.
+   * @throws IllegalStateException  when the source cannot be read.
+   */
+  public int nextInt()
+      throws NumberFormatException, NoSuchElementException, IllegalStateException {
+    int c = peek();
+    while (c != -1 && Character.isWhitespace(c)) {
+      read();
+      c = peek();
+    }
+    if (c == -1) {
+      throw new NoSuchElementException(
+          String.format("Expected a number at line %d, column %d but found end of input.",
+              this.line, this.column));
+    }
+    int tokenLine = this.line;
+    int tokenColumn = this.column;
+    boolean negative = c == '-';
+    if (c == '-' || c == '+') {
+      read();
+      c = peek();
+    }
+    // Accumulate negatively like Integer.parseInt, so MIN_VALUE still fits.
+    int result = 0;
+    int digits = 0;
+    while (c != -1 && !Character.isWhitespace(c)) {
+      int digit = Character.digit(c, 10);
+      if (digit < 0 || result < (Integer.MIN_VALUE + digit) / 10) {
+        throw invalidNumber(tokenLine, tokenColumn);
+      }
+      result = result * 10 - digit;
+      digits++;
+      read();
+      c = peek();
+    }
+    if (digits == 0 || (!negative && result == Integer.MIN_VALUE)) {
+      throw invalidNumber(tokenLine, tokenColumn);
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Reads the rest of the current line, leaving out the line separator.
+   *
+   * @return rest of the line.
+   * @throws NoSuchElementException when there is no more input.
+   * @throws IllegalStateException  when the source cannot be read.
+   */
+  public String nextLine() throws NoSuchElementException, IllegalStateException {
+    int c = peek();
+    if (c == -1) {
+      throw new NoSuchElementException(
+          String.format("Expected a line at line %d, column %d but found end of input.",
+              this.line, this.column));
+    }
+    String rest;
+    if (Objects.isNull(this.channel)) {
+      this.text.setLength(0);
+      while (c != -1 && !isLineSeparator(c)) {
+        this.text.append((char) read());
+        c = peek();
+      }
+      rest = this.text.toString();
+    } else {
+      int length = 0;
+      while (c != -1 && !isLineSeparator(c)) {
+        if (length == this.encodedText.length) {
+          this.encodedText = Arrays.copyOf(this.encodedText, length * 2);
+        }
+        this.encodedText[length++] = (byte) read();
+        c = peek();
+      }
+      rest = new String(this.encodedText, 0, length, StandardCharsets.UTF_8);
+    }
+    if (c != -1) {
+      read();
+      if (c == '\r' && peek() == '\n') {
+        read();
+      }
+    }
+    return rest;
+  }
+
+  /**
+   * Closes the source when it is closeable, the same way a Scanner does.
+   *
+   * @throws IllegalStateException when the source cannot be closed.
+   */
+  @Override
+  public void close() throws IllegalStateException {
+    this.window = null;
+    if (Objects.nonNull(this.closeable)) {
+      try {
+        this.closeable.close();
+      } catch (IOException exception) {
+        throw new IllegalStateException("Could not close the world specification.", exception);
+      }
+    }
+  }
+
+  private static NumberFormatException invalidNumber(int tokenLine, int tokenColumn) {
+    return new NumberFormatException(
+        String.format("Invalid number at line %d, column %d.", tokenLine, tokenColumn));
+  }
+
+  private boolean isLineSeparator(int c) {
+    // In UTF-8 the other separators are several bytes, and 0x85 is part of one.
+    return c == '\n' || c == '\r' || (Objects.isNull(this.channel)
+        && (c == '\u2028' || c == '\u2029' || c == '\u0085'));
+  }
+
+  private int peek() throws IllegalStateException {
+    if (this.position == this.limit && !fill()) {
+      return -1;
+    }
+    return Objects.isNull(this.channel) ? this.buffer[this.position]
+        : this.byteBuffer[this.position] & 0xFF;
+  }
+
+  private int read() throws IllegalStateException {
+    int c = peek();
+    if (c == -1) {
+      return -1;
+    }
+    this.position++;
+    if (c == '\n' && this.afterCarriageReturn) {
+      this.afterCarriageReturn = false;
+    } else if (isLineSeparator(c)) {
+      this.line++;
+      this.column = 1;
+      this.afterCarriageReturn = c == '\r';
+    } else {
+      this.column++;
+      this.afterCarriageReturn = false;
+    }
+    return c;
+  }
+
+  private boolean fill() throws IllegalStateException {
+    if (this.endOfInput) {
+      return false;
+    }
+    if (Objects.nonNull(this.channel)) {
+      return fillFromWindow();
+    }
+    try {
+      int read;
+      do {
+        this.charBuffer.clear();
+        read = this.source.read(this.charBuffer);
+      } while (read == 0);
+      if (read < 0) {
+        this.endOfInput = true;
+        return false;
+      }
+      this.position = 0;
+      this.limit = read;
+      return true;
+    } catch (IOException exception) {
+      throw new IllegalStateException("Could not read the world specification.", exception);
+    }
+  }
+
+  private boolean fillFromWindow() throws IllegalStateException {
+    // Copying a chunk out of the mapped window is cheaper than reading it byte by byte.
+    if ((Objects.isNull(this.window) || !this.window.hasRemaining()) && !mapNextWindow()) {
+      this.endOfInput = true;
+      return false;
+    }
+    int length = Math.min(this.byteBuffer.length, this.window.remaining());
+    this.window.get(this.byteBuffer, 0, length);
+    this.position = 0;
+    this.limit = length;
+    return true;
+  }
+
+  private boolean mapNextWindow() throws IllegalStateException {
+    try {
+      long size = this.channel.size();
+      if (this.mappedUpTo >= size) {
+        this.window = null;
+        return false;
+      }
+      long length = Math.min(MAP_WINDOW_SIZE, size - this.mappedUpTo);
+      this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, this.mappedUpTo, length);
+      this.mappedUpTo += length;
+      return true;
+    } catch (IOException exception) {
+      throw new IllegalStateException("Could not map the world specification.", exception);
+    }
+  }
+}
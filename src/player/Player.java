@@ -74,4 +74,32 @@ public interface Player {
    * @return map of items names with damage that player has.
    */
   public Map<String, Integer> getItemDetails();
+
+  /**
+   * Gets the item picking capacity the player started with.
+   * 
+   * @return item picking capacity, -1 when it is unlimited.
+   */
+  int getCapacity();
+
+  /**
+   * Checks if an item picking capacity is one a player can start with.
+   * 
+   * @param capacity item picking capacity, -1 when it is unlimited.
+   * @return true if the capacity is positive or unlimited.
+   */
+  static boolean isValidCapacity(int capacity) {
+    return capacity >= 1 || capacity == -1;
+  }
+
+  /**
+   * Checks if a player with an item picking capacity can pick another item.
+   * 
+   * @param capacity item picking capacity, -1 when it is unlimited.
+   * @param carried  number of items the player has.
+   * @return true if the player has capacity left.
+   */
+  static boolean canPick(int capacity, int carried) {
+    return capacity == -1 || capacity > carried;
+  }
 }
@@ -49,7 +49,7 @@ public class PlayerImpl implements Player {
     if (location < 0) {
       throw new IllegalArgumentException("Location cannot be negative.");
     }
-    if (startingCapacity < 1 && startingCapacity != -1) {
+    if (!Player.isValidCapacity(startingCapacity)) {
       throw new IllegalArgumentException("Starting capacity cannot be negative or zero.");
     }
   }
@@ -76,7 +76,7 @@ public class PlayerImpl implements Player {
   public void addItem(Item item)
       throws IllegalArgumentException, NullPointerException, IllegalStateException {
     Objects.requireNonNull(item);
-    if (this.capacity == -1 || this.capacity > this.listOfItems.size()) {
+    if (Player.canPick(this.capacity, this.listOfItems.size())) {
       if (this.listOfItems.contains(item)) {
         throw new IllegalArgumentException(
             item.getName() + "is already picked up by " + this.getName());
@@ -140,4 +140,9 @@ public class PlayerImpl implements Player {
     return this.listOfItems.stream()
         .collect(Collectors.toMap(r -> r.getName(), r -> r.getDamage()));
   }
+
+  @Override
+  public int getCapacity() {
+    return this.capacity;
+  }
 }
\ No newline at end of file
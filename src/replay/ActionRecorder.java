@@ -0,0 +1,118 @@
+package replay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import journal.GameEvents;
+import utils.Action;
+
+/**
+ * Records the actions of games from their events, as they are played or read
+ * back from an event journal. Moves of the target and the pet at the end of a
+ * turn are left out, replaying the actions makes them again. The events of
+ * games played at the same time are told apart by the numbers of their games.
+ */
+public final class ActionRecorder implements GameEvents {
+  private final List<String> roomNames;
+  private final List<StartedGame> games;
+  private final Map<Integer, StartedGame> gameNumbers;
+
+  // A game with the turns and players it was started with.
+  private static final class StartedGame {
+    private final int turns;
+    private final int maxPlayers;
+    private final List<RecordedAction> actions;
+
+    private StartedGame(int numberOfTurns, int maximumPlayers) {
+      this.turns = numberOfTurns;
+      this.maxPlayers = maximumPlayers;
+      this.actions = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Creates a recorder for games played in a world.
+   *
+   * @param rooms names of the rooms of the world, in the order of their room
+   *              numbers.
+   * @throws NullPointerException when rooms is NULL.
+   */
+  public ActionRecorder(List<String> rooms) throws NullPointerException {
+    Objects.requireNonNull(rooms);
+    this.roomNames = new ArrayList<>(rooms);
+    this.games = new ArrayList<>();
+    this.gameNumbers = new HashMap<>();
+  }
+
+  /**
+   * Gets every game recorded with its turns, players and actions, in the order
+   * the games started.
+   *
+   * @return every game, which cannot be changed.
+   */
+  public List<RecordedGame> getGames() {
+    List<RecordedGame> recorded = new ArrayList<>(this.games.size());
+    for (StartedGame game : this.games) {
+      recorded.add(new RecordedGame(game.turns, game.maxPlayers, game.actions));
+    }
+    return Collections.unmodifiableList(recorded);
+  }
+
+  private void add(int game, Action action, String... arguments) throws IllegalStateException {
+    StartedGame started = this.gameNumbers.get(game);
+    if (Objects.isNull(started)) {
+      throw new IllegalStateException("Action recorded before its game started.");
+    }
+    started.actions.add(new RecordedAction(action, arguments));
+  }
+
+  private String room(int room) throws IllegalArgumentException {
+    if (room < 0 || room >= this.roomNames.size()) {
+      throw new IllegalArgumentException("Room number does not exist in the Mansion.");
+    }
+    return this.roomNames.get(room);
+  }
+
+  @Override
+  public void gameStarted(int game, int turns, int maxPlayers) {
+    // A journal appended to by another run of the program can have the number
+    // again, the events after this one are of the new game.
+    StartedGame started = new StartedGame(turns, maxPlayers);
+    this.games.add(started);
+    this.gameNumbers.put(game, started);
+  }
+
+  @Override
+  public void playerAdded(int game, String name, int room, int capacity, boolean isHuman) {
+    add(game, Action.ADD_PLAYER, name, room(room), String.valueOf(capacity),
+        String.valueOf(isHuman));
+  }
+
+  @Override
+  public void moved(int game, int player, int room) {
+    add(game, Action.MOVE, room(room));
+  }
+
+  @Override
+  public void picked(int game, int player, String item) {
+    add(game, Action.PICK, item);
+  }
+
+  @Override
+  public void looked(int game, int player) {
+    add(game, Action.LOOK);
+  }
+
+  @Override
+  public void petMoved(int game, int player, int room) {
+    add(game, Action.MOVEPET, room(room));
+  }
+
+  @Override
+  public void killAttempted(int game, int player, String item, boolean hit) {
+    add(game, Action.KILL, item);
+  }
+}
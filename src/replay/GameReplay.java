@@ -0,0 +1,210 @@
+package replay;
+
+import controller.ComputerMove;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import journal.GameEvents;
+import mansion.GameSnapshot;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import utils.Action;
+
+/**
+ * Replays a recorded game on a Mansion, so the game can be looked at after any
+ * number of its actions. The game is deterministic, so taking the recorded
+ * actions again gives the same states as the game played.
+ *
+ * <p>Every keyframe interval actions the replay takes a snapshot of the game
+ * the first time it gets there. Seeking restores the nearest keyframe at or
+ * before the wanted position and replays the actions from there, so a seek
+ * costs at most a keyframe interval of actions after the game was replayed up
+ * to the position once. Seeking forward from the current position replays
+ * only the actions in between.
+ */
+public final class GameReplay {
+  private static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+  private final Mansion mansion;
+  private final List<RecordedAction> actions;
+  private final int keyframeInterval;
+  private final GameSnapshot[] keyframes;
+  private final int[] turnPositions;
+  private int position;
+
+  /**
+   * Creates a replay taking a keyframe every 64 actions.
+   *
+   * @param builder builder of the world the game was played in, with the
+   *                number of turns and players of the game.
+   * @param game    the recorded game.
+   * @throws NullPointerException     when builder or game is NULL.
+   * @throws IllegalArgumentException when the builder has other turns or
+   *                                  players than the game, or the Mansion
+   *                                  cannot be built.
+   */
+  public GameReplay(MansionBuilder builder, RecordedGame game)
+      throws NullPointerException, IllegalArgumentException {
+    this(builder, game, DEFAULT_KEYFRAME_INTERVAL);
+  }
+
+  /**
+   * Creates a replay. The replay builds its own Mansion, and the actions it
+   * replays are not told to the game events set on the builder. The builder
+   * must have the turns and players the game was started with, or the
+   * replayed game would end at another turn than the recorded one.
+   *
+   * @param builder  builder of the world the game was played in, with the
+   *                 number of turns and players of the game.
+   * @param game     the recorded game.
+   * @param interval number of actions between two keyframes.
+   * @throws NullPointerException     when builder or game is NULL.
+   * @throws IllegalArgumentException when interval is negative or zero, the
+   *                                  builder has other turns or players than
+   *                                  the game, or the Mansion cannot be built.
+   */
+  public GameReplay(MansionBuilder builder, RecordedGame game, int interval)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(builder);
+    Objects.requireNonNull(game);
+    if (interval <= 0) {
+      throw new IllegalArgumentException("Keyframe interval cannot be Negative or Zero.");
+    }
+    if (builder.getNumberOfTurns() != game.getNumberOfTurns()
+        || builder.getMaximumNumberOfPlayers() != game.getMaximumNumberOfPlayers()) {
+      throw new IllegalArgumentException(
+          "Builder does not have the turns and players of the recorded game.");
+    }
+    this.actions = game.getActions();
+    // Position of the action of every turn, and the end of the game.
+    List<Integer> turns = new ArrayList<>();
+    for (int i = 0; i < this.actions.size(); i++) {
+      if (this.actions.get(i).getAction().isGamePlayAction()) {
+        turns.add(i);
+      }
+    }
+    turns.add(this.actions.size());
+    this.turnPositions = turns.stream().mapToInt(Integer::intValue).toArray();
+    this.keyframeInterval = interval;
+    this.keyframes = new GameSnapshot[this.actions.size() / interval + 1];
+    this.mansion = builder.build(GameEvents.NONE);
+    this.keyframes[0] = this.mansion.snapshot();
+    this.position = 0;
+  }
+
+  /**
+   * Gets the number of actions of the game.
+   *
+   * @return number of actions.
+   */
+  public int getNumberOfActions() {
+    return this.actions.size();
+  }
+
+  /**
+   * Gets the number of turns of the game, which is the number of game play
+   * actions.
+   *
+   * @return number of turns.
+   */
+  public int getNumberOfTurns() {
+    return this.turnPositions.length - 1;
+  }
+
+  /**
+   * Gets the number of actions taken in the replayed game.
+   *
+   * @return the position of the replay.
+   */
+  public int getPosition() {
+    return this.position;
+  }
+
+  /**
+   * Gets the number of keyframes taken so far.
+   *
+   * @return number of keyframes.
+   */
+  public int getNumberOfKeyframes() {
+    int count = 0;
+    for (GameSnapshot keyframe : this.keyframes) {
+      if (Objects.nonNull(keyframe)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Seeks to the state of the game after a number of its actions.
+   *
+   * @param target number of actions taken.
+   * @return the Mansion in that state, which is changed by the next seek and
+   *         should not be played on.
+   * @throws IllegalArgumentException when target is negative or more than the
+   *                                  number of actions.
+   * @throws IllegalStateException    when a recorded action cannot be taken
+   *                                  again, as it was recorded in another game.
+   */
+  public Mansion seek(int target) throws IllegalArgumentException, IllegalStateException {
+    if (target < 0 || target > this.actions.size()) {
+      throw new IllegalArgumentException("Position is not in the game.");
+    }
+    int keyframe = target / this.keyframeInterval;
+    while (Objects.isNull(this.keyframes[keyframe])) {
+      keyframe--;
+    }
+    int keyframePosition = keyframe * this.keyframeInterval;
+    if (this.position < keyframePosition || this.position > target) {
+      this.mansion.restore(this.keyframes[keyframe]);
+      this.position = keyframePosition;
+    }
+    while (this.position < target) {
+      take(this.actions.get(this.position));
+      this.position++;
+      if (this.position % this.keyframeInterval == 0) {
+        int next = this.position / this.keyframeInterval;
+        if (Objects.isNull(this.keyframes[next])) {
+          this.keyframes[next] = this.mansion.snapshot();
+        }
+      }
+    }
+    return this.mansion;
+  }
+
+  /**
+   * Seeks to the state of the game after a number of turns, with the players
+   * added before the next turn.
+   *
+   * @param turn number of turns played.
+   * @return the Mansion in that state, which is changed by the next seek and
+   *         should not be played on.
+   * @throws IllegalArgumentException when turn is negative or more than the
+   *                                  number of turns.
+   * @throws IllegalStateException    when a recorded action cannot be taken
+   *                                  again, as it was recorded in another game.
+   */
+  public Mansion seekTurn(int turn) throws IllegalArgumentException, IllegalStateException {
+    if (turn < 0 || turn > getNumberOfTurns()) {
+      throw new IllegalArgumentException("Turn is not in the game.");
+    }
+    return seek(this.turnPositions[turn]);
+  }
+
+  private void take(RecordedAction action) throws IllegalStateException {
+    List<String> arguments = action.getArguments();
+    try {
+      if (action.getAction() == Action.ADD_PLAYER) {
+        this.mansion.addPlayer(arguments.get(0), arguments.get(1),
+            Integer.parseInt(arguments.get(2)), Boolean.parseBoolean(arguments.get(3)));
+      } else {
+        new ComputerMove(action.getAction(), arguments.isEmpty() ? null : arguments.get(0))
+            .applyTo(this.mansion);
+      }
+    } catch (IllegalArgumentException | NullPointerException | IllegalStateException
+        | IllegalAccessException exception) {
+      throw new IllegalStateException("Cannot replay " + action + " at position "
+          + this.position + ".", exception);
+    }
+  }
+}
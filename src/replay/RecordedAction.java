@@ -0,0 +1,89 @@
+package replay;
+
+import java.util.List;
+import java.util.Objects;
+import utils.Action;
+
+/**
+ * Action taken in a recorded game with its arguments, in the order the
+ * controllers pass them to execute: the name, room, capacity and human flag of
+ * an added player, the room of a move or pet move, the item of a pick up or
+ * kill attempt, and nothing for look around.
+ */
+public final class RecordedAction {
+  private final Action action;
+  private final List<String> arguments;
+
+  /**
+   * Creates a recorded action.
+   *
+   * @param action    the action, a game play action or ADD_PLAYER.
+   * @param arguments the arguments of the action.
+   * @throws NullPointerException     when action or an argument is NULL.
+   * @throws IllegalArgumentException when action cannot be replayed or has the
+   *                                  wrong number of arguments.
+   */
+  public RecordedAction(Action action, String... arguments)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(action);
+    this.arguments = List.of(arguments);
+    if (action != Action.ADD_PLAYER && !action.isGamePlayAction()) {
+      throw new IllegalArgumentException("Action cannot be replayed.");
+    }
+    if (arguments.length != numberOfArguments(action)) {
+      throw new IllegalArgumentException("Wrong number of arguments for " + action.name() + ".");
+    }
+    this.action = action;
+  }
+
+  private static int numberOfArguments(Action action) {
+    switch (action) {
+      case ADD_PLAYER:
+        return 4;
+      case LOOK:
+        return 0;
+      default:
+        return 1;
+    }
+  }
+
+  /**
+   * Gets the action.
+   *
+   * @return the action.
+   */
+  public Action getAction() {
+    return this.action;
+  }
+
+  /**
+   * Gets the arguments of the action.
+   *
+   * @return the arguments, which cannot be changed.
+   */
+  public List<String> getArguments() {
+    return this.arguments;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RecordedAction)) {
+      return false;
+    }
+    RecordedAction other = (RecordedAction) obj;
+    return this.action == other.action && this.arguments.equals(other.arguments);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.action, this.arguments);
+  }
+
+  @Override
+  public String toString() {
+    return this.action.name() + " " + this.arguments;
+  }
+}
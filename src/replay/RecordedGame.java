@@ -0,0 +1,86 @@
+package replay;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Game recorded from its events: the number of turns and the maximum number
+ * of players it was started with, and its actions in the order they were
+ * taken.
+ */
+public final class RecordedGame {
+  private final int turns;
+  private final int maxPlayers;
+  private final List<RecordedAction> actions;
+
+  /**
+   * Creates a recorded game.
+   *
+   * @param turns      number of turns of the game.
+   * @param maxPlayers maximum number of players of the game.
+   * @param actions    the actions of the game.
+   * @throws NullPointerException     when actions or an action is NULL.
+   * @throws IllegalArgumentException when turns or maxPlayers is negative or
+   *                                  zero.
+   */
+  public RecordedGame(int turns, int maxPlayers, List<RecordedAction> actions)
+      throws NullPointerException, IllegalArgumentException {
+    if (turns <= 0 || maxPlayers <= 0) {
+      throw new IllegalArgumentException(
+          "Number of turns and players cannot be negative or zero.");
+    }
+    this.turns = turns;
+    this.maxPlayers = maxPlayers;
+    this.actions = List.copyOf(actions);
+  }
+
+  /**
+   * Gets the number of turns the game was started with.
+   *
+   * @return number of turns.
+   */
+  public int getNumberOfTurns() {
+    return this.turns;
+  }
+
+  /**
+   * Gets the maximum number of players the game was started with.
+   *
+   * @return maximum number of players.
+   */
+  public int getMaximumNumberOfPlayers() {
+    return this.maxPlayers;
+  }
+
+  /**
+   * Gets the actions of the game.
+   *
+   * @return the actions, which cannot be changed.
+   */
+  public List<RecordedAction> getActions() {
+    return this.actions;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof RecordedGame)) {
+      return false;
+    }
+    RecordedGame other = (RecordedGame) obj;
+    return this.turns == other.turns && this.maxPlayers == other.maxPlayers
+        && this.actions.equals(other.actions);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.turns, this.maxPlayers, this.actions);
+  }
+
+  @Override
+  public String toString() {
+    return this.turns + " turns, " + this.maxPlayers + " players " + this.actions;
+  }
+}
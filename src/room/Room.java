@@ -1,6 +1,7 @@
 package room;
 
 import item.Item;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -34,6 +35,13 @@ public interface Room {
    */
   public Map<String, Integer> getItemDetails();
 
+  /**
+   * Gets the items in the room, in the order they were added.
+   * 
+   * @return list of items.
+   */
+  public List<Item> getItems();
+
   /**
    * Adds non-null Item to the Room.
    * 
@@ -59,4 +67,12 @@ public interface Room {
    */
   public void removeItem(Item item) throws IllegalArgumentException;
 
+  /**
+   * Creates a copy of the room with the same items. Items picked up from the
+   * copy stay in the original room and vice versa.
+   * 
+   * @return copy of the room.
+   */
+  public Room copy();
+
 }
@@ -77,6 +77,11 @@ public class RoomImpl implements Room {
         .collect(Collectors.toMap(r -> r.getName(), r -> r.getDamage()));
   }
 
+  @Override
+  public List<Item> getItems() {
+    return new ArrayList<>(this.listOfItems);
+  }
+
   @Override
   public void addItemToRoom(Item item) throws IllegalArgumentException, NullPointerException {
     Objects.requireNonNull(item);
@@ -111,6 +116,13 @@ public class RoomImpl implements Room {
     }
   }
 
+  @Override
+  public Room copy() {
+    RoomImpl room = new RoomImpl(roomName, topLeftx, topLefty, bottomRightx, bottomRighty);
+    room.listOfItems.addAll(this.listOfItems);
+    return room;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(roomName);
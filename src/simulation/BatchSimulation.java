@@ -0,0 +1,92 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import mansion.MansionBuilder;
+
+/**
+ * Headless engine that plays complete computer player games in parallel. Every
+ * game is built from the same parsed world specification and played on a fork
+ * join pool without any view. Each game gets its own seed derived from the
+ * seed of the batch, so that results do not depend on how games are scheduled
+ * on the threads.
+ */
+public class BatchSimulation {
+  private final MansionBuilder mansionBuilder;
+  private final int numberOfPlayers;
+
+  /**
+   * Creates a simulation for the given world.
+   *
+   * @param build   builder which has already read the world specification and
+   *                has number of turns and maximum number of players set.
+   * @param players number of computer players in every game.
+   * @throws NullPointerException     when builder is NULL.
+   * @throws IllegalArgumentException when number of players is negative or
+   *                                  zero.
+   */
+  public BatchSimulation(MansionBuilder build, int players)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(build);
+    if (players <= 0) {
+      throw new IllegalArgumentException("Number of players cannot be negative or zero.");
+    }
+    this.mansionBuilder = build;
+    this.numberOfPlayers = players;
+  }
+
+  /**
+   * Plays a batch of games and reports the results.
+   *
+   * @param games   number of games to play.
+   * @param seed    seed of the batch, every game seed is derived from it.
+   * @param threads number of threads to play the games on.
+   * @return report of the batch.
+   * @throws IllegalArgumentException when number of games or threads is
+   *                                  negative or zero, or when a game cannot
+   *                                  be created.
+   * @throws IllegalStateException    when the simulation is interrupted.
+   */
+  public SimulationReport run(int games, long seed, int threads)
+      throws IllegalArgumentException, IllegalStateException {
+    if (games <= 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative or zero.");
+    }
+    if (threads <= 0) {
+      throw new IllegalArgumentException("Number of threads cannot be negative or zero.");
+    }
+    SplittableRandom random = new SplittableRandom(seed);
+    List<Callable<GameResult>> tasks = new ArrayList<>(games);
+    for (int i = 0; i < games; i++) {
+      long gameSeed = random.nextLong();
+      tasks.add(() -> new SimulatedGame(this.mansionBuilder.build(), gameSeed)
+          .play(this.numberOfPlayers));
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    long start = System.nanoTime();
+    try {
+      List<GameResult> results = new ArrayList<>(games);
+      for (Future<GameResult> future : pool.invokeAll(tasks)) {
+        results.add(future.get());
+      }
+      return new SimulationReport(results, System.nanoTime() - start, threads);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation interrupted.", exception);
+    } catch (ExecutionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      throw new IllegalStateException(exception.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package simulation;
+
+import java.util.Objects;
+
+/**
+ * Result of one simulated game.
+ */
+public final class GameResult {
+  private final long seed;
+  private final String winner;
+  private final int turnsPlayed;
+
+  /**
+   * Creates the result of one simulated game.
+   *
+   * @param gameSeed seed the game was played with.
+   * @param name     name of the winner, NULL when the target escaped.
+   * @param turns    number of turns played.
+   */
+  public GameResult(long gameSeed, String name, int turns) {
+    this.seed = gameSeed;
+    this.winner = name;
+    this.turnsPlayed = turns;
+  }
+
+  /**
+   * Gets the seed the game was played with.
+   *
+   * @return seed of the game.
+   */
+  public long getSeed() {
+    return this.seed;
+  }
+
+  /**
+   * Gets the name of the player who killed the target.
+   *
+   * @return name of the winner, NULL when the target escaped.
+   */
+  public String getWinner() {
+    return this.winner;
+  }
+
+  /**
+   * Checks if the target was killed in this game.
+   *
+   * @return true if a player killed the target, false if the target escaped.
+   */
+  public boolean isTargetKilled() {
+    return Objects.nonNull(this.winner);
+  }
+
+  /**
+   * Gets the number of turns played.
+   *
+   * @return number of turns played.
+   */
+  public int getTurnsPlayed() {
+    return this.turnsPlayed;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Game Result: \nSeed = %d \nWinner = %s \nTurns Played = %d", seed,
+        isTargetKilled() ? winner : "Nobody", turnsPlayed);
+  }
+}
@@ -0,0 +1,97 @@
+package simulation;
+
+import controller.ComputerPlayerInput;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import mansion.Mansion;
+import utils.Action;
+
+/**
+ * One game played end to end by computer players only, without any view. The
+ * turn logic is the same as the computer player turns in the controllers.
+ */
+final class SimulatedGame {
+  private final Mansion mansion;
+  private final ComputerPlayerInput computerPlayer;
+  private final long seed;
+
+  /**
+   * Creates a game on a freshly built Mansion.
+   *
+   * @param model Mansion to play on, without any players.
+   * @param seed  seed for the choices made in this game.
+   * @throws NullPointerException when model is NULL.
+   */
+  SimulatedGame(Mansion model, long seed) throws NullPointerException {
+    Objects.requireNonNull(model);
+    this.mansion = model;
+    this.seed = seed;
+    this.computerPlayer = new ComputerPlayerInput(seed);
+  }
+
+  /**
+   * Adds computer players in random rooms and plays until the game is over.
+   *
+   * @param numberOfPlayers number of computer players.
+   * @return result of the game.
+   * @throws IllegalArgumentException when players cannot be added to the game.
+   * @throws IllegalStateException    when a turn cannot be played.
+   */
+  GameResult play(int numberOfPlayers) throws IllegalArgumentException, IllegalStateException {
+    List<String> rooms = this.mansion.getRoomNames();
+    for (int i = 0; i < numberOfPlayers; i++) {
+      this.mansion.addPlayer("Computer " + i, this.computerPlayer.getRandomString(rooms), false);
+    }
+    int turnsLeft = this.mansion.getNumberOfTurns();
+    while (!this.mansion.isGameOver()) {
+      try {
+        playTurn();
+      } catch (IllegalAccessException exception) {
+        throw new IllegalStateException(exception.getMessage(), exception);
+      }
+    }
+    return new GameResult(this.seed, this.mansion.getWinner(),
+        turnsLeft - this.mansion.getNumberOfTurns());
+  }
+
+  private void playTurn() throws IllegalAccessException {
+    while (true) {
+      Action action = this.computerPlayer.chooseAction(this.mansion.isCurrentPlayerSeen(),
+          this.mansion.isTargetPresent());
+      switch (action) {
+        case MOVE:
+          List<String> neighbors = this.mansion.getNeighboursToMove();
+          if (!neighbors.isEmpty()) {
+            this.mansion.actionMove(this.computerPlayer.getRandomString(neighbors));
+            return;
+          }
+          break;
+        case PICK:
+          Map<String, Integer> items = this.mansion.getItemsToPick();
+          if (!items.isEmpty()) {
+            try {
+              this.mansion.actionPick(this.computerPlayer.pickItemToKill(items));
+              return;
+            } catch (IllegalStateException exception) {
+              // No capacity left to carry items, choose another action.
+            }
+          }
+          break;
+        case LOOK:
+          this.mansion.actionLook();
+          return;
+        case MOVEPET:
+          this.mansion.actionMovePet(
+              this.computerPlayer.getRandomString(this.mansion.getRoomNames()));
+          return;
+        case KILL:
+          this.mansion.actionAttemptKill(
+              this.computerPlayer.pickItemToKill(this.mansion.getItemsToKill()));
+          return;
+        default:
+          break;
+      }
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package simulation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Summary of a batch of simulated games.
+ */
+public final class SimulationReport {
+  private final List<GameResult> results;
+  private final long elapsedNanos;
+  private final int parallelism;
+
+  /**
+   * Creates the report for a batch of simulated games.
+   *
+   * @param gameResults results of every game, in the order the games were
+   *                    seeded.
+   * @param nanos       wall clock time taken by the batch in nanoseconds.
+   * @param threads     number of threads the games were played on.
+   * @throws NullPointerException when game results are NULL.
+   */
+  public SimulationReport(List<GameResult> gameResults, long nanos, int threads)
+      throws NullPointerException {
+    Objects.requireNonNull(gameResults);
+    this.results = Collections.unmodifiableList(gameResults);
+    this.elapsedNanos = nanos;
+    this.parallelism = threads;
+  }
+
+  /**
+   * Gets the results of every game, in the order the games were seeded.
+   *
+   * @return list of game results.
+   */
+  public List<GameResult> getResults() {
+    return this.results;
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return number of games.
+   */
+  public int getNumberOfGames() {
+    return this.results.size();
+  }
+
+  /**
+   * Gets the number of games in which the target was killed.
+   *
+   * @return number of games won by a player.
+   */
+  public int getNumberOfKills() {
+    return (int) this.results.stream().filter(GameResult::isTargetKilled).count();
+  }
+
+  /**
+   * Gets the number of wins of every player who won at least once.
+   *
+   * @return map of player names with their number of wins.
+   */
+  public Map<String, Integer> getWinsPerPlayer() {
+    Map<String, Integer> wins = new TreeMap<>();
+    for (GameResult result : results) {
+      if (result.isTargetKilled()) {
+        wins.merge(result.getWinner(), 1, Integer::sum);
+      }
+    }
+    return wins;
+  }
+
+  /**
+   * Gets the average number of turns played per game.
+   *
+   * @return average number of turns.
+   */
+  public double getAverageTurns() {
+    return this.results.stream().mapToInt(GameResult::getTurnsPlayed).average().orElse(0);
+  }
+
+  /**
+   * Gets the wall clock time taken by the batch.
+   *
+   * @return elapsed time in nanoseconds.
+   */
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  /**
+   * Gets the throughput of the batch.
+   *
+   * @return games played per second.
+   */
+  public double getGamesPerSecond() {
+    return this.elapsedNanos == 0 ? 0 : this.results.size() * 1e9 / this.elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Simulation Report: \nGames Played = %d \nThreads = %d \nTarget Killed = %d "
+            + "\nTarget Escaped = %d \nAverage Turns = %.2f \nWins per Player = %s "
+            + "\nElapsed Time = %.3f s \nGames per Second = %.1f",
+        getNumberOfGames(), parallelism, getNumberOfKills(),
+        getNumberOfGames() - getNumberOfKills(), getAverageTurns(), getWinsPerPlayer(),
+        elapsedNanos / 1e9, getGamesPerSecond());
+  }
+}
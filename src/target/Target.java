@@ -36,6 +36,19 @@ public interface Target {
    * @throws IllegalArgumentException when total rooms are negative or zero.
    */
   public void updateTargetLocation(int totalRooms) throws IllegalArgumentException;
+
+  /**
+   * Gets the room the Target moves to from a room, the next room in the order
+   * of the rooms. Shared by every Target and the states of a game searched
+   * ahead.
+   * 
+   * @param location   the room of the Target.
+   * @param totalRooms The total number of rooms.
+   * @return the next room of the Target.
+   */
+  static int nextLocation(int location, int totalRooms) {
+    return (location + 1) % totalRooms;
+  }
   
   /**
    * Updates the health point of Target.
@@ -45,4 +58,13 @@ public interface Target {
    */
   void updateHealthPoint(int damage) throws IllegalArgumentException;
 
+  /**
+   * Puts the Target back to a health point and location it had earlier in the
+   * game.
+   * 
+   * @param hp       health point of the Target, zero or less when killed.
+   * @param location location (or room number) of the Target.
+   * @throws IllegalArgumentException when location is negative.
+   */
+  void restore(int hp, int location) throws IllegalArgumentException;
 }
@@ -66,8 +66,16 @@ public class TargetImpl implements Target {
     if (totalRooms <= 0) {
       throw new IllegalArgumentException("Total Rooms cannot be zero or negative.");
     }
-    this.targetLocation += 1;
-    this.targetLocation %= totalRooms;
+    this.targetLocation = Target.nextLocation(this.targetLocation, totalRooms);
+  }
+
+  @Override
+  public void restore(int hp, int location) throws IllegalArgumentException {
+    if (location < 0) {
+      throw new IllegalArgumentException("Target cannot be in negative room number.");
+    }
+    this.healthPoint = hp;
+    this.targetLocation = location;
   }
 
   @Override
@@ -30,5 +30,4 @@ public interface TargetPet {
    * @throws IllegalArgumentException when room number is negative.
    */
   public void updateTargetPetLocation(int roomNumber) throws IllegalArgumentException;
-
 }
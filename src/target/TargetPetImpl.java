@@ -46,5 +46,4 @@ public class TargetPetImpl implements TargetPet {
     }
     this.targetPetLocation = roomNumber;
   }
-
 }
@@ -62,6 +62,12 @@ public enum Action {
    */
   CREATE_IMAGE(false),
 
+  /**
+   * Represents an action for saving image representation of the Mansion drawn
+   * in bands, for very large Mansions.
+   */
+  CREATE_TILED_IMAGE(false),
+
   /**
    * Represents an action for adding a player to the game.
    */
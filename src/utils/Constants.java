@@ -12,6 +12,7 @@ public class Constants {
   public static final String POKING = "Poking";
   public static final String NULL = "NULL";
   public static final String GUI = "GUI";
+  public static final String PAINTED_GUI = "PAINTED";
   public static final String TEXT = "TEXT";
   public static final String NEW_GAME = "New Game";
   public static final String CREATE_NEW_GAME = "Create New Game";
@@ -22,7 +23,11 @@ public class Constants {
   public static final String ADD_PLAYER = "Add Player";
   public static final String ADD = "Add";
   public static final String PLAY_GAME = "Play Game";
+  public static final String NORMAL_SPEED = "Normal Speed";
+  public static final String FAST_SPEED = "Fast Speed";
+  public static final String TURBO_SPEED = "Turbo Speed";
   public static final int TIMER_DELAY = 5000;
+  public static final int FAST_TIMER_DELAY = 500;
 
   public static final String ABOUT_STRING = "<html>"
       + "The world of our project consists of several non-overlapping spaces"
@@ -51,6 +56,7 @@ public class Constants {
       + "Restart Game allows users to start the game with the previous settings.<br/>"
       + "Add Player allow users to add a player to the game.<br/>"
       + "Quit Game allow users to quit the game.<br/>"
+      + "Speed sets how fast computer players play, Turbo plays without a delay.<br/>"
       + "<br/>"
       + "<b>Keys</b> <br/>"
       + "Press l  display information of neighbors. <br/>"
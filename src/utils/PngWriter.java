@@ -0,0 +1,268 @@
+package utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Streaming writer of RGB PNG images. The image is written band of rows by
+ * band of rows, so only the band being written is in memory whatever the size
+ * of the image.
+ *
+ * <p>Every band is compressed on its own into a part of the deflate stream
+ * ending on a byte boundary, so bands can be compressed on several threads with
+ * compress and then written in order with write. The checksums of the bands are
+ * combined while they are written.
+ */
+public final class PngWriter implements Closeable {
+  private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a,
+      '\n' };
+  private static final int ADLER_BASE = 65521;
+
+  private final DataOutputStream output;
+  private final int width;
+  private final int height;
+  private int rowsWritten;
+  private long adler;
+  private boolean closed;
+
+  /**
+   * Compressed band of rows of an image, made by compress.
+   */
+  public static final class Rows {
+    private final byte[] data;
+    private final int length;
+    private final int width;
+    private final int rows;
+    private final long adler;
+    private final long uncompressedLength;
+
+    private Rows(byte[] data, int length, int width, int rows, long adler,
+        long uncompressedLength) {
+      this.data = data;
+      this.length = length;
+      this.width = width;
+      this.rows = rows;
+      this.adler = adler;
+      this.uncompressedLength = uncompressedLength;
+    }
+
+    /**
+     * Gets the number of rows in the band.
+     *
+     * @return number of rows.
+     */
+    public int getRows() {
+      return this.rows;
+    }
+  }
+
+  /**
+   * Starts a PNG image, writing its signature and header.
+   *
+   * @param output the stream to write the image to.
+   * @param width  width of the image in pixels.
+   * @param height height of the image in pixels.
+   * @throws NullPointerException     when output is NULL.
+   * @throws IllegalArgumentException when width or height is negative or zero.
+   * @throws IOException              when the image cannot be written.
+   */
+  public PngWriter(OutputStream output, int width, int height)
+      throws NullPointerException, IllegalArgumentException, IOException {
+    Objects.requireNonNull(output);
+    if (width <= 0 || height <= 0) {
+      throw new IllegalArgumentException("Size of image cannot be Negative or Zero.");
+    }
+    this.output = new DataOutputStream(output);
+    this.width = width;
+    this.height = height;
+    this.rowsWritten = 0;
+    this.adler = 1;
+    this.closed = false;
+
+    this.output.write(SIGNATURE);
+    ByteArrayOutputStream header = new ByteArrayOutputStream();
+    DataOutputStream headerData = new DataOutputStream(header);
+    headerData.writeInt(width);
+    headerData.writeInt(height);
+    // 8 bits per sample, RGB, deflate, adaptive filtering, no interlace.
+    headerData.write(new byte[] { 8, 2, 0, 0, 0 });
+    writeChunk("IHDR", header.toByteArray(), header.size());
+    // The zlib header of the deflate stream: 32K window, default compression.
+    writeChunk("IDAT", new byte[] { 0x78, (byte) 0x9c }, 2);
+  }
+
+  /**
+   * Compresses a band of rows. Any number of bands can be compressed at the
+   * same time on different threads.
+   *
+   * @param pixels         the pixels as RGB integers.
+   * @param offset         index of the first pixel of the band.
+   * @param scanlineStride distance between the first pixels of two rows.
+   * @param width          width of the image in pixels.
+   * @param rows           number of rows in the band.
+   * @return the compressed rows.
+   * @throws NullPointerException     when pixels is NULL.
+   * @throws IllegalArgumentException when the rows are not in the pixels.
+   */
+  public static Rows compress(int[] pixels, int offset, int scanlineStride, int width,
+      int rows) throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(pixels);
+    if (width <= 0 || rows <= 0 || offset < 0 || scanlineStride < width
+        || offset + (long) (rows - 1) * scanlineStride + width > pixels.length) {
+      throw new IllegalArgumentException("Rows are not in the pixels.");
+    }
+    byte[] line = new byte[1 + 3 * width];
+    Adler32 checksum = new Adler32();
+    Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    byte[] data = new byte[Math.max(64, line.length * rows / 8)];
+    int length = 0;
+    try {
+      for (int row = 0; row < rows; row++) {
+        // Filter type 0, the pixels as they are.
+        line[0] = 0;
+        int start = offset + row * scanlineStride;
+        for (int x = 0, i = 1; x < width; x++) {
+          int pixel = pixels[start + x];
+          line[i++] = (byte) (pixel >> 16);
+          line[i++] = (byte) (pixel >> 8);
+          line[i++] = (byte) pixel;
+        }
+        checksum.update(line);
+        deflater.setInput(line);
+        while (!deflater.needsInput()) {
+          if (length == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+          }
+          length += deflater.deflate(data, length, data.length - length);
+        }
+      }
+      // Flush so the band ends on a byte boundary and the next band can follow.
+      while (true) {
+        if (length == data.length) {
+          data = Arrays.copyOf(data, data.length * 2);
+        }
+        int written = deflater.deflate(data, length, data.length - length,
+            Deflater.SYNC_FLUSH);
+        length += written;
+        if (length < data.length) {
+          break;
+        }
+      }
+    } finally {
+      deflater.end();
+    }
+    return new Rows(data, length, width, rows, checksum.getValue(), (long) line.length * rows);
+  }
+
+  /**
+   * Writes the next band of rows.
+   *
+   * @param rows the compressed rows.
+   * @throws NullPointerException     when rows is NULL.
+   * @throws IllegalArgumentException when rows have another width than the
+   *                                  image.
+   * @throws IllegalStateException    when the image has no more rows or is
+   *                                  closed.
+   * @throws IOException              when the image cannot be written.
+   */
+  public void write(Rows rows)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException, IOException {
+    Objects.requireNonNull(rows);
+    if (rows.width != this.width) {
+      throw new IllegalArgumentException("Rows are not as wide as the image.");
+    }
+    if (this.closed || this.rowsWritten + rows.rows > this.height) {
+      throw new IllegalStateException("Image has no more rows.");
+    }
+    writeChunk("IDAT", rows.data, rows.length);
+    this.adler = combineAdler(this.adler, rows.adler, rows.uncompressedLength);
+    this.rowsWritten += rows.rows;
+  }
+
+  /**
+   * Compresses and writes the next band of rows.
+   *
+   * @param pixels         the pixels as RGB integers.
+   * @param offset         index of the first pixel of the band.
+   * @param scanlineStride distance between the first pixels of two rows.
+   * @param rows           number of rows in the band.
+   * @throws NullPointerException     when pixels is NULL.
+   * @throws IllegalArgumentException when the rows are not in the pixels.
+   * @throws IllegalStateException    when the image has no more rows or is
+   *                                  closed.
+   * @throws IOException              when the image cannot be written.
+   */
+  public void writeRows(int[] pixels, int offset, int scanlineStride, int rows)
+      throws NullPointerException, IllegalArgumentException, IllegalStateException, IOException {
+    write(compress(pixels, offset, scanlineStride, this.width, rows));
+  }
+
+  /**
+   * Ends the image. Closing a closed image does nothing. The stream is not
+   * closed, only flushed.
+   *
+   * @throws IllegalStateException when not all rows of the image are written.
+   * @throws IOException           when the image cannot be written.
+   */
+  @Override
+  public void close() throws IllegalStateException, IOException {
+    if (this.closed) {
+      return;
+    }
+    if (this.rowsWritten != this.height) {
+      throw new IllegalStateException("Image is missing rows.");
+    }
+    this.closed = true;
+    // An empty final block ends the deflate stream, the checksum the zlib one.
+    ByteArrayOutputStream end = new ByteArrayOutputStream();
+    end.write(new byte[] { 3, 0 });
+    new DataOutputStream(end).writeInt((int) this.adler);
+    writeChunk("IDAT", end.toByteArray(), end.size());
+    writeChunk("IEND", new byte[0], 0);
+    this.output.flush();
+  }
+
+  private void writeChunk(String type, byte[] data, int length) throws IOException {
+    byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+    CRC32 crc = new CRC32();
+    crc.update(typeBytes);
+    crc.update(data, 0, length);
+    this.output.writeInt(length);
+    this.output.write(typeBytes);
+    this.output.write(data, 0, length);
+    this.output.writeInt((int) crc.getValue());
+  }
+
+  /**
+   * Combines the checksums of two parts of a stream, as zlib does.
+   */
+  private static long combineAdler(long first, long second, long secondLength) {
+    long remainder = secondLength % ADLER_BASE;
+    long sum1 = first & 0xffff;
+    long sum2 = (remainder * sum1) % ADLER_BASE;
+    sum1 += (second & 0xffff) + ADLER_BASE - 1;
+    sum2 += ((first >> 16) & 0xffff) + ((second >> 16) & 0xffff) + ADLER_BASE - remainder;
+    if (sum1 >= ADLER_BASE) {
+      sum1 -= ADLER_BASE;
+    }
+    if (sum1 >= ADLER_BASE) {
+      sum1 -= ADLER_BASE;
+    }
+    if (sum2 >= 2L * ADLER_BASE) {
+      sum2 -= 2L * ADLER_BASE;
+    }
+    if (sum2 >= ADLER_BASE) {
+      sum2 -= ADLER_BASE;
+    }
+    return sum1 | (sum2 << 16);
+  }
+}
@@ -0,0 +1,381 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.UIManager;
+import listener.MouseClickListener;
+
+/**
+ * Game board painted by a single component. The rooms, their borders and
+ * names are drawn once into a background image, every paint copies the
+ * background and draws the pet shading, the target and the players on top of
+ * the rooms that have any. When something moves only the rooms it left and
+ * entered are repainted.
+ *
+ * <p>Clicks are resolved to the cell under the mouse, the room covering the
+ * cell is found by the room finder of the listener, and the target and players
+ * are found by the place of their icon in that room. The listener then gets
+ * the same names the panels of the component board give it.
+ */
+final class BoardCanvas extends JComponent {
+  private static final long serialVersionUID = 2613306815627447211L;
+  private static final File PLAYER_ICON = new File("res/images/player-30p.png");
+  private static final int BORDER = 3;
+  private static final int GAP = 5;
+  private static final int ICON_SIZE = 30;
+
+  private final int scale;
+  private final int left;
+  private final int top;
+  private final IconCache iconCache;
+  private final Map<String, Rectangle> roomBounds;
+  private final Map<String, int[]> shownRooms;
+  private final Map<String, String> playerRooms;
+  private final Map<String, Color> playerColors;
+  private final Map<String, Set<String>> roomPlayers;
+  private BufferedImage background;
+  private ImageIcon targetIcon;
+  private int nameHeight;
+  private MouseClickListener listener;
+  private String petRoom;
+  private String targetRoom;
+
+  /**
+   * Creates an empty board.
+   *
+   * @param scale     size of a cell in pixels.
+   * @param left      distance of the first column from the left in pixels.
+   * @param top       distance of the first row from the top in pixels.
+   * @param iconCache cache of the player icons.
+   * @throws NullPointerException when icon cache is NULL.
+   */
+  BoardCanvas(int scale, int left, int top, IconCache iconCache) throws NullPointerException {
+    this.scale = scale;
+    this.left = left;
+    this.top = top;
+    this.iconCache = Objects.requireNonNull(iconCache);
+    this.roomBounds = new LinkedHashMap<>();
+    this.shownRooms = new HashMap<>();
+    this.playerRooms = new LinkedHashMap<>();
+    this.playerColors = new HashMap<>();
+    this.roomPlayers = new HashMap<>();
+    this.background = null;
+    this.targetIcon = null;
+    this.nameHeight = 0;
+    this.listener = null;
+    this.petRoom = null;
+    this.targetRoom = null;
+    this.setOpaque(false);
+    this.addMouseListener(new MouseAdapter() {
+      @Override
+      public void mouseClicked(MouseEvent e) {
+        String name = nameAt(e.getPoint());
+        if (Objects.nonNull(listener) && Objects.nonNull(name)) {
+          listener.click(e.getButton(), name);
+        }
+      }
+    });
+  }
+
+  /**
+   * Shows the rooms and shades the room of the pet. The background is only
+   * drawn again when the rooms changed.
+   *
+   * @param rooms       Map of Room Names with their location.
+   * @param petLocation location of Target's Pet.
+   * @param listener    Listener to execute the actions.
+   */
+  void displayRooms(Map<String, int[]> rooms, String petLocation,
+      MouseClickListener listener) {
+    this.listener = listener;
+    if (!isShowing(rooms)) {
+      drawBackground(rooms);
+      this.repaint();
+    }
+    if (!Objects.equals(this.petRoom, petLocation)) {
+      repaintRoom(this.petRoom);
+      repaintRoom(petLocation);
+      this.petRoom = petLocation;
+    }
+  }
+
+  /**
+   * Shows the target in its room, unless the pet is in the same room.
+   *
+   * @param targetLocation target's location
+   * @param petLocation    pet's location
+   */
+  void displayTarget(String targetLocation, String petLocation) {
+    String room = targetLocation.equals(petLocation) ? null : targetLocation;
+    if (!Objects.equals(room, this.targetRoom)) {
+      repaintRoom(this.targetRoom);
+      repaintRoom(room);
+      this.targetRoom = room;
+    }
+  }
+
+  /**
+   * Shows the players in their rooms, repainting the rooms of the players that
+   * joined, left, moved or changed color.
+   *
+   * @param players      list of player
+   * @param playerColors icon color for player
+   */
+  void displayPlayers(Map<String, String> players, Map<String, Color> playerColors) {
+    Iterator<Map.Entry<String, String>> shown = this.playerRooms.entrySet().iterator();
+    while (shown.hasNext()) {
+      Map.Entry<String, String> player = shown.next();
+      if (!players.containsKey(player.getKey())) {
+        leaveRoom(player.getKey(), player.getValue());
+        this.playerColors.remove(player.getKey());
+        shown.remove();
+      }
+    }
+    for (Map.Entry<String, String> player : players.entrySet()) {
+      Color playerColor = playerColors.get(player.getKey());
+      String previous = this.playerRooms.get(player.getKey());
+      if (!Objects.equals(playerColor, this.playerColors.get(player.getKey()))) {
+        this.playerColors.put(player.getKey(), playerColor);
+        repaintRoom(previous);
+      }
+      if (!player.getValue().equals(previous)) {
+        leaveRoom(player.getKey(), previous);
+        this.playerRooms.put(player.getKey(), player.getValue());
+        this.roomPlayers.computeIfAbsent(player.getValue(), room -> new LinkedHashSet<>())
+            .add(player.getKey());
+        repaintRoom(player.getValue());
+      }
+    }
+  }
+
+  /**
+   * Forgets the rooms, the pet, the target and the players.
+   */
+  void clear() {
+    this.roomBounds.clear();
+    this.shownRooms.clear();
+    this.playerRooms.clear();
+    this.playerColors.clear();
+    this.roomPlayers.clear();
+    this.background = null;
+    this.listener = null;
+    this.petRoom = null;
+    this.targetRoom = null;
+    this.setSize(0, 0);
+    this.repaint();
+  }
+
+  private void leaveRoom(String player, String room) {
+    Set<String> players = this.roomPlayers.get(room);
+    if (Objects.nonNull(players)) {
+      players.remove(player);
+      if (players.isEmpty()) {
+        this.roomPlayers.remove(room);
+      }
+      repaintRoom(room);
+    }
+  }
+
+  private void repaintRoom(String room) {
+    Rectangle bounds = this.roomBounds.get(room);
+    if (Objects.nonNull(bounds)) {
+      this.repaint(bounds);
+    }
+  }
+
+  private boolean isShowing(Map<String, int[]> rooms) {
+    if (Objects.isNull(this.background) || rooms.size() != this.shownRooms.size()) {
+      return false;
+    }
+    for (Map.Entry<String, int[]> room : rooms.entrySet()) {
+      if (!Arrays.equals(room.getValue(), this.shownRooms.get(room.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void drawBackground(Map<String, int[]> rooms) {
+    this.roomBounds.clear();
+    this.shownRooms.clear();
+    int width = 1;
+    int height = 1;
+    for (Map.Entry<String, int[]> room : rooms.entrySet()) {
+      // Location = { topLeftx, topLefty, bottomRightx, bottomRighty }
+      int[] location = room.getValue();
+      Rectangle bounds = new Rectangle(location[1] * scale + left, location[0] * scale + top,
+          (location[3] - location[1] + 1) * scale, (location[2] - location[0] + 1) * scale);
+      this.roomBounds.put(room.getKey(), bounds);
+      this.shownRooms.put(room.getKey(), location.clone());
+      width = Math.max(width, bounds.x + bounds.width + left);
+      height = Math.max(height, bounds.y + bounds.height + left);
+    }
+
+    this.background = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = this.background.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+        RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    Font font = new JLabel().getFont();
+    g.setFont(font);
+    FontMetrics metrics = g.getFontMetrics();
+    this.nameHeight = metrics.getHeight();
+    Color roomColor = UIManager.getColor("Panel.background");
+    for (Map.Entry<String, Rectangle> room : this.roomBounds.entrySet()) {
+      Rectangle bounds = room.getValue();
+      g.setColor(Objects.isNull(roomColor) ? Color.LIGHT_GRAY : roomColor);
+      g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+      g.setColor(Color.BLACK);
+      for (int i = 0; i < BORDER; i++) {
+        g.drawRect(bounds.x + i, bounds.y + i, bounds.width - 1 - 2 * i,
+            bounds.height - 1 - 2 * i);
+      }
+      // The name is centered at the top of the room, like the label of a panel.
+      Graphics2D name = (Graphics2D) g.create(bounds.x + BORDER, bounds.y + BORDER,
+          bounds.width - 2 * BORDER, bounds.height - 2 * BORDER);
+      name.drawString(room.getKey(),
+          (bounds.width - 2 * BORDER - metrics.stringWidth(room.getKey())) / 2,
+          GAP + metrics.getAscent());
+      name.dispose();
+    }
+    g.dispose();
+
+    this.setSize(width, height);
+    this.setPreferredSize(new Dimension(width, height));
+  }
+
+  /**
+   * Lays out the target and the players of a room in rows below its name.
+   *
+   * @param room name of the room.
+   * @return the name and place of every icon, NULL names the target.
+   */
+  private List<Map.Entry<String, Point>> iconsOf(String room) {
+    List<Map.Entry<String, Point>> icons = new ArrayList<>();
+    Rectangle bounds = this.roomBounds.get(room);
+    if (Objects.isNull(bounds)) {
+      return icons;
+    }
+    List<String> names = new ArrayList<>();
+    if (room.equals(this.targetRoom)) {
+      names.add(null);
+    }
+    names.addAll(this.roomPlayers.getOrDefault(room, Set.of()));
+    int startX = bounds.x + BORDER + GAP;
+    int endX = bounds.x + bounds.width - BORDER;
+    int x = startX;
+    int y = bounds.y + BORDER + GAP + this.nameHeight + GAP;
+    for (String name : names) {
+      if (x + ICON_SIZE > endX && x > startX) {
+        x = startX;
+        y += ICON_SIZE + GAP;
+      }
+      icons.add(new AbstractMap.SimpleEntry<>(name, new Point(x, y)));
+      x += ICON_SIZE + GAP;
+    }
+    return icons;
+  }
+
+  private ImageIcon getTargetIcon() {
+    if (Objects.isNull(this.targetIcon)) {
+      this.targetIcon = new ImageIcon("res/images/target-30p.png");
+    }
+    return this.targetIcon;
+  }
+
+  /**
+   * Finds the name of what is painted at a point, like the name of the panel
+   * or label a click on the component board goes to.
+   *
+   * @param point the point on the board.
+   * @return the name of a player, the name of a room, or an empty name for the
+   *         target, NULL when there is nothing at the point.
+   */
+  String nameAt(Point point) {
+    if (point.x < left || point.y < top) {
+      return null;
+    }
+    int row = (point.y - top) / scale;
+    int column = (point.x - left) / scale;
+    String room = Objects.isNull(this.listener) ? null : this.listener.findRoom(row, column);
+    if (Objects.isNull(room)) {
+      // Without a room finder every room is checked.
+      for (Map.Entry<String, Rectangle> bounds : this.roomBounds.entrySet()) {
+        if (bounds.getValue().contains(point)) {
+          room = bounds.getKey();
+          break;
+        }
+      }
+    }
+    if (Objects.isNull(room) || !this.roomBounds.containsKey(room)) {
+      return null;
+    }
+    for (Map.Entry<String, Point> icon : iconsOf(room)) {
+      Point place = icon.getValue();
+      if (new Rectangle(place.x, place.y, ICON_SIZE, ICON_SIZE).contains(point)) {
+        return Objects.isNull(icon.getKey()) ? "" : icon.getKey();
+      }
+    }
+    return room;
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    if (Objects.isNull(this.background)) {
+      return;
+    }
+    g.drawImage(this.background, 0, 0, null);
+    Rectangle clip = g.getClipBounds();
+    // Only the rooms with the pet, the target or players are drawn on top.
+    Set<String> rooms = new LinkedHashSet<>(this.roomPlayers.keySet());
+    if (Objects.nonNull(this.targetRoom)) {
+      rooms.add(this.targetRoom);
+    }
+    if (Objects.nonNull(this.petRoom)) {
+      rooms.add(this.petRoom);
+    }
+    for (String room : rooms) {
+      Rectangle bounds = this.roomBounds.get(room);
+      if (Objects.isNull(bounds) || (Objects.nonNull(clip) && !clip.intersects(bounds))) {
+        continue;
+      }
+      if (room.equals(this.petRoom)) {
+        g.setColor(Color.BLACK);
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+      }
+      Graphics icons = g.create(bounds.x + BORDER, bounds.y + BORDER,
+          bounds.width - 2 * BORDER, bounds.height - 2 * BORDER);
+      icons.translate(-bounds.x - BORDER, -bounds.y - BORDER);
+      for (Map.Entry<String, Point> icon : iconsOf(room)) {
+        ImageIcon image = Objects.isNull(icon.getKey()) ? getTargetIcon()
+            : this.iconCache.getIcon(PLAYER_ICON, this.playerColors.get(icon.getKey()));
+        image.paintIcon(this, icons, icon.getValue().x, icon.getValue().y);
+      }
+      icons.dispose();
+    }
+  }
+}
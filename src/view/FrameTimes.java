@@ -0,0 +1,88 @@
+package view;
+
+/**
+ * Frame time metric of the game board. Records how long every update of the
+ * board took and keeps the number of frames, the last, average and maximum
+ * frame time.
+ */
+public final class FrameTimes {
+  private long frames;
+  private long totalNanos;
+  private long lastNanos;
+  private long maximumNanos;
+
+  /**
+   * Creates an empty frame time metric.
+   */
+  public FrameTimes() {
+    reset();
+  }
+
+  /**
+   * Records the time of one frame.
+   *
+   * @param nanos time of the frame in nanoseconds.
+   * @throws IllegalArgumentException when time is negative.
+   */
+  public void record(long nanos) throws IllegalArgumentException {
+    if (nanos < 0) {
+      throw new IllegalArgumentException("Frame time cannot be negative.");
+    }
+    this.frames++;
+    this.totalNanos += nanos;
+    this.lastNanos = nanos;
+    this.maximumNanos = Math.max(this.maximumNanos, nanos);
+  }
+
+  /**
+   * Forgets all recorded frames.
+   */
+  public void reset() {
+    this.frames = 0;
+    this.totalNanos = 0;
+    this.lastNanos = 0;
+    this.maximumNanos = 0;
+  }
+
+  /**
+   * Gets the number of recorded frames.
+   *
+   * @return number of frames.
+   */
+  public long getFrames() {
+    return this.frames;
+  }
+
+  /**
+   * Gets the time of the last frame.
+   *
+   * @return time in milliseconds, 0 when no frame is recorded.
+   */
+  public double getLastMillis() {
+    return this.lastNanos / 1e6;
+  }
+
+  /**
+   * Gets the average time of the recorded frames.
+   *
+   * @return time in milliseconds, 0 when no frame is recorded.
+   */
+  public double getAverageMillis() {
+    return this.frames == 0 ? 0 : this.totalNanos / 1e6 / this.frames;
+  }
+
+  /**
+   * Gets the longest time of the recorded frames.
+   *
+   * @return time in milliseconds, 0 when no frame is recorded.
+   */
+  public double getMaximumMillis() {
+    return this.maximumNanos / 1e6;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d frames, last %.2f ms, average %.2f ms, maximum %.2f ms",
+        this.frames, getLastMillis(), getAverageMillis(), getMaximumMillis());
+  }
+}
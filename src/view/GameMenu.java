@@ -19,6 +19,10 @@ public final class GameMenu extends JMenuBar {
 
   private JMenu menu;
   private JMenu help;
+  private JMenu speed;
+  private JMenuItem normalSpeed;
+  private JMenuItem fastSpeed;
+  private JMenuItem turboSpeed;
   private JMenuItem newGame;
   private JMenuItem restartGame;
   private JMenuItem addPlayer;
@@ -49,6 +53,21 @@ public final class GameMenu extends JMenuBar {
     this.menu.add(this.addPlayer);
     this.menu.add(this.quitGame);
 
+    this.speed = new JMenu("Speed");
+
+    this.normalSpeed = new JMenuItem(Constants.NORMAL_SPEED);
+    this.normalSpeed.setActionCommand(Constants.NORMAL_SPEED);
+
+    this.fastSpeed = new JMenuItem(Constants.FAST_SPEED);
+    this.fastSpeed.setActionCommand(Constants.FAST_SPEED);
+
+    this.turboSpeed = new JMenuItem(Constants.TURBO_SPEED);
+    this.turboSpeed.setActionCommand(Constants.TURBO_SPEED);
+
+    this.speed.add(this.normalSpeed);
+    this.speed.add(this.fastSpeed);
+    this.speed.add(this.turboSpeed);
+
     this.help = new JMenu("Help");
 
     this.aboutGame = new JMenuItem(Constants.ABOUT_GAME);
@@ -61,6 +80,7 @@ public final class GameMenu extends JMenuBar {
     this.help.add(this.howToPlay);
 
     this.add(this.menu);
+    this.add(this.speed);
     this.add(this.help);
   }
 
@@ -78,5 +98,8 @@ public final class GameMenu extends JMenuBar {
     this.quitGame.addActionListener(buttonListener);
     this.aboutGame.addActionListener(buttonListener);
     this.howToPlay.addActionListener(buttonListener);
+    this.normalSpeed.addActionListener(buttonListener);
+    this.fastSpeed.addActionListener(buttonListener);
+    this.turboSpeed.addActionListener(buttonListener);
   }
 }
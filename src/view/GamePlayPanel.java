@@ -3,8 +3,13 @@ package view;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.io.File;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
@@ -15,13 +20,36 @@ import listener.MouseClickListener;
 /**
  * Game play panel Implementation for the Game.
  *
+ * <p>The panel keeps its components across turns. Room panels are only built
+ * again when the rooms change, after that every refresh moves the labels of
+ * the players and the target that changed room, shades the room of the pet
+ * when it moved and repaints only the room panels that changed.
+ *
+ * <p>In the painted mode the whole board is a single component drawing the
+ * rooms from a background image, which keeps up with fast games on worlds
+ * with many rooms.
+ *
  * @author komalshah
  *
  */
 public final class GamePlayPanel extends JScrollPane {
 
   private static final long serialVersionUID = 1771899666426673157L;
+  private static final File PLAYER_ICON = new File("res/images/player-30p.png");
   private Map<String, JPanel> roomPanels;
+  private final Map<String, int[]> shownRooms;
+  private final Map<String, JLabel> playerLabels;
+  private final Map<String, String> playerRooms;
+  private final Map<String, Color> shownColors;
+  private final Set<JPanel> changedPanels;
+  private final FrameTimes frameTimes;
+  private final IconCache iconCache;
+  private BoardCanvas canvas;
+  private MouseClickListener shownListener;
+  private JLabel targetLabel;
+  private String targetRoom;
+  private String petRoom;
+  private Color roomBackground;
   private final int scale = 25;
   private final int padding = 20;
   private final int offset = 100;
@@ -30,14 +58,114 @@ public final class GamePlayPanel extends JScrollPane {
    * Creates an object for game play panel.
    */
   public GamePlayPanel() {
+    this(new IconCache());
+  }
+
+  /**
+   * Creates an object for game play panel showing the players with the icons
+   * of a cache.
+   *
+   * @param iconCache cache of the player icons.
+   * @throws NullPointerException when icon cache is NULL.
+   */
+  public GamePlayPanel(IconCache iconCache) throws NullPointerException {
+    this.iconCache = Objects.requireNonNull(iconCache);
+    this.canvas = null;
     roomPanels = new HashMap<>();
+    this.shownRooms = new HashMap<>();
+    this.playerLabels = new HashMap<>();
+    this.playerRooms = new HashMap<>();
+    this.shownColors = new HashMap<>();
+    this.changedPanels = new LinkedHashSet<>();
+    this.frameTimes = new FrameTimes();
+    this.shownListener = null;
+    this.targetLabel = null;
+    this.targetRoom = null;
+    this.petRoom = null;
+    this.roomBackground = null;
     this.setLayout(null);
     this.setBorder(BorderFactory.createCompoundBorder(BorderFactory.createRaisedBevelBorder(),
         BorderFactory.createLoweredBevelBorder()));
   }
 
   /**
-   * Displays rooms, each room is represented as a JPanel.
+   * Displays the rooms, the target and the players of one turn, recording the
+   * time it took in the frame times.
+   *
+   * @param rooms          Map of Room Names with their location.
+   * @param players        Map of Player names with their room.
+   * @param playerColors   icon color for player.
+   * @param petLocation    location of Target's Pet.
+   * @param targetLocation location of Target.
+   * @param message        Result of the previous action.
+   * @param listener       Listener to execute the actions.
+   */
+  public void displayBoard(Map<String, int[]> rooms, Map<String, String> players,
+      Map<String, Color> playerColors, String petLocation, String targetLocation, String message,
+      MouseClickListener listener) {
+    long start = System.nanoTime();
+    displayRooms(rooms, petLocation, message, listener);
+    displayTarget(targetLocation, petLocation, listener);
+    displayPlayers(players, playerColors, listener);
+    this.frameTimes.record(System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the times taken by displayBoard to update the board.
+   *
+   * @return the frame times.
+   */
+  public FrameTimes getFrameTimes() {
+    return this.frameTimes;
+  }
+
+  /**
+   * Drops every component of the board, so the next refresh builds it again.
+   */
+  public void clearBoard() {
+    this.removeAll();
+    this.roomPanels.clear();
+    this.shownRooms.clear();
+    this.playerLabels.clear();
+    this.playerRooms.clear();
+    this.shownColors.clear();
+    this.changedPanels.clear();
+    this.shownListener = null;
+    this.targetLabel = null;
+    this.targetRoom = null;
+    this.petRoom = null;
+    if (isPaintedBoard()) {
+      this.canvas.clear();
+      this.add(this.canvas);
+    }
+    this.revalidate();
+    this.repaint();
+  }
+
+  /**
+   * Switches between the board of one panel per room and the painted board.
+   * The board is cleared and shown again on the next refresh.
+   *
+   * @param painted true to paint the whole board in a single component.
+   */
+  public void setPaintedBoard(boolean painted) {
+    this.canvas = painted ? new BoardCanvas(scale, padding, padding + offset, this.iconCache)
+        : null;
+    this.clearBoard();
+  }
+
+  /**
+   * Checks if the whole board is painted in a single component.
+   *
+   * @return true when the board is painted.
+   */
+  public boolean isPaintedBoard() {
+    return Objects.nonNull(this.canvas);
+  }
+
+  /**
+   * Displays rooms, each room is represented as a JPanel. The panels are only
+   * built again when the rooms or the listener changed.
    *
    * @param rooms       Map of Room Names with their location.
    * @param petLocation location of Target's Pet.
@@ -46,7 +174,51 @@ public final class GamePlayPanel extends JScrollPane {
    */
   public void displayRooms(Map<String, int[]> rooms, String petLocation, String message,
       MouseClickListener listener) {
-    this.removeAll();
+    if (isPaintedBoard()) {
+      this.canvas.displayRooms(rooms, petLocation, listener);
+      Dimension size = this.canvas.getSize();
+      Dimension preferred = this.getPreferredSize();
+      if (size.width > preferred.width || size.height > preferred.height) {
+        this.setPreferredSize(new Dimension(Math.max(size.width, preferred.width),
+            Math.max(size.height, preferred.height)));
+        this.revalidate();
+      }
+      return;
+    }
+    if (!isShowing(rooms, listener)) {
+      buildRooms(rooms, listener);
+    }
+    if (!Objects.equals(this.petRoom, petLocation)) {
+      // if not visible(pet in room)
+      JPanel previous = roomPanels.get(this.petRoom);
+      if (Objects.nonNull(previous)) {
+        previous.setBackground(this.roomBackground);
+        this.changedPanels.add(previous);
+      }
+      JPanel current = roomPanels.get(petLocation);
+      if (Objects.nonNull(current)) {
+        current.setBackground(Color.BLACK);
+        this.changedPanels.add(current);
+      }
+      this.petRoom = petLocation;
+    }
+    repaintChangedPanels();
+  }
+
+  private boolean isShowing(Map<String, int[]> rooms, MouseClickListener listener) {
+    if (listener != this.shownListener || rooms.size() != this.shownRooms.size()) {
+      return false;
+    }
+    for (Map.Entry<String, int[]> room : rooms.entrySet()) {
+      if (!Arrays.equals(room.getValue(), this.shownRooms.get(room.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void buildRooms(Map<String, int[]> rooms, MouseClickListener listener) {
+    this.clearBoard();
 
     for (Map.Entry<String, int[]> room : rooms.entrySet()) {
       JPanel roomPanel = new JPanel();
@@ -59,25 +231,23 @@ public final class GamePlayPanel extends JScrollPane {
       roomPanel.addMouseListener(listener);
       roomPanel.setSize(new Dimension(width, height));
       roomPanel.setLocation(location[1] * scale + padding, location[0] * scale + padding + offset);
-      roomPanel.setBorder(BorderFactory.createCompoundBorder(
-          BorderFactory.createRaisedBevelBorder(), BorderFactory.createLoweredBevelBorder()));
       roomPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 3));
+      this.roomBackground = roomPanel.getBackground();
 
-      // if not visible(pet in room)
-      if (room.getKey().equals(petLocation)) {
-        roomPanel.setBackground(Color.BLACK);
-      }
       JLabel roomInfo = new JLabel(room.getKey());
       roomPanel.add(roomInfo);
       roomPanels.put(room.getKey(), roomPanel);
+      this.shownRooms.put(room.getKey(), location.clone());
       this.add(roomPanel);
     }
+    this.shownListener = listener;
     this.revalidate();
     this.repaint();
   }
 
   /**
-   * Displays players on the game board. Players are represented by icons.
+   * Displays players on the game board. Players are represented by icons, only
+   * the players that joined, left, moved or changed color are updated.
    *
    * @param players      list of player
    * @param playerColors icon color for player
@@ -85,21 +255,49 @@ public final class GamePlayPanel extends JScrollPane {
    */
   public void displayPlayers(Map<String, String> players, Map<String, Color> playerColors,
       MouseClickListener listener) {
+    if (isPaintedBoard()) {
+      this.canvas.displayPlayers(players, playerColors);
+      return;
+    }
+    Iterator<Map.Entry<String, JLabel>> shown = this.playerLabels.entrySet().iterator();
+    while (shown.hasNext()) {
+      Map.Entry<String, JLabel> player = shown.next();
+      if (!players.containsKey(player.getKey())) {
+        removeFromRoom(player.getValue(), this.playerRooms.remove(player.getKey()));
+        this.shownColors.remove(player.getKey());
+        shown.remove();
+      }
+    }
 
     for (Map.Entry<String, String> player : players.entrySet()) {
-      JLabel playerLabel = new JLabel();
       Color playerColor = playerColors.get(player.getKey());
-      Icon img = new Icon(new File("res/images/player-30p.png"));
-      ImageIcon playerIcon = img.setIconColor(playerColor);
-      playerLabel.setIcon(playerIcon);
-      playerLabel.setName(player.getKey());
-      playerLabel.addMouseListener(listener);
-      roomPanels.get(player.getValue()).add(playerLabel);
+      JLabel playerLabel = this.playerLabels.get(player.getKey());
+      if (Objects.isNull(playerLabel)) {
+        playerLabel = new JLabel();
+        playerLabel.setName(player.getKey());
+        playerLabel.addMouseListener(listener);
+        this.playerLabels.put(player.getKey(), playerLabel);
+      }
+      if (!Objects.equals(playerColor, this.shownColors.get(player.getKey()))) {
+        ImageIcon playerIcon = this.iconCache.getIcon(PLAYER_ICON, playerColor);
+        playerLabel.setIcon(playerIcon);
+        this.shownColors.put(player.getKey(), playerColor);
+        this.changedPanels.add(roomPanels.get(this.playerRooms.get(player.getKey())));
+      }
+      String previous = this.playerRooms.put(player.getKey(), player.getValue());
+      if (!player.getValue().equals(previous)) {
+        removeFromRoom(playerLabel, previous);
+        JPanel room = roomPanels.get(player.getValue());
+        room.add(playerLabel);
+        this.changedPanels.add(room);
+      }
     }
+    repaintChangedPanels();
   }
 
   /**
-   * Displays target icon on the game board.
+   * Displays target icon on the game board, moving it only when the target
+   * moved or the pet came into or left its room.
    *
    * @param targetLocation target's location
    * @param petLocation    pet's location
@@ -107,12 +305,45 @@ public final class GamePlayPanel extends JScrollPane {
    */
   public void displayTarget(String targetLocation, String petLocation,
       MouseClickListener listener) {
-    if (!targetLocation.equals(petLocation)) {
-      JLabel targetLabel = new JLabel();
+    if (isPaintedBoard()) {
+      this.canvas.displayTarget(targetLocation, petLocation);
+      return;
+    }
+    String room = targetLocation.equals(petLocation) ? null : targetLocation;
+    if (Objects.isNull(this.targetLabel)) {
+      this.targetLabel = new JLabel();
       ImageIcon targetIcon = new ImageIcon("res/images/target-30p.png");
-      targetLabel.setIcon(targetIcon);
-      targetLabel.addMouseListener(listener);
-      roomPanels.get(targetLocation).add(targetLabel);
+      this.targetLabel.setIcon(targetIcon);
+      this.targetLabel.addMouseListener(listener);
+    }
+    if (!Objects.equals(room, this.targetRoom)) {
+      removeFromRoom(this.targetLabel, this.targetRoom);
+      if (Objects.nonNull(room)) {
+        // The target is shown after the room name and before the players.
+        JPanel roomPanel = roomPanels.get(room);
+        roomPanel.add(this.targetLabel, Math.min(1, roomPanel.getComponentCount()));
+        this.changedPanels.add(roomPanel);
+      }
+      this.targetRoom = room;
+    }
+    repaintChangedPanels();
+  }
+
+  private void removeFromRoom(JLabel label, String room) {
+    JPanel roomPanel = roomPanels.get(room);
+    if (Objects.nonNull(roomPanel)) {
+      roomPanel.remove(label);
+      this.changedPanels.add(roomPanel);
+    }
+  }
+
+  private void repaintChangedPanels() {
+    for (JPanel roomPanel : this.changedPanels) {
+      if (Objects.nonNull(roomPanel)) {
+        roomPanel.revalidate();
+        roomPanel.repaint();
+      }
     }
+    this.changedPanels.clear();
   }
 }
@@ -38,23 +38,29 @@ public class Icon extends ImageIcon {
       e.printStackTrace();
     }
 
-    // write to new image
-    BufferedImage newImage = new BufferedImage(image.getWidth(), image.getHeight(),
-        BufferedImage.TYPE_INT_ARGB);
-    // write each pixel
-    for (int y = 0; y < image.getHeight(); y++) {
-      for (int x = 0; x < image.getWidth(); x++) {
-        int pixelColor = image.getRGB(x, y);
+    return new ImageIcon(tint(image, newColor));
+  }
 
-        // pixels are not transparent, change color
-        if (pixelColor < 0) {
-          // int color = new Color(100, 100, 100).getRGB();
-          int color = newColor.getRGB();
-          newImage.setRGB(x, y, color);
-        }
-      }
+  /**
+   * Paints every pixel of an image that is not transparent in a color.
+   *
+   * @param image    the original image.
+   * @param newColor the color for the pixels.
+   * @return a new image in the given color.
+   */
+  static BufferedImage tint(BufferedImage image, Color newColor) {
+    int width = image.getWidth();
+    int height = image.getHeight();
+    // read all pixels at once
+    int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+    int color = newColor.getRGB();
+    for (int i = 0; i < pixels.length; i++) {
+      // pixels are not transparent, change color
+      pixels[i] = pixels[i] < 0 ? color : 0;
     }
-    return new ImageIcon(newImage);
+    BufferedImage newImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    newImage.setRGB(0, 0, width, height, pixels, 0, width);
+    return newImage;
   }
 
 }
@@ -0,0 +1,90 @@
+package view;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * Cache of tinted icons, keyed by image file and color. Every image file is
+ * read and decoded once and every color of it is tinted once, the icons are
+ * kept until the cache is cleared when the players change.
+ *
+ * <p>The cache is only used on the event dispatch thread, like the panels
+ * showing its icons.
+ */
+public final class IconCache {
+  private final Map<File, BufferedImage> images;
+  private final Map<File, Map<Color, ImageIcon>> icons;
+
+  /**
+   * Creates an empty icon cache.
+   */
+  public IconCache() {
+    this.images = new HashMap<>();
+    this.icons = new HashMap<>();
+  }
+
+  /**
+   * Gets the icon of an image in a color, tinting it the first time.
+   *
+   * @param image the original image file.
+   * @param color the color of the icon.
+   * @return the icon in the given color.
+   * @throws NullPointerException     when image or color is NULL.
+   * @throws IllegalArgumentException when the image cannot be read.
+   */
+  public ImageIcon getIcon(File image, Color color)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(image);
+    Objects.requireNonNull(color);
+    Map<Color, ImageIcon> tinted = this.icons.computeIfAbsent(image, file -> new HashMap<>());
+    ImageIcon icon = tinted.get(color);
+    if (Objects.isNull(icon)) {
+      icon = new ImageIcon(Icon.tint(readImage(image), color));
+      tinted.put(color, icon);
+    }
+    return icon;
+  }
+
+  private BufferedImage readImage(File file) throws IllegalArgumentException {
+    BufferedImage image = this.images.get(file);
+    if (Objects.isNull(image)) {
+      try {
+        image = ImageIO.read(file);
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Image cannot be read.", e);
+      }
+      if (Objects.isNull(image)) {
+        throw new IllegalArgumentException("Image cannot be read.");
+      }
+      this.images.put(file, image);
+    }
+    return image;
+  }
+
+  /**
+   * Gets the number of tinted icons in the cache.
+   *
+   * @return number of icons.
+   */
+  public int size() {
+    int size = 0;
+    for (Map<Color, ImageIcon> tinted : this.icons.values()) {
+      size += tinted.size();
+    }
+    return size;
+  }
+
+  /**
+   * Forgets all tinted icons, keeping the decoded images.
+   */
+  public void clear() {
+    this.icons.clear();
+  }
+}
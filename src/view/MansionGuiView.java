@@ -47,6 +47,7 @@ public class MansionGuiView extends JFrame implements MansionView {
   private GameMenu menu;
   private SidePanel sidePanel;
   private GamePlayPanel gamePanel;
+  private IconCache iconCache;
   private JPanel welcomePanel;
   private JPanel addPlayerPanel;
   private JPanel newGamePanel;
@@ -70,6 +71,17 @@ public class MansionGuiView extends JFrame implements MansionView {
    * @param head header of the game.
    */
   public MansionGuiView(String head) {
+    this(head, false);
+  }
+
+  /**
+   * Creates an object for the GUI of game with header, showing the board with
+   * one panel per room or painted in a single component.
+   *
+   * @param head         header of the game.
+   * @param paintedBoard true to paint the board in a single component.
+   */
+  public MansionGuiView(String head, boolean paintedBoard) {
     super(head);
     ImageIcon icon = new ImageIcon("res/images/logo.png");
     this.setIconImage(icon.getImage());
@@ -99,11 +111,13 @@ public class MansionGuiView extends JFrame implements MansionView {
     sp.setEnabled(false);
     sp.setDividerSize(0);
 
-    this.gamePanel = new GamePlayPanel();
+    this.iconCache = new IconCache();
+    this.gamePanel = new GamePlayPanel(this.iconCache);
+    this.gamePanel.setPaintedBoard(paintedBoard);
     this.gamePanel.setPreferredSize(new Dimension(1000, 1500));
     sp.add(new JScrollPane(this.gamePanel));
 
-    this.sidePanel = new SidePanel();
+    this.sidePanel = new SidePanel(this.iconCache);
     sp.add(new JScrollPane(this.sidePanel));
     this.add(sp);
   }
@@ -153,6 +167,8 @@ public class MansionGuiView extends JFrame implements MansionView {
       this.addPlayerScreen(roomNames);
     }
     this.playersColor.clear();
+    this.iconCache.clear();
+    this.sidePanel.clearLog();
     this.add(addPlayerPanel);
     this.refresh();
   }
@@ -294,6 +310,8 @@ public class MansionGuiView extends JFrame implements MansionView {
   @Override
   public void setupScreen() {
     this.playersColor.clear();
+    this.iconCache.clear();
+    this.sidePanel.clearLog();
     newGamePanel.removeAll();
     this.setTitle("New Game");
 
@@ -484,17 +502,23 @@ public class MansionGuiView extends JFrame implements MansionView {
       displayError("Please add at least one player to play the game");
       return;
     }
-    this.getContentPane().removeAll();
-    this.add(sp);
+    // The board updates and repaints its own panels, the frame is only laid out
+    // again when the board is not showing yet.
+    boolean showBoard = sp.getParent() != this.getContentPane();
+    if (showBoard) {
+      this.getContentPane().removeAll();
+      this.add(sp);
+    }
     this.sidePanel.displayListOfPlayers(currentPlayer, playersColor);
     this.sidePanel.displayTargetDetails(targetDetails);
     this.sidePanel.displayLog(message);
     this.sidePanel.displayTurnsLeft(numberOfTurns);
-    this.gamePanel.displayRooms(rooms, petLocation, message, listener);
-    this.gamePanel.displayTarget(targetLocation, petLocation, listener);
-    this.gamePanel.displayPlayers(players, playersColor, listener);
+    this.gamePanel.displayBoard(rooms, players, playersColor, petLocation, targetLocation,
+        message, listener);
     this.requestFocus();
-    this.refresh();
+    if (showBoard) {
+      this.refresh();
+    }
   }
 
   @Override
@@ -65,7 +65,7 @@ public interface MansionView {
    * @param currentPlayer  current player of the game.
    * @param targetDetails  details of Target.
    * @param numberOfTurns  Number of turns left in the game.
-   * @param message        Result of the previous action.
+   * @param message        Lines of the game log added since the last refresh.
    * @param listener       Listener to execute the actions.
    */
   void refreshBoard(Map<String, int[]> rooms, Map<String, String> players, String petLocation,
@@ -8,6 +8,7 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.io.File;
 import java.util.Map;
+import java.util.Objects;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.ImageIcon;
@@ -15,6 +16,9 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JSplitPane;
+import javax.swing.JTextArea;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
 
 
 /**
@@ -26,21 +30,36 @@ import javax.swing.JSplitPane;
 public final class SidePanel extends JPanel {
 
   private static final long serialVersionUID = -6069712620217509908L;
+  private static final int LOG_LINES = 200;
+  private static final File PLAYER_ICON = new File("res/images/player-30p.png");
   private JPanel playersPanel;
   private JPanel targetPanel;
-  private JPanel logPanel;
+  private JTextArea logArea;
   private JPanel turnPanel;
   private JScrollPane scrollPlayers;
   private JScrollPane scrollTarget;
   private JScrollPane scrollLog;
   private JScrollPane scrollTurn;
   private GridBagConstraints constraint;
+  private final IconCache iconCache;
 
 
   /**
    * Creates an object for side panel of the game.
    */
   public SidePanel() {
+    this(new IconCache());
+  }
+
+  /**
+   * Creates an object for side panel of the game showing the players with the
+   * icons of a cache.
+   *
+   * @param iconCache cache of the player icons.
+   * @throws NullPointerException when icon cache is NULL.
+   */
+  public SidePanel(IconCache iconCache) throws NullPointerException {
+    this.iconCache = Objects.requireNonNull(iconCache);
     this.constraint = new GridBagConstraints();
     this.constraint.gridwidth = GridBagConstraints.REMAINDER;
     this.setLayout(new BorderLayout());
@@ -59,9 +78,12 @@ public final class SidePanel extends JPanel {
     this.scrollTarget.setPreferredSize(new Dimension(100, 100));
 
 
-    this.logPanel = new JPanel();
-    this.logPanel.setLayout(new GridBagLayout());
-    this.scrollLog = new JScrollPane(this.logPanel);
+    this.logArea = new JTextArea();
+    this.logArea.setEditable(false);
+    this.logArea.setLineWrap(true);
+    this.logArea.setWrapStyleWord(true);
+    this.logArea.setOpaque(false);
+    this.scrollLog = new JScrollPane(this.logArea);
     this.scrollLog.setPreferredSize(new Dimension(100, 60));
 
 
@@ -111,8 +133,7 @@ public final class SidePanel extends JPanel {
     this.playersPanel.add(Box.createVerticalStrut(50));
     for (String player : playersColor.keySet()) {
       JLabel p = new JLabel(player);
-      Icon img = new Icon(new File("res/images/player-30p.png"));
-      ImageIcon playerIcon = img.setIconColor(playersColor.get(player));
+      ImageIcon playerIcon = this.iconCache.getIcon(PLAYER_ICON, playersColor.get(player));
       p.setIcon(playerIcon);
       p.setHorizontalAlignment(JLabel.LEFT);
       p.setVerticalAlignment(JLabel.TOP);
@@ -149,17 +170,43 @@ public final class SidePanel extends JPanel {
   }
 
   /**
-   * Displays the game log on the game board.
+   * Displays the new lines of the game log. The lines are appended to the log
+   * shown, and the oldest lines are removed once more than the log lines are
+   * shown, so a refresh only adds and removes the lines that changed.
    *
-   * @param message information of game status.
+   * @param message new lines of the game log, one per line.
    */
-
   public void displayLog(String message) {
-    logPanel.removeAll();
-    JLabel logLabel = new JLabel(message);
-    logPanel.add(logLabel);
-    this.logPanel.revalidate();
-    this.logPanel.repaint();
+    if (Objects.isNull(message) || message.isEmpty()) {
+      return;
+    }
+    Document log = this.logArea.getDocument();
+    try {
+      log.insertString(log.getLength(), log.getLength() == 0 ? message : "\n" + message, null);
+      int extraLines = this.logArea.getLineCount() - LOG_LINES;
+      if (extraLines > 0) {
+        log.remove(0, this.logArea.getLineStartOffset(extraLines));
+      }
+    } catch (BadLocationException e) {
+      // The offsets are taken from the document itself.
+      throw new IllegalStateException(e);
+    }
+    this.logArea.setCaretPosition(log.getLength());
+  }
+
+  /**
+   * Removes all lines of the game log.
+   */
+  public void clearLog() {
+    this.logArea.setText("");
+  }
 
+  /**
+   * Gets the lines of the game log shown.
+   *
+   * @return the lines, one per line.
+   */
+  public String getLog() {
+    return this.logArea.getText();
   }
 }
@@ -0,0 +1,119 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import mansion.MansionBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import simulation.BatchSimulation;
+import simulation.GameResult;
+import simulation.SimulationReport;
+
+/**
+ * JUnit tests for the headless batch simulation.
+ */
+public class BatchSimulationTest {
+  private MansionBuilder builder;
+
+  /**
+   * Setting up the world every simulated game is built from.
+   */
+  @Before
+  public void setUp() {
+    builder = new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .setNumberOfTurns(20).setMaximumNumberOfPlayers(3);
+  }
+
+  /**
+   * Test case to test when builder is NULL.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testBuilderNull() {
+    new BatchSimulation(null, 2);
+  }
+
+  /**
+   * Test case to test when number of players is zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlayersZero() {
+    new BatchSimulation(builder, 0);
+  }
+
+  /**
+   * Test case to test when number of players is more than the maximum allowed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlayersMoreThanMaximum() {
+    new BatchSimulation(builder, 4).run(1, 0, 1);
+  }
+
+  /**
+   * Test case to test when number of games is zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGamesZero() {
+    new BatchSimulation(builder, 2).run(0, 0, 1);
+  }
+
+  /**
+   * Test case to test when number of threads is zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testThreadsZero() {
+    new BatchSimulation(builder, 2).run(1, 0, 0);
+  }
+
+  /**
+   * Test case to test that every game is played until it is over.
+   */
+  @Test
+  public void testRun() {
+    SimulationReport report = new BatchSimulation(builder, 3).run(50, 42, 4);
+    assertEquals(50, report.getNumberOfGames());
+    for (GameResult result : report.getResults()) {
+      assertTrue(result.getTurnsPlayed() > 0 && result.getTurnsPlayed() <= 20);
+      assertTrue(result.isTargetKilled() || result.getTurnsPlayed() == 20);
+    }
+    int wins = report.getWinsPerPlayer().values().stream().mapToInt(Integer::intValue).sum();
+    assertEquals(report.getNumberOfKills(), wins);
+    assertTrue(report.getGamesPerSecond() > 0);
+  }
+
+  /**
+   * Test case to test that games do not share rooms and items with each other
+   * or with the builder.
+   */
+  @Test
+  public void testGamesAreIndependent() {
+    new BatchSimulation(builder, 3).run(20, 7, 2);
+    assertTrue(builder.build().getDetailsOfRoom("Green House").contains("Revolver"));
+  }
+
+  /**
+   * Test case to test that game seeds only depend on the seed of the batch.
+   */
+  @Test
+  public void testGameSeeds() {
+    SimulationReport first = new BatchSimulation(builder, 2).run(10, 99, 1);
+    SimulationReport second = new BatchSimulation(builder, 2).run(10, 99, 3);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.getResults().get(i).getSeed(), second.getResults().get(i).getSeed());
+    }
+  }
+
+  /**
+   * Test case to test that batches with the same seed play the same games.
+   */
+  @Test
+  public void testSameSeed() {
+    SimulationReport first = new BatchSimulation(builder, 3).run(20, 5, 1);
+    SimulationReport second = new BatchSimulation(builder, 3).run(20, 5, 2);
+    for (int i = 0; i < 20; i++) {
+      assertEquals(first.getResults().get(i).toString(),
+          second.getResults().get(i).toString());
+    }
+  }
+}
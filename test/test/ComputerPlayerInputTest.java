@@ -3,11 +3,15 @@ package test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import controller.ComputerMove;
 import controller.ComputerPlayerInput;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import mansion.Mansion;
+import mansion.MansionBuilder;
 import org.junit.Test;
 import utils.Action;
 
@@ -19,19 +23,20 @@ import utils.Action;
  *
  */
 public class ComputerPlayerInputTest {
+  private final ComputerPlayerInput computerPlayer = new ComputerPlayerInput();
   
   /**
    * Test case to test for random integer choice.
    */
   @Test
   public void testGetRandomInteger() {
-    Action action = ComputerPlayerInput.chooseAction(false, true);
+    Action action = computerPlayer.chooseAction(false, true);
     assertEquals(Action.KILL, action);
-    action = ComputerPlayerInput.chooseAction(false, false);
+    action = computerPlayer.chooseAction(false, false);
     assertTrue(action != Action.KILL && action.isGamePlayAction());
-    action = ComputerPlayerInput.chooseAction(true, false);
+    action = computerPlayer.chooseAction(true, false);
     assertTrue(action != Action.KILL && action.isGamePlayAction());
-    action = ComputerPlayerInput.chooseAction(true, true);
+    action = computerPlayer.chooseAction(true, true);
     assertTrue(action != Action.KILL && action.isGamePlayAction());
   }
   
@@ -40,7 +45,7 @@ public class ComputerPlayerInputTest {
    */
   @Test(expected = NullPointerException.class)
   public void testGetRandomStringNull() {
-    ComputerPlayerInput.getRandomString(null);
+    computerPlayer.getRandomString(null);
   }
   
   /**
@@ -48,7 +53,7 @@ public class ComputerPlayerInputTest {
    */
   @Test(expected = IllegalArgumentException.class)
   public void testGetRandomStringEmpty() {
-    ComputerPlayerInput.getRandomString(new ArrayList<>());
+    computerPlayer.getRandomString(new ArrayList<>());
   }
   
   /**
@@ -57,8 +62,7 @@ public class ComputerPlayerInputTest {
   @Test
   public void testGetRandomString() {
     List<String> strings = new ArrayList<>(List.of("Pen", "Pineapple", "Apple", "Pen"));
-    String s = ComputerPlayerInput
-        .getRandomString(strings);
+    String s = computerPlayer.getRandomString(strings);
     assertTrue(strings.contains(s));
   }
   
@@ -67,7 +71,7 @@ public class ComputerPlayerInputTest {
    */
   @Test(expected = NullPointerException.class)
   public void testPickItemNull() {
-    ComputerPlayerInput.pickItemToKill(null);
+    computerPlayer.pickItemToKill(null);
   }
   
   /**
@@ -75,7 +79,7 @@ public class ComputerPlayerInputTest {
    */
   @Test(expected = IllegalArgumentException.class)
   public void testPickItemEmpty() {
-    ComputerPlayerInput.pickItemToKill(new HashMap<>());
+    computerPlayer.pickItemToKill(new HashMap<>());
   }
   
   /**
@@ -87,6 +91,143 @@ public class ComputerPlayerInputTest {
     itemsMap.put("Pen", 10);
     itemsMap.put("Pencil", 5);
     itemsMap.put("Poking", 1);
-    assertEquals("Pen", ComputerPlayerInput.pickItemToKill(itemsMap));
+    assertEquals("Pen", computerPlayer.pickItemToKill(itemsMap));
+  }
+  
+  /**
+   * Test case to test that computer players with the same seed make the same
+   * choices.
+   */
+  @Test
+  public void testSameSeed() {
+    ComputerPlayerInput first = new ComputerPlayerInput(42);
+    ComputerPlayerInput second = new ComputerPlayerInput(42);
+    List<String> strings = List.of("Pen", "Pineapple", "Apple", "Pencil");
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.chooseAction(true, false), second.chooseAction(true, false));
+      assertEquals(first.getRandomString(strings), second.getRandomString(strings));
+    }
+  }
+  
+  /**
+   * Test case to test that split computer players of the same seed make the
+   * same choices.
+   */
+  @Test
+  public void testSplit() {
+    ComputerPlayerInput first = new ComputerPlayerInput(7).split();
+    ComputerPlayerInput second = new ComputerPlayerInput(7).split();
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.chooseAction(false, false), second.chooseAction(false, false));
+    }
+  }
+
+  private Mansion game() {
+    Mansion mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(3)
+        .setMaximumNumberOfPlayers(2).build();
+    mansion.addPlayer("Computer", "Green House", false);
+    return mansion;
+  }
+
+  /**
+   * Test case to test that a chosen move can be made by the current player.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test
+  public void testChooseMove() throws IllegalAccessException {
+    Mansion mansion = game();
+    for (int i = 0; i < 100; i++) {
+      ComputerMove move = computerPlayer.chooseMove(mansion);
+      assertTrue(move.getAction().isGamePlayAction());
+      switch (move.getAction()) {
+        case MOVE:
+          assertTrue(mansion.getNeighboursToMove().contains(move.getInput()));
+          break;
+        case PICK:
+          assertTrue(mansion.getItemsToPick().containsKey(move.getInput()));
+          break;
+        case LOOK:
+          assertEquals(null, move.getInput());
+          break;
+        case MOVEPET:
+          assertTrue(mansion.getRoomNames().contains(move.getInput()));
+          break;
+        default:
+          assertTrue(mansion.getItemsToKill().containsKey(move.getInput()));
+          break;
+      }
+    }
+  }
+
+  /**
+   * Test case to test that computer players with the same seed choose the same
+   * moves.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test
+  public void testChooseMoveSameSeed() throws IllegalAccessException {
+    Mansion mansion = game();
+    ComputerPlayerInput first = new ComputerPlayerInput(42);
+    ComputerPlayerInput second = new ComputerPlayerInput(42);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(first.chooseMove(mansion), second.chooseMove(mansion));
+    }
+  }
+
+  /**
+   * Test case to test choosing a move in a game without players.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test(expected = IllegalAccessException.class)
+  public void testChooseMoveNoPlayers() throws IllegalAccessException {
+    computerPlayer.chooseMove(new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(3)
+        .setMaximumNumberOfPlayers(2).build());
+  }
+
+  /**
+   * Test case to test choosing a move when game is null.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testChooseMoveNull() throws IllegalAccessException {
+    computerPlayer.chooseMove(null);
+  }
+
+  /**
+   * Test case to test that a move made in a game is taken by its current
+   * player.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test
+  public void testApplyTo() throws IllegalAccessException {
+    Mansion mansion = game();
+    new ComputerMove(Action.PICK, "Revolver").applyTo(mansion);
+    assertTrue(mansion.getItemsToPick().isEmpty());
+    assertTrue(mansion.getDetailsOfPlayer("Computer").contains("Revolver"));
+  }
+
+  /**
+   * Test case to test a move made in a game that is null.
+   *
+   * @throws IllegalAccessException when there are no players.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testApplyToNull() throws IllegalAccessException {
+    new ComputerMove(Action.LOOK, null).applyTo(null);
+  }
+
+  /**
+   * Test case to test a move of an action which is not a game play action.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveNotGamePlayAction() {
+    new ComputerMove(Action.DISPLAY_ROOM, "Green House");
   }
 }
@@ -0,0 +1,394 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import journal.EventJournal;
+import journal.FsyncPolicy;
+import journal.GameEvents;
+import journal.JournalReader;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import replay.ActionRecorder;
+import replay.RecordedAction;
+import replay.RecordedGame;
+import utils.Action;
+
+/**
+ * JUnit tests for the event journal, which writes every event of a game to a
+ * file in batches.
+ */
+public class EventJournalTest {
+  private Path file;
+
+  /**
+   * Receiver writing every event as a line of text, and the number of its game
+   * apart.
+   */
+  private static final class RecordedEvents implements GameEvents {
+    private final List<String> lines = new ArrayList<>();
+    private final List<Integer> games = new ArrayList<>();
+
+    private void add(int game, String line) {
+      games.add(game);
+      lines.add(line);
+    }
+
+    @Override
+    public void gameStarted(int game, int turns, int maxPlayers) {
+      add(game, "started " + turns + " " + maxPlayers);
+    }
+
+    @Override
+    public void playerAdded(int game, String name, int room, int capacity, boolean isHuman) {
+      add(game, "added " + name + " " + room + " " + capacity + " " + isHuman);
+    }
+
+    @Override
+    public void moved(int game, int player, int room) {
+      add(game, "moved " + player + " " + room);
+    }
+
+    @Override
+    public void picked(int game, int player, String item) {
+      add(game, "picked " + player + " " + item);
+    }
+
+    @Override
+    public void looked(int game, int player) {
+      add(game, "looked " + player);
+    }
+
+    @Override
+    public void petMoved(int game, int player, int room) {
+      add(game, "pet moved " + player + " " + room);
+    }
+
+    @Override
+    public void killAttempted(int game, int player, String item, boolean hit) {
+      add(game, "kill " + player + " " + item + " " + hit);
+    }
+
+    @Override
+    public void targetMoved(int game, int room) {
+      add(game, "target " + room);
+    }
+
+    @Override
+    public void petWandered(int game, int room) {
+      add(game, "pet " + room);
+    }
+  }
+
+  /**
+   * Setting up an empty journal file.
+   *
+   * @throws IOException when the file cannot be created.
+   */
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("game", ".journal");
+    Files.delete(file);
+  }
+
+  /**
+   * Deleting the journal file.
+   *
+   * @throws IOException when the file cannot be deleted.
+   */
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  private RecordedEvents readEvents() throws IOException {
+    RecordedEvents events = new RecordedEvents();
+    long count = JournalReader.read(file, events);
+    assertEquals(count, events.lines.size());
+    return events;
+  }
+
+  private List<String> readBack() throws IOException {
+    return readEvents().lines;
+  }
+
+  private static void playAll(GameEvents events) {
+    events.gameStarted(4, 20, 4);
+    events.playerAdded(4, "Jun", 3, -1, true);
+    events.moved(4, 0, 5);
+    events.picked(7, 1, "Crepe Pan");
+    events.looked(4, 2);
+    events.petMoved(7, 3, 7);
+    events.killAttempted(4, 0, "Poking", true);
+    events.killAttempted(7, 1, "Crepe Pan", false);
+    events.targetMoved(4, 9);
+    events.petWandered(-1, 11);
+  }
+
+  /**
+   * Test case to test that every kind of event reads back as it was written.
+   *
+   * @throws IOException when the journal cannot be written or read.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    RecordedEvents expected = new RecordedEvents();
+    playAll(expected);
+    EventJournal journal = new EventJournal(file, FsyncPolicy.EVERY_BATCH);
+    playAll(journal);
+    assertEquals(10, journal.getEventCount());
+    journal.close();
+    journal.close();
+    RecordedEvents events = readEvents();
+    assertEquals(expected.lines, events.lines);
+    assertEquals(expected.games, events.games);
+  }
+
+  /**
+   * Test case to test that many events spread over many small batches read
+   * back in order, and that a journal opened again appends to the events.
+   *
+   * @throws IOException when the journal cannot be written or read.
+   */
+  @Test
+  public void testManyBatches() throws IOException {
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER, 1024, 1)) {
+      for (int i = 0; i < 100_000; i++) {
+        journal.moved(0, i % 4, i);
+      }
+    }
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.PERIODIC)) {
+      journal.looked(0, 3);
+    }
+    List<String> lines = readBack();
+    assertEquals(100_001, lines.size());
+    for (int i = 0; i < 100_000; i++) {
+      assertEquals("moved " + (i % 4) + " " + i, lines.get(i));
+    }
+    assertEquals("looked 3", lines.get(100_000));
+  }
+
+  /**
+   * Test case to test that a batch cut short by a crash is left out when
+   * reading, and dropped when the journal is opened again.
+   *
+   * @throws IOException when the journal cannot be written or read.
+   */
+  @Test
+  public void testBatchCutShort() throws IOException {
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      journal.moved(0, 0, 1);
+    }
+    long whole = Files.size(file);
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      journal.moved(0, 1, 2);
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+      channel.truncate(Files.size(file) - 3);
+    }
+    assertEquals(List.of("moved 0 1"), readBack());
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      assertEquals(whole, Files.size(file));
+      journal.moved(0, 2, 3);
+    }
+    assertEquals(List.of("moved 0 1", "moved 2 3"), readBack());
+  }
+
+  /**
+   * Test case to test that a batch with a wrong checksum ends the journal.
+   *
+   * @throws IOException when the journal cannot be written or read.
+   */
+  @Test
+  public void testBatchCorrupted() throws IOException {
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      journal.moved(0, 0, 1);
+    }
+    byte[] bytes = Files.readAllBytes(file);
+    bytes[bytes.length - 1] ^= 1;
+    Files.write(file, bytes);
+    assertTrue(readBack().isEmpty());
+  }
+
+  /**
+   * Test case to test that a game built by a builder with the journal writes
+   * every action followed by the moves it caused.
+   *
+   * @throws Exception when the journal cannot be written or the game cannot be
+   *                   played.
+   */
+  @Test
+  public void testGameJournaled() throws Exception {
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      Mansion mansion = new MansionBuilder()
+          .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(5)
+          .setMaximumNumberOfPlayers(2).setGameEvents(journal).build();
+      mansion.addPlayer("Jun", "Piazza", true);
+      mansion.addPlayer("Komal", "Green House", false);
+      mansion.actionLook();
+      mansion.actionMovePet("Hedge Maze");
+    }
+    RecordedEvents events = readEvents();
+    List<String> lines = events.lines;
+    assertEquals(1, events.games.stream().distinct().count());
+    assertEquals("started 5 2", lines.get(0));
+    assertTrue(lines.get(1).startsWith("added Jun "));
+    assertTrue(lines.get(2).startsWith("added Komal "));
+    assertEquals("looked 0", lines.get(3));
+    assertEquals("target 1", lines.get(4));
+    assertTrue(lines.get(5).startsWith("pet "));
+    assertEquals("pet moved 1 1", lines.get(6));
+    assertEquals("target 2", lines.get(7));
+    assertEquals(8, lines.size());
+  }
+
+  /**
+   * Test case to test the events of games played at the same time on Mansions
+   * of one builder are read back into their own games.
+   *
+   * @throws Exception when the journal cannot be written or the game cannot be
+   *                   played.
+   */
+  @Test
+  public void testGamesInterleaved() throws Exception {
+    MansionBuilder builder = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(5)
+        .setMaximumNumberOfPlayers(2);
+    try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+      builder.setGameEvents(journal);
+      Mansion first = builder.build();
+      Mansion second = builder.build();
+      first.addPlayer("Jun", "Piazza", true);
+      second.addPlayer("Komal", "Green House", true);
+      second.actionPick("Revolver");
+      first.actionLook();
+      second.actionLook();
+      first.actionMovePet("Piazza");
+    }
+    ActionRecorder recorder = new ActionRecorder(builder.build().getRoomNames());
+    JournalReader.read(file, recorder);
+    List<RecordedGame> games = recorder.getGames();
+    assertEquals(2, games.size());
+    assertEquals(5, games.get(1).getNumberOfTurns());
+    assertEquals(2, games.get(1).getMaximumNumberOfPlayers());
+    assertEquals(List.of(new RecordedAction(Action.ADD_PLAYER, "Jun", "Piazza", "-1", "true"),
+        new RecordedAction(Action.LOOK), new RecordedAction(Action.MOVEPET, "Piazza")),
+        games.get(0).getActions());
+    assertEquals(List.of(
+        new RecordedAction(Action.ADD_PLAYER, "Komal", "Green House", "-1", "true"),
+        new RecordedAction(Action.PICK, "Revolver"), new RecordedAction(Action.LOOK)),
+        games.get(1).getActions());
+  }
+
+  /**
+   * Test case to test an action is told to the game events once it is done,
+   * with the turn ended and the target moved.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testEventAfterAction() throws IllegalAccessException {
+    Mansion mansion = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(5)
+        .setMaximumNumberOfPlayers(2).build();
+    List<String> seen = new ArrayList<>();
+    mansion.setGameEvents(new GameEvents() {
+      @Override
+      public void looked(int game, int player) {
+        seen.add(mansion.getNumberOfTurns() + " " + mansion.getTargetLocation());
+      }
+    });
+    mansion.addPlayer("Jun", "Piazza", true);
+    mansion.actionLook();
+    assertEquals(List.of("4 Hedge Maze"), seen);
+  }
+
+  /**
+   * Test case to test recording an event after the journal is closed leaves
+   * it out without stopping the game, and keeps the failure.
+   *
+   * @throws IOException when the journal cannot be written.
+   */
+  @Test
+  public void testClosed() throws IOException {
+    EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER);
+    journal.close();
+    assertEquals(null, journal.getFailure());
+    journal.looked(0, 0);
+    assertEquals("Journal is closed.", journal.getFailure().getMessage());
+    assertTrue(readBack().isEmpty());
+  }
+
+  /**
+   * Test case to test an event too large for a batch is left out with every
+   * event after it, and the failure is thrown by close.
+   *
+   * @throws IOException when the journal cannot be written.
+   */
+  @Test
+  public void testEventTooLarge() throws IOException {
+    EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER, 1024, 10);
+    journal.moved(0, 0, 1);
+    journal.picked(0, 1, "Crepe Pan".repeat(200));
+    journal.moved(0, 2, 3);
+    assertEquals("Event is too large for a batch.", journal.getFailure().getMessage());
+    try {
+      journal.close();
+      fail("Journal failed.");
+    } catch (IOException exception) {
+      assertEquals("Event is too large for a batch.", exception.getMessage());
+    }
+    assertEquals(List.of("moved 0 1"), readBack());
+  }
+
+  /**
+   * Test case to test opening a file which is not a journal.
+   *
+   * @throws IOException when the file is not a journal.
+   */
+  @Test(expected = IOException.class)
+  public void testNotJournal() throws IOException {
+    Files.writeString(file, "Doctor Lucky");
+    new EventJournal(file, FsyncPolicy.NEVER);
+  }
+
+  /**
+   * Test case to test a batch too small.
+   *
+   * @throws IOException when the journal cannot be opened.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testBatchSizeSmall() throws IOException {
+    new EventJournal(file, FsyncPolicy.NEVER, 100, 10);
+  }
+
+  /**
+   * Test case to test a NULL policy.
+   *
+   * @throws IOException when the journal cannot be opened.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testPolicyNull() throws IOException {
+    new EventJournal(file, null);
+  }
+
+  /**
+   * Test case to test setting NULL events on the builder.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testBuilderEventsNull() {
+    new MansionBuilder().setGameEvents(null);
+  }
+}
@@ -0,0 +1,100 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import controller.GameLog;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * JUnit tests for the game log, which keeps its last lines in a ring buffer.
+ */
+public class GameLogTest {
+
+  /**
+   * Test case to test that the log keeps the last lines, oldest first.
+   */
+  @Test
+  public void testLastLines() {
+    GameLog log = new GameLog(3);
+    assertTrue(log.getLines().isEmpty());
+    for (int i = 1; i <= 5; i++) {
+      log.add("Line " + i);
+    }
+    assertEquals(5, log.getTotalLines());
+    assertEquals(List.of("Line 3", "Line 4", "Line 5"), log.getLines());
+  }
+
+  /**
+   * Test case to test getting the lines added after a number of lines.
+   */
+  @Test
+  public void testLinesSince() {
+    GameLog log = new GameLog(3);
+    log.add("Line 1");
+    log.add("Line 2");
+    long shown = log.getTotalLines();
+    assertTrue(log.getLinesSince(shown).isEmpty());
+    log.add("Line 3");
+    assertEquals(List.of("Line 3"), log.getLinesSince(shown));
+    log.add("Line 4");
+    log.add("Line 5");
+    log.add("Line 6");
+    assertEquals(List.of("Line 4", "Line 5", "Line 6"), log.getLinesSince(shown));
+  }
+
+  /**
+   * Test case to test that dropped lines and the lines left on close are
+   * written to the log file.
+   *
+   * @throws IOException when log file cannot be written.
+   */
+  @Test
+  public void testLogFile() throws IOException {
+    Path file = Files.createTempFile("game", ".log");
+    try {
+      Files.writeString(file, "Earlier Game\n");
+      GameLog log = new GameLog(2, file);
+      for (int i = 1; i <= 5; i++) {
+        log.add("Line " + i);
+      }
+      log.close();
+      assertEquals(List.of("Earlier Game", "Line 1", "Line 2", "Line 3", "Line 4", "Line 5"),
+          Files.readAllLines(file));
+      assertEquals(List.of("Line 4", "Line 5"), log.getLines());
+      log.add("Line 6");
+      log.close();
+      assertEquals(6, Files.readAllLines(file).size());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test a log of no lines.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testCapacityZero() {
+    new GameLog(0);
+  }
+
+  /**
+   * Test case to test adding a NULL line.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullLine() {
+    new GameLog(2).add(null);
+  }
+
+  /**
+   * Test case to test getting the lines after a negative number of lines.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testLinesSinceNegative() {
+    new GameLog(2).getLinesSince(-1);
+  }
+}
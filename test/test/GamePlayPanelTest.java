@@ -0,0 +1,301 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.swing.Icon;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.RepaintManager;
+import listener.MouseClickListener;
+import org.junit.Before;
+import org.junit.Test;
+import view.FrameTimes;
+import view.GamePlayPanel;
+
+/**
+ * JUnit tests for the retained game board, which keeps its components across
+ * turns and only updates the rooms that changed.
+ */
+public class GamePlayPanelTest {
+  private GamePlayPanel panel;
+  private MouseClickListener listener;
+  private Map<String, int[]> rooms;
+  private Map<String, String> players;
+  private Map<String, Color> colors;
+
+  /**
+   * Setting up a board of three rooms with two players.
+   */
+  @Before
+  public void setUp() {
+    panel = new GamePlayPanel();
+    listener = new MouseClickListener();
+    rooms = new HashMap<>();
+    rooms.put("Armory", new int[] { 0, 0, 1, 1 });
+    rooms.put("Kitchen", new int[] { 0, 2, 1, 3 });
+    rooms.put("Library", new int[] { 2, 0, 3, 3 });
+    players = new HashMap<>();
+    players.put("Jun", "Armory");
+    players.put("Komal", "Kitchen");
+    colors = new HashMap<>();
+    colors.put("Jun", Color.RED);
+    colors.put("Komal", Color.BLUE);
+  }
+
+  private JPanel room(String name) {
+    for (Component component : panel.getComponents()) {
+      if (component instanceof JPanel && name.equals(component.getName())) {
+        return (JPanel) component;
+      }
+    }
+    return null;
+  }
+
+  private JLabel label(String room, String name) {
+    for (Component component : room(room).getComponents()) {
+      if (component instanceof JLabel && name.equals(component.getName())) {
+        return (JLabel) component;
+      }
+    }
+    return null;
+  }
+
+  private void display(String pet, String target) {
+    panel.displayBoard(rooms, players, colors, pet, target, "", listener);
+  }
+
+  /**
+   * Test case to test that room panels and player labels are kept when a
+   * player moves, and the label moves to its new room.
+   */
+  @Test
+  public void testComponentsKeptAcrossTurns() {
+    display("Library", "Armory");
+    JPanel armory = room("Armory");
+    JLabel jun = label("Armory", "Jun");
+    players.put("Jun", "Kitchen");
+    display("Library", "Armory");
+    assertSame(armory, room("Armory"));
+    assertNull(label("Armory", "Jun"));
+    assertSame(jun, label("Kitchen", "Jun"));
+    assertSame(jun.getIcon(), label("Kitchen", "Jun").getIcon());
+  }
+
+  /**
+   * Test case to test that the room of the pet is shaded and the shade moves
+   * with the pet.
+   */
+  @Test
+  public void testPetShading() {
+    display("Library", "Armory");
+    Color background = room("Armory").getBackground();
+    assertEquals(Color.BLACK, room("Library").getBackground());
+    display("Armory", "Kitchen");
+    assertEquals(Color.BLACK, room("Armory").getBackground());
+    assertEquals(background, room("Library").getBackground());
+  }
+
+  /**
+   * Test case to test that the target is hidden in the room of the pet and
+   * shown after the room name otherwise.
+   */
+  @Test
+  public void testTarget() {
+    display("Armory", "Armory");
+    assertEquals(2, room("Armory").getComponentCount());
+    display("Library", "Armory");
+    assertEquals(3, room("Armory").getComponentCount());
+    JLabel target = (JLabel) room("Armory").getComponent(1);
+    assertNull(target.getName());
+    display("Library", "Kitchen");
+    assertEquals(2, room("Armory").getComponentCount());
+    assertSame(target, room("Kitchen").getComponent(1));
+  }
+
+  /**
+   * Test case to test that players who left are removed and a new color gives
+   * a new icon.
+   */
+  @Test
+  public void testPlayersChanged() {
+    display("Library", "Armory");
+    JLabel komal = label("Kitchen", "Komal");
+    Icon icon = komal.getIcon();
+    players.remove("Jun");
+    colors.put("Komal", Color.GREEN);
+    display("Library", "Armory");
+    assertNull(label("Armory", "Jun"));
+    assertSame(komal, label("Kitchen", "Komal"));
+    assertNotSame(icon, komal.getIcon());
+  }
+
+  /**
+   * Test case to test that new rooms build the board again.
+   */
+  @Test
+  public void testNewRooms() {
+    display("Library", "Armory");
+    JPanel armory = room("Armory");
+    rooms.put("Armory", new int[] { 0, 0, 1, 0 });
+    display("Library", "Armory");
+    assertNotSame(armory, room("Armory"));
+    assertNotNull(label("Armory", "Jun"));
+    panel.clearBoard();
+    assertNull(room("Armory"));
+  }
+
+  /**
+   * Test case to test that every update of the board is recorded as a frame.
+   */
+  @Test
+  public void testFrameTimes() {
+    display("Library", "Armory");
+    display("Library", "Armory");
+    FrameTimes frameTimes = panel.getFrameTimes();
+    assertEquals(2, frameTimes.getFrames());
+    assertTrue(frameTimes.getMaximumMillis() >= frameTimes.getAverageMillis());
+    frameTimes.reset();
+    frameTimes.record(2_000_000);
+    frameTimes.record(4_000_000);
+    assertEquals(4.0, frameTimes.getLastMillis(), 1e-9);
+    assertEquals(3.0, frameTimes.getAverageMillis(), 1e-9);
+    assertEquals("2 frames, last 4.00 ms, average 3.00 ms, maximum 4.00 ms",
+        frameTimes.toString());
+  }
+
+  /**
+   * Test case to test that a negative frame time is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testFrameTimeNegative() {
+    panel.getFrameTimes().record(-1);
+  }
+
+  private JComponent paintedBoard() {
+    rooms.clear();
+    rooms.put("Armory", new int[] { 0, 0, 3, 3 });
+    rooms.put("Kitchen", new int[] { 0, 4, 3, 7 });
+    rooms.put("Library", new int[] { 4, 0, 7, 7 });
+    panel.setPaintedBoard(true);
+    display("Library", "Kitchen");
+    assertEquals(1, panel.getComponentCount());
+    return (JComponent) panel.getComponent(0);
+  }
+
+  /**
+   * Test case to test that the painted board is a single component kept
+   * across turns.
+   */
+  @Test
+  public void testPaintedBoardSingleComponent() {
+    JComponent board = paintedBoard();
+    assertTrue(panel.isPaintedBoard());
+    assertEquals(0, board.getComponentCount());
+    players.put("Jun", "Library");
+    display("Armory", "Kitchen");
+    assertSame(board, panel.getComponent(0));
+    panel.setPaintedBoard(false);
+    display("Library", "Armory");
+    assertNotNull(room("Armory"));
+  }
+
+  /**
+   * Test case to test that the painted board shades the room of the pet and
+   * draws the icons of the players.
+   */
+  @Test
+  public void testPaintedBoardPixels() {
+    JComponent board = paintedBoard();
+    BufferedImage image = new BufferedImage(board.getWidth(), board.getHeight(),
+        BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    board.paint(g);
+    g.dispose();
+    assertEquals(Color.BLACK.getRGB(), image.getRGB(120, 270));
+    assertEquals(Color.BLACK.getRGB(), image.getRGB(20, 120));
+    assertTrue(image.getRGB(100, 210) != Color.BLACK.getRGB());
+    int red = 0;
+    for (int y = 120; y < 220; y++) {
+      for (int x = 20; x < 120; x++) {
+        if (image.getRGB(x, y) == Color.RED.getRGB()) {
+          red++;
+        }
+      }
+    }
+    assertTrue(red > 0);
+  }
+
+  /**
+   * Test case to test that only the rooms a player left and entered are
+   * repainted.
+   */
+  @Test
+  public void testPaintedBoardRepaintsChangedRooms() {
+    JComponent board = paintedBoard();
+    List<Rectangle> dirty = new ArrayList<>();
+    RepaintManager manager = RepaintManager.currentManager(board);
+    RepaintManager.setCurrentManager(new RepaintManager() {
+      @Override
+      public void addDirtyRegion(JComponent c, int x, int y, int w, int h) {
+        if (c == board) {
+          dirty.add(new Rectangle(x, y, w, h));
+        }
+      }
+    });
+    try {
+      display("Library", "Kitchen");
+      assertTrue(dirty.isEmpty());
+      players.put("Jun", "Kitchen");
+      display("Library", "Kitchen");
+      assertEquals(2, dirty.size());
+      assertTrue(dirty.contains(new Rectangle(20, 120, 100, 100)));
+      assertTrue(dirty.contains(new Rectangle(120, 120, 100, 100)));
+    } finally {
+      RepaintManager.setCurrentManager(manager);
+    }
+  }
+
+  /**
+   * Test case to test that clicks on the painted board give the names of the
+   * room, the player and the target under the mouse.
+   */
+  @Test
+  public void testPaintedBoardClicks() {
+    List<String> clicked = new ArrayList<>();
+    Map<Integer, Consumer<String>> actions = new HashMap<>();
+    actions.put(MouseEvent.BUTTON1, clicked::add);
+    listener.setMouseClickActionMap(actions);
+    JComponent board = paintedBoard();
+    click(board, 100, 210);
+    click(board, 43, 165);
+    click(board, 135, 165);
+    click(board, 170, 165);
+    click(board, 5, 5);
+    // The room finder decides the room, not the rectangles of the rooms.
+    listener.setRoomFinder((row, column) -> "Kitchen");
+    click(board, 100, 210);
+    assertEquals(List.of("Armory", "Jun", "", "Komal", "Kitchen"), clicked);
+  }
+
+  private void click(JComponent board, int x, int y) {
+    board.dispatchEvent(new MouseEvent(board, MouseEvent.MOUSE_CLICKED, 0, 0, x, y, 1, false,
+        MouseEvent.BUTTON1));
+  }
+}
@@ -0,0 +1,268 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import journal.EventJournal;
+import journal.FsyncPolicy;
+import journal.GameEvents;
+import journal.JournalReader;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import replay.ActionRecorder;
+import replay.GameReplay;
+import replay.RecordedAction;
+import replay.RecordedGame;
+import utils.Action;
+
+/**
+ * JUnit tests for the replay of recorded games, which seeks to any position of
+ * a game from its nearest keyframe.
+ */
+public class GameReplayTest {
+  private MansionBuilder builder;
+  private List<String> states;
+  private RecordedGame recorded;
+  private List<RecordedAction> game;
+
+  /**
+   * Playing a game of computer players on the mansion in res, recording its
+   * actions and its state after every action.
+   *
+   * @throws Exception when the world cannot be read or the game cannot be
+   *                   played.
+   */
+  @Before
+  public void setUp() throws Exception {
+    builder = new MansionBuilder().readConfigFile(Path.of("res/mansion.txt"))
+        .setNumberOfTurns(400).setMaximumNumberOfPlayers(3);
+    ActionRecorder recorder = new ActionRecorder(builder.build().getRoomNames());
+    builder.setGameEvents(recorder);
+    Mansion mansion = builder.build();
+    states = new ArrayList<>();
+    states.add(describe(mansion));
+    mansion.addPlayer("Jun", "Armory", 2, false);
+    states.add(describe(mansion));
+    mansion.addPlayer("Komal", "Kitchen", false);
+    states.add(describe(mansion));
+    mansion.addPlayer("Lucky", "Foyer", 1, false);
+    states.add(describe(mansion));
+    ComputerPlayerInput computer = new ComputerPlayerInput(11);
+    while (!mansion.isGameOver()) {
+      ComputerMove move = computer.chooseMove(mansion);
+      try {
+        move.applyTo(mansion);
+        states.add(describe(mansion));
+      } catch (IllegalStateException exception) {
+        // No capacity left to carry items, choose another move.
+      }
+    }
+    recorded = recorder.getGames().get(0);
+    game = recorded.getActions();
+    builder.setGameEvents(GameEvents.NONE);
+  }
+
+  private static String describe(Mansion mansion) {
+    StringBuilder state = new StringBuilder();
+    state.append(mansion.getNumberOfTurns()).append(mansion.getTargetDetails())
+        .append(mansion.getTargetPetLocation()).append(mansion.isGameOver())
+        .append(mansion.getWinner()).append(mansion.getPlayerLocations());
+    for (String player : mansion.getPlayerNames()) {
+      state.append(mansion.getDetailsOfPlayer(player));
+    }
+    for (String room : mansion.getRoomNames()) {
+      state.append(mansion.getDetailsOfRoom(room));
+    }
+    return state.toString();
+  }
+
+  /**
+   * Test case to test that the recorded game has its players and turns.
+   */
+  @Test
+  public void testRecordedGame() {
+    assertEquals(new RecordedAction(Action.ADD_PLAYER, "Jun", "Armory", "2", "false"),
+        game.get(0));
+    assertEquals(states.size() - 1, game.size());
+    assertEquals(400, recorded.getNumberOfTurns());
+    assertEquals(3, recorded.getMaximumNumberOfPlayers());
+    GameReplay replay = new GameReplay(builder, recorded);
+    assertEquals(game.size(), replay.getNumberOfActions());
+    assertEquals(game.size() - 3, replay.getNumberOfTurns());
+  }
+
+  /**
+   * Test case to test that seeking to random positions, forward and backward,
+   * gives the states of the game played.
+   */
+  @Test
+  public void testSeek() {
+    GameReplay replay = new GameReplay(builder, recorded, 8);
+    Random random = new Random(5);
+    for (int i = 0; i < 200; i++) {
+      int position = random.nextInt(game.size() + 1);
+      assertEquals("position " + position, states.get(position),
+          describe(replay.seek(position)));
+      assertEquals(position, replay.getPosition());
+    }
+    assertEquals(states.get(game.size()), describe(replay.seek(game.size())));
+    assertEquals(states.get(0), describe(replay.seek(0)));
+  }
+
+  /**
+   * Test case to test that keyframes are taken once every interval, and a
+   * seek backward replays at most an interval of actions.
+   */
+  @Test
+  public void testKeyframes() {
+    GameReplay replay = new GameReplay(builder, recorded, 16);
+    assertEquals(1, replay.getNumberOfKeyframes());
+    replay.seek(game.size());
+    assertEquals(game.size() / 16 + 1, replay.getNumberOfKeyframes());
+    replay.seek(game.size() / 2);
+    assertEquals(game.size() / 2, replay.getPosition());
+    assertEquals(game.size() / 16 + 1, replay.getNumberOfKeyframes());
+    assertEquals(states.get(game.size() / 2), describe(replay.seek(game.size() / 2)));
+  }
+
+  /**
+   * Test case to test that seeking to a turn gives the state after that many
+   * turns.
+   */
+  @Test
+  public void testSeekTurn() {
+    GameReplay replay = new GameReplay(builder, recorded);
+    assertEquals(states.get(3), describe(replay.seekTurn(0)));
+    assertEquals(states.get(13), describe(replay.seekTurn(10)));
+    assertEquals(states.get(game.size()), describe(replay.seekTurn(replay.getNumberOfTurns())));
+  }
+
+  /**
+   * Test case to test that a game written to an event journal replays to the
+   * same end.
+   *
+   * @throws Exception when the journal cannot be written or read.
+   */
+  @Test
+  public void testReplayFromJournal() throws Exception {
+    Path file = Files.createTempFile("game", ".journal");
+    Files.delete(file);
+    try {
+      try (EventJournal journal = new EventJournal(file, FsyncPolicy.NEVER)) {
+        Mansion mansion = builder.build(journal);
+        for (RecordedAction action : game) {
+          replayOne(mansion, action);
+        }
+      }
+      ActionRecorder recorder = new ActionRecorder(builder.build().getRoomNames());
+      JournalReader.read(file, recorder);
+      assertEquals(List.of(recorded), recorder.getGames());
+      GameReplay replay = new GameReplay(builder, recorder.getGames().get(0));
+      assertEquals(states.get(game.size()), describe(replay.seek(game.size())));
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static void replayOne(Mansion mansion, RecordedAction action)
+      throws IllegalAccessException {
+    List<String> arguments = action.getArguments();
+    if (action.getAction() == Action.ADD_PLAYER) {
+      mansion.addPlayer(arguments.get(0), arguments.get(1), Integer.parseInt(arguments.get(2)),
+          Boolean.parseBoolean(arguments.get(3)));
+    } else {
+      new ComputerMove(action.getAction(), arguments.isEmpty() ? null : arguments.get(0))
+          .applyTo(mansion);
+    }
+  }
+
+  /**
+   * Test case to test that a replay tells the game events of its builder
+   * nothing, neither the game it builds nor the actions it replays.
+   */
+  @Test
+  public void testReplayNotJournaled() {
+    ActionRecorder recorder = new ActionRecorder(builder.build().getRoomNames());
+    builder.setGameEvents(recorder);
+    GameReplay replay = new GameReplay(builder, recorded, 16);
+    replay.seek(game.size());
+    replay.seek(5);
+    assertEquals(List.of(), recorder.getGames());
+  }
+
+  /**
+   * Test case to test that an action which cannot be taken again fails the
+   * seek.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testActionCannotBeReplayed() {
+    new GameReplay(builder, new RecordedGame(400, 3,
+        List.of(new RecordedAction(Action.MOVE, "Armory")))).seek(1);
+  }
+
+  /**
+   * Test case to test replaying a game with a builder of other turns than the
+   * game was started with.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testReplayOtherTurns() {
+    new GameReplay(builder.setNumberOfTurns(399), recorded);
+  }
+
+  /**
+   * Test case to test replaying a game with a builder of other players than
+   * the game was started with.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testReplayOtherPlayers() {
+    new GameReplay(builder.setMaximumNumberOfPlayers(4), recorded);
+  }
+
+  /**
+   * Test case to test seeking past the end of the game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSeekPastEnd() {
+    new GameReplay(builder, recorded).seek(game.size() + 1);
+  }
+
+  /**
+   * Test case to test a keyframe interval of zero.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIntervalZero() {
+    new GameReplay(builder, recorded, 0);
+  }
+
+  /**
+   * Test case to test a recorded action with missing arguments.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRecordedActionArguments() {
+    new RecordedAction(Action.ADD_PLAYER, "Jun");
+  }
+
+  /**
+   * Test case to test recording an action which cannot be replayed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRecordedActionNotReplayed() {
+    new RecordedAction(Action.DISPLAY_ROOM, "Armory");
+  }
+
+  /**
+   * Test case to test an action recorded before a game started.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testRecorderNoGame() {
+    new ActionRecorder(List.of("Armory")).looked(0, 0);
+  }
+}
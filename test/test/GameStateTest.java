@@ -0,0 +1,323 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import controller.ComputerMove;
+import controller.ComputerPlayerInput;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mansion.GameState;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import utils.Action;
+import utils.Constants;
+
+/**
+ * JUnit tests for the immutable state of a game, which follows the rules of
+ * the Mansion without changing it.
+ */
+public class GameStateTest {
+  private Mansion mansion;
+
+  /**
+   * Setting up Mansion object for testing.
+   */
+  @Before
+  public void setUp() {
+    mansion = new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .setNumberOfTurns(3).setMaximumNumberOfPlayers(2).build();
+  }
+
+  private static Map<String, Integer> items(GameState state, int[] items) {
+    Map<String, Integer> details = new HashMap<>();
+    for (int item : items) {
+      details.put(state.getItemName(item), state.getItemDamage(item));
+    }
+    return details;
+  }
+
+  private static void assertSameGame(Mansion mansion, GameState state)
+      throws IllegalAccessException {
+    assertEquals(mansion.getNumberOfTurns(), state.getNumberOfTurns());
+    assertEquals(mansion.isGameOver(), state.isGameOver());
+    assertEquals(mansion.getWinner(), state.getWinner());
+    assertTrue(mansion.getTargetDetails()
+        .contains("Health Points = " + state.getTargetHealth() + "\n"));
+    assertEquals(mansion.getTargetLocation(), state.getRoomName(state.getTargetLocation()));
+    assertEquals(mansion.getTargetPetLocation(),
+        state.getRoomName(state.getTargetPetLocation()));
+    assertEquals(mansion.getCurrentPlayerName(), state.getPlayerName(state.getCurrentPlayer()));
+    assertEquals(mansion.isCurrentPlayerSeen(), state.isCurrentPlayerSeen());
+    Map<String, String> locations = mansion.getPlayerLocations();
+    for (int i = 0; i < state.getNumberOfPlayers(); i++) {
+      assertEquals(locations.get(state.getPlayerName(i)),
+          state.getRoomName(state.getPlayerLocation(i)));
+    }
+    Map<String, Integer> carried = mansion.getItemsToKill();
+    carried.remove(Constants.POKING);
+    assertEquals(carried, items(state, state.getItemsOfPlayer(state.getCurrentPlayer())));
+    assertEquals(mansion.getItemsToPick(), items(state,
+        state.getItemsInRoom(state.getPlayerLocation(state.getCurrentPlayer()))));
+  }
+
+  /**
+   * Test case to test that a game of computer players played on the states
+   * goes the same as on the Mansion, including the pet wandering and moved.
+   *
+   * @throws Exception when the world cannot be read.
+   */
+  @Test
+  public void testSameGameAsMansion() throws Exception {
+    Mansion game = new MansionBuilder().readConfigFile(Path.of("res/mansion.txt"))
+        .setNumberOfTurns(400).setMaximumNumberOfPlayers(3).build();
+    game.addPlayer("Jun", "Armory", 2, false);
+    game.addPlayer("Komal", "Kitchen", false);
+    GameState state = game.getGameState();
+    game.addPlayer("Lucky", "Foyer", 1, false);
+    state = state.addPlayer("Lucky", state.getRoomNumber("Foyer"), 1, false);
+    assertSameGame(game, state);
+    ComputerPlayerInput computer = new ComputerPlayerInput(11);
+    while (!game.isGameOver()) {
+      ComputerMove move = computer.chooseMove(game);
+      GameState next;
+      try {
+        next = state.apply(move.getAction(), move.getInput());
+      } catch (IllegalStateException exception) {
+        next = null;
+      }
+      try {
+        move.applyTo(game);
+      } catch (IllegalStateException exception) {
+        assertEquals(null, next);
+        continue;
+      }
+      state = next;
+      assertSameGame(game, state);
+    }
+    assertTrue(state.isGameOver());
+    assertSameGame(game, game.getGameState());
+  }
+
+  /**
+   * Test case to test that an action leaves the state it was taken on as it
+   * was.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testActionLeavesState() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.addPlayer("Komal", "Piazza", false);
+    GameState start = mansion.getGameState();
+    GameState picked = start.apply(Action.PICK, "Revolver");
+    assertEquals(1, start.getItemsInRoom(0).length);
+    assertEquals(3, start.getNumberOfTurns());
+    assertEquals(0, start.getCurrentPlayer());
+    assertEquals(0, start.getItemsOfPlayer(0).length);
+    assertEquals(List.of("Revolver"), picked.getItemNamesOfPlayer(0));
+    assertEquals(0, picked.getItemsInRoom(0).length);
+    assertEquals(2, picked.getNumberOfTurns());
+    assertEquals(1, picked.getCurrentPlayer());
+    assertEquals(1, picked.getTargetLocation());
+    assertEquals(0, start.getTargetLocation());
+    assertEquals(3, mansion.getNumberOfTurns());
+    assertTrue(mansion.getItemsToPick().containsKey("Revolver"));
+  }
+
+  /**
+   * Test case to test states reached by the same moves are equal, also when
+   * one is taken from the Mansion, and differ after different moves.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testEquals() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.addPlayer("Komal", "Piazza", false);
+    GameState start = mansion.getGameState();
+    GameState picked = start.apply(Action.PICK, "Revolver").look();
+    mansion.actionPick("Revolver");
+    mansion.actionLook();
+    assertEquals(picked, start.apply(Action.PICK, "Revolver").look());
+    assertEquals(picked, mansion.getGameState());
+    assertEquals(picked.hashCode(), mansion.getGameState().hashCode());
+    assertFalse(picked.equals(start.look().look()));
+    assertFalse(start.equals(picked));
+  }
+
+  /**
+   * Test case to test the items of a room are kept in the order they were
+   * added when one is picked up, and the player keeps them in the order they
+   * were picked up.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testItemOrder() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Hedge Maze", true);
+    GameState state = mansion.getGameState();
+    int civilWarCannon = state.getItemsInRoom(1)[0];
+    int cannon = state.getItemsInRoom(1)[1];
+    assertEquals("Civil War Cannon", state.getItemName(civilWarCannon));
+    state = state.pick(cannon).pick(civilWarCannon);
+    assertArrayEquals(new int[] { cannon, civilWarCannon }, state.getItemsOfPlayer(0));
+    assertArrayEquals(new int[0], state.getItemsInRoom(1));
+    assertEquals(1, state.getNumberOfTurns());
+  }
+
+  /**
+   * Test case to test killing the target with an item, which wins the game,
+   * the same as on the Mansion.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testKill() throws IllegalAccessException {
+    Mansion game = new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .setNumberOfTurns(5).setMaximumNumberOfPlayers(2).build();
+    game.addPlayer("Jun", "Green House", true);
+    GameState state = game.getGameState().apply(Action.PICK, "Revolver").look().look();
+    assertEquals(0, state.getTargetLocation());
+    assertTrue(state.isTargetPresent());
+    game.actionPick("Revolver");
+    game.actionLook();
+    game.actionLook();
+    state = state.apply(Action.KILL, "Revolver");
+    assertTrue(game.actionAttemptKill("Revolver"));
+    assertEquals(0, state.getTargetHealth());
+    assertTrue(state.isGameOver());
+    assertEquals("Jun", state.getWinner());
+    assertArrayEquals(new int[0], state.getItemsOfPlayer(0));
+    assertEquals(game.getWinner(), state.getWinner());
+    assertTrue(game.getTargetDetails().contains("Health Points = 0\n"));
+  }
+
+  /**
+   * Test case to test moving to a room which is not a neighbor.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveNotNeighbor() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.getGameState().apply(Action.MOVE, "Piazza");
+  }
+
+  /**
+   * Test case to test moving into the room of the target pet.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMoveIntoPet() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Hedge Maze", true);
+    mansion.getGameState().move(0);
+  }
+
+  /**
+   * Test case to test an action with no players in the game.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalAccessException.class)
+  public void testNoPlayers() throws IllegalAccessException {
+    mansion.getGameState().look();
+  }
+
+  /**
+   * Test case to test an action after the game is over.
+   *
+   * @throws IllegalAccessException when the game is over.
+   */
+  @Test
+  public void testGameOver() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    GameState state = mansion.getGameState().look().look().look();
+    assertTrue(state.isGameOver());
+    assertEquals(null, state.getWinner());
+    try {
+      state.look();
+      fail("Game is over.");
+    } catch (IllegalAccessException exception) {
+      assertEquals("Game is Over!", exception.getMessage());
+    }
+  }
+
+  /**
+   * Test case to test attempting to kill when the target is not in the room.
+   *
+   * @throws IllegalAccessException when the target is not in the room.
+   */
+  @Test(expected = IllegalAccessException.class)
+  public void testKillTargetAbsent() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Piazza", true);
+    mansion.getGameState().attemptKill(GameState.POKE);
+  }
+
+  /**
+   * Test case to test attempting to kill with an item the player does not
+   * have.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testKillWithoutItem() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.getGameState().apply(Action.KILL, "Revolver");
+  }
+
+  /**
+   * Test case to test poking the target, which fails when the player is seen.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testPoke() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    GameState state = mansion.getGameState();
+    assertEquals(2, state.apply(Action.KILL, Constants.POKING).getTargetHealth());
+    state = state.addPlayer("Komal", 0, -1, false);
+    assertTrue(state.isCurrentPlayerSeen());
+    GameState seen = state.attemptKill(GameState.POKE);
+    assertEquals(3, seen.getTargetHealth());
+    assertEquals(2, seen.getNumberOfTurns());
+    assertFalse(seen.isTargetPresent());
+  }
+
+  /**
+   * Test case to test adding more players than the game allows.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddPlayerLimit() {
+    mansion.getGameState().addPlayer("Jun", 0, -1, true).addPlayer("Komal", 1, -1, true)
+        .addPlayer("Lucky", 2, -1, true);
+  }
+
+  /**
+   * Test case to test adding a player with the name of another player.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddPlayerTwice() {
+    mansion.getGameState().addPlayer("Jun", 0, -1, true).addPlayer("Jun", 1, -1, true);
+  }
+
+  /**
+   * Test case to test taking an action which is not a game play action.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyNotGamePlay() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.getGameState().apply(Action.DISPLAY_ROOM, "Piazza");
+  }
+}
@@ -0,0 +1,116 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import javax.swing.ImageIcon;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import listener.MouseClickListener;
+import org.junit.Before;
+import org.junit.Test;
+import view.GamePlayPanel;
+import view.IconCache;
+
+/**
+ * JUnit tests for the cache of tinted icons.
+ */
+public class IconCacheTest {
+  private static final File PLAYER = new File("res/images/player-30p.png");
+  private IconCache cache;
+
+  /**
+   * Setting up an empty cache.
+   */
+  @Before
+  public void setUp() {
+    cache = new IconCache();
+  }
+
+  /**
+   * Test case to test that an icon is tinted once for every color.
+   */
+  @Test
+  public void testSameColorSameIcon() {
+    ImageIcon red = cache.getIcon(PLAYER, Color.RED);
+    assertSame(red, cache.getIcon(PLAYER, new Color(255, 0, 0)));
+    assertNotSame(red, cache.getIcon(PLAYER, Color.BLUE));
+    assertEquals(2, cache.size());
+  }
+
+  /**
+   * Test case to test that pixels which are not transparent get the color and
+   * the others stay transparent.
+   */
+  @Test
+  public void testTint() {
+    BufferedImage image = (BufferedImage) cache.getIcon(PLAYER, Color.GREEN).getImage();
+    int colored = 0;
+    for (int y = 0; y < image.getHeight(); y++) {
+      for (int x = 0; x < image.getWidth(); x++) {
+        int pixel = image.getRGB(x, y);
+        if (pixel != 0) {
+          assertEquals(Color.GREEN.getRGB(), pixel);
+          colored++;
+        }
+      }
+    }
+    assertTrue(colored > 0);
+  }
+
+  /**
+   * Test case to test that clearing the cache tints the icons again.
+   */
+  @Test
+  public void testClear() {
+    ImageIcon red = cache.getIcon(PLAYER, Color.RED);
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertNotSame(red, cache.getIcon(PLAYER, Color.RED));
+  }
+
+  /**
+   * Test case to test that the board and a cache share the player icons.
+   */
+  @Test
+  public void testSharedWithBoard() {
+    GamePlayPanel panel = new GamePlayPanel(cache);
+    ImageIcon red = cache.getIcon(PLAYER, Color.RED);
+    Map<String, int[]> rooms = new HashMap<>();
+    rooms.put("Armory", new int[] { 0, 0, 1, 1 });
+    Map<String, String> players = new HashMap<>();
+    Map<String, Color> colors = new HashMap<>();
+    for (int i = 0; i < 5; i++) {
+      players.put("Player " + i, "Armory");
+      colors.put("Player " + i, Color.RED);
+    }
+    panel.displayBoard(rooms, players, colors, "Armory", "Armory", "",
+        new MouseClickListener());
+    assertEquals(1, cache.size());
+    JPanel armory = (JPanel) panel.getComponent(0);
+    assertSame(red, ((JLabel) armory.getComponent(1)).getIcon());
+  }
+
+  /**
+   * Test case to test that an image which cannot be read is rejected.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnreadableImage() {
+    cache.getIcon(new File("res/images/missing.png"), Color.RED);
+  }
+
+  /**
+   * Test case to test that a NULL color is rejected.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullColor() {
+    cache.getIcon(PLAYER, null);
+  }
+}
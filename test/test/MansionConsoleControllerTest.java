@@ -1408,7 +1408,7 @@ public class MansionConsoleControllerTest {
         + "Stranger Things]\n"
         + "\n" + "\n" + "Enter name of the room to get it's details:\n" + "Detail of Room: \n"
         + "Room Name = GOT \n" + "List of Items in the Room with their capacity = [Dragons : 2]\n"
-        + "Players in the room = []\n" + "Neighbors= [MurderVille, Shameless]\n" + "\n"
+        + "Players in the room = []\n" + "Neighbors= [Shameless, MurderVille]\n" + "\n"
         + "Select the operation to perform:\n" + "1. Display Information of a Room\n"
         + "2. Create Graphical Representation for the World/Mansion\n" + "3. Add a Human Player\n"
         + "4. Add a Computer Player\n" + "5. Play Game\n" + "6. Display Information of a Player\n"
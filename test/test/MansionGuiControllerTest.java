@@ -62,6 +62,35 @@ public class MansionGuiControllerTest {
     new MansionGuiController(new MockModel(out), new MansionBuilder(), null);
   }
 
+  /**
+   * Test that no computer turn has stalled the event thread before the game is
+   * played.
+   */
+  @Test
+  public void testEventThreadStalls() {
+    assertEquals(0, controller.getEventThreadStalls().getFrames());
+  }
+
+  /**
+   * Test setting the delay before computer turns, 0 plays without a delay.
+   */
+  @Test
+  public void testTurnDelay() {
+    assertEquals(5000, controller.getTurnDelay());
+    controller.setTurnDelay(0);
+    assertEquals(0, controller.getTurnDelay());
+    controller.setTurnDelay(250);
+    assertEquals(250, controller.getTurnDelay());
+  }
+
+  /**
+   * Test setting a negative delay before computer turns.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTurnDelayNegative() {
+    controller.setTurnDelay(-1);
+  }
+
   /**
    * Test play game.
    */
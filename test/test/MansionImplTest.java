@@ -3,17 +3,31 @@ package test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import controller.ComputerPlayerInput;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+import java.util.zip.CRC32;
 import javax.imageio.ImageIO;
+import journal.GameEvents;
+import mansion.GameSnapshot;
 import mansion.Mansion;
 import mansion.MansionBuilder;
 import org.junit.Before;
@@ -97,6 +111,70 @@ public class MansionImplTest {
     ImageIO.write(bufferedImage, "png", file);
   }
 
+  private static void assertSameImage(Mansion world, String message) throws IOException {
+    BufferedImage expected = world.createGraphicalRepresentation();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    world.writeGraphicalRepresentation(output);
+    BufferedImage actual = ImageIO.read(new ByteArrayInputStream(output.toByteArray()));
+    assertEquals(message, expected.getWidth(), actual.getWidth());
+    assertEquals(message, expected.getHeight(), actual.getHeight());
+    for (int y = 0; y < expected.getHeight(); y++) {
+      for (int x = 0; x < expected.getWidth(); x++) {
+        if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+          fail(message + " differs at " + x + " " + y);
+        }
+      }
+    }
+  }
+
+  /**
+   * Test case to test that the image written in bands has the pixels of the
+   * graphical representation, for the world specifications in res.
+   *
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testWriteGraphicalRepresentation() throws IOException {
+    assertSameImage(mansion, "Config");
+    for (String file : List.of("res/mansion.txt", "res/netflixMansion.txt")) {
+      Mansion world = new MansionBuilder().readConfigFile(Path.of(file)).setNumberOfTurns(1)
+          .setMaximumNumberOfPlayers(1).build();
+      assertSameImage(world, file);
+    }
+  }
+
+  /**
+   * Test case to test that rooms cut by the bands of a wide world, whose bands
+   * are not a whole number of rows high, are drawn whole.
+   *
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testWriteGraphicalRepresentationWide() throws IOException {
+    StringBuilder world = new StringBuilder("80 400 Wide Mansion\n50 Doctor Lucky\n"
+        + "Fortune the Cat\n400\n");
+    for (int i = 0; i < 400; i++) {
+      int row = (i / 10) * 2;
+      int column = (i % 10) * 40;
+      world.append(row).append(' ').append(column).append(' ').append(row + 1).append(' ')
+          .append(column + 39).append(" Room ").append(i).append('\n');
+    }
+    world.append("1\n0 1 Item\n");
+    Mansion wide = new MansionBuilder().readConfigFile(new StringReader(world.toString()))
+        .setNumberOfTurns(1).setMaximumNumberOfPlayers(1).build();
+    assertSameImage(wide, "Wide");
+  }
+
+  /**
+   * Test case to test writing the image to NULL.
+   *
+   * @throws IOException when file operation fail.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testWriteGraphicalRepresentationNull() throws IOException {
+    mansion.writeGraphicalRepresentation(null);
+  }
+
   /**
    * Test case to get neighbors when room name is valid.
    */
@@ -107,6 +185,162 @@ public class MansionImplTest {
     assertEquals(neighbors, mansion.getNeighborForRoom("Green House"));
   }
 
+  /**
+   * Test case to test that restoring a snapshot puts back the players, items,
+   * target, pet and turns, and the game going on does not change the snapshot.
+   *
+   * @throws IllegalAccessException when the game cannot be played.
+   */
+  @Test
+  public void testSnapshotRestore() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.addPlayer("Komal", "Piazza", false);
+    GameSnapshot snapshot = mansion.snapshot();
+    String jun = mansion.getDetailsOfPlayer("Jun");
+    String greenHouse = mansion.getDetailsOfRoom("Green House");
+    String target = mansion.getTargetDetails();
+    String pet = mansion.getTargetPetLocation();
+    assertEquals(2, snapshot.getNumberOfPlayers());
+    assertEquals(3, snapshot.getNumberOfTurns());
+    mansion.actionPick("Revolver");
+    mansion.actionLook();
+    assertFalse(greenHouse.equals(mansion.getDetailsOfRoom("Green House")));
+    assertFalse(jun.equals(mansion.getDetailsOfPlayer("Jun")));
+    mansion.restore(snapshot);
+    assertEquals(jun, mansion.getDetailsOfPlayer("Jun"));
+    assertEquals(greenHouse, mansion.getDetailsOfRoom("Green House"));
+    assertEquals(target, mansion.getTargetDetails());
+    assertEquals(pet, mansion.getTargetPetLocation());
+    assertEquals(3, mansion.getNumberOfTurns());
+    assertEquals("Jun", mansion.getCurrentPlayerName());
+    mansion.actionPick("Revolver");
+    mansion.restore(snapshot);
+    assertEquals(greenHouse, mansion.getDetailsOfRoom("Green House"));
+  }
+
+  /**
+   * Test case to test restoring a snapshot into another Mansion built by the
+   * same builder.
+   */
+  @Test
+  public void testSnapshotRestoreOtherMansion() {
+    MansionBuilder builder = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(3)
+        .setMaximumNumberOfPlayers(4);
+    Mansion first = builder.build();
+    first.addPlayer("Jun", "Green House", true);
+    Mansion second = builder.build();
+    second.restore(first.snapshot());
+    assertEquals(List.of("Jun"), second.getPlayerNames());
+  }
+
+  /**
+   * Test case to test restoring a snapshot of another world.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSnapshotRestoreOtherWorld() {
+    Mansion other = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).setNumberOfTurns(3)
+        .setMaximumNumberOfPlayers(4).build();
+    mansion.restore(other.snapshot());
+  }
+
+  /**
+   * Test case to test that restoring a snapshot puts the items of a room back
+   * in the order they were added.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testSnapshotRestoreItemOrder() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Hedge Maze", true);
+    GameSnapshot snapshot = mansion.snapshot();
+    String hedgeMaze = mansion.getDetailsOfRoom("Hedge Maze");
+    mansion.actionPick("Civil War Cannon");
+    mansion.actionPick("Cannon");
+    assertEquals("Details of Player: \nPlayer Name = Jun \nList of Items with Player = "
+        + "[Civil War Cannon : 3, Cannon : 3] \nItem picking capacity = Unlimited "
+        + "\nPlayer Type = Human\nCurrent Location = Hedge Maze",
+        mansion.getDetailsOfPlayer("Jun"));
+    mansion.restore(snapshot);
+    assertEquals(hedgeMaze, mansion.getDetailsOfRoom("Hedge Maze"));
+    mansion.actionPick("Cannon");
+    GameSnapshot picked = mansion.snapshot();
+    String jun = mansion.getDetailsOfPlayer("Jun");
+    mansion.actionPick("Civil War Cannon");
+    mansion.restore(picked);
+    assertEquals(jun, mansion.getDetailsOfPlayer("Jun"));
+    assertTrue(mansion.getDetailsOfRoom("Hedge Maze").contains("[Civil War Cannon : 3]"));
+    assertEquals(2, mansion.getNumberOfTurns());
+  }
+
+  /**
+   * Test case to test that restoring a snapshot in the middle of a game
+   * detaches the game events until they are set again.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testSnapshotRestoreDetachesEvents() throws IllegalAccessException {
+    List<Integer> looked = new ArrayList<>();
+    GameEvents events = new GameEvents() {
+      @Override
+      public void looked(int game, int player) {
+        looked.add(player);
+      }
+    };
+    mansion.setGameEvents(events);
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.addPlayer("Komal", "Piazza", false);
+    GameSnapshot snapshot = mansion.snapshot();
+    mansion.actionLook();
+    mansion.restore(snapshot);
+    mansion.actionLook();
+    assertEquals(List.of(0), looked);
+    mansion.setGameEvents(events);
+    mansion.actionLook();
+    assertEquals(List.of(0, 1), looked);
+  }
+
+  /**
+   * Test case to test that restoring the snapshot of a game before any player
+   * was added starts the game again and tells the game events.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testSnapshotRestoreStartOfGame() throws IllegalAccessException {
+    List<Integer> started = new ArrayList<>();
+    mansion.setGameEvents(new GameEvents() {
+      @Override
+      public void gameStarted(int game, int turns, int maxPlayers) {
+        started.add(turns);
+      }
+    });
+    GameSnapshot start = mansion.snapshot();
+    String greenHouse = mansion.getDetailsOfRoom("Green House");
+    String target = mansion.getTargetDetails();
+    mansion.addPlayer("Jun", "Green House", true);
+    mansion.actionPick("Revolver");
+    mansion.actionLook();
+    mansion.restore(start);
+    assertEquals(List.of(), mansion.getPlayerNames());
+    assertEquals(greenHouse, mansion.getDetailsOfRoom("Green House"));
+    assertEquals(target, mansion.getTargetDetails());
+    assertEquals(3, mansion.getNumberOfTurns());
+    assertEquals(List.of(3), started);
+    mansion.addPlayer("Jun", "Piazza", false);
+    assertEquals("Jun", mansion.getCurrentPlayerName());
+  }
+
+  /**
+   * Test case to test restoring a NULL snapshot.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testSnapshotRestoreNull() {
+    mansion.restore(null);
+  }
+
   /**
    * Test case to get neighbors when room name is invalid.
    */
@@ -115,6 +349,134 @@ public class MansionImplTest {
     mansion.getNeighborForRoom("Green1 House");
   }
 
+  /**
+   * Test case to get room number of a room.
+   */
+  @Test
+  public void testGetRoomNumber() {
+    assertEquals(0, mansion.getRoomNumber("Green House"));
+    assertEquals(2, mansion.getRoomNumber("Piazza"));
+  }
+
+  /**
+   * Test case to get room number when room name is invalid.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetRoomNumberInvalid() {
+    mansion.getRoomNumber("Green1 House");
+  }
+
+  /**
+   * Test case to get neighbors into an array, leaving out the room of the pet.
+   */
+  @Test
+  public void testGetNeighborsForRoomArray() {
+    int[] neighbors = new int[3];
+    assertEquals(1, mansion.getNeighborsForRoom(0, neighbors));
+    assertEquals(1, neighbors[0]);
+    assertEquals(1, mansion.getNeighborsForRoom(1, neighbors));
+    assertEquals(2, neighbors[0]);
+  }
+
+  /**
+   * Test case to get neighbors into an array which is too small.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetNeighborsForRoomArrayTooSmall() {
+    mansion.getNeighborsForRoom(1, new int[0]);
+  }
+
+  /**
+   * Test case to get neighbors into an array when room number is invalid.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetNeighborsForRoomArrayInvalid() {
+    mansion.getNeighborsForRoom(3, new int[3]);
+  }
+
+  /**
+   * Test case to iterate over neighbors, leaving out the room of the pet.
+   */
+  @Test
+  public void testForEachNeighbor() {
+    List<Integer> neighbors = new ArrayList<>();
+    mansion.forEachNeighbor(1, neighbors::add);
+    assertEquals(List.of(2), neighbors);
+    neighbors.clear();
+    mansion.forEachNeighbor(2, neighbors::add);
+    assertEquals(List.of(1), neighbors);
+  }
+
+  /**
+   * Test case to iterate over neighbors when room number is invalid.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testForEachNeighborInvalid() {
+    mansion.forEachNeighbor(-1, x -> { });
+  }
+
+  /**
+   * Test case to find the room covering a cell.
+   */
+  @Test
+  public void testRoomAt() {
+    assertEquals(0, mansion.roomAt(28, 26));
+    assertEquals(0, mansion.roomAt(35, 29));
+    assertEquals(1, mansion.roomAt(30, 25));
+    assertEquals(2, mansion.roomAt(31, 12));
+    assertEquals(-1, mansion.roomAt(0, 0));
+    assertEquals(-1, mansion.roomAt(29, 20));
+  }
+
+  /**
+   * Test case to find the room covering a cell outside the Mansion.
+   */
+  @Test
+  public void testRoomAtOutsideMansion() {
+    int[][] cells = { { -1, 0 }, { 0, -1 }, { 36, 0 }, { 0, 30 } };
+    for (int[] cell : cells) {
+      try {
+        mansion.roomAt(cell[0], cell[1]);
+        fail("Cell outside the Mansion was found.");
+      } catch (IllegalArgumentException exception) {
+        assertEquals("Cell is outside the Mansion.", exception.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Test case to test that the room found for every cell of the world
+   * specifications in res is the room whose location covers the cell.
+   *
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testRoomAtWorldFiles() throws IOException {
+    for (String file : List.of("res/mansion.txt", "res/netflixMansion.txt")) {
+      Mansion world = new MansionBuilder().readConfigFile(Path.of(file)).setNumberOfTurns(1)
+          .setMaximumNumberOfPlayers(1).build();
+      List<String> rooms = world.getRoomNames();
+      Map<String, int[]> locations = world.getRoomLocation();
+      Scanner header = new Scanner(Path.of(file));
+      int rows = header.nextInt();
+      int columns = header.nextInt();
+      header.close();
+      for (int row = 0; row < rows; row++) {
+        for (int column = 0; column < columns; column++) {
+          int expected = -1;
+          for (int room = 0; room < rooms.size(); room++) {
+            int[] location = locations.get(rooms.get(room));
+            if (row >= location[0] && row <= location[2] && column >= location[1]
+                && column <= location[3]) {
+              expected = room;
+            }
+          }
+          assertEquals(file + " " + row + " " + column, expected, world.roomAt(row, column));
+        }
+      }
+    }
+  }
+
   /**
    * Test case to get details of room when room name is valid.
    */
@@ -177,6 +539,251 @@ public class MansionImplTest {
     new MansionBuilder().readConfigFile(new StringReader(Config.INVALIDROOMSIZE));
   }
 
+  /**
+   * Test case to test a room ending on the row just outside the Mansion.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRoomOnMansionEdge() {
+    new MansionBuilder().readConfigFile(new StringReader(
+        Config.VALIDFILECONTENTS.replace("30 20 35 25 Hedge Maze", "30 20 36 25 Hedge Maze")));
+  }
+
+  /**
+   * Test case to test that the parallel build gives the same map as the
+   * sequential build.
+   */
+  @Test
+  public void testParallelBuild() {
+    MansionBuilder builder = new MansionBuilder().setParallelBuild(true)
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS));
+    assertEquals(new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .getRoomGraph(), builder.getRoomGraph());
+    Mansion parallel = builder.setNumberOfTurns(10).setMaximumNumberOfPlayers(10).build();
+    assertEquals(mansion.getNeighborForRoom("Green House"),
+        parallel.getNeighborForRoom("Green House"));
+  }
+
+  /**
+   * Test case to test overlapping rooms.
+   */
+  @Test
+  public void testOverlappingRooms() {
+    try {
+      new MansionBuilder().readConfigFile(new StringReader(
+          Config.VALIDFILECONTENTS.replace("30 20 35 25 Hedge Maze", "0 0 35 29 Hedge Maze")));
+      fail("Overlapping rooms were accepted.");
+    } catch (IllegalArgumentException exception) {
+      assertEquals("Rooms are overlapping.", exception.getMessage());
+    }
+  }
+
+  /**
+   * Test case to test that an invalid number is reported with its line and
+   * column.
+   */
+  @Test
+  public void testInvalidNumberPosition() {
+    String world = Config.VALIDFILECONTENTS.replace("30 20 35 25 Hedge Maze",
+        "30 2x0 35 25 Hedge Maze");
+    try {
+      new MansionBuilder().readConfigFile(new StringReader(world));
+      fail("Invalid number was parsed.");
+    } catch (NumberFormatException exception) {
+      assertEquals("Invalid number at line 6, column 4.", exception.getMessage());
+    }
+  }
+
+  /**
+   * Test case to test that a number too big for an integer is invalid.
+   */
+  @Test(expected = NumberFormatException.class)
+  public void testNumberOutOfRange() {
+    String world = Config.VALIDFILECONTENTS.replace("36 30", "2147483648 30");
+    new MansionBuilder().readConfigFile(new StringReader(world));
+  }
+
+  /**
+   * Test case to test world specification which ends early.
+   */
+  @Test(expected = NoSuchElementException.class)
+  public void testWorldEndsEarly() {
+    String world = Config.VALIDFILECONTENTS.substring(0, Config.VALIDFILECONTENTS.length() / 2);
+    new MansionBuilder().readConfigFile(new StringReader(world));
+  }
+
+  /**
+   * Test case to test reading the world specification from a file mapped into
+   * memory, with names which are not ASCII.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testReadConfigFilePath() throws IOException {
+    String world = Config.VALIDFILECONTENTS.replace("Piazza", "Piazza Caf\u00e9");
+    Path file = Files.createTempFile("mansion", ".txt");
+    try {
+      Files.writeString(file, world, StandardCharsets.UTF_8);
+      Mansion mapped = new MansionBuilder().readConfigFile(file).setNumberOfTurns(3)
+          .setMaximumNumberOfPlayers(4).build();
+      Mansion read = new MansionBuilder().readConfigFile(new StringReader(world))
+          .setNumberOfTurns(3).setMaximumNumberOfPlayers(4).build();
+      assertEquals(List.of("Green House", "Hedge Maze", "Piazza Caf\u00e9"), mapped.getRoomNames());
+      assertEquals(read.getMansionName(), mapped.getMansionName());
+      assertEquals(read.getTargetDetails(), mapped.getTargetDetails());
+      for (String room : read.getRoomNames()) {
+        assertEquals(read.getDetailsOfRoom(room), mapped.getDetailsOfRoom(room));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test that an invalid number in a file is reported with its
+   * line and column.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testReadConfigFilePathInvalidNumber() throws IOException {
+    Path file = Files.createTempFile("mansion", ".txt");
+    try {
+      Files.writeString(file, Config.VALIDFILECONTENTS.replace("0 3 Revolver", "0 -x Revolver"));
+      new MansionBuilder().readConfigFile(file);
+      fail("Invalid number was parsed.");
+    } catch (NumberFormatException exception) {
+      assertEquals("Invalid number at line 9, column 3.", exception.getMessage());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test reading the world specification from a file that does
+   * not exist.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test(expected = NoSuchFileException.class)
+  public void testReadConfigFilePathMissing() throws IOException {
+    new MansionBuilder().readConfigFile(Path.of("no-such-mansion.txt"));
+  }
+
+  /**
+   * Test case to test that a compiled world loads the same Mansion as the
+   * world specification it was compiled from.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testCompiledWorld() throws IOException {
+    Path file = Files.createTempFile("mansion", MansionBuilder.COMPILED_WORLD_EXTENSION);
+    try {
+      MansionBuilder text = new MansionBuilder()
+          .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).writeCompiledWorld(file);
+      MansionBuilder compiled = new MansionBuilder().readCompiledWorld(file);
+      assertEquals(text.getRoomGraph(), compiled.getRoomGraph());
+      Mansion loaded = compiled.setNumberOfTurns(3).setMaximumNumberOfPlayers(4).build();
+      assertEquals(mansion.getMansionName(), loaded.getMansionName());
+      assertEquals(mansion.getTargetDetails(), loaded.getTargetDetails());
+      assertEquals(mansion.getTargetPetLocation(), loaded.getTargetPetLocation());
+      for (String room : mansion.getRoomNames()) {
+        assertEquals(mansion.getDetailsOfRoom(room), loaded.getDetailsOfRoom(room));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test writing a compiled world before reading a world
+   * specification.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testCompiledWorldNotRead() throws IOException {
+    new MansionBuilder().writeCompiledWorld(Path.of("mansion.kdlw"));
+  }
+
+  /**
+   * Test case to test loading a compiled world which does not match its
+   * checksum.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testCompiledWorldCorrupted() throws IOException {
+    Path file = Files.createTempFile("mansion", MansionBuilder.COMPILED_WORLD_EXTENSION);
+    try {
+      new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+          .writeCompiledWorld(file);
+      byte[] bytes = Files.readAllBytes(file);
+      bytes[bytes.length / 2] ^= 1;
+      Files.write(file, bytes);
+      new MansionBuilder().readCompiledWorld(file);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test loading a compiled world of another version.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testCompiledWorldVersion() throws IOException {
+    Path file = Files.createTempFile("mansion", MansionBuilder.COMPILED_WORLD_EXTENSION);
+    try {
+      new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+          .writeCompiledWorld(file);
+      ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+      bytes.putInt(4, 2);
+      CRC32 checksum = new CRC32();
+      checksum.update(bytes.array(), 0, bytes.capacity() - 4);
+      bytes.putInt(bytes.capacity() - 4, (int) checksum.getValue());
+      Files.write(file, bytes.array());
+      new MansionBuilder().readCompiledWorld(file);
+      fail("Compiled world of another version was loaded.");
+    } catch (IllegalArgumentException exception) {
+      assertEquals("Unsupported compiled world version 2.", exception.getMessage());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test loading a file which is not a compiled world.
+   * 
+   * @throws IOException when file operation fail.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testCompiledWorldInvalid() throws IOException {
+    Path file = Files.createTempFile("mansion", ".txt");
+    try {
+      Files.writeString(file, Config.VALIDFILECONTENTS);
+      new MansionBuilder().readCompiledWorld(file);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * Test case to test world specification with Windows line separators.
+   */
+  @Test
+  public void testWindowsLineSeparators() {
+    Mansion windows = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS.replace("\n", "\r\n")))
+        .setNumberOfTurns(3).setMaximumNumberOfPlayers(4).build();
+    assertEquals(mansion.getMansionName(), windows.getMansionName());
+    assertEquals(mansion.getTargetDetails(), windows.getTargetDetails());
+    for (String room : mansion.getRoomNames()) {
+      assertEquals(mansion.getDetailsOfRoom(room), windows.getDetailsOfRoom(room));
+    }
+  }
+
   /**
    * Test case to test adding player with capacity limit.
    */
@@ -554,6 +1161,25 @@ public class MansionImplTest {
     assertFalse(mansion.canSee("K", "Komal"));
   }
 
+  /**
+   * Test case to test can player see other player as the pet moves in and out
+   * of the room of the other player.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testCanSeePlayersAfterPetMoves() throws IllegalAccessException {
+    mansion.addPlayer("Komal", "Hedge Maze", true);
+    mansion.addPlayer("K", "Piazza", true);
+    assertTrue(mansion.canSee("Komal", "K"));
+    mansion.actionMovePet("Piazza");
+    assertFalse(mansion.canSee("Komal", "K"));
+    assertTrue(mansion.canSee("K", "Komal"));
+    mansion.actionMovePet("Hedge Maze");
+    assertTrue(mansion.canSee("Komal", "K"));
+    assertFalse(mansion.canSee("K", "Komal"));
+  }
+
   /**
    * Test case to test can player see other player when they are in not in the
    * same or neighboring room.
@@ -648,6 +1274,53 @@ public class MansionImplTest {
     assertTrue(mansion.isCurrentPlayerSeen());
   }
 
+  /**
+   * Test case to test if current player is seen after another player moved
+   * next to it.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testIsCurrentPlayerSeenAfterMove() throws IllegalAccessException {
+    mansion.addPlayer("Komal", "Piazza", true);
+    mansion.addPlayer("K", "Green House", true);
+    assertFalse(mansion.isCurrentPlayerSeen());
+    mansion.actionMove("Hedge Maze");
+    assertEquals("K", mansion.getCurrentPlayerName());
+    assertEquals("Hedge Maze", mansion.getTargetPetLocation());
+    assertTrue(mansion.isCurrentPlayerSeen());
+  }
+
+  /**
+   * Test case to test that current player is seen exactly when another player
+   * can see it, while players and the pet keep moving.
+   * 
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testIsCurrentPlayerSeenMatchesCanSee() throws IllegalAccessException {
+    mansion = new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .setNumberOfTurns(200).setMaximumNumberOfPlayers(4).build();
+    mansion.addPlayer("A", "Green House", false);
+    mansion.addPlayer("B", "Piazza", false);
+    mansion.addPlayer("C", "Hedge Maze", false);
+    ComputerPlayerInput computer = new ComputerPlayerInput(3);
+    while (!mansion.isGameOver()) {
+      String current = mansion.getCurrentPlayerName();
+      boolean seen = mansion.getPlayerNames().stream()
+          .anyMatch(x -> mansion.canSee(x, current));
+      assertEquals(seen, mansion.isCurrentPlayerSeen());
+      List<String> neighbors = mansion.getNeighboursToMove();
+      if (mansion.getNumberOfTurns() % 3 == 0) {
+        mansion.actionMovePet(computer.getRandomString(mansion.getRoomNames()));
+      } else if (neighbors.isEmpty()) {
+        mansion.actionLook();
+      } else {
+        mansion.actionMove(computer.getRandomString(neighbors));
+      }
+    }
+  }
+
   /**
    * Test case to test get list of rooms in the Mansion.
    */
@@ -0,0 +1,224 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import controller.ComputerMove;
+import controller.MctsComputerPlayer;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import mansion.Mansion;
+import mansion.MansionBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.Action;
+
+/**
+ * JUnit tests for the computer player choosing its moves by Monte Carlo tree
+ * search.
+ */
+public class MctsComputerPlayerTest {
+  private Mansion mansion;
+  private ExecutorService searchPool;
+
+  /**
+   * Setting up Mansion object and a pool of two threads for testing.
+   */
+  @Before
+  public void setUp() {
+    mansion = new MansionBuilder().readConfigFile(new StringReader(Config.VALIDFILECONTENTS))
+        .setNumberOfTurns(5).setMaximumNumberOfPlayers(2).build();
+    searchPool = Executors.newFixedThreadPool(2);
+  }
+
+  /**
+   * Shutting down the pool of the search.
+   */
+  @After
+  public void tearDown() {
+    searchPool.shutdownNow();
+  }
+
+  /**
+   * Test case to test the player attacks with the item that wins the game
+   * when it is alone with the target.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testWinningKill() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Green House", false);
+    mansion.actionPick("Revolver");
+    mansion.actionLook();
+    mansion.actionLook();
+    assertTrue(mansion.isTargetPresent());
+    ComputerMove move = new MctsComputerPlayer(searchPool, 2, 50, 7).chooseMove(mansion);
+    assertEquals(Action.KILL, move.getAction());
+    assertEquals("Revolver", move.getInput());
+    assertTrue(mansion.actionAttemptKill(move.getInput()));
+  }
+
+  /**
+   * Test case to test every move chosen in a game of computer players can be
+   * made, with two workers on a pool of two threads.
+   *
+   * @throws Exception when the world cannot be read.
+   */
+  @Test
+  public void testMovesCanBeMade() throws Exception {
+    Mansion game = new MansionBuilder().readConfigFile(Path.of("res/mansion.txt"))
+        .setNumberOfTurns(30).setMaximumNumberOfPlayers(3).build();
+    game.addPlayer("Jun", "Armory", 2, false);
+    game.addPlayer("Komal", "Kitchen", false);
+    game.addPlayer("Lucky", "Foyer", 1, false);
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      MctsComputerPlayer computer = new MctsComputerPlayer(pool, 2, 5, 11);
+      while (!game.isGameOver()) {
+        int turns = game.getNumberOfTurns();
+        computer.chooseMove(game).applyTo(game);
+        assertEquals(turns - 1, game.getNumberOfTurns());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Test case to test the search of a move keeps the random games played
+   * below it, when the next move is searched from the state it led to.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testTreeReuse() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Hedge Maze", false);
+    mansion.addPlayer("Komal", "Piazza", false);
+    MctsComputerPlayer computer = new MctsComputerPlayer(searchPool, 2, 20, 3);
+    computer.chooseMove(mansion).applyTo(mansion);
+    assertEquals(0, computer.getReusedRollouts());
+    computer.chooseMove(mansion).applyTo(mansion);
+    assertTrue(computer.getReusedRollouts() > 0);
+  }
+
+  /**
+   * Test case to test a move is searched for about its time, and the random
+   * games played are counted.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test
+  public void testTimeBudget() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Hedge Maze", false);
+    MctsComputerPlayer computer = new MctsComputerPlayer(searchPool, 2, 30, 5);
+    long start = System.nanoTime();
+    computer.chooseMove(mansion);
+    long elapsed = (System.nanoTime() - start) / 1_000_000;
+    assertTrue(elapsed >= 30);
+    assertTrue(elapsed < 1000);
+    assertTrue(computer.getRollouts() > 0);
+    assertTrue(computer.getRolloutsPerSecond() > 0);
+  }
+
+  /**
+   * Test case to test that interrupting the search stops it early with a move
+   * that can be made, keeping the interrupt, and leaves the pool free for the
+   * next search.
+   *
+   * @throws Exception when the search fails or the pool does not stop.
+   */
+  @Test
+  public void testInterrupted() throws Exception {
+    mansion.addPlayer("Jun", "Hedge Maze", false);
+    mansion.addPlayer("Komal", "Piazza", false);
+    ExecutorService pool = Executors.newFixedThreadPool(1);
+    try {
+      // More workers than threads, so some are stopped before they start.
+      MctsComputerPlayer computer = new MctsComputerPlayer(pool, 3, 60_000, 5);
+      Thread chooser = Thread.currentThread();
+      Thread interrupter = new Thread(() -> {
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException exception) {
+          return;
+        }
+        chooser.interrupt();
+      });
+      long start = System.nanoTime();
+      interrupter.start();
+      ComputerMove move = computer.chooseMove(mansion);
+      long elapsed = (System.nanoTime() - start) / 1_000_000;
+      interrupter.join();
+      assertTrue(Thread.interrupted());
+      assertTrue(elapsed < 10_000);
+      move.applyTo(mansion);
+      computer = new MctsComputerPlayer(pool, 3, 20, 5);
+      computer.chooseMove(mansion).applyTo(mansion);
+    } finally {
+      pool.shutdown();
+      assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+  }
+
+  /**
+   * Test case to test choosing a move with no players in the game.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = IllegalAccessException.class)
+  public void testNoPlayers() throws IllegalAccessException {
+    new MctsComputerPlayer(searchPool, 2, 10, 1).chooseMove(mansion);
+  }
+
+  /**
+   * Test case to test choosing a move after the game is over.
+   *
+   * @throws IllegalAccessException when the game is over.
+   */
+  @Test(expected = IllegalAccessException.class)
+  public void testGameOver() throws IllegalAccessException {
+    mansion.addPlayer("Jun", "Piazza", false);
+    for (int i = 0; i < 5; i++) {
+      mansion.actionLook();
+    }
+    new MctsComputerPlayer(searchPool, 2, 10, 1).chooseMove(mansion);
+  }
+
+  /**
+   * Test case to test choosing a move of a NULL game.
+   *
+   * @throws IllegalAccessException when there are no players in the game.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullGame() throws IllegalAccessException {
+    new MctsComputerPlayer(searchPool, 2, 10, 1).chooseMove(null);
+  }
+
+  /**
+   * Test case to test creating a player with no time to search.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBudget() {
+    new MctsComputerPlayer(searchPool, 2, 0, 1);
+  }
+
+  /**
+   * Test case to test creating a player with no workers.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidWorkers() {
+    new MctsComputerPlayer(searchPool, 0, 10, 1);
+  }
+
+  /**
+   * Test case to test creating a player with a NULL pool.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testNullPool() {
+    new MctsComputerPlayer(null, 1, 10, 1);
+  }
+}
@@ -2,11 +2,16 @@ package test;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.IntConsumer;
+import journal.GameEvents;
+import mansion.GameSnapshot;
+import mansion.GameState;
 import mansion.Mansion;
 
 /**
@@ -35,12 +40,36 @@ public class MockModel implements Mansion {
     return new BufferedImage(10, 10, 1);
   }
 
+  @Override
+  public void writeGraphicalRepresentation(OutputStream output)
+      throws NullPointerException, IOException {
+    output.write(new byte[0]);
+  }
+
   @Override
   public List<String> getNeighborForRoom(String roomName)
       throws NullPointerException, IllegalArgumentException {
     return new ArrayList<>(List.of("Neighbors"));
   }
 
+  @Override
+  public int getRoomNumber(String roomName)
+      throws NullPointerException, IllegalArgumentException {
+    return 0;
+  }
+
+  @Override
+  public int getNeighborsForRoom(int roomNumber, int[] neighbors)
+      throws NullPointerException, IllegalArgumentException {
+    return 0;
+  }
+
+  @Override
+  public void forEachNeighbor(int roomNumber, IntConsumer consumer)
+      throws NullPointerException, IllegalArgumentException {
+    println("Neighbors");
+  }
+
   @Override
   public String getDetailsOfRoom(String roomName)
       throws NullPointerException, IllegalArgumentException {
@@ -217,9 +246,34 @@ public class MockModel implements Mansion {
     return new HashMap<>();
   }
 
+  @Override
+  public int roomAt(int row, int column) throws IllegalArgumentException {
+    return -1;
+  }
+
   @Override
   public Map<String, String> getPlayerLocations() {
     return new HashMap<>();
   }
 
+  @Override
+  public void setGameEvents(GameEvents events) throws NullPointerException {
+    Objects.requireNonNull(events);
+  }
+
+  @Override
+  public GameSnapshot snapshot() {
+    return null;
+  }
+
+  @Override
+  public void restore(GameSnapshot snapshot)
+      throws NullPointerException, IllegalArgumentException {
+    Objects.requireNonNull(snapshot);
+  }
+
+  @Override
+  public GameState getGameState() {
+    return null;
+  }
 }
@@ -346,4 +346,14 @@ public class PlayerImplTest {
   public void testDiffObjects() {
     assertFalse(humanPlayer.equals(new Object()));
   }
+
+  /**
+   * Test case to test the item picking capacity the player started with.
+   */
+  @Test
+  public void testGetCapacity() {
+    humanPlayer.addItem(new ItemImpl("Knife", 2));
+    assertEquals(5, humanPlayer.getCapacity());
+    assertEquals(-1, new PlayerImpl("Komal", 0, -1, true).getCapacity());
+  }
 }
@@ -0,0 +1,145 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.junit.Test;
+import utils.PngWriter;
+
+/**
+ * JUnit tests for the streaming PNG writer, which writes an image in bands of
+ * rows compressed separately.
+ */
+public class PngWriterTest {
+
+  private static int[] randomPixels(int count) {
+    Random random = new Random(7);
+    int[] pixels = new int[count];
+    for (int i = 0; i < count; i++) {
+      // Runs of the same color, so the bands compress.
+      pixels[i] = i % 13 == 0 ? random.nextInt() & 0xffffff : pixels[Math.max(0, i - 1)];
+    }
+    return pixels;
+  }
+
+  /**
+   * Test case to test that an image written band by band reads back with the
+   * same pixels.
+   *
+   * @throws IOException when the image cannot be written or read.
+   */
+  @Test
+  public void testRoundTrip() throws IOException {
+    int width = 37;
+    int height = 50;
+    int[] pixels = randomPixels(width * height);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (PngWriter writer = new PngWriter(output, width, height)) {
+      for (int top = 0; top < height; top += 7) {
+        writer.writeRows(pixels, top * width, width, Math.min(7, height - top));
+      }
+    }
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(output.toByteArray()));
+    assertEquals(width, image.getWidth());
+    assertEquals(height, image.getHeight());
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        assertEquals(pixels[y * width + x], image.getRGB(x, y) & 0xffffff);
+      }
+    }
+  }
+
+  /**
+   * Test case to test that bands compressed out of order are written in
+   * order, reading only part of a wider pixel array.
+   *
+   * @throws IOException when the image cannot be written or read.
+   */
+  @Test
+  public void testCompressOutOfOrder() throws IOException {
+    int stride = 20;
+    int width = 16;
+    int[] pixels = randomPixels(stride * 30);
+    PngWriter.Rows second = PngWriter.compress(pixels, 10 * stride + 2, stride, width, 20);
+    PngWriter.Rows first = PngWriter.compress(pixels, 2, stride, width, 10);
+    assertEquals(20, second.getRows());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (PngWriter writer = new PngWriter(output, width, 30)) {
+      writer.write(first);
+      writer.write(second);
+    }
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(output.toByteArray()));
+    for (int y = 0; y < 30; y++) {
+      for (int x = 0; x < width; x++) {
+        assertEquals(pixels[y * stride + x + 2], image.getRGB(x, y) & 0xffffff);
+      }
+    }
+  }
+
+  /**
+   * Test case to test closing an image before all its rows are written.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testMissingRows() throws IOException {
+    PngWriter writer = new PngWriter(new ByteArrayOutputStream(), 4, 4);
+    writer.writeRows(new int[8], 0, 4, 2);
+    writer.close();
+  }
+
+  /**
+   * Test case to test writing more rows than the image has.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testTooManyRows() throws IOException {
+    PngWriter writer = new PngWriter(new ByteArrayOutputStream(), 4, 1);
+    writer.writeRows(new int[8], 0, 4, 2);
+  }
+
+  /**
+   * Test case to test writing rows of another width than the image.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongWidth() throws IOException {
+    PngWriter writer = new PngWriter(new ByteArrayOutputStream(), 4, 4);
+    writer.write(PngWriter.compress(new int[8], 0, 2, 2, 4));
+  }
+
+  /**
+   * Test case to test compressing rows outside of the pixels.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRowsOutsidePixels() {
+    PngWriter.compress(new int[8], 4, 4, 4, 2);
+  }
+
+  /**
+   * Test case to test an image of no rows.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSizeZero() throws IOException {
+    new PngWriter(new ByteArrayOutputStream(), 4, 0);
+  }
+
+  /**
+   * Test case to test a NULL stream.
+   *
+   * @throws IOException when the image cannot be written.
+   */
+  @Test(expected = NullPointerException.class)
+  public void testOutputNull() throws IOException {
+    new PngWriter(null, 4, 4);
+  }
+}
@@ -0,0 +1,247 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+import mansion.MansionBuilder;
+import mansion.RoomAdjacency;
+import mansion.RoomGraph;
+import org.junit.Test;
+import room.Room;
+import room.RoomImpl;
+
+/**
+ * JUnit tests for finding overlapping and neighboring Rooms, comparing the
+ * sweep over the room rectangles with the grid reference.
+ */
+public class RoomAdjacencyTest {
+
+  private static List<Room> rooms(int... coordinates) {
+    List<Room> rooms = new ArrayList<>();
+    for (int i = 0; i < coordinates.length; i += 4) {
+      rooms.add(new RoomImpl("Room " + rooms.size(), coordinates[i], coordinates[i + 1],
+          coordinates[i + 2], coordinates[i + 3]));
+    }
+    return rooms;
+  }
+
+  /**
+   * Test case to test rooms sharing a wall below and to the right, and rooms
+   * only touching at a corner.
+   */
+  @Test
+  public void testSweep() {
+    List<Room> rooms = rooms(0, 0, 1, 1, 0, 2, 1, 3, 2, 1, 3, 2, 2, 4, 3, 5);
+    RoomGraph graph = RoomAdjacency.sweep(rooms);
+    assertEquals("{0=[1, 2], 1=[0, 2], 2=[0, 1], 3=[]}", graph.toString());
+    assertEquals(RoomAdjacency.rasterize(4, 6, rooms), graph);
+  }
+
+  /**
+   * Test case to test a long room sharing walls with several smaller rooms.
+   */
+  @Test
+  public void testSweepLongWall() {
+    List<Room> rooms = rooms(0, 0, 1, 9, 2, 0, 3, 2, 2, 3, 3, 5, 2, 7, 3, 9, 4, 0, 5, 9);
+    RoomGraph graph = RoomAdjacency.sweep(rooms);
+    assertEquals("{0=[1, 2, 3], 1=[0, 2, 4], 2=[0, 1, 4], 3=[0, 4], 4=[1, 2, 3]}",
+        graph.toString());
+    assertEquals(RoomAdjacency.rasterize(6, 10, rooms), graph);
+  }
+
+  /**
+   * Test case to test that overlapping rooms are found by the sweep.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSweepOverlap() {
+    RoomAdjacency.sweep(rooms(0, 0, 3, 3, 5, 0, 6, 6, 3, 3, 4, 4));
+  }
+
+  /**
+   * Test case to test that a room inside another room is found by the sweep.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSweepRoomInsideRoom() {
+    RoomAdjacency.sweep(rooms(0, 0, 9, 9, 2, 2, 3, 3));
+  }
+
+  /**
+   * Test case to test that overlapping rooms are found by the grid reference.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRasterizeOverlap() {
+    RoomAdjacency.rasterize(10, 10, rooms(0, 0, 3, 3, 3, 3, 4, 4));
+  }
+
+  /**
+   * Test case to test that a room outside the Mansion is found by the grid
+   * reference.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRasterizeOutOfBounds() {
+    RoomAdjacency.rasterize(4, 4, rooms(0, 0, 3, 3, 0, 4, 3, 5));
+  }
+
+  /**
+   * Test case to test that the sweep gives the same graph as the grid
+   * reference on every world specification in res.
+   *
+   * @throws IOException when file operation fail.
+   */
+  @Test
+  public void testSweepMatchesGridOnWorldFiles() throws IOException {
+    int files = 0;
+    try (DirectoryStream<Path> worlds = Files.newDirectoryStream(Path.of("res"), "*.txt")) {
+      for (Path world : worlds) {
+        try (Scanner in = new Scanner(world)) {
+          int rows = in.nextInt();
+          int columns = in.nextInt();
+          in.nextLine();
+          in.nextLine();
+          in.nextLine();
+          int numberOfRooms = in.nextInt();
+          List<Room> rooms = new ArrayList<>();
+          for (int i = 0; i < numberOfRooms; i++) {
+            rooms.add(new RoomImpl("Room " + i, in.nextInt(), in.nextInt(), in.nextInt(),
+                in.nextInt()));
+            in.nextLine();
+          }
+          RoomGraph grid = RoomAdjacency.rasterize(rows, columns, rooms);
+          assertEquals(world.toString(), grid, RoomAdjacency.sweep(rooms));
+          assertEquals(world.toString(), grid,
+              new MansionBuilder().readConfigFile(world).getRoomGraph());
+        }
+        files++;
+      }
+    }
+    assertTrue(files > 0);
+  }
+
+  /**
+   * Test case to test that the sweep gives the same graph as the grid
+   * reference on randomly generated layouts with gaps between the rooms.
+   */
+  @Test
+  public void testSweepMatchesGridOnRandomLayouts() {
+    Random random = new Random(42);
+    for (int layout = 0; layout < 50; layout++) {
+      int size = 10 + random.nextInt(30);
+      boolean[][] used = new boolean[size][size];
+      List<Room> rooms = new ArrayList<>();
+      for (int attempt = 0; attempt < size * 4; attempt++) {
+        int top = random.nextInt(size - 1);
+        int left = random.nextInt(size - 1);
+        int bottom = Math.min(size - 1, top + 1 + random.nextInt(5));
+        int right = Math.min(size - 1, left + 1 + random.nextInt(5));
+        if (isFree(used, top, left, bottom, right)) {
+          for (int i = top; i <= bottom; i++) {
+            for (int j = left; j <= right; j++) {
+              used[i][j] = true;
+            }
+          }
+          rooms.add(new RoomImpl("Room " + rooms.size(), top, left, bottom, right));
+        }
+      }
+      assertEquals(RoomAdjacency.rasterize(size, size, rooms), RoomAdjacency.sweep(rooms));
+    }
+  }
+
+  private static boolean isFree(boolean[][] used, int top, int left, int bottom, int right) {
+    for (int i = top; i <= bottom; i++) {
+      for (int j = left; j <= right; j++) {
+        if (used[i][j]) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Creates a layout packing rooms of random sizes row by row with random gaps,
+   * with a room as tall as the layout along the left side.
+   */
+  private static List<Room> packedLayout(Random random, int size) {
+    boolean[][] used = new boolean[size][size];
+    List<Room> rooms = new ArrayList<>();
+    rooms.add(new RoomImpl("Tall Room", 0, 0, size - 1, 1));
+    for (int top = 0; top < size - 1; top++) {
+      for (int left = 2; left < size - 1; left++) {
+        int bottom = Math.min(size - 1, top + 1 + random.nextInt(4));
+        int right = Math.min(size - 1, left + 1 + random.nextInt(4));
+        if (random.nextInt(10) > 0 && isFree(used, top, left, bottom, right)) {
+          for (int i = top; i <= bottom; i++) {
+            for (int j = left; j <= right; j++) {
+              used[i][j] = true;
+            }
+          }
+          rooms.add(new RoomImpl("Room " + rooms.size(), top, left, bottom, right));
+        }
+      }
+    }
+    return rooms;
+  }
+
+  /**
+   * Test case to test that the parallel sweep gives the same graph as the
+   * sequential sweep and the grid reference when the rooms are cut into many
+   * stripes, including a room crossing all of them.
+   */
+  @Test
+  public void testParallelSweepMatchesSequential() {
+    Random random = new Random(7);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      for (int layout = 0; layout < 3; layout++) {
+        List<Room> rooms = packedLayout(random, 400);
+        assertTrue(rooms.size() > 8 * 1024);
+        RoomGraph graph = RoomAdjacency.sweep(rooms, pool);
+        assertEquals(RoomAdjacency.sweep(rooms), graph);
+        assertEquals(RoomAdjacency.rasterize(400, 400, rooms), graph);
+        assertEquals(graph, RoomAdjacency.sweep(rooms, pool));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Test case to test the parallel sweep on a small Mansion, which is swept as
+   * one stripe.
+   */
+  @Test
+  public void testParallelSweepSmall() {
+    List<Room> rooms = rooms(0, 0, 1, 1, 0, 2, 1, 3, 2, 1, 3, 2, 2, 4, 3, 5);
+    assertEquals("{0=[1, 2], 1=[0, 2], 2=[0, 1], 3=[]}",
+        RoomAdjacency.sweep(rooms, ForkJoinPool.commonPool()).toString());
+  }
+
+  /**
+   * Test case to test that overlapping rooms are found by the parallel sweep
+   * and reported with their message.
+   */
+  @Test
+  public void testParallelSweepOverlap() {
+    List<Room> rooms = packedLayout(new Random(11), 400);
+    rooms.add(new RoomImpl("Overlapping Room", 200, 200, 202, 202));
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      RoomAdjacency.sweep(rooms, pool);
+      fail("Overlapping rooms were accepted.");
+    } catch (IllegalArgumentException exception) {
+      assertEquals("Rooms are overlapping.", exception.getMessage());
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import mansion.MansionBuilder;
+import mansion.RoomGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * JUnit tests for the compressed sparse row Room Graph.
+ */
+public class RoomGraphTest {
+  private RoomGraph graph;
+
+  /**
+   * Setting up a graph with a path 0 - 1 - 2 and a lonely room 3.
+   */
+  @Before
+  public void setUp() {
+    graph = new RoomGraph.Builder(4).addNeighbors(1, 0).addNeighbors(1, 2).addNeighbors(0, 1)
+        .build();
+  }
+
+  /**
+   * Test case to test that duplicate pairs are dropped and neighbors are sorted.
+   */
+  @Test
+  public void testBuilder() {
+    assertEquals(4, graph.getNumberOfRooms());
+    assertEquals(4, graph.getNumberOfEdges());
+    assertEquals(1, graph.degree(0));
+    assertEquals(2, graph.degree(1));
+    assertEquals(0, graph.degree(3));
+    assertEquals(0, graph.neighbor(1, 0));
+    assertEquals(2, graph.neighbor(1, 1));
+    assertEquals("{0=[1], 1=[0, 2], 2=[1], 3=[]}", graph.toString());
+  }
+
+  /**
+   * Test case to test neighbor checks.
+   */
+  @Test
+  public void testIsNeighbor() {
+    assertTrue(graph.isNeighbor(0, 1));
+    assertTrue(graph.isNeighbor(2, 1));
+    assertFalse(graph.isNeighbor(0, 2));
+    assertFalse(graph.isNeighbor(3, 0));
+  }
+
+  /**
+   * Test case to test iterating over neighbors.
+   */
+  @Test
+  public void testForEachNeighbor() {
+    List<Integer> neighbors = new ArrayList<>();
+    graph.forEachNeighbor(1, neighbors::add);
+    assertEquals(List.of(0, 2), neighbors);
+  }
+
+  /**
+   * Test case to test when the neighbor position is out of bounds.
+   */
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testNeighborOutOfBounds() {
+    graph.neighbor(0, 1);
+  }
+
+  /**
+   * Test case to test when a room is its own neighbor.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testSelfNeighbor() {
+    new RoomGraph.Builder(2).addNeighbors(1, 1);
+  }
+
+  /**
+   * Test case to test when arrays are not in compressed sparse row form.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidArrays() {
+    RoomGraph.of(new int[] { 0, 2, 2 }, new int[] { 1 });
+  }
+
+  /**
+   * Test case to test graph created from arrays.
+   */
+  @Test
+  public void testOf() {
+    assertEquals(graph, RoomGraph.of(new int[] { 0, 1, 3, 4, 4 }, new int[] { 1, 0, 2, 1 }));
+  }
+
+  /**
+   * Test case to test graph created from the world specification.
+   */
+  @Test
+  public void testGraphFromWorld() {
+    RoomGraph fromWorld = new MansionBuilder()
+        .readConfigFile(new StringReader(Config.VALIDFILECONTENTS)).getRoomGraph();
+    assertEquals("{0=[1], 1=[0, 2], 2=[1]}", fromWorld.toString());
+  }
+}
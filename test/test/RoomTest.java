@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import item.Item;
 import item.ItemImpl;
+import java.util.List;
 import java.util.Objects;
 import org.junit.Before;
 import org.junit.Test;
@@ -209,4 +210,34 @@ public class RoomTest {
   public void testDiffObjects() {
     assertFalse(room.equals(new Object()));
   }
+
+  /**
+   * Test case to test that a copy of the room has its own items.
+   */
+  @Test
+  public void testCopy() {
+    Item item = new ItemImpl("Knife", 2);
+    room.addItemToRoom(item);
+    Room copy = room.copy();
+    assertEquals(room, copy);
+    assertArrayEquals(room.getLocation(), copy.getLocation());
+    copy.removeItem(item);
+    assertEquals(item, room.getItem("Knife"));
+    assertTrue(copy.getItemDetails().isEmpty());
+  }
+
+  /**
+   * Test case to test that the items of the room are in the order they were
+   * added.
+   */
+  @Test
+  public void testGetItemsInOrder() {
+    Item knife = new ItemImpl("Knife", 2);
+    Item rope = new ItemImpl("Rope", 1);
+    room.addItemToRoom(rope);
+    room.addItemToRoom(knife);
+    assertEquals(List.of(rope, knife), room.getItems());
+    room.getItems().clear();
+    assertEquals(2, room.getItems().size());
+  }
 }
@@ -0,0 +1,49 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import view.SidePanel;
+
+/**
+ * JUnit tests for the game log of the side panel.
+ */
+public class SidePanelTest {
+  private SidePanel panel;
+
+  /**
+   * Setting up an empty side panel.
+   */
+  @Before
+  public void setUp() {
+    panel = new SidePanel();
+  }
+
+  /**
+   * Test case to test that new lines are appended to the log.
+   */
+  @Test
+  public void testDisplayLog() {
+    panel.displayLog("Play Game");
+    panel.displayLog("");
+    panel.displayLog("Jun moved.\nKomal looked around.");
+    assertEquals("Play Game\nJun moved.\nKomal looked around.", panel.getLog());
+    panel.clearLog();
+    assertEquals("", panel.getLog());
+  }
+
+  /**
+   * Test case to test that the oldest lines are removed from a full log.
+   */
+  @Test
+  public void testDisplayLogFull() {
+    for (int i = 1; i <= 250; i++) {
+      panel.displayLog("Line " + i);
+    }
+    String[] lines = panel.getLog().split("\n");
+    assertEquals(200, lines.length);
+    assertEquals("Line 51", lines[0]);
+    assertEquals("Line 250", lines[199]);
+  }
+}
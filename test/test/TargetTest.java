@@ -113,4 +113,24 @@ public class TargetTest {
         + "Target Name = Professor \n"
         + "Health Points = 50", target.toString());
   }
+
+  /**
+   * Test case to test putting the Target back to an earlier health point and
+   * location.
+   */
+  @Test
+  public void testRestore() {
+    target.updateHealthPoint(60);
+    target.restore(50, 2);
+    assertEquals(50, target.getHealthPoint());
+    assertEquals(2, target.getTargetLocation());
+  }
+
+  /**
+   * Test case to test restoring the Target to a negative room number.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testRestoreInvalid() {
+    target.restore(50, -1);
+  }
 }